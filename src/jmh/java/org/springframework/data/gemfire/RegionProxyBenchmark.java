@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.gemfire.benchmark.AbstractBenchmark;
+import org.springframework.util.ClassUtils;
+
+/**
+ * JMH benchmark comparing {@link Region} operations performed on the native {@link Region}, on the close-suppressing
+ * {@link Region} proxy exposed to {@link GemfireCallback GemfireCallbacks} by {@link GemfireTemplate}, and on a proxy
+ * using the previous {@link InvocationHandler}, which compared {@link Method} names and invoked the target
+ * {@link Region} reflectively on every call.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.gemfire.benchmark.AbstractBenchmark
+ * @see org.springframework.data.gemfire.GemfireTemplate#execute(GemfireCallback)
+ * @since 2.2.0
+ */
+public class RegionProxyBenchmark extends AbstractBenchmark {
+
+	private static final int ENTRY_COUNT = 1024;
+
+	private Cache cache;
+
+	private Region<Integer, String> nativeRegion;
+	private Region<Integer, String> reflectiveProxyRegion;
+
+	private GemfireTemplate template;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		this.cache = new CacheFactory()
+			.set("name", RegionProxyBenchmark.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "error")
+			.create();
+
+		this.nativeRegion = this.cache.<Integer, String>createRegionFactory(RegionShortcut.LOCAL).create("Example");
+
+		for (int key = 0; key < ENTRY_COUNT; key++) {
+			this.nativeRegion.put(key, "value" + key);
+		}
+
+		Class<?> regionType = this.nativeRegion.getClass();
+
+		this.reflectiveProxyRegion = (Region<Integer, String>) Proxy.newProxyInstance(regionType.getClassLoader(),
+			ClassUtils.getAllInterfacesForClass(regionType, getClass().getClassLoader()),
+				new ReflectiveRegionCloseSuppressingInvocationHandler(this.nativeRegion));
+
+		this.template = new GemfireTemplate(this.nativeRegion);
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.cache.close();
+	}
+
+	@Benchmark
+	public void nativeRegion(Blackhole blackhole) {
+		readAll(this.nativeRegion, blackhole);
+	}
+
+	@Benchmark
+	public void reflectiveProxyRegion(Blackhole blackhole) {
+		readAll(this.reflectiveProxyRegion, blackhole);
+	}
+
+	@Benchmark
+	@SuppressWarnings("unchecked")
+	public void templateProxyRegion(Blackhole blackhole) {
+
+		this.template.execute(region -> {
+			readAll((Region<Integer, String>) region, blackhole);
+			return null;
+		});
+	}
+
+	private static void readAll(Region<Integer, String> region, Blackhole blackhole) {
+
+		for (int key = 0; key < ENTRY_COUNT; key++) {
+			blackhole.consume(region.get(key));
+			blackhole.consume(region.containsKey(key));
+		}
+	}
+
+	static class ReflectiveRegionCloseSuppressingInvocationHandler implements InvocationHandler {
+
+		private final Region<?, ?> target;
+
+		ReflectiveRegionCloseSuppressingInvocationHandler(Region<?, ?> target) {
+			this.target = target;
+		}
+
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			if ("equals".equals(method.getName())) {
+				return proxy == args[0];
+			}
+			else if ("hashCode".equals(method.getName())) {
+				return System.identityHashCode(proxy);
+			}
+			else if ("close".equals(method.getName())) {
+				return null;
+			}
+			else {
+				try {
+					return method.invoke(this.target, args);
+				}
+				catch (InvocationTargetException ex) {
+					throw ex.getTargetException();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * {@link AbstractBenchmark} is the base class for all JMH benchmarks in this project, declaring the benchmark mode,
+ * fork, warmup and measurement settings shared by every benchmark, which are inherited by its subclasses.
+ *
+ * Benchmarks are compiled from {@literal src/jmh/java} in the {@literal benchmarks} Maven profile only, and run with
+ * {@code mvn -P benchmarks test-compile exec:java}, optionally passing the benchmarks to include as regular expressions
+ * in {@code -Dexec.args}, for example, {@code -Dexec.args=PdxInstanceProjectionBenchmark}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.openjdk.jmh.runner.Runner
+ * @since 2.2.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public abstract class AbstractBenchmark {
+
+	public static void main(String[] args) throws RunnerException {
+
+		ChainedOptionsBuilder options = new OptionsBuilder();
+
+		for (String include : args) {
+			options.include(include);
+		}
+
+		new Runner(options.build()).run();
+	}
+}
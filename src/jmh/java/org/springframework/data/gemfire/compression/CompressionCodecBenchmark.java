@@ -0,0 +1,137 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.geode.compression.Compressor;
+import org.apache.geode.compression.SnappyCompressor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.gemfire.benchmark.AbstractBenchmark;
+import org.springframework.data.gemfire.test.model.Gender;
+import org.springframework.data.gemfire.test.model.Person;
+
+/**
+ * JMH benchmark comparing the compression and decompression cost of the Snappy and Deflate codecs,
+ * along with the {@link AdaptiveCompressor} choosing between them, on serialized application domain model objects.
+ *
+ * Values are a single {@link Person} and a batch of {@link Person People}, serialized with Java serialization
+ * as stored in a {@link org.apache.geode.cache.Region} without PDX.  The achieved compression ratio
+ * of each codec is printed during setup.  Additional codecs (e.g. LZ4 or zstd) can be compared by adding
+ * a {@link Compressor} implementation to {@link #newCompressor(String)}.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.gemfire.benchmark.AbstractBenchmark
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
+ * @see org.springframework.data.gemfire.compression.DeflateCompressor
+ * @since 2.2.0
+ */
+public class CompressionCodecBenchmark extends AbstractBenchmark {
+
+	private static final int BATCH_SIZE = 64;
+
+	@Param({ "Snappy", "Deflate", "Adaptive" })
+	private String codec;
+
+	@Param({ "Person", "People" })
+	private String entity;
+
+	private byte[] compressedValue;
+	private byte[] value;
+
+	private Compressor compressor;
+
+	@Setup
+	public void setup() throws IOException {
+
+		this.value = serialize("Person".equals(this.entity) ? newPerson(1L) : newPeople());
+		this.compressor = newCompressor(this.codec);
+		this.compressedValue = this.compressor.compress(this.value);
+
+		System.out.printf("%n%1$s compression ratio for %2$s [%3$d bytes]: %4$.2f%n", this.codec, this.entity,
+			this.value.length, (double) this.value.length / this.compressedValue.length);
+	}
+
+	private Compressor newCompressor(String codec) {
+
+		switch (codec) {
+			case "Adaptive":
+				AdaptiveCompressor adaptiveCompressor = new AdaptiveCompressor(newCodecs());
+				adaptiveCompressor.setSampleSize(1);
+				adaptiveCompressor.compress(this.value);
+				return adaptiveCompressor;
+			case "Deflate":
+				return new DeflateCompressor();
+			case "Snappy":
+				return new SnappyCompressor();
+			default:
+				throw new IllegalArgumentException(String.format("Unknown codec [%s]", codec));
+		}
+	}
+
+	private List<AdaptiveCompressor.Codec> newCodecs() {
+
+		return Arrays.asList(
+			new AdaptiveCompressor.Codec(AdaptiveCompressor.SNAPPY_CODEC_ID, "Snappy", new SnappyCompressor()),
+			new AdaptiveCompressor.Codec(AdaptiveCompressor.DEFLATE_CODEC_ID, "Deflate", new DeflateCompressor()));
+	}
+
+	private Person newPerson(long id) {
+		return new Person(id, "Jon" + id, "Doe", Person.newBirthDate(1974, 5, 12), Gender.MALE);
+	}
+
+	private ArrayList<Person> newPeople() {
+
+		ArrayList<Person> people = new ArrayList<>(BATCH_SIZE);
+
+		for (long id = 1; id <= BATCH_SIZE; id++) {
+			people.add(newPerson(id));
+		}
+
+		return people;
+	}
+
+	private byte[] serialize(Serializable value) throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(value);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public byte[] compress() {
+		return this.compressor.compress(this.value);
+	}
+
+	@Benchmark
+	public byte[] decompress() {
+		return this.compressor.decompress(this.compressedValue);
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.cache.util.ObjectSizer;
+import org.apache.geode.cache.util.ReflectionObjectSizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.data.gemfire.benchmark.AbstractBenchmark;
+
+/**
+ * JMH benchmark comparing the cost of sizing a nested application domain model object with
+ * the {@link MappingObjectSizer}, before and after calibration, and with Apache Geode's
+ * {@link ReflectionObjectSizer}, which walks the complete object graph reflectively on every call.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.gemfire.benchmark.AbstractBenchmark
+ * @see org.springframework.data.gemfire.mapping.MappingObjectSizer
+ * @since 2.2.0
+ */
+public class MappingObjectSizerBenchmark extends AbstractBenchmark {
+
+	private static final int LINE_ITEM_COUNT = 16;
+
+	private MappingObjectSizer calibratedMappingObjectSizer;
+	private MappingObjectSizer mappingObjectSizer;
+
+	private ObjectSizer reflectionObjectSizer;
+
+	private Order order;
+
+	@Setup
+	public void setup() {
+
+		this.order = new Order(1L, "Jon Doe");
+
+		for (int index = 0; index < LINE_ITEM_COUNT; index++) {
+			this.order.lineItems.add(new LineItem("Product " + index, index, index * 10.0d));
+			this.order.attributes.put("attribute" + index, "value" + index);
+		}
+
+		this.mappingObjectSizer = new MappingObjectSizer();
+		this.calibratedMappingObjectSizer = new MappingObjectSizer();
+		this.calibratedMappingObjectSizer.calibrate(Collections.singletonList(this.order));
+		this.reflectionObjectSizer = ReflectionObjectSizer.getInstance();
+
+		System.out.printf("%nSize of Order: MappingObjectSizer [%1$d], calibrated MappingObjectSizer [%2$d],"
+				+ " ReflectionObjectSizer [%3$d]%n", this.mappingObjectSizer.sizeof(this.order),
+			this.calibratedMappingObjectSizer.sizeof(this.order), this.reflectionObjectSizer.sizeof(this.order));
+	}
+
+	@Benchmark
+	public int calibratedMappingObjectSizer() {
+		return this.calibratedMappingObjectSizer.sizeof(this.order);
+	}
+
+	@Benchmark
+	public int mappingObjectSizer() {
+		return this.mappingObjectSizer.sizeof(this.order);
+	}
+
+	@Benchmark
+	public int reflectionObjectSizer() {
+		return this.reflectionObjectSizer.sizeof(this.order);
+	}
+
+	@SuppressWarnings("unused")
+	static class Order {
+
+		private final Long id;
+
+		private final String customerName;
+
+		private final List<LineItem> lineItems = new ArrayList<>();
+
+		private final Map<String, String> attributes = new HashMap<>();
+
+		Order(Long id, String customerName) {
+			this.id = id;
+			this.customerName = customerName;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class LineItem {
+
+		private final double price;
+
+		private final int quantity;
+
+		private final String product;
+
+		LineItem(String product, int quantity, double price) {
+			this.product = product;
+			this.quantity = quantity;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.search.lucene.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.pdx.JSONFormatter;
+import org.apache.geode.pdx.PdxInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.gemfire.benchmark.AbstractBenchmark;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+/**
+ * JMH benchmark comparing the Spring Data {@link SpelAwareProxyProjectionFactory} AOP proxy path
+ * using the {@link PdxInstanceMethodInterceptor} with the {@link CompiledPdxInstanceProjectionFactory}
+ * when projecting a Lucene query result set of {@link PdxInstance PdxInstances}.
+ *
+ * The {@link PdxInstance PdxInstances} are real, serialized PDX values created with the {@link JSONFormatter}
+ * in a standalone peer {@link Cache}, so field reads include the cost of PDX deserialization.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.JSONFormatter
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.gemfire.benchmark.AbstractBenchmark
+ * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory
+ * @since 2.2.0
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PdxInstanceProjectionBenchmark extends AbstractBenchmark {
+
+	@Param({ "1000", "10000" })
+	private int resultSetSize;
+
+	private Cache cache;
+
+	private CompiledPdxInstanceProjectionFactory compiledProjectionFactory;
+
+	private List<PdxInstance> results;
+
+	private SpelAwareProxyProjectionFactory proxyProjectionFactory;
+
+	@Setup
+	public void setup() {
+
+		this.cache = new CacheFactory()
+			.set("name", PdxInstanceProjectionBenchmark.class.getSimpleName())
+			.set("locators", "")
+			.set("log-level", "error")
+			.set("mcast-port", "0")
+			.create();
+
+		this.compiledProjectionFactory = new CompiledPdxInstanceProjectionFactory();
+		this.proxyProjectionFactory = new SpelAwareProxyProjectionFactory();
+		this.proxyProjectionFactory.registerMethodInvokerFactory(PdxInstanceMethodInterceptorFactory.INSTANCE);
+
+		this.results = new ArrayList<>(this.resultSetSize);
+
+		for (int index = 0; index < this.resultSetSize; index++) {
+			this.results.add(JSONFormatter.fromJSON(String.format(
+				"{ \"firstName\": \"Jon%1$d\", \"lastName\": \"Doe\", \"email\": \"jon%1$d.doe@example.com\" }",
+					index)));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.cache.close();
+	}
+
+	@Benchmark
+	public void proxyProjection(Blackhole blackhole) {
+
+		for (PdxInstance result : this.results) {
+			consume(blackhole, this.proxyProjectionFactory.createProjection(CustomerView.class, result));
+		}
+	}
+
+	@Benchmark
+	public void compiledProjection(Blackhole blackhole) {
+
+		for (PdxInstance result : this.results) {
+			consume(blackhole, this.compiledProjectionFactory.createProjection(CustomerView.class, result));
+		}
+	}
+
+	private void consume(Blackhole blackhole, CustomerView customer) {
+		blackhole.consume(customer.getFirstName());
+		blackhole.consume(customer.getLastName());
+		blackhole.consume(customer.getEmail());
+	}
+
+	public interface CustomerView {
+
+		String getFirstName();
+
+		String getLastName();
+
+		String getEmail();
+
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.geode.cache.snapshot.SnapshotOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.gemfire.benchmark.AbstractBenchmark;
+import org.springframework.data.gemfire.test.support.FileSystemUtils;
+
+/**
+ * JMH benchmark comparing the extract-then-load import of a snapshot archive with reading the archive
+ * in a single pass, one snapshot at a time, using {@link SnapshotServiceAdapterSupport#importSnapshots}.
+ *
+ * Loading a snapshot is simulated by reading the snapshot file so that the benchmark measures the archive handling
+ * and file I/O, including spooling each archived snapshot to a temporary file, rather than Pivotal GemFire.
+ *
+ * @author John Blum
+ * @see org.openjdk.jmh.annotations.Benchmark
+ * @see org.springframework.data.gemfire.benchmark.AbstractBenchmark
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
+ * @since 2.2.0
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnapshotArchiveImportBenchmark extends AbstractBenchmark {
+
+	@Param({ "4", "16" })
+	private int snapshotCount;
+
+	@Param({ "1048576" })
+	private int snapshotSize;
+
+	private File archive;
+
+	private ReadingSnapshotServiceAdapter snapshotService;
+
+	@Setup
+	public void setup() throws IOException {
+
+		this.archive = File.createTempFile("snapshots", ".zip");
+		this.snapshotService = new ReadingSnapshotServiceAdapter();
+
+		Random random = new Random(2019L);
+
+		byte[] data = new byte[this.snapshotSize];
+
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(this.archive))) {
+			for (int index = 0; index < this.snapshotCount; index++) {
+
+				// Half random, half repeated content for a realistic compression ratio
+				random.nextBytes(data);
+				Arrays.fill(data, data.length / 2, data.length, (byte) index);
+
+				out.putNextEntry(new ZipEntry(String.format("region-%d.gfd", index)));
+				out.write(data);
+				out.closeEntry();
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+
+		File extractedArchiveDirectory =
+			new File(System.getProperty("java.io.tmpdir"), this.archive.getName().replaceAll("\\.", "-"));
+
+		FileSystemUtils.deleteRecursive(extractedArchiveDirectory);
+
+		this.archive.delete();
+	}
+
+	@Benchmark
+	public long extractThenLoad() {
+
+		this.snapshotService.setStreamArchives(false);
+		this.snapshotService.load(SnapshotOptions.SnapshotFormat.GEMFIRE, null,
+			this.snapshotService.handleFileLocation(this.archive));
+
+		return this.snapshotService.bytesRead;
+	}
+
+	@Benchmark
+	public long readAndLoad() {
+
+		this.snapshotService.setStreamArchives(true);
+		this.snapshotService.importSnapshots(SnapshotOptions.SnapshotFormat.GEMFIRE, null, this.archive);
+
+		return this.snapshotService.bytesRead;
+	}
+
+	static final class ReadingSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
+
+		private final byte[] buffer = new byte[65536];
+
+		private long bytesRead;
+
+		@Override
+		protected File[] handleLocation(SnapshotMetadata<Object, Object> configuration) {
+			throw new UnsupportedOperationException("not implemented");
+		}
+
+		@Override
+		public void load(SnapshotOptions.SnapshotFormat format, SnapshotOptions<Object, Object> options,
+				File... snapshots) {
+
+			for (File snapshot : snapshots) {
+				try (InputStream in = new FileInputStream(snapshot)) {
+					for (int length = in.read(this.buffer); length > -1; length = in.read(this.buffer)) {
+						this.bytesRead += length;
+					}
+				}
+				catch (IOException cause) {
+					throw new IllegalStateException(cause);
+				}
+			}
+		}
+	}
+}
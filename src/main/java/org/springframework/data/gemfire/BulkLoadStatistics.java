@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BulkLoadStatistics} reports the outcome and throughput of a {@link GemfireTemplate} bulk load.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.GemfireTemplate#bulkLoad(java.util.Iterator)
+ * @since 2.2.0
+ */
+public class BulkLoadStatistics {
+
+	private final long batches;
+	private final long elapsedNanos;
+	private final long entries;
+	private final long estimatedBytes;
+	private final long retries;
+
+	/**
+	 * Constructs a new instance of {@link BulkLoadStatistics}.
+	 *
+	 * @param entries number of entries loaded.
+	 * @param batches number of {@link org.apache.geode.cache.Region#putAll(java.util.Map) putAll} batches.
+	 * @param retries number of batches retried after a failure.
+	 * @param estimatedBytes estimated size in bytes of the entries loaded, or {@literal -1} if not estimated.
+	 * @param elapsedNanos duration of the bulk load in nanoseconds.
+	 */
+	public BulkLoadStatistics(long entries, long batches, long retries, long estimatedBytes, long elapsedNanos) {
+
+		this.entries = entries;
+		this.batches = batches;
+		this.retries = retries;
+		this.estimatedBytes = estimatedBytes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public long getBatches() {
+		return this.batches;
+	}
+
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	public long getEntries() {
+		return this.entries;
+	}
+
+	public long getEntriesPerSecond() {
+		return this.elapsedNanos > 0
+			? (long) (this.entries * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos)
+			: this.entries;
+	}
+
+	public long getEstimatedBytes() {
+		return this.estimatedBytes;
+	}
+
+	public long getRetries() {
+		return this.retries;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("Loaded [%1$d] entries in [%2$d] batches with [%3$d] retries in [%4$d] ms"
+				+ " ([%5$d] entries/s, estimated [%6$d] bytes)", getEntries(), getBatches(), getRetries(),
+			TimeUnit.NANOSECONDS.toMillis(getElapsedNanos()), getEntriesPerSecond(), getEstimatedBytes());
+	}
+}
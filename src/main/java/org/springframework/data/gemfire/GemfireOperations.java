@@ -93,6 +93,26 @@ public interface GemfireOperations {
 	 */
 	<T> T findUnique(String query, Object... params) throws InvalidDataAccessApiUsageException;
 
+	/**
+	 * Prepares the given OQL query for repeated execution. Implementations may cache the compiled {@link Query}
+	 * by its text, so preparing the same query again returns the compiled {@link Query} without parsing it again.
+	 *
+	 * Bind values to the query parameters (such as $1) when executing the {@link Query} rather than concatenating
+	 * them into the query text; collections used with {@literal IN} can be bound to a single parameter,
+	 * for example {@literal SELECT * FROM /Example x WHERE x.id IN $1}.
+	 *
+	 * The default implementation compiles the query with the {@link QueryService} of the Region's
+	 * {@link org.apache.geode.cache.RegionService} on every call, without caching.
+	 *
+	 * @param query the OQL query statement to prepare.
+	 * @return the compiled {@link Query}.
+	 * @see QueryService#newQuery(String)
+	 * @see Query#execute(Object[])
+	 */
+	default Query prepare(String query) {
+		return execute((GemfireCallback<Query>) region -> region.getRegionService().getQueryService().newQuery(query));
+	}
+
 	/**
 	 * Shortcut for {@link Region#query(String)} method. Filters the values of this region using the predicate given as a string with the syntax of the WHERE clause of the query language.
 	 * The predefined variable this may be used inside the predicate to denote the current element being filtered.
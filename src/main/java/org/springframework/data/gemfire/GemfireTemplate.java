@@ -16,27 +16,53 @@
 
 package org.springframework.data.gemfire;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
+import org.apache.geode.cache.LowMemoryException;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ServerConnectivityException;
+import org.apache.geode.cache.client.ServerOperationException;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
 import org.apache.geode.cache.query.IndexInvalidException;
 import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
 import org.apache.geode.cache.query.QueryInvalidException;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.util.ObjectSizer;
 import org.apache.geode.internal.cache.LocalRegion;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.support.AbstractRegionInvocationHandler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
@@ -64,9 +90,53 @@ import org.springframework.util.StringUtils;
  * @see org.apache.geode.cache.query.SelectResults
  */
 @SuppressWarnings("unused")
-public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
+public class GemfireTemplate extends GemfireAccessor implements DisposableBean, GemfireOperations {
+
+	public static final int DEFAULT_BULK_LOAD_BATCH_SIZE = 1000;
+	public static final int DEFAULT_BULK_LOAD_CONCURRENCY = 1;
+	public static final int DEFAULT_BULK_LOAD_RETRY_ATTEMPTS = 0;
+
+	public static final int DEFAULT_PARALLEL_GET_ALL_BATCH_SIZE = 1000;
+	public static final int DEFAULT_PARALLEL_GET_ALL_CONCURRENCY = 4;
+	public static final int DEFAULT_QUERY_CACHE_SIZE = 256;
+
+	protected static final long BULK_LOAD_RETRY_BACKOFF_MILLISECONDS = 10L;
 
 	private boolean exposeNativeRegion = false;
+	private boolean parallelGetAll = false;
+
+	private int bulkLoadBatchSize = DEFAULT_BULK_LOAD_BATCH_SIZE;
+	private int bulkLoadConcurrency = DEFAULT_BULK_LOAD_CONCURRENCY;
+	private int bulkLoadRetryAttempts = DEFAULT_BULK_LOAD_RETRY_ATTEMPTS;
+	private int parallelGetAllBatchSize = DEFAULT_PARALLEL_GET_ALL_BATCH_SIZE;
+	private int parallelGetAllConcurrency = DEFAULT_PARALLEL_GET_ALL_CONCURRENCY;
+	private int queryCacheSize = DEFAULT_QUERY_CACHE_SIZE;
+
+	private long bulkLoadBatchSizeInBytes = 0L;
+
+	private Executor bulkLoadExecutor;
+	private Executor parallelGetAllExecutor;
+
+	private volatile ExecutorService managedParallelGetAllExecutor;
+
+	private IndexAdvisor indexAdvisor;
+
+	private ObjectSizer bulkLoadObjectSizer = ObjectSizer.DEFAULT;
+
+	private final LongAdder queryCacheHits = new LongAdder();
+	private final LongAdder queryExecutionNanos = new LongAdder();
+	private final LongAdder queryExecutions = new LongAdder();
+	private final LongAdder queryPreparationNanos = new LongAdder();
+	private final LongAdder queryPreparations = new LongAdder();
+
+	private final Map<String, Query> queryCache = Collections.synchronizedMap(new LinkedHashMap<String, Query>(
+			DEFAULT_QUERY_CACHE_SIZE, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Query> eldest) {
+			return size() > getQueryCacheSize();
+		}
+	});
 
 	private Region<?, ?> regionProxy;
 
@@ -83,6 +153,26 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		super.afterPropertiesSet();
 
 		this.regionProxy = createRegionProxy(getRegion());
+		this.queryCache.clear();
+	}
+
+	/**
+	 * Shuts down the {@link ExecutorService} created by this template to run parallel
+	 * {@link #getAll(Collection)} sub-requests, if any.  An {@link #setParallelGetAllExecutor(Executor) provided}
+	 * {@link Executor} is not shut down.
+	 *
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		ExecutorService executorService = this.managedParallelGetAllExecutor;
+
+		this.managedParallelGetAllExecutor = null;
+
+		if (executorService != null) {
+			executorService.shutdownNow();
+		}
 	}
 
 	/**
@@ -109,6 +199,248 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Sets the maximum number of entries put in a single {@link Region#putAll(Map)} call during a bulk load.
+	 *
+	 * @param bulkLoadBatchSize maximum number of entries per batch; must be greater than {@literal 0}.
+	 * @see #bulkLoad(Iterator)
+	 */
+	public void setBulkLoadBatchSize(int bulkLoadBatchSize) {
+		Assert.isTrue(bulkLoadBatchSize > 0, "Bulk load batch size must be greater than 0");
+		this.bulkLoadBatchSize = bulkLoadBatchSize;
+	}
+
+	public int getBulkLoadBatchSize() {
+		return this.bulkLoadBatchSize;
+	}
+
+	/**
+	 * Sets the maximum estimated size in bytes of the entries put in a single {@link Region#putAll(Map)} call
+	 * during a bulk load.  Entry sizes are estimated with the configured {@link ObjectSizer}.  A value of
+	 * {@literal 0} or less, the default, bounds batches by the number of entries only.
+	 *
+	 * @param bulkLoadBatchSizeInBytes maximum estimated size in bytes of a batch.
+	 * @see #setBulkLoadObjectSizer(ObjectSizer)
+	 */
+	public void setBulkLoadBatchSizeInBytes(long bulkLoadBatchSizeInBytes) {
+		this.bulkLoadBatchSizeInBytes = bulkLoadBatchSizeInBytes;
+	}
+
+	public long getBulkLoadBatchSizeInBytes() {
+		return this.bulkLoadBatchSizeInBytes;
+	}
+
+	/**
+	 * Sets the maximum number of {@link Region#putAll(Map)} calls in flight at the same time during a bulk load.
+	 * Defaults to {@literal 1}, which loads batches sequentially on the calling Thread.
+	 *
+	 * @param bulkLoadConcurrency maximum number of concurrent batches; must be greater than {@literal 0}.
+	 */
+	public void setBulkLoadConcurrency(int bulkLoadConcurrency) {
+		Assert.isTrue(bulkLoadConcurrency > 0, "Bulk load concurrency must be greater than 0");
+		this.bulkLoadConcurrency = bulkLoadConcurrency;
+	}
+
+	public int getBulkLoadConcurrency() {
+		return this.bulkLoadConcurrency;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to put batches concurrently during a bulk load.  When not set and
+	 * the {@link #setBulkLoadConcurrency(int) concurrency} is greater than {@literal 1}, a thread pool
+	 * is created for the duration of each bulk load.
+	 *
+	 * @param bulkLoadExecutor {@link Executor} used to put batches.
+	 */
+	public void setBulkLoadExecutor(Executor bulkLoadExecutor) {
+		this.bulkLoadExecutor = bulkLoadExecutor;
+	}
+
+	public Executor getBulkLoadExecutor() {
+		return this.bulkLoadExecutor;
+	}
+
+	/**
+	 * Sets the {@link ObjectSizer} used to estimate the size of entries when batches are
+	 * {@link #setBulkLoadBatchSizeInBytes(long) bounded by size}.  Defaults to {@link ObjectSizer#DEFAULT}.
+	 *
+	 * @param bulkLoadObjectSizer {@link ObjectSizer} used to estimate entry sizes.
+	 */
+	public void setBulkLoadObjectSizer(ObjectSizer bulkLoadObjectSizer) {
+		this.bulkLoadObjectSizer = bulkLoadObjectSizer != null ? bulkLoadObjectSizer : ObjectSizer.DEFAULT;
+	}
+
+	public ObjectSizer getBulkLoadObjectSizer() {
+		return this.bulkLoadObjectSizer;
+	}
+
+	/**
+	 * Sets the number of times a {@link Region#putAll(Map)} batch failing with a
+	 * {@link #isBulkLoadRetryable(GemFireException) transient} exception is retried before the bulk load fails.
+	 * Defaults to {@literal 0}, so retries are opt-in.
+	 *
+	 * Entries of a partially applied batch are put again on retry, which fires {@link org.apache.geode.cache.CacheWriter
+	 * CacheWriters}, {@link org.apache.geode.cache.CacheListener CacheListeners}, AsyncEventQueues and WAN
+	 * gateway senders a second time for those entries.  Only enable retries when these are absent or idempotent.
+	 *
+	 * @param bulkLoadRetryAttempts number of retries per batch; must not be negative.
+	 * @see #isBulkLoadRetryable(GemFireException)
+	 */
+	public void setBulkLoadRetryAttempts(int bulkLoadRetryAttempts) {
+		Assert.isTrue(bulkLoadRetryAttempts >= 0, "Bulk load retry attempts must not be negative");
+		this.bulkLoadRetryAttempts = bulkLoadRetryAttempts;
+	}
+
+	public int getBulkLoadRetryAttempts() {
+		return this.bulkLoadRetryAttempts;
+	}
+
+	/**
+	 * Sets the maximum number of prepared OQL {@link Query queries} cached by query text.  When the cache is full,
+	 * the least recently used {@link Query} is evicted.  Set to {@literal 0} to parse and compile every query
+	 * on execution.
+	 * Defaults to {@value #DEFAULT_QUERY_CACHE_SIZE}.
+	 *
+	 * @param queryCacheSize maximum number of cached {@link Query queries}; must not be negative.
+	 * @see #prepare(String)
+	 */
+	public void setQueryCacheSize(int queryCacheSize) {
+
+		Assert.isTrue(queryCacheSize >= 0, "Query cache size must be greater than or equal to 0");
+
+		this.queryCacheSize = queryCacheSize;
+
+		synchronized (this.queryCache) {
+
+			Iterator<String> cachedQueries = this.queryCache.keySet().iterator();
+
+			for (int size = this.queryCache.size(); size > queryCacheSize; size--) {
+				cachedQueries.next();
+				cachedQueries.remove();
+			}
+		}
+	}
+
+	public int getQueryCacheSize() {
+		return this.queryCacheSize;
+	}
+
+	/**
+	 * Returns the time this template spent preparing versus executing OQL queries.  Executions of {@link Query queries}
+	 * returned by {@link #prepare(String)} and executed by the caller are not included.
+	 *
+	 * @return the {@link QueryExecutionStatistics} of this template.
+	 * @see org.springframework.data.gemfire.QueryExecutionStatistics
+	 */
+	public QueryExecutionStatistics getQueryExecutionStatistics() {
+
+		return new QueryExecutionStatistics(this.queryPreparations.sum(), this.queryPreparationNanos.sum(),
+			this.queryCacheHits.sum(), this.queryExecutions.sum(), this.queryExecutionNanos.sum());
+	}
+
+	/**
+	 * Sets the {@link IndexAdvisor} recording the OQL queries executed by {@link #find(String, Object...)}
+	 * and {@link #findUnique(String, Object...)}.
+	 *
+	 * @param indexAdvisor {@link IndexAdvisor} recording executed queries.
+	 * @see org.springframework.data.gemfire.IndexAdvisor
+	 */
+	public void setIndexAdvisor(IndexAdvisor indexAdvisor) {
+		this.indexAdvisor = indexAdvisor;
+	}
+
+	public IndexAdvisor getIndexAdvisor() {
+		return this.indexAdvisor;
+	}
+
+	/**
+	 * Sets whether {@link #getAll(Collection)} splits large key sets into concurrent sub-requests.
+	 * Defaults to {@literal false}.
+	 *
+	 * @param parallelGetAll a boolean value indicating whether {@link #getAll(Collection)} runs in parallel.
+	 * @see #getAll(Collection)
+	 */
+	public void setParallelGetAll(boolean parallelGetAll) {
+		this.parallelGetAll = parallelGetAll;
+	}
+
+	public boolean isParallelGetAll() {
+		return this.parallelGetAll;
+	}
+
+	/**
+	 * Sets the target number of keys per {@link Region#getAll(Collection)} sub-request in parallel mode.
+	 * Key sets no larger than the batch size are fetched with a single request.
+	 *
+	 * @param parallelGetAllBatchSize target number of keys per sub-request; must be greater than {@literal 0}.
+	 */
+	public void setParallelGetAllBatchSize(int parallelGetAllBatchSize) {
+		Assert.isTrue(parallelGetAllBatchSize > 0, "Parallel getAll batch size must be greater than 0");
+		this.parallelGetAllBatchSize = parallelGetAllBatchSize;
+	}
+
+	public int getParallelGetAllBatchSize() {
+		return this.parallelGetAllBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of concurrent {@link Region#getAll(Collection)} sub-requests per call
+	 * in parallel mode.
+	 *
+	 * @param parallelGetAllConcurrency maximum number of concurrent sub-requests; must be greater than {@literal 0}.
+	 */
+	public void setParallelGetAllConcurrency(int parallelGetAllConcurrency) {
+		Assert.isTrue(parallelGetAllConcurrency > 0, "Parallel getAll concurrency must be greater than 0");
+		this.parallelGetAllConcurrency = parallelGetAllConcurrency;
+	}
+
+	public int getParallelGetAllConcurrency() {
+		return this.parallelGetAllConcurrency;
+	}
+
+	/**
+	 * Sets the {@link Executor} running {@link Region#getAll(Collection)} sub-requests in parallel mode.
+	 * The provided {@link Executor} is not shut down by this template.  When not set, a fixed pool of
+	 * {@link #setParallelGetAllConcurrency(int) concurrency} daemon Threads is created on first use
+	 * and shut down when this template is {@link #destroy() destroyed}.
+	 *
+	 * @param parallelGetAllExecutor {@link Executor} running sub-requests.
+	 */
+	public void setParallelGetAllExecutor(Executor parallelGetAllExecutor) {
+		this.parallelGetAllExecutor = parallelGetAllExecutor;
+	}
+
+	public Executor getParallelGetAllExecutor() {
+		return this.parallelGetAllExecutor != null ? this.parallelGetAllExecutor
+			: resolveManagedParallelGetAllExecutor();
+	}
+
+	private ExecutorService resolveManagedParallelGetAllExecutor() {
+
+		ExecutorService executorService = this.managedParallelGetAllExecutor;
+
+		if (executorService == null) {
+			synchronized (this) {
+
+				executorService = this.managedParallelGetAllExecutor;
+
+				if (executorService == null) {
+
+					CustomizableThreadFactory threadFactory =
+						new CustomizableThreadFactory("GemfireTemplate-GetAll-");
+
+					threadFactory.setDaemon(true);
+
+					executorService = Executors.newFixedThreadPool(getParallelGetAllConcurrency(), threadFactory);
+
+					this.managedParallelGetAllExecutor = executorService;
+				}
+			}
+		}
+
+		return executorService;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#containsKey(java.lang.Object)
 	 */
@@ -169,20 +501,124 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
-	/* (non-Javadoc)
+	/**
+	 * Gets the values for the given keys from the template {@link Region}.
+	 *
+	 * When {@link #setParallelGetAll(boolean) parallel} and the number of keys exceeds the
+	 * {@link #setParallelGetAllBatchSize(int) batch size}, the keys are split into sub-requests executed
+	 * concurrently and the results are merged.  For partitioned peer Regions, keys are grouped by the primary
+	 * member hosting their bucket, as resolved by {@link PartitionRegionHelper#getPrimaryMemberForKey(Region, Object)}
+	 * (which honors any configured {@link org.apache.geode.cache.PartitionResolver}), so that each sub-request
+	 * targets as few members as possible.  Keys for all other Regions, including client {@literal PROXY} Regions,
+	 * are split into sub-requests by count.
+	 *
 	 * @see org.springframework.data.gemfire.GemfireOperations#getAll(java.util.Collection)
 	 */
 	@Override
 	public <K, V> Map<K, V> getAll(Collection<?> keys) {
 
 		try {
-			return this.<K, V>getRegion().getAll(keys);
+			return isParallelGetAll() && keys != null && keys.size() > getParallelGetAllBatchSize()
+				? parallelGetAll(this.<K, V>getRegion(), keys)
+				: this.<K, V>getRegion().getAll(keys);
 		}
 		catch (GemFireException cause) {
 			throw convertGemFireAccessException(cause);
 		}
 	}
 
+	<K, V> Map<K, V> parallelGetAll(Region<K, V> region, Collection<?> keys) {
+
+		Queue<List<Object>> batches = new ConcurrentLinkedQueue<>(partitionKeys(region, keys));
+
+		int workerCount = Math.min(getParallelGetAllConcurrency(), batches.size());
+
+		if (workerCount <= 1) {
+			return region.getAll(keys);
+		}
+
+		List<CompletableFuture<Map<K, V>>> workers = new ArrayList<>(workerCount);
+
+		for (int count = 0; count < workerCount; count++) {
+			workers.add(CompletableFuture.supplyAsync(() -> {
+
+				Map<K, V> results = new HashMap<>();
+
+				for (List<Object> batch = batches.poll(); batch != null; batch = batches.poll()) {
+					results.putAll(region.getAll(batch));
+				}
+
+				return results;
+
+			}, getParallelGetAllExecutor()));
+		}
+
+		Map<K, V> results = new HashMap<>(keys.size());
+
+		for (CompletableFuture<Map<K, V>> worker : workers) {
+			try {
+				results.putAll(worker.join());
+			}
+			catch (CompletionException cause) {
+				throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Splits the keys into batches of roughly the {@link #getParallelGetAllBatchSize() batch size},
+	 * keeping keys whose primary bucket is hosted by the same member together for partitioned peer Regions.
+	 */
+	List<List<Object>> partitionKeys(Region<?, ?> region, Collection<?> keys) {
+
+		Map<Object, List<Object>> keysByTarget = new LinkedHashMap<>();
+
+		boolean partitionedPeerRegion = isPartitionedPeerRegion(region);
+
+		for (Object key : keys) {
+
+			Object target = partitionedPeerRegion ? PartitionRegionHelper.getPrimaryMemberForKey(region, key) : null;
+
+			keysByTarget.computeIfAbsent(target, it -> new ArrayList<>()).add(key);
+		}
+
+		int batchSize = getParallelGetAllBatchSize();
+
+		List<List<Object>> batches = new ArrayList<>();
+
+		List<Object> batch = new ArrayList<>(batchSize);
+
+		for (List<Object> targetKeys : keysByTarget.values()) {
+			for (Object key : targetKeys) {
+
+				batch.add(key);
+
+				if (batch.size() >= batchSize) {
+					batches.add(batch);
+					batch = new ArrayList<>(batchSize);
+				}
+			}
+		}
+
+		if (!batch.isEmpty()) {
+			batches.add(batch);
+		}
+
+		return batches;
+	}
+
+	boolean isPartitionedPeerRegion(Region<?, ?> region) {
+
+		try {
+			return PartitionRegionHelper.isPartitionedRegion(region);
+		}
+		catch (RuntimeException ignore) {
+			return false;
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#put(K, V)
 	 */
@@ -211,6 +647,74 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/**
+	 * Bulk loads the given {@link Stream} of entries into the template {@link Region}.
+	 * The {@link Stream} is closed once the bulk load completes or fails.
+	 *
+	 * @param <K> the Region key class type.
+	 * @param <V> the Region value class type.
+	 * @param entries {@link Stream} of entries to load; must not be {@literal null}.
+	 * @return {@link BulkLoadStatistics} reporting the outcome of the bulk load.
+	 * @see #bulkLoad(Iterator)
+	 */
+	public <K, V> BulkLoadStatistics bulkLoad(Stream<? extends Map.Entry<? extends K, ? extends V>> entries) {
+
+		Assert.notNull(entries, "Stream of entries must not be null");
+
+		try (Stream<? extends Map.Entry<? extends K, ? extends V>> stream = entries) {
+			return bulkLoad(stream.iterator());
+		}
+	}
+
+	/**
+	 * Bulk loads the given entries into the template {@link Region} without materializing all entries at once.
+	 *
+	 * Entries are grouped into batches bounded by the {@link #setBulkLoadBatchSize(int) number of entries} and,
+	 * optionally, by their {@link #setBulkLoadBatchSizeInBytes(long) estimated size}.  Each batch is put with
+	 * {@link Region#putAll(Map)}, with up to {@link #setBulkLoadConcurrency(int) concurrency} batches in flight.
+	 * When {@link #setBulkLoadRetryAttempts(int) enabled}, batches failing with a
+	 * {@link #isBulkLoadRetryable(GemFireException) transient} exception are retried with exponential back-off.
+	 * A retried batch re-applies entries that were already put, which leaves the Region in the same state but fires
+	 * cache callbacks, AsyncEventQueue and WAN events again for those entries.  Reading from the {@link Iterator}
+	 * stops at the first batch that fails, and the failure is rethrown once the in-flight batches complete.
+	 *
+	 * @param <K> the Region key class type.
+	 * @param <V> the Region value class type.
+	 * @param entries {@link Iterator} over the entries to load; must not be {@literal null}.
+	 * @return {@link BulkLoadStatistics} reporting the outcome of the bulk load.
+	 * @throws DataAccessException if a batch fails after all retries.
+	 * @see org.springframework.data.gemfire.BulkLoadStatistics
+	 */
+	public <K, V> BulkLoadStatistics bulkLoad(Iterator<? extends Map.Entry<? extends K, ? extends V>> entries) {
+
+		Assert.notNull(entries, "Iterator of entries must not be null");
+
+		BulkLoad<K, V> bulkLoad = new BulkLoad<>(this.<K, V>getRegion());
+
+		BulkLoadStatistics statistics = bulkLoad.load(entries);
+
+		if (log.isDebugEnabled()) {
+			log.debug(statistics.toString());
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Determines whether a bulk load batch failing with the given {@link GemFireException} may be retried.
+	 * Only failures to reach a server, other than errors raised by the server operation itself, and
+	 * {@link LowMemoryException low memory} conditions are considered transient.
+	 *
+	 * @param cause {@link GemFireException} thrown by {@link Region#putAll(Map)}.
+	 * @return a boolean value indicating whether the batch may be retried.
+	 * @see #setBulkLoadRetryAttempts(int)
+	 */
+	protected boolean isBulkLoadRetryable(GemFireException cause) {
+
+		return (cause instanceof ServerConnectivityException && !(cause instanceof ServerOperationException))
+			|| cause instanceof LowMemoryException;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.gemfire.GemfireOperations#putIfAbsent(K, V)
 	 */
@@ -306,9 +810,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		try {
 
-			QueryService queryService = resolveQueryService(getRegion());
-			Query query = queryService.newQuery(queryString);
-			Object result = query.execute(params);
+			Object result = executeQuery(resolveQuery(queryString), params);
 
 			if (result instanceof SelectResults) {
 				return (SelectResults<E>) result;
@@ -348,9 +850,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 		try {
 
-			QueryService queryService = resolveQueryService(getRegion());
-			Query query = queryService.newQuery(queryString);
-			Object result = query.execute(params);
+			Object result = executeQuery(resolveQuery(queryString), params);
 
 			if (result instanceof SelectResults) {
 
@@ -388,6 +888,79 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.gemfire.GemfireOperations#prepare(java.lang.String)
+	 */
+	@Override
+	public Query prepare(String queryString) {
+
+		try {
+			return resolveQuery(queryString);
+		}
+		catch (IndexInvalidException | QueryInvalidException cause) {
+			throw convertGemFireQueryException(cause);
+		}
+		catch (GemFireException cause) {
+			throw convertGemFireAccessException(cause);
+		}
+	}
+
+	/**
+	 * Returns the cached, compiled {@link Query} for the given query text, or parses and compiles the query
+	 * with the resolved {@link QueryService} and caches it, evicting the least recently used {@link Query}
+	 * when the cache is full.
+	 */
+	Query resolveQuery(String queryString) {
+
+		Query query = this.queryCache.get(queryString);
+
+		if (query != null) {
+			this.queryCacheHits.increment();
+			return query;
+		}
+
+		long startTime = System.nanoTime();
+
+		query = resolveQueryService(getRegion()).newQuery(queryString);
+
+		this.queryPreparationNanos.add(System.nanoTime() - startTime);
+		this.queryPreparations.increment();
+
+		int queryCacheSize = getQueryCacheSize();
+
+		if (queryCacheSize > 0) {
+
+			Query cachedQuery = this.queryCache.putIfAbsent(queryString, query);
+
+			query = cachedQuery != null ? cachedQuery : query;
+		}
+
+		return query;
+	}
+
+	Object executeQuery(Query query, Object[] params) throws QueryException {
+
+		long startTime = System.nanoTime();
+
+		try {
+			return query.execute(params);
+		}
+		finally {
+
+			long elapsedNanos = System.nanoTime() - startTime;
+
+			this.queryExecutionNanos.add(elapsedNanos);
+			this.queryExecutions.increment();
+
+			IndexAdvisor indexAdvisor = getIndexAdvisor();
+
+			if (indexAdvisor != null) {
+				indexAdvisor.record(query.getQueryString(), elapsedNanos);
+			}
+		}
+	}
+
 	/**
 	 * Returns the {@link QueryService} used by this template in its query/finder methods.
 	 *
@@ -499,44 +1072,178 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	}
 
 	/**
-	 * InvocationHandler that suppresses close calls on Pivotal GemFire Cache Regions.
-	 *
-	 * @see org.apache.geode.cache.Region#close()
-	 * @see java.lang.reflect.InvocationHandler
+	 * A single bulk load of entries into a {@link Region}, grouping entries into batches
+	 * and putting the batches within a bounded in-flight window.
 	 */
-	private static class RegionCloseSuppressingInvocationHandler implements InvocationHandler {
+	private final class BulkLoad<K, V> {
 
-		private final Region<?, ?> target;
+		private final AtomicReference<Throwable> failure = new AtomicReference<>();
 
-		public RegionCloseSuppressingInvocationHandler(Region<?, ?> target) {
+		private final LongAdder batches = new LongAdder();
+		private final LongAdder entries = new LongAdder();
+		private final LongAdder retries = new LongAdder();
+
+		private final Region<K, V> region;
 
-			Assert.notNull(target, "Target Region must not be null");
+		private final int concurrency = getBulkLoadConcurrency();
 
-			this.target = target;
+		private final Semaphore window = new Semaphore(this.concurrency);
+
+		private BulkLoad(Region<K, V> region) {
+			this.region = region;
 		}
 
-		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		BulkLoadStatistics load(Iterator<? extends Map.Entry<? extends K, ? extends V>> iterator) {
+
+			long startTime = System.nanoTime();
 
-			if ("equals".equals(method.getName())) {
-				// only consider equal when proxies are identical
-				return proxy == args[0];
+			int batchSize = getBulkLoadBatchSize();
+
+			long batchSizeInBytes = getBulkLoadBatchSizeInBytes();
+			long estimatedBytes = batchSizeInBytes > 0 ? 0L : -1L;
+
+			ExecutorService bulkLoadExecutorService = null;
+
+			Executor executor = getBulkLoadExecutor();
+
+			if (executor == null && this.concurrency > 1) {
+
+				CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("GemfireTemplate-BulkLoad-");
+
+				threadFactory.setDaemon(true);
+				bulkLoadExecutorService = Executors.newFixedThreadPool(this.concurrency, threadFactory);
+				executor = bulkLoadExecutorService;
 			}
-			else if ("hashCode".equals(method.getName())) {
-				// use hashCode of Region proxy
-				return System.identityHashCode(proxy);
+
+			try {
+
+				Map<K, V> batch = new LinkedHashMap<>();
+
+				long batchBytes = 0L;
+
+				while (this.failure.get() == null && iterator.hasNext()) {
+
+					Map.Entry<? extends K, ? extends V> entry = iterator.next();
+
+					batch.put(entry.getKey(), entry.getValue());
+
+					if (batchSizeInBytes > 0) {
+
+						long entryBytes = getBulkLoadObjectSizer().sizeof(entry.getKey())
+							+ getBulkLoadObjectSizer().sizeof(entry.getValue());
+
+						batchBytes += entryBytes;
+						estimatedBytes += entryBytes;
+					}
+
+					if (batch.size() >= batchSize || (batchSizeInBytes > 0 && batchBytes >= batchSizeInBytes)) {
+						submit(batch, executor);
+						batch = new LinkedHashMap<>();
+						batchBytes = 0L;
+					}
+				}
+
+				if (this.failure.get() == null && !batch.isEmpty()) {
+					submit(batch, executor);
+				}
+
+				// wait for all in-flight batches to complete
+				this.window.acquireUninterruptibly(this.concurrency);
+				this.window.release(this.concurrency);
 			}
-			else if ("close".equals(method.getName())) {
-				// suppress Region.close()
-				return null;
+			finally {
+				if (bulkLoadExecutorService != null) {
+					bulkLoadExecutorService.shutdown();
+				}
+			}
+
+			Throwable cause = this.failure.get();
+
+			if (cause instanceof GemFireException) {
+				throw convertGemFireAccessException((GemFireException) cause);
+			}
+			else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			return new BulkLoadStatistics(this.entries.sum(), this.batches.sum(), this.retries.sum(), estimatedBytes,
+				System.nanoTime() - startTime);
+		}
+
+		private void submit(Map<K, V> batch, Executor executor) {
+
+			this.window.acquireUninterruptibly();
+
+			Runnable putAll = () -> {
+				try {
+					putAll(batch);
+				}
+				catch (Throwable cause) {
+					this.failure.compareAndSet(null, cause);
+				}
+				finally {
+					this.window.release();
+				}
+			};
+
+			if (executor != null) {
+				try {
+					executor.execute(putAll);
+				}
+				catch (RejectedExecutionException cause) {
+					this.window.release();
+					throw cause;
+				}
 			}
 			else {
+				putAll.run();
+			}
+		}
+
+		private void putAll(Map<K, V> batch) {
+
+			for (int attempt = 0; ; attempt++) {
 				try {
-					return method.invoke(this.target, args);
+					this.region.putAll(batch);
+					this.batches.increment();
+					this.entries.add(batch.size());
+					return;
 				}
-				catch (InvocationTargetException ex) {
-					throw ex.getTargetException();
+				catch (GemFireException cause) {
+
+					if (attempt >= getBulkLoadRetryAttempts() || !isBulkLoadRetryable(cause)) {
+						throw cause;
+					}
+
+					this.retries.increment();
+
+					LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(
+						BULK_LOAD_RETRY_BACKOFF_MILLISECONDS << Math.min(attempt, 10)));
 				}
 			}
 		}
 	}
+
+	/**
+	 * InvocationHandler that suppresses close calls on Pivotal GemFire Cache Regions.
+	 *
+	 * @see org.apache.geode.cache.Region#close()
+	 * @see org.springframework.data.gemfire.support.AbstractRegionInvocationHandler
+	 */
+	private static class RegionCloseSuppressingInvocationHandler extends AbstractRegionInvocationHandler {
+
+		public RegionCloseSuppressingInvocationHandler(Region<?, ?> target) {
+			super(target);
+		}
+
+		@Override
+		protected MethodInvoker newMethodInvoker(Method method) {
+
+			// suppress Region.close()
+			return "close".equals(method.getName()) ? (proxy, args) -> null : super.newMethodInvoker(method);
+		}
+	}
 }
@@ -0,0 +1,729 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.Index;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.gemfire.config.admin.GemfireAdminOperations;
+import org.springframework.data.gemfire.config.admin.remote.FunctionGemfireAdminTemplate;
+import org.springframework.data.gemfire.config.schema.definitions.IndexDefinition;
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link IndexAdvisor} records the OQL queries executed by {@link GemfireTemplate} and recommends
+ * {@link Index Indexes} for the query predicates that are executed most often and take the longest.
+ *
+ * For each recorded query, the advisor extracts the queried {@literal Region} from the {@literal FROM} clause
+ * and the expressions compared in the {@literal WHERE} clause.  Expressions only compared for equality
+ * ({@literal =}, {@literal IN}) are recommended as {@link IndexType#HASH HASH} {@link Index Indexes},
+ * or {@link IndexType#KEY KEY} {@link Index Indexes} when the expression is a configured key expression.
+ * Expressions used in range comparisons ({@literal <}, {@literal >}, {@literal LIKE}, ...) are recommended as
+ * {@link IndexType#FUNCTIONAL FUNCTIONAL} {@link Index Indexes}.
+ *
+ * When {@link #setCreateIndexes(boolean) enabled}, recommended {@link Index Indexes} are created at runtime
+ * with {@link GemfireAdminOperations#createIndex(IndexDefinition)} as soon as they are recommended.  An expression
+ * is only evaluated until it is first recommended, so each {@link Index} is scheduled once.  Use
+ * {@link #createRecommendedIndexes()} to create {@link Index Indexes} whose recommended type changed later.
+ * Indexes are created on an {@link #setExecutor(Executor) Executor}, off the thread executing the query.
+ * Unless configured, the {@link GemfireAdminOperations} are resolved from the
+ * {@link #setCache(GemFireCache) ClientCache}, as with
+ * {@link org.springframework.data.gemfire.config.annotation.EnableClusterConfiguration}.
+ *
+ * Approximately {@value #MAXIMUM_RECORDED_QUERIES} distinct queries are recorded.  When exceeded, a batch of
+ * the least recently executed queries is evicted by a single recording thread, without blocking other threads
+ * recording queries.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Index
+ * @see org.springframework.data.gemfire.GemfireTemplate#setIndexAdvisor(IndexAdvisor)
+ * @see org.springframework.data.gemfire.config.admin.GemfireAdminOperations
+ * @see org.springframework.data.gemfire.config.schema.definitions.IndexDefinition
+ * @since 2.2.0
+ */
+public class IndexAdvisor implements InitializingBean, DisposableBean {
+
+	public static final int DEFAULT_MINIMUM_EXECUTIONS = 100;
+
+	public static final long DEFAULT_MINIMUM_AVERAGE_LATENCY_MICROSECONDS = 1000L;
+
+	public static final String[] DEFAULT_KEY_EXPRESSIONS = { "id" };
+
+	protected static final int MAXIMUM_RECORDED_QUERIES = 1024;
+
+	protected static final int QUERY_RECORD_EVICTION_BATCH_SIZE = MAXIMUM_RECORDED_QUERIES / 8;
+
+	private static final Pattern FROM_CLAUSE_PATTERN =
+		Pattern.compile("\\bFROM\\s+(/[\\w/\\-]+)(?:\\.\\w+(?:\\(\\))?)?(?:\\s+(?:AS\\s+)?(\\w+))?",
+			Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern PREDICATE_PATTERN =
+		Pattern.compile("([A-Za-z_][\\w.]*(?:\\(\\))?)\\s*(<>|!=|<=|>=|=|<|>|\\bIN\\b|\\bLIKE\\b)",
+			Pattern.CASE_INSENSITIVE);
+
+	private static final Pattern WHERE_CLAUSE_PATTERN =
+		Pattern.compile("\\bWHERE\\b(.+?)(?:\\bORDER\\s+BY\\b|\\bGROUP\\s+BY\\b|\\bLIMIT\\b|$)",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	private static final Set<String> OQL_KEYWORDS = new HashSet<>(Arrays.asList("AND", "AS", "DISTINCT",
+		"GROUP", "IN", "IS_DEFINED", "IS_UNDEFINED", "LIKE", "LIMIT", "NOT", "OR", "ORDER", "WHERE"));
+
+	private boolean createIndexes = false;
+
+	private int minimumExecutions = DEFAULT_MINIMUM_EXECUTIONS;
+
+	private long minimumAverageLatencyMicroseconds = DEFAULT_MINIMUM_AVERAGE_LATENCY_MICROSECONDS;
+
+	private Executor executor;
+
+	private ExecutorService managedExecutor;
+
+	private GemfireAdminOperations gemfireAdminOperations;
+
+	private GemFireCache cache;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final AtomicBoolean evictingQueryRecords = new AtomicBoolean(false);
+
+	private final Map<String, QueryRecord> queryRecords = new ConcurrentHashMap<>();
+
+	private final Map<String, PredicateRecord> predicateRecords = new ConcurrentHashMap<>();
+
+	private final Set<String> createdIndexes = ConcurrentHashMap.newKeySet();
+
+	private volatile Set<String> keyExpressions = new HashSet<>(Arrays.asList(DEFAULT_KEY_EXPRESSIONS));
+
+	/**
+	 * Resolves the {@link GemfireAdminOperations} used to create recommended {@link Index Indexes}
+	 * when {@link #setCreateIndexes(boolean) enabled}.
+	 *
+	 * @throws IllegalStateException if {@link GemfireAdminOperations} were not configured
+	 * and the {@link #setCache(GemFireCache) cache} is not a {@link ClientCache}.
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		if (isCreateIndexes() && getGemfireAdminOperations() == null) {
+
+			GemFireCache cache = getCache();
+
+			if (!CacheUtils.isClient(cache)) {
+				throw newIllegalStateException("Creating advised Indexes requires GemfireAdminOperations"
+					+ " or a ClientCache; cache was [%s]", cache);
+			}
+
+			setGemfireAdminOperations(new FunctionGemfireAdminTemplate((ClientCache) cache));
+		}
+	}
+
+	/**
+	 * Shuts down the {@link ExecutorService} created by this advisor to create {@link Index Indexes}, if any.
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		if (this.managedExecutor != null) {
+			this.managedExecutor.shutdownNow();
+			this.managedExecutor = null;
+		}
+	}
+
+	/**
+	 * Sets the {@link GemFireCache} from which {@link GemfireAdminOperations} are resolved when not configured.
+	 *
+	 * @param cache {@link GemFireCache} used to resolve {@link GemfireAdminOperations}.
+	 */
+	public void setCache(GemFireCache cache) {
+		this.cache = cache;
+	}
+
+	protected GemFireCache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Sets whether recommended {@link Index Indexes} are created at runtime.  Requires
+	 * {@link #setGemfireAdminOperations(GemfireAdminOperations) GemfireAdminOperations}
+	 * or a {@link #setCache(GemFireCache) ClientCache}.  Defaults to {@literal false}.
+	 *
+	 * @param createIndexes boolean value indicating whether to create recommended {@link Index Indexes}.
+	 */
+	public void setCreateIndexes(boolean createIndexes) {
+		this.createIndexes = createIndexes;
+	}
+
+	public boolean isCreateIndexes() {
+		return this.createIndexes;
+	}
+
+	/**
+	 * Sets the {@link GemfireAdminOperations} used to create recommended {@link Index Indexes}.
+	 *
+	 * @param gemfireAdminOperations {@link GemfireAdminOperations} used to create {@link Index Indexes}.
+	 * @see org.springframework.data.gemfire.config.admin.GemfireAdminOperations
+	 */
+	@Autowired(required = false)
+	public void setGemfireAdminOperations(GemfireAdminOperations gemfireAdminOperations) {
+		this.gemfireAdminOperations = gemfireAdminOperations;
+	}
+
+	protected GemfireAdminOperations getGemfireAdminOperations() {
+		return this.gemfireAdminOperations;
+	}
+
+	/**
+	 * Sets the {@link Executor} on which recommended {@link Index Indexes} are created at runtime.
+	 * The provided {@link Executor} is not shut down by this advisor.  When not set, a single daemon Thread
+	 * is created on first use and shut down when this advisor is {@link #destroy() destroyed}.
+	 *
+	 * @param executor {@link Executor} used to create {@link Index Indexes}.
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	protected synchronized Executor getExecutor() {
+
+		if (this.executor != null) {
+			return this.executor;
+		}
+
+		if (this.managedExecutor == null) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("IndexAdvisor-");
+
+			threadFactory.setDaemon(true);
+
+			this.managedExecutor = Executors.newSingleThreadExecutor(threadFactory);
+		}
+
+		return this.managedExecutor;
+	}
+
+	/**
+	 * Sets the expressions identifying the key of the queried entities, which are recommended as
+	 * {@link IndexType#KEY KEY} {@link Index Indexes}.  Defaults to {@literal id}.
+	 *
+	 * @param keyExpressions expressions identifying the key of the queried entities.
+	 */
+	public void setKeyExpressions(String... keyExpressions) {
+		this.keyExpressions = new HashSet<>(Arrays.asList(keyExpressions != null ? keyExpressions : new String[0]));
+	}
+
+	public Set<String> getKeyExpressions() {
+		return Collections.unmodifiableSet(this.keyExpressions);
+	}
+
+	/**
+	 * Sets the minimum number of executions of queries comparing an expression before an {@link Index}
+	 * is recommended for the expression.
+	 *
+	 * @param minimumExecutions minimum number of executions.
+	 */
+	public void setMinimumExecutions(int minimumExecutions) {
+		this.minimumExecutions = Math.max(minimumExecutions, 1);
+	}
+
+	public int getMinimumExecutions() {
+		return this.minimumExecutions;
+	}
+
+	/**
+	 * Sets the minimum average latency, in microseconds, of queries comparing an expression before an {@link Index}
+	 * is recommended for the expression.
+	 *
+	 * @param minimumAverageLatencyMicroseconds minimum average latency in microseconds.
+	 */
+	public void setMinimumAverageLatencyMicroseconds(long minimumAverageLatencyMicroseconds) {
+		this.minimumAverageLatencyMicroseconds = Math.max(minimumAverageLatencyMicroseconds, 0L);
+	}
+
+	public long getMinimumAverageLatencyMicroseconds() {
+		return this.minimumAverageLatencyMicroseconds;
+	}
+
+	/**
+	 * Records an execution of the given OQL query.  Recommended {@link Index Indexes} are created asynchronously
+	 * when {@link #setCreateIndexes(boolean) enabled}.
+	 *
+	 * @param query {@link String} containing the executed OQL query.
+	 * @param elapsedNanos duration of the query execution in nanoseconds.
+	 */
+	public void record(String query, long elapsedNanos) {
+
+		if (StringUtils.hasText(query)) {
+
+			QueryRecord queryRecord = this.queryRecords.get(query);
+
+			if (queryRecord == null) {
+
+				queryRecord = QueryRecord.parse(query);
+
+				QueryRecord existingQueryRecord = this.queryRecords.putIfAbsent(query, queryRecord);
+
+				if (existingQueryRecord != null) {
+					queryRecord = existingQueryRecord;
+				}
+				else if (this.queryRecords.size() > MAXIMUM_RECORDED_QUERIES) {
+					evictQueryRecords();
+				}
+			}
+
+			queryRecord.record(elapsedNanos);
+
+			boolean createIndexes = isCreateIndexes() && getGemfireAdminOperations() != null;
+
+			for (Predicate predicate : queryRecord.getPredicates()) {
+
+				PredicateRecord predicateRecord = this.predicateRecords.computeIfAbsent(predicate.getKey(),
+					key -> new PredicateRecord(predicate.getFromClause(), predicate.getExpression()));
+
+				predicateRecord.record(predicate.isRange(), elapsedNanos);
+
+				if (createIndexes && !predicateRecord.isRecommended() && isRecommended(predicateRecord)
+						&& predicateRecord.markRecommended()) {
+
+					createIndexAsync(predicateRecord);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evicts a batch of the least recently executed queries.  Only one thread evicts at a time; other threads
+	 * recording new queries in the meantime do not wait, so the number of recorded queries may briefly exceed
+	 * {@value #MAXIMUM_RECORDED_QUERIES}.
+	 */
+	private void evictQueryRecords() {
+
+		if (this.evictingQueryRecords.compareAndSet(false, true)) {
+			try {
+
+				int evictionCount = this.queryRecords.size() - MAXIMUM_RECORDED_QUERIES
+					+ QUERY_RECORD_EVICTION_BATCH_SIZE;
+
+				this.queryRecords.values().stream()
+					.sorted(Comparator.comparingLong(QueryRecord::getLastRecordedNanos))
+					.limit(Math.max(evictionCount, 0))
+					.collect(Collectors.toList())
+					.forEach(queryRecord -> this.queryRecords.remove(queryRecord.getQuery(), queryRecord));
+			}
+			finally {
+				this.evictingQueryRecords.set(false);
+			}
+		}
+	}
+
+	/**
+	 * Returns the recorded queries, ordered by total execution time, highest first.
+	 *
+	 * @return a {@link List} of the {@link QueryRecord QueryRecords}.
+	 */
+	public List<QueryRecord> getQueryRecords() {
+
+		return this.queryRecords.values().stream()
+			.sorted(Comparator.comparingLong(QueryRecord::getTotalNanos).reversed())
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the recommended {@link Index Indexes}, ordered by the total execution time of the queries
+	 * comparing the indexed expression, highest first.
+	 *
+	 * @return a {@link List} of {@link IndexDefinition IndexDefinitions} of the recommended {@link Index Indexes}.
+	 * @see org.springframework.data.gemfire.config.schema.definitions.IndexDefinition
+	 */
+	public List<IndexDefinition> getRecommendations() {
+
+		return this.predicateRecords.values().stream()
+			.filter(this::isRecommended)
+			.sorted(Comparator.comparingLong(PredicateRecord::getTotalNanos).reversed())
+			.map(this::toIndexDefinition)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Creates the recommended {@link Index Indexes} that have not been created yet
+	 * using the configured {@link GemfireAdminOperations}.
+	 *
+	 * @return a {@link List} of {@link IndexDefinition IndexDefinitions} of the created {@link Index Indexes}.
+	 * @throws IllegalStateException if {@link GemfireAdminOperations} were not configured.
+	 */
+	public List<IndexDefinition> createRecommendedIndexes() {
+
+		if (getGemfireAdminOperations() == null) {
+			throw newIllegalStateException("GemfireAdminOperations are required to create Indexes");
+		}
+
+		List<IndexDefinition> indexDefinitions = new ArrayList<>();
+
+		this.predicateRecords.values().stream()
+			.filter(this::isRecommended)
+			.map(this::toIndexDefinition)
+			.filter(indexDefinition -> this.createdIndexes.add(indexDefinition.getName()))
+			.filter(this::createIndex)
+			.forEach(indexDefinitions::add);
+
+		return indexDefinitions;
+	}
+
+	/**
+	 * Clears all recorded queries.
+	 */
+	public void reset() {
+		this.queryRecords.clear();
+		this.predicateRecords.clear();
+	}
+
+	private boolean isRecommended(PredicateRecord predicateRecord) {
+
+		return predicateRecord.getExecutions() >= getMinimumExecutions()
+			&& TimeUnit.NANOSECONDS.toMicros(predicateRecord.getAverageNanos())
+				>= getMinimumAverageLatencyMicroseconds();
+	}
+
+	private void createIndexAsync(PredicateRecord predicateRecord) {
+
+		IndexDefinition indexDefinition = toIndexDefinition(predicateRecord);
+
+		if (this.createdIndexes.add(indexDefinition.getName())) {
+			try {
+				getExecutor().execute(() -> createIndex(indexDefinition));
+			}
+			catch (RejectedExecutionException cause) {
+
+				this.createdIndexes.remove(indexDefinition.getName());
+
+				predicateRecord.resetRecommended();
+
+				if (this.logger.isWarnEnabled()) {
+					this.logger.warn(String.format("Failed to schedule creation of Index [%s]",
+						indexDefinition.getName()), cause);
+				}
+			}
+		}
+	}
+
+	private boolean createIndex(IndexDefinition indexDefinition) {
+
+		try {
+
+			getGemfireAdminOperations().createIndex(indexDefinition);
+
+			if (this.logger.isInfoEnabled()) {
+				this.logger.info(String.format("Created Index [%1$s] of type [%2$s] on [%3$s] for expression [%4$s]",
+					indexDefinition.getName(), indexDefinition.getIndexType(), indexDefinition.getFromClause(),
+					indexDefinition.getExpression()));
+			}
+
+			return true;
+		}
+		catch (RuntimeException cause) {
+
+			if (this.logger.isWarnEnabled()) {
+				this.logger.warn(String.format("Failed to create Index [%s]", indexDefinition.getName()), cause);
+			}
+
+			return false;
+		}
+	}
+
+	IndexType resolveIndexType(PredicateRecord predicateRecord) {
+
+		return predicateRecord.getRangeExecutions() > 0 ? IndexType.FUNCTIONAL
+			: this.keyExpressions.contains(predicateRecord.getExpression()) ? IndexType.KEY
+			: IndexType.HASH;
+	}
+
+	private IndexDefinition toIndexDefinition(PredicateRecord predicateRecord) {
+
+		IndexType indexType = resolveIndexType(predicateRecord);
+
+		String indexName = String.format("%1$s%2$s%3$sIdx",
+			predicateRecord.getFromClause().replaceAll("\\W", ""),
+			StringUtils.capitalize(predicateRecord.getExpression().replaceAll("\\W", "")),
+			StringUtils.capitalize(indexType.name().toLowerCase()));
+
+		return IndexDefinition.from(indexName, predicateRecord.getExpression(), predicateRecord.getFromClause(),
+			indexType);
+	}
+
+	/**
+	 * {@link Predicate} is an expression compared in the {@literal WHERE} clause of a query.
+	 */
+	public static final class Predicate {
+
+		private final boolean range;
+
+		private final String expression;
+		private final String fromClause;
+
+		Predicate(String fromClause, String expression, boolean range) {
+			this.fromClause = fromClause;
+			this.expression = expression;
+			this.range = range;
+		}
+
+		public String getExpression() {
+			return this.expression;
+		}
+
+		String getFromClause() {
+			return this.fromClause;
+		}
+
+		String getKey() {
+			return this.fromClause + " " + this.expression;
+		}
+
+		public boolean isRange() {
+			return this.range;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s%2$s", getExpression(), isRange() ? " (range)" : "");
+		}
+	}
+
+	/**
+	 * {@link QueryRecord} records the frequency and latency of an OQL query along with the queried {@literal Region}
+	 * and the compared expressions.
+	 */
+	public static final class QueryRecord {
+
+		private final LongAdder executions = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final List<Predicate> predicates;
+
+		private final String fromClause;
+		private final String query;
+
+		private volatile long lastRecordedNanos = System.nanoTime();
+
+		static QueryRecord parse(String query) {
+
+			Matcher fromClauseMatcher = FROM_CLAUSE_PATTERN.matcher(query);
+
+			if (!fromClauseMatcher.find()) {
+				return new QueryRecord(query, "", Collections.emptyList());
+			}
+
+			String fromClause = fromClauseMatcher.group(1);
+			String alias = fromClauseMatcher.group(2);
+
+			alias = alias != null && !OQL_KEYWORDS.contains(alias.toUpperCase()) ? alias : null;
+
+			Set<String> rangeExpressions = new LinkedHashSet<>();
+			Set<String> equalityExpressions = new LinkedHashSet<>();
+
+			Matcher whereClauseMatcher = WHERE_CLAUSE_PATTERN.matcher(query);
+
+			if (whereClauseMatcher.find()) {
+
+				Matcher predicateMatcher = PREDICATE_PATTERN.matcher(whereClauseMatcher.group(1));
+
+				while (predicateMatcher.find()) {
+
+					String expression = predicateMatcher.group(1);
+					String operator = predicateMatcher.group(2).toUpperCase();
+
+					if (alias != null && expression.startsWith(alias + ".")) {
+						expression = expression.substring(alias.length() + 1);
+					}
+
+					if (!OQL_KEYWORDS.contains(expression.toUpperCase())
+							&& !"<>".equals(operator) && !"!=".equals(operator)) {
+
+						if ("=".equals(operator) || "IN".equals(operator)) {
+							equalityExpressions.add(expression);
+						}
+						else {
+							rangeExpressions.add(expression);
+						}
+					}
+				}
+			}
+
+			List<Predicate> predicates = new ArrayList<>();
+
+			rangeExpressions.forEach(expression -> predicates.add(new Predicate(fromClause, expression, true)));
+
+			equalityExpressions.stream()
+				.filter(expression -> !rangeExpressions.contains(expression))
+				.forEach(expression -> predicates.add(new Predicate(fromClause, expression, false)));
+
+			return new QueryRecord(query, fromClause, predicates);
+		}
+
+		private QueryRecord(String query, String fromClause, List<Predicate> predicates) {
+			this.query = query;
+			this.fromClause = fromClause;
+			this.predicates = Collections.unmodifiableList(predicates);
+		}
+
+		void record(long elapsedNanos) {
+			this.executions.increment();
+			this.totalNanos.add(elapsedNanos);
+			this.lastRecordedNanos = System.nanoTime();
+		}
+
+		public long getAverageNanos() {
+
+			long executions = getExecutions();
+
+			return executions > 0 ? getTotalNanos() / executions : 0L;
+		}
+
+		public long getExecutions() {
+			return this.executions.sum();
+		}
+
+		public String getFromClause() {
+			return this.fromClause;
+		}
+
+		long getLastRecordedNanos() {
+			return this.lastRecordedNanos;
+		}
+
+		public List<Predicate> getPredicates() {
+			return this.predicates;
+		}
+
+		public String getQuery() {
+			return this.query;
+		}
+
+		public long getTotalNanos() {
+			return this.totalNanos.sum();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s { executions = %2$d, averageLatency = %3$d us, predicates = %4$s }",
+				getQuery(), getExecutions(), TimeUnit.NANOSECONDS.toMicros(getAverageNanos()), getPredicates());
+		}
+	}
+
+	/**
+	 * {@link PredicateRecord} records the frequency and latency of the queries comparing an expression
+	 * of a {@literal Region}.
+	 */
+	static final class PredicateRecord {
+
+		private final LongAdder executions = new LongAdder();
+		private final LongAdder rangeExecutions = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final AtomicBoolean recommended = new AtomicBoolean(false);
+
+		private final String expression;
+		private final String fromClause;
+
+		PredicateRecord(String fromClause, String expression) {
+			this.fromClause = fromClause;
+			this.expression = expression;
+		}
+
+		void record(boolean range, long elapsedNanos) {
+
+			this.executions.increment();
+			this.totalNanos.add(elapsedNanos);
+
+			if (range) {
+				this.rangeExecutions.increment();
+			}
+		}
+
+		long getAverageNanos() {
+
+			long executions = getExecutions();
+
+			return executions > 0 ? getTotalNanos() / executions : 0L;
+		}
+
+		long getExecutions() {
+			return this.executions.sum();
+		}
+
+		String getExpression() {
+			return this.expression;
+		}
+
+		String getFromClause() {
+			return this.fromClause;
+		}
+
+		long getRangeExecutions() {
+			return this.rangeExecutions.sum();
+		}
+
+		boolean isRecommended() {
+			return this.recommended.get();
+		}
+
+		/**
+		 * Marks this predicate as recommended.
+		 *
+		 * @return {@literal true} only for the caller that transitioned this predicate to recommended.
+		 */
+		boolean markRecommended() {
+			return this.recommended.compareAndSet(false, true);
+		}
+
+		void resetRecommended() {
+			this.recommended.set(false);
+		}
+
+		long getTotalNanos() {
+			return this.totalNanos.sum();
+		}
+	}
+}
@@ -28,6 +28,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionService;
@@ -73,9 +75,12 @@ public class IndexFactoryBean extends AbstractFactoryBeanSupport<Index> implemen
 	public static final String DETAILED_INDEX_DEFINITION =
 		"{ name = '%1$s', expression = '%2$s', from = '%3$s', imports = '%4$s', type = %5$s }";
 
+	private static final Pattern REGION_PATH_PATTERN = Pattern.compile("^(/?[\\w/\\-]+)");
+
 	private boolean define = false;
 	private boolean ignoreIfExists = false;
 	private boolean override = false;
+	private boolean parallel = false;
 
 	private Index index;
 
@@ -190,7 +195,7 @@ public class IndexFactoryBean extends AbstractFactoryBeanSupport<Index> implemen
 	/* (non-Javadoc) */
 	QueryService lookupQueryService() {
 
-		String queryServiceBeanName = GemfireConstants.DEFAULT_GEMFIRE_INDEX_DEFINITION_QUERY_SERVICE;
+		String queryServiceBeanName = resolveQueryServiceBeanName();
 
 		return Optional.ofNullable(getBeanFactory())
 			.filter(beanFactory -> beanFactory.containsBean(queryServiceBeanName))
@@ -198,6 +203,32 @@ public class IndexFactoryBean extends AbstractFactoryBeanSupport<Index> implemen
 			.orElseGet(() -> registerQueryServiceBean(queryServiceBeanName, doLookupQueryService()));
 	}
 
+	/**
+	 * Resolves the name of the {@link QueryService} bean used to define the {@link Index}.  In {@link #isParallel()}
+	 * mode, each {@link org.apache.geode.cache.Region} gets its own {@link QueryService} so that the {@link Index Indexes}
+	 * defined on different {@link org.apache.geode.cache.Region Regions} can be created in parallel.
+	 */
+	String resolveQueryServiceBeanName() {
+
+		String queryServiceBeanName = GemfireConstants.DEFAULT_GEMFIRE_INDEX_DEFINITION_QUERY_SERVICE;
+
+		return isParallel() ? String.format("%1$s.%2$s", queryServiceBeanName, resolveRegionPath(this.from))
+			: queryServiceBeanName;
+	}
+
+	/**
+	 * Resolves the {@link org.apache.geode.cache.Region} path from the given {@link Index} {@literal FROM} clause.
+	 *
+	 * @param from {@link String} containing the {@literal FROM} clause of the {@link Index}.
+	 * @return the {@link org.apache.geode.cache.Region} path referenced in the {@literal FROM} clause.
+	 */
+	public static String resolveRegionPath(String from) {
+
+		Matcher matcher = REGION_PATH_PATTERN.matcher(String.valueOf(from).trim());
+
+		return matcher.find() ? matcher.group(1) : String.valueOf(from);
+	}
+
 	/* (non-Javadoc) */
 	QueryService doLookupQueryService() {
 
@@ -611,7 +642,26 @@ public class IndexFactoryBean extends AbstractFactoryBeanSupport<Index> implemen
 	 * will be created immediately.
 	 */
 	protected boolean isDefine() {
-		return define;
+		return define || isParallel();
+	}
+
+	/**
+	 * Sets a boolean condition to indicate whether the {@link Index} declared by this {@link IndexFactoryBean}
+	 * is defined in a batch with the other {@link Index Indexes} on the same {@link org.apache.geode.cache.Region}.
+	 * Once the Spring container has been refreshed, each {@link org.apache.geode.cache.Region Region's} batch
+	 * is created in a single pass over the {@link org.apache.geode.cache.Region}, with the batches
+	 * of different {@link org.apache.geode.cache.Region Regions} created in parallel.  Implies {@link #setDefine(boolean)}.
+	 *
+	 * @param parallel a boolean value indicating whether the {@link Index} is defined in a per-Region batch
+	 * created in parallel.
+	 * @see org.springframework.data.gemfire.config.support.DefinedIndexesApplicationListener
+	 */
+	public void setParallel(boolean parallel) {
+		this.parallel = parallel;
+	}
+
+	protected boolean isParallel() {
+		return this.parallel;
 	}
 
 	/**
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QueryExecutionStatistics} reports the time a {@link GemfireTemplate} spent preparing (parsing and compiling)
+ * OQL queries versus executing them, along with how often prepared queries were reused from the query cache.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.GemfireTemplate#getQueryExecutionStatistics()
+ * @since 2.2.0
+ */
+public class QueryExecutionStatistics {
+
+	private final long cacheHits;
+	private final long executions;
+	private final long executionNanos;
+	private final long preparations;
+	private final long preparationNanos;
+
+	/**
+	 * Constructs a new instance of {@link QueryExecutionStatistics}.
+	 *
+	 * @param preparations number of queries parsed and compiled.
+	 * @param preparationNanos total time spent parsing and compiling queries in nanoseconds.
+	 * @param cacheHits number of times a previously prepared query was reused.
+	 * @param executions number of query executions.
+	 * @param executionNanos total time spent executing queries in nanoseconds.
+	 */
+	public QueryExecutionStatistics(long preparations, long preparationNanos, long cacheHits,
+			long executions, long executionNanos) {
+
+		this.preparations = preparations;
+		this.preparationNanos = preparationNanos;
+		this.cacheHits = cacheHits;
+		this.executions = executions;
+		this.executionNanos = executionNanos;
+	}
+
+	public long getCacheHits() {
+		return this.cacheHits;
+	}
+
+	public long getExecutions() {
+		return this.executions;
+	}
+
+	public long getExecutionNanos() {
+		return this.executionNanos;
+	}
+
+	public long getPreparations() {
+		return this.preparations;
+	}
+
+	public long getPreparationNanos() {
+		return this.preparationNanos;
+	}
+
+	public double getCacheHitRatio() {
+
+		long lookups = this.cacheHits + this.preparations;
+
+		return lookups > 0 ? (double) this.cacheHits / lookups : 0.0d;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("Prepared [%1$d] queries in [%2$d] ms with [%3$d] cache hits;"
+				+ " executed [%4$d] queries in [%5$d] ms", getPreparations(),
+			TimeUnit.NANOSECONDS.toMillis(getPreparationNanos()), getCacheHits(), getExecutions(),
+			TimeUnit.NANOSECONDS.toMillis(getExecutionNanos()));
+	}
+}
@@ -20,6 +20,9 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newR
 
 import java.io.InputStream;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
@@ -52,8 +55,14 @@ public abstract class ResolvableRegionFactoryBean<K, V> extends AbstractFactoryB
 
 	private Boolean lookupEnabled = false;
 
+	private Executor startupExecutor;
+
 	private GemFireCache cache;
 
+	private volatile FutureTask<Region<K, V>> pendingRegion;
+
+	private volatile Thread regionInitializingThread;
+
 	private Region<?, ?> parent;
 
 	private Resource snapshot;
@@ -66,34 +75,100 @@ public abstract class ResolvableRegionFactoryBean<K, V> extends AbstractFactoryB
 	/**
 	 * Initializes this {@link ResolvableRegionFactoryBean} after properties have been set by the Spring container.
 	 *
+	 * When a {@link #setStartupExecutor(Executor) startup Executor} has been configured, the {@link Region}
+	 * is resolved asynchronously and {@link #getRegion()} blocks until the {@link Region} is available.  On the
+	 * {@link Thread} resolving the {@link Region}, e.g. from {@link #createRegion(GemFireCache, String)},
+	 * {@link #getRegion()} does not wait and returns {@literal null} until the {@link Region} has been resolved,
+	 * as on the synchronous path.
+	 *
+	 * On the synchronous path the {@link Region} is resolved while holding the {@link GemFireCache} monitor.
+	 * On the asynchronous path it is not, so independent {@link Region Regions} are created, and recovered
+	 * from disk, concurrently.  {@link Region Regions} that must be created in order, such as a sub-Region
+	 * and its parent, or colocated {@link Region Regions}, are ordered by bean dependencies, which await
+	 * the {@link Region} depended on before the dependent {@link Region} bean is initialized.
+	 *
 	 * @throws Exception if initialization fails.
 	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
 	 * @see #createRegion(GemFireCache, String)
 	 */
 	@Override
-	@SuppressWarnings("all")
 	public void afterPropertiesSet() throws Exception {
 
 		GemFireCache cache = requireCache();
 
 		String regionName = requireRegionName();
 
-		synchronized (cache) {
+		Executor startupExecutor = getStartupExecutor();
 
-			setRegion(isLookupEnabled()
-				? Optional.ofNullable(getParent())
-					.map(parentRegion -> parentRegion.<K, V>getSubregion(regionName))
-					.orElseGet(() -> cache.<K, V>getRegion(regionName))
-				: null);
+		if (startupExecutor != null) {
 
-			if (getRegion() != null) {
-				logInfo("Found Region [%1$s] in Cache [%2$s]", regionName, cache.getName());
+			FutureTask<Region<K, V>> pendingRegion = new FutureTask<>(() -> {
+
+				this.regionInitializingThread = Thread.currentThread();
+
+				try {
+					return resolveRegion(cache, regionName);
+				}
+				finally {
+					this.regionInitializingThread = null;
+				}
+			});
+
+			this.pendingRegion = pendingRegion;
+
+			startupExecutor.execute(pendingRegion);
+		}
+		else {
+			synchronized (cache) {
+				setRegion(resolveRegion(cache, regionName));
 			}
-			else {
-				logInfo("Falling back to creating Region [%1$s] in Cache [%2$s]",
-					regionName, cache.getName());
+		}
+	}
+
+	@SuppressWarnings("all")
+	private Region<K, V> resolveRegion(GemFireCache cache, String regionName) throws Exception {
+
+		Region<K, V> region = isLookupEnabled()
+			? Optional.ofNullable(getParent())
+				.map(parentRegion -> parentRegion.<K, V>getSubregion(regionName))
+				.orElseGet(() -> cache.<K, V>getRegion(regionName))
+			: null;
+
+		if (region != null) {
+			logInfo("Found Region [%1$s] in Cache [%2$s]", regionName, cache.getName());
+		}
+		else {
+			logInfo("Falling back to creating Region [%1$s] in Cache [%2$s]", regionName, cache.getName());
+
+			region = postProcess(loadSnapshot(createRegion(cache, regionName)));
+		}
+
+		return region;
+	}
+
+	/**
+	 * Waits for the asynchronous resolution of the {@link Region} started in {@link #afterPropertiesSet()},
+	 * if any.
+	 *
+	 * @throws BeanInitializationException if the {@link Region} could not be resolved.
+	 */
+	private void awaitPendingRegion() {
+
+		FutureTask<Region<K, V>> pendingRegion = this.pendingRegion;
 
-				setRegion(postProcess(loadSnapshot(createRegion(cache, regionName))));
+		if (pendingRegion != null) {
+			try {
+				setRegion(pendingRegion.get());
+				this.pendingRegion = null;
+			}
+			catch (ExecutionException cause) {
+				throw new BeanInitializationException(String.format("Failed to initialize Region [%s]",
+					resolveRegionName()), cause.getCause());
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new BeanInitializationException(String.format("Interrupted while initializing Region [%s]",
+					resolveRegionName()), cause);
 			}
 		}
 	}
@@ -200,7 +275,7 @@ public abstract class ResolvableRegionFactoryBean<K, V> extends AbstractFactoryB
 	@Override
 	@SuppressWarnings("unchecked")
 	public Class<?> getObjectType() {
-		return Optional.ofNullable(getRegion()).map(Region::getClass).orElse((Class) Region.class);
+		return Optional.ofNullable(this.region).map(Region::getClass).orElse((Class) Region.class);
 	}
 
 	/**
@@ -223,6 +298,27 @@ public abstract class ResolvableRegionFactoryBean<K, V> extends AbstractFactoryB
 		this.cache = cache;
 	}
 
+	/**
+	 * Sets the {@link Executor} used to resolve, and possibly create, the {@link Region} asynchronously
+	 * during startup.
+	 *
+	 * @param startupExecutor {@link Executor} used to initialize the {@link Region}; may be {@literal null}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setStartupExecutor(Executor startupExecutor) {
+		this.startupExecutor = startupExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to resolve the {@link Region} asynchronously during startup.
+	 *
+	 * @return the {@link Executor} used to initialize the {@link Region}; may be {@literal null}.
+	 * @see java.util.concurrent.Executor
+	 */
+	public Executor getStartupExecutor() {
+		return this.startupExecutor;
+	}
+
 	public boolean isLookupEnabled() {
 		return Boolean.TRUE.equals(getLookupEnabled());
 	}
@@ -288,6 +384,12 @@ public abstract class ResolvableRegionFactoryBean<K, V> extends AbstractFactoryB
 	 * @see org.apache.geode.cache.Region
 	 */
 	public Region<K, V> getRegion() {
+
+		// the Region is not awaited by the Thread resolving it, which would otherwise wait on itself
+		if (Thread.currentThread() != this.regionInitializingThread) {
+			awaitPendingRegion();
+		}
+
 		return this.region;
 	}
 
@@ -0,0 +1,589 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.compression;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AdaptiveCompressor} is an Apache Geode {@link Compressor} that selects the compression codec
+ * for a single {@link org.apache.geode.cache.Region} from the values actually stored in that Region.
+ *
+ * The first {@link #getSampleSize() sample size} values are compressed with every candidate codec, recording
+ * the compressed size along with the compression and decompression time.  Once enough values have been sampled,
+ * the cheapest codec producing output within {@link #SIZE_TOLERANCE 5%} of the smallest output is selected,
+ * or no codec at all if none saves at least the {@link #getMinimumSpaceSavings() minimum space savings}.
+ *
+ * Values smaller than the {@link #getThresholdBytes() threshold} are always stored uncompressed.  Each stored
+ * value is prefixed with a single byte holding the {@link Codec#getId() identifier} declared for the codec
+ * that compressed it, so values written before (re-)selection remain readable.  Candidate codecs may be added,
+ * removed or reordered, but the identifier of a codec must never change or be reused by another codec
+ * for persistent or overflowed {@link org.apache.geode.cache.Region Regions}.  Values framed with
+ * the identifier of a codec that is no longer configured are rejected with a {@link CompressionException}.
+ *
+ * Values written by any other {@link Compressor}, for example, the
+ * {@link org.apache.geode.compression.SnappyCompressor} configured by a non-adaptive
+ * {@link org.springframework.data.gemfire.config.annotation.EnableCompression}, carry no codec identifier
+ * and cannot be read by {@link AdaptiveCompressor}.  Before an existing persistent
+ * {@link org.apache.geode.cache.Region} is switched to {@link AdaptiveCompressor}, its data must be migrated,
+ * for example, by exporting a snapshot with the previous {@link Compressor} and importing it into
+ * the re-created {@link org.apache.geode.cache.Region}.
+ *
+ * {@link AdaptiveCompressor} reports the achieved compression ratio and the CPU cost per operation,
+ * both overall and per candidate codec.
+ *
+ * @author John Blum
+ * @see org.apache.geode.compression.Compressor
+ * @see org.springframework.data.gemfire.compression.DeflateCompressor
+ * @since 2.2.0
+ */
+public class AdaptiveCompressor implements Compressor {
+
+	public static final double DEFAULT_MINIMUM_SPACE_SAVINGS = 0.1d;
+
+	public static final int DEFAULT_SAMPLE_SIZE = 100;
+	public static final int DEFAULT_THRESHOLD_BYTES = 64;
+	public static final int DEFLATE_CODEC_ID = 2;
+	public static final int MAXIMUM_CODEC_ID = Byte.MAX_VALUE;
+	public static final int SNAPPY_CODEC_ID = 1;
+
+	public static final String UNCOMPRESSED_CODEC_NAME = "none";
+
+	protected static final double SIZE_TOLERANCE = 0.05d;
+
+	private static final int FRAME_HEADER_SIZE = 1;
+	private static final int UNCOMPRESSED = 0;
+	private static final int UNSELECTED = -1;
+
+	private final AtomicInteger sampleCount = new AtomicInteger(0);
+
+	private final CodecStatistics[] codecStatistics = new CodecStatistics[MAXIMUM_CODEC_ID + 1];
+
+	private final Compressor[] codecs = new Compressor[MAXIMUM_CODEC_ID + 1];
+
+	private final int[] codecIds;
+
+	private double minimumSpaceSavings = DEFAULT_MINIMUM_SPACE_SAVINGS;
+
+	private int sampleSize = DEFAULT_SAMPLE_SIZE;
+	private int thresholdBytes = DEFAULT_THRESHOLD_BYTES;
+
+	private volatile int selectedCodec = UNSELECTED;
+
+	private final LongAdder compressionCount = new LongAdder();
+	private final LongAdder compressionNanos = new LongAdder();
+	private final LongAdder decompressionCount = new LongAdder();
+	private final LongAdder decompressionNanos = new LongAdder();
+	private final LongAdder storedBytes = new LongAdder();
+	private final LongAdder storedUncompressedCount = new LongAdder();
+	private final LongAdder uncompressedBytes = new LongAdder();
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private String name = getClass().getSimpleName();
+
+	/**
+	 * Constructs a new instance of {@link AdaptiveCompressor} initialized with the given candidate codecs.
+	 *
+	 * @param codecs {@link Collection} of candidate {@link Codec Codecs}, each declaring the stable identifier
+	 * written with the values it compresses.
+	 * @throws IllegalArgumentException if the {@link Collection} of codecs is {@literal null} or contains
+	 * a {@literal null} {@link Codec}, or two {@link Codec Codecs} with the same identifier or name.
+	 * @see org.springframework.data.gemfire.compression.AdaptiveCompressor.Codec
+	 */
+	public AdaptiveCompressor(Collection<Codec> codecs) {
+
+		Assert.notNull(codecs, "Codecs must not be null");
+
+		this.codecIds = new int[codecs.size()];
+		this.codecStatistics[UNCOMPRESSED] = new CodecStatistics(UNCOMPRESSED_CODEC_NAME);
+
+		Set<String> codecNames = new HashSet<>(Collections.singleton(UNCOMPRESSED_CODEC_NAME));
+
+		int index = 0;
+
+		for (Codec codec : codecs) {
+
+			Assert.notNull(codec, "Codec must not be null");
+
+			Assert.isNull(this.codecs[codec.getId()], () -> String.format("Codec identifier [%1$d] of [%2$s]"
+				+ " is already used by [%3$s]", codec.getId(), codec.getName(),
+					this.codecStatistics[codec.getId()].getName()));
+
+			Assert.isTrue(codecNames.add(codec.getName()),
+				() -> String.format("Codec name [%s] is not unique", codec.getName()));
+
+			this.codecIds[index++] = codec.getId();
+			this.codecs[codec.getId()] = codec.getCompressor();
+			this.codecStatistics[codec.getId()] = new CodecStatistics(codec.getName());
+		}
+	}
+
+	public void setMinimumSpaceSavings(double minimumSpaceSavings) {
+
+		Assert.isTrue(minimumSpaceSavings >= 0.0d && minimumSpaceSavings < 1.0d,
+			() -> String.format("Minimum space savings [%s] must be greater than or equal to 0.0 and less than 1.0",
+				minimumSpaceSavings));
+
+		this.minimumSpaceSavings = minimumSpaceSavings;
+	}
+
+	public double getMinimumSpaceSavings() {
+		return this.minimumSpaceSavings;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public void setSampleSize(int sampleSize) {
+
+		Assert.isTrue(sampleSize > 0, () -> String.format("Sample size [%d] must be greater than 0", sampleSize));
+
+		this.sampleSize = sampleSize;
+	}
+
+	public int getSampleSize() {
+		return this.sampleSize;
+	}
+
+	public void setThresholdBytes(int thresholdBytes) {
+		this.thresholdBytes = Math.max(thresholdBytes, 0);
+	}
+
+	public int getThresholdBytes() {
+		return this.thresholdBytes;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] compress(byte[] input) {
+
+		long startTime = System.nanoTime();
+
+		int codec = this.selectedCodec;
+
+		byte[] output = input.length < getThresholdBytes() ? frame(UNCOMPRESSED, input)
+			: codec == UNSELECTED ? sample(input)
+			: compress(codec, input);
+
+		this.compressionNanos.add(System.nanoTime() - startTime);
+		this.compressionCount.increment();
+		this.storedBytes.add(output.length);
+		this.uncompressedBytes.add(input.length);
+
+		if (output[0] == UNCOMPRESSED) {
+			this.storedUncompressedCount.increment();
+		}
+
+		return output;
+	}
+
+	private byte[] compress(int codec, byte[] input) {
+
+		if (codec != UNCOMPRESSED) {
+
+			byte[] compressed = this.codecs[codec].compress(input);
+
+			if (compressed.length < input.length) {
+				return frame(codec, compressed);
+			}
+		}
+
+		return frame(UNCOMPRESSED, input);
+	}
+
+	private byte[] sample(byte[] input) {
+
+		int bestCodec = UNCOMPRESSED;
+
+		byte[] bestOutput = input;
+
+		this.codecStatistics[UNCOMPRESSED].record(input.length, input.length, 0L, 0L);
+
+		for (int codec : this.codecIds) {
+
+			long startTime = System.nanoTime();
+
+			byte[] compressed = this.codecs[codec].compress(input);
+
+			long compressionTime = System.nanoTime();
+
+			this.codecs[codec].decompress(compressed);
+
+			long decompressionTime = System.nanoTime();
+
+			this.codecStatistics[codec].record(input.length, compressed.length,
+				compressionTime - startTime, decompressionTime - compressionTime);
+
+			if (compressed.length < bestOutput.length) {
+				bestCodec = codec;
+				bestOutput = compressed;
+			}
+		}
+
+		if (this.sampleCount.incrementAndGet() == getSampleSize()) {
+			select();
+		}
+
+		return frame(bestCodec, bestOutput);
+	}
+
+	/**
+	 * Selects the codec from the sampled values.
+	 *
+	 * The cheapest codec (compression plus decompression time) whose compressed output is within
+	 * {@link #SIZE_TOLERANCE} of the smallest compressed output is selected, provided it saves at least
+	 * the {@link #getMinimumSpaceSavings() minimum space savings}; otherwise values are stored uncompressed.
+	 */
+	private void select() {
+
+		long sampledBytes = this.codecStatistics[UNCOMPRESSED].getUncompressedBytes();
+
+		long smallestCompressedBytes = sampledBytes;
+
+		for (int codec : this.codecIds) {
+			smallestCompressedBytes =
+				Math.min(smallestCompressedBytes, this.codecStatistics[codec].getCompressedBytes());
+		}
+
+		long maximumCompressedBytes = (long) (smallestCompressedBytes * (1.0d + SIZE_TOLERANCE));
+		long requiredCompressedBytes = (long) (sampledBytes * (1.0d - getMinimumSpaceSavings()));
+
+		int selection = UNCOMPRESSED;
+
+		double lowestCost = Double.MAX_VALUE;
+
+		for (int codec : this.codecIds) {
+
+			CodecStatistics statistics = this.codecStatistics[codec];
+
+			long compressedBytes = statistics.getCompressedBytes();
+
+			double cost = statistics.getCompressionNanosPerOperation()
+				+ statistics.getDecompressionNanosPerOperation();
+
+			if (compressedBytes <= maximumCompressedBytes && compressedBytes <= requiredCompressedBytes
+					&& cost < lowestCost) {
+
+				lowestCost = cost;
+				selection = codec;
+			}
+		}
+
+		this.selectedCodec = selection;
+
+		if (this.logger.isInfoEnabled()) {
+			this.logger.info(String.format("Selected codec [%1$s] for [%2$s] after sampling [%3$d] values: %4$s",
+				this.codecStatistics[selection].getName(), getName(), this.sampleCount.get(),
+					getCodecStatistics().values()));
+		}
+	}
+
+	/**
+	 * Discards the current codec selection and sampling statistics and starts sampling values again,
+	 * for instance, after the shape of the data stored in the {@link org.apache.geode.cache.Region} has changed.
+	 */
+	public void resample() {
+
+		this.codecStatistics[UNCOMPRESSED].reset();
+
+		for (int codec : this.codecIds) {
+			this.codecStatistics[codec].reset();
+		}
+
+		this.sampleCount.set(0);
+		this.selectedCodec = UNSELECTED;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] decompress(byte[] input) {
+
+		if (input == null || input.length == 0) {
+			throw new CompressionException("Input is missing the codec identifier");
+		}
+
+		long startTime = System.nanoTime();
+
+		int codec = input[0];
+
+		byte[] output = codec == UNCOMPRESSED ? unframe(input) : decompress(resolveCodec(codec), input);
+
+		this.decompressionNanos.add(System.nanoTime() - startTime);
+		this.decompressionCount.increment();
+
+		return output;
+	}
+
+	private byte[] decompress(Compressor codec, byte[] input) {
+
+		return codec instanceof DeflateCompressor
+			? ((DeflateCompressor) codec).decompress(input, FRAME_HEADER_SIZE)
+			: codec.decompress(unframe(input));
+	}
+
+	private Compressor resolveCodec(int codec) {
+
+		Compressor compressor = codec > UNCOMPRESSED ? this.codecs[codec] : null;
+
+		if (compressor == null) {
+			throw new CompressionException(String.format("Unknown codec identifier [%1$d] in value read by [%2$s];"
+				+ " either the codec is no longer configured or the value was not written by an AdaptiveCompressor",
+					codec, getName()));
+		}
+
+		return compressor;
+	}
+
+	private byte[] frame(int codec, byte[] payload) {
+
+		byte[] output = new byte[FRAME_HEADER_SIZE + payload.length];
+
+		output[0] = (byte) codec;
+
+		System.arraycopy(payload, 0, output, FRAME_HEADER_SIZE, payload.length);
+
+		return output;
+	}
+
+	private byte[] unframe(byte[] input) {
+
+		byte[] output = new byte[input.length - FRAME_HEADER_SIZE];
+
+		System.arraycopy(input, FRAME_HEADER_SIZE, output, 0, output.length);
+
+		return output;
+	}
+
+	/**
+	 * Returns the {@link String name} of the selected codec, or {@link Optional#empty()} while still sampling.
+	 *
+	 * @return an {@link Optional} {@link String name} of the selected codec.
+	 * @see #UNCOMPRESSED_CODEC_NAME
+	 */
+	public Optional<String> getSelectedCodecName() {
+
+		int codec = this.selectedCodec;
+
+		return codec == UNSELECTED ? Optional.empty() : Optional.of(this.codecStatistics[codec].getName());
+	}
+
+	/**
+	 * Returns the {@link CodecStatistics} recorded for each candidate codec while sampling,
+	 * including the {@link #UNCOMPRESSED_CODEC_NAME uncompressed} baseline.
+	 *
+	 * @return a {@link Map} of {@link CodecStatistics} keyed by codec name.
+	 */
+	public Map<String, CodecStatistics> getCodecStatistics() {
+
+		Map<String, CodecStatistics> codecStatistics = new LinkedHashMap<>();
+
+		codecStatistics.put(UNCOMPRESSED_CODEC_NAME, this.codecStatistics[UNCOMPRESSED]);
+
+		for (int codec : this.codecIds) {
+			codecStatistics.put(this.codecStatistics[codec].getName(), this.codecStatistics[codec]);
+		}
+
+		return Collections.unmodifiableMap(codecStatistics);
+	}
+
+	/**
+	 * Returns the ratio of uncompressed bytes to stored bytes over all values compressed so far.
+	 *
+	 * @return the achieved compression ratio, or {@literal 1.0} if no values have been compressed.
+	 */
+	public double getCompressionRatio() {
+		return ratio(this.uncompressedBytes.sum(), this.storedBytes.sum());
+	}
+
+	public long getCompressionCount() {
+		return this.compressionCount.sum();
+	}
+
+	public double getCompressionNanosPerOperation() {
+		return average(this.compressionNanos.sum(), this.compressionCount.sum());
+	}
+
+	public long getDecompressionCount() {
+		return this.decompressionCount.sum();
+	}
+
+	public double getDecompressionNanosPerOperation() {
+		return average(this.decompressionNanos.sum(), this.decompressionCount.sum());
+	}
+
+	/**
+	 * Returns the number of values stored uncompressed, either because they were smaller than
+	 * the {@link #getThresholdBytes() threshold} or because compression did not reduce their size.
+	 *
+	 * @return the number of values stored uncompressed.
+	 */
+	public long getStoredUncompressedCount() {
+		return this.storedUncompressedCount.sum();
+	}
+
+	private static double average(long total, long count) {
+		return count > 0 ? (double) total / count : 0.0d;
+	}
+
+	private static double ratio(long uncompressedBytes, long compressedBytes) {
+		return compressedBytes > 0 ? (double) uncompressedBytes / compressedBytes : 1.0d;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s { codec = %2$s, compressionRatio = %3$.2f, compressionNanosPerOperation = %4$.1f,"
+				+ " decompressionNanosPerOperation = %5$.1f, storedUncompressedCount = %6$d }", getName(),
+			getSelectedCodecName().orElse("<sampling>"), getCompressionRatio(), getCompressionNanosPerOperation(),
+			getDecompressionNanosPerOperation(), getStoredUncompressedCount());
+	}
+
+	/**
+	 * {@link Codec} is a candidate {@link Compressor} along with its {@link String name} and the identifier
+	 * written with every value it compresses.
+	 *
+	 * The identifier must be between {@literal 1} and {@link #MAXIMUM_CODEC_ID}; {@literal 0} identifies
+	 * values stored uncompressed.
+	 */
+	public static final class Codec {
+
+		private final int id;
+
+		private final Compressor compressor;
+
+		private final String name;
+
+		public Codec(int id, String name, Compressor compressor) {
+
+			Assert.isTrue(id > UNCOMPRESSED && id <= MAXIMUM_CODEC_ID,
+				() -> String.format("Codec identifier [%1$d] must be between 1 and %2$d", id, MAXIMUM_CODEC_ID));
+
+			Assert.hasText(name, "Codec name is required");
+			Assert.notNull(compressor, () -> String.format("Compressor for codec [%s] must not be null", name));
+
+			this.id = id;
+			this.name = name;
+			this.compressor = compressor;
+		}
+
+		public Compressor getCompressor() {
+			return this.compressor;
+		}
+
+		public int getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+	}
+
+	/**
+	 * {@link CodecStatistics} records the compression ratio and CPU cost of a candidate codec over sampled values.
+	 */
+	public static final class CodecStatistics {
+
+		private final LongAdder compressedBytes = new LongAdder();
+		private final LongAdder compressionNanos = new LongAdder();
+		private final LongAdder decompressionNanos = new LongAdder();
+		private final LongAdder sampleCount = new LongAdder();
+		private final LongAdder uncompressedBytes = new LongAdder();
+
+		private final String name;
+
+		CodecStatistics(String name) {
+			this.name = name;
+		}
+
+		void record(int uncompressedLength, int compressedLength, long compressionNanos, long decompressionNanos) {
+
+			this.compressedBytes.add(compressedLength);
+			this.compressionNanos.add(compressionNanos);
+			this.decompressionNanos.add(decompressionNanos);
+			this.sampleCount.increment();
+			this.uncompressedBytes.add(uncompressedLength);
+		}
+
+		void reset() {
+
+			this.compressedBytes.reset();
+			this.compressionNanos.reset();
+			this.decompressionNanos.reset();
+			this.sampleCount.reset();
+			this.uncompressedBytes.reset();
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public long getCompressedBytes() {
+			return this.compressedBytes.sum();
+		}
+
+		public double getCompressionRatio() {
+			return ratio(getUncompressedBytes(), getCompressedBytes());
+		}
+
+		public double getCompressionNanosPerOperation() {
+			return average(this.compressionNanos.sum(), getSampleCount());
+		}
+
+		public double getDecompressionNanosPerOperation() {
+			return average(this.decompressionNanos.sum(), getSampleCount());
+		}
+
+		public long getSampleCount() {
+			return this.sampleCount.sum();
+		}
+
+		public long getUncompressedBytes() {
+			return this.uncompressedBytes.sum();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s { compressionRatio = %2$.2f, compressionNanosPerOperation = %3$.1f,"
+					+ " decompressionNanosPerOperation = %4$.1f }", getName(), getCompressionRatio(),
+				getCompressionNanosPerOperation(), getDecompressionNanosPerOperation());
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DeflateCompressor} is an Apache Geode {@link Compressor} implementation using the JDK's {@link Deflater}
+ * and {@link Inflater} to compress and decompress {@link org.apache.geode.cache.Region} values.
+ *
+ * Compared to Snappy, Deflate trades additional CPU for a better compression ratio and requires no native library.
+ * The uncompressed length is prepended to the compressed bytes so that values can be inflated in a single pass.
+ *
+ * @author John Blum
+ * @see java.util.zip.Deflater
+ * @see java.util.zip.Inflater
+ * @see org.apache.geode.compression.Compressor
+ * @since 2.2.0
+ */
+public class DeflateCompressor implements Compressor {
+
+	public static final int DEFAULT_COMPRESSION_LEVEL = Deflater.BEST_SPEED;
+
+	private static final int BUFFER_SIZE = 4096;
+	private static final int LENGTH_PREFIX_SIZE = 4;
+
+	private final int compressionLevel;
+
+	/**
+	 * Constructs a new instance of {@link DeflateCompressor} using the {@link #DEFAULT_COMPRESSION_LEVEL}.
+	 */
+	public DeflateCompressor() {
+		this(DEFAULT_COMPRESSION_LEVEL);
+	}
+
+	/**
+	 * Constructs a new instance of {@link DeflateCompressor} using the given compression level.
+	 *
+	 * @param compressionLevel {@link Deflater} compression level between {@literal 0} and {@literal 9},
+	 * or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @throws IllegalArgumentException if the compression level is not valid.
+	 */
+	public DeflateCompressor(int compressionLevel) {
+
+		Assert.isTrue(compressionLevel == Deflater.DEFAULT_COMPRESSION
+			|| (compressionLevel >= Deflater.NO_COMPRESSION && compressionLevel <= Deflater.BEST_COMPRESSION),
+				() -> String.format("Compression level [%d] is not valid", compressionLevel));
+
+		this.compressionLevel = compressionLevel;
+	}
+
+	/**
+	 * Returns the {@link Deflater} compression level used by this {@link Compressor}.
+	 *
+	 * @return the {@link Deflater} compression level.
+	 */
+	public int getCompressionLevel() {
+		return this.compressionLevel;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] compress(byte[] input) {
+
+		Deflater deflater = new Deflater(getCompressionLevel());
+
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+
+			ByteArrayOutputStream output = new ByteArrayOutputStream(LENGTH_PREFIX_SIZE + input.length / 2 + 16);
+
+			output.write(input.length >>> 24);
+			output.write(input.length >>> 16);
+			output.write(input.length >>> 8);
+			output.write(input.length);
+
+			byte[] buffer = new byte[Math.min(BUFFER_SIZE, Math.max(input.length, 64))];
+
+			while (!deflater.finished()) {
+				output.write(buffer, 0, deflater.deflate(buffer));
+			}
+
+			return output.toByteArray();
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public byte[] decompress(byte[] input) {
+		return decompress(input, 0);
+	}
+
+	/**
+	 * Decompresses the Deflate compressed bytes starting at the given offset in the input,
+	 * avoiding a copy of the compressed bytes when the input is framed by the caller.
+	 *
+	 * @param input array of bytes containing the Deflate compressed bytes.
+	 * @param offset index in the input at which the Deflate compressed bytes start.
+	 * @return the decompressed bytes.
+	 * @throws CompressionException if the input is not Deflate compressed.
+	 */
+	byte[] decompress(byte[] input, int offset) {
+
+		if (input == null || input.length - offset < LENGTH_PREFIX_SIZE) {
+			throw new CompressionException("Input is not Deflate compressed");
+		}
+
+		int length = ((input[offset] & 0xFF) << 24) | ((input[offset + 1] & 0xFF) << 16)
+			| ((input[offset + 2] & 0xFF) << 8) | (input[offset + 3] & 0xFF);
+
+		Inflater inflater = new Inflater();
+
+		try {
+			int compressedOffset = offset + LENGTH_PREFIX_SIZE;
+
+			inflater.setInput(input, compressedOffset, input.length - compressedOffset);
+
+			byte[] output = new byte[length];
+
+			int offset = 0;
+
+			while (offset < length) {
+
+				int count = inflater.inflate(output, offset, length - offset);
+
+				if (count == 0 && (inflater.finished() || inflater.needsInput())) {
+					throw new CompressionException(String.format("Expected [%1$d] bytes but inflated [%2$d]",
+						length, offset));
+				}
+
+				offset += count;
+			}
+
+			return output;
+		}
+		catch (DataFormatException cause) {
+			throw new CompressionException("Failed to decompress Deflate compressed input", cause);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+}
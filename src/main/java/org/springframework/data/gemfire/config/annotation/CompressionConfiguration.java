@@ -20,8 +20,11 @@ import static java.util.Arrays.stream;
 import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.lang.annotation.Annotation;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -35,15 +38,22 @@ import org.springframework.beans.PropertyValue;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.ManagedList;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportAware;
 import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.ResolvableRegionFactoryBean;
+import org.springframework.data.gemfire.compression.AdaptiveCompressor;
+import org.springframework.data.gemfire.compression.DeflateCompressor;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.gemfire.util.SpringUtils;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -64,10 +74,21 @@ import org.springframework.util.StringUtils;
 @SuppressWarnings("unused")
 public class CompressionConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
 
+	protected static final String ADAPTIVE_COMPRESSOR_BEAN_NAME_SUFFIX = ".AdaptiveCompressor";
+	protected static final String DEFLATE_CODEC_NAME = "Deflate";
 	protected static final String SNAPPY_COMPRESSOR_BEAN_NAME = "SnappyCompressor";
 
+	private boolean adaptive = false;
+
+	private int sampleSize = AdaptiveCompressor.DEFAULT_SAMPLE_SIZE;
+	private int thresholdBytes = AdaptiveCompressor.DEFAULT_THRESHOLD_BYTES;
+
 	private String compressorBeanName = SNAPPY_COMPRESSOR_BEAN_NAME;
 
+	private int[] codecIds = {};
+
+	private String[] codecBeanNames = {};
+
 	private Set<String> regionNames = new HashSet<>();
 
 	/**
@@ -82,6 +103,30 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 		return EnableCompression.class;
 	}
 
+	public void setAdaptive(boolean adaptive) {
+		this.adaptive = adaptive;
+	}
+
+	protected boolean isAdaptive() {
+		return this.adaptive;
+	}
+
+	public void setCodecBeanNames(String[] codecBeanNames) {
+		this.codecBeanNames = nullSafeArray(codecBeanNames, String.class);
+	}
+
+	protected String[] resolveCodecBeanNames() {
+		return this.codecBeanNames.clone();
+	}
+
+	public void setCodecIds(int[] codecIds) {
+		this.codecIds = codecIds != null ? codecIds : new int[0];
+	}
+
+	protected int[] resolveCodecIds() {
+		return this.codecIds.clone();
+	}
+
 	public void setCompressorBeanName(String compressorBeanName) {
 		this.compressorBeanName = compressorBeanName;
 	}
@@ -105,6 +150,22 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 		return Collections.unmodifiableSet(this.regionNames);
 	}
 
+	public void setSampleSize(int sampleSize) {
+		this.sampleSize = sampleSize;
+	}
+
+	protected int getSampleSize() {
+		return this.sampleSize;
+	}
+
+	public void setThresholdBytes(int thresholdBytes) {
+		this.thresholdBytes = thresholdBytes;
+	}
+
+	protected int getThresholdBytes() {
+		return this.thresholdBytes;
+	}
+
 	@Override
 	public void setImportMetadata(AnnotationMetadata importingClassMetadata) {
 
@@ -117,6 +178,21 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 
 			setRegionNames(resolveProperty(cacheCompressionProperty("region-names"),
 				String[].class, enableCompressionAttributes.getStringArray("regionNames")));
+
+			setAdaptive(resolveProperty(cacheCompressionProperty("adaptive"),
+				enableCompressionAttributes.getBoolean("adaptive")));
+
+			setCodecBeanNames(resolveProperty(cacheCompressionProperty("codec-bean-names"),
+				String[].class, enableCompressionAttributes.getStringArray("codecBeanNames")));
+
+			setCodecIds(resolveProperty(cacheCompressionProperty("codec-ids"),
+				int[].class, (int[]) enableCompressionAttributes.get("codecIds")));
+
+			setSampleSize(resolveProperty(cacheCompressionProperty("sample-size"),
+				(Integer) enableCompressionAttributes.get("sampleSize")));
+
+			setThresholdBytes(resolveProperty(cacheCompressionProperty("threshold-bytes"),
+				(Integer) enableCompressionAttributes.get("thresholdBytes")));
 		}
 	}
 
@@ -134,8 +210,75 @@ public class CompressionConfiguration extends AbstractAnnotationConfigSupport im
 			stream(nullSafeArray(beanFactory.getBeanDefinitionNames(), String.class)).forEach(beanName ->
 				Optional.of(beanFactory.getBeanDefinition(beanName))
 					.filter(beanDefinition -> isTargetedRegionBean(beanName, beanDefinition, beanFactory))
-					.ifPresent(beanDefinition -> SpringUtils.setPropertyReference(
-						beanDefinition, "compressor", resolvedCompressorBeanName)));
+					.ifPresent(beanDefinition -> SpringUtils.setPropertyReference(beanDefinition, "compressor",
+						isAdaptive() ? registerAdaptiveCompressor(beanName, beanFactory) : resolvedCompressorBeanName)));
+	}
+
+	/**
+	 * Registers an {@link AdaptiveCompressor} bean dedicated to the {@link Region} bean with the given name
+	 * so that a codec is selected from the values stored in that {@link Region}.
+	 *
+	 * @param regionBeanName {@link String name} of the {@link Region} bean.
+	 * @param beanFactory {@link ConfigurableListableBeanFactory} in which the {@link AdaptiveCompressor}
+	 * bean is registered.
+	 * @return the {@link String name} of the registered {@link AdaptiveCompressor} bean.
+	 * @throws IllegalArgumentException if a codec identifier is not declared for every codec bean name.
+	 * @throws IllegalStateException if the {@link ConfigurableListableBeanFactory} is not
+	 * a {@link BeanDefinitionRegistry}.
+	 * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
+	 */
+	private String registerAdaptiveCompressor(String regionBeanName, ConfigurableListableBeanFactory beanFactory) {
+
+		if (!(beanFactory instanceof BeanDefinitionRegistry)) {
+			throw newIllegalStateException("BeanFactory [%s] must be a BeanDefinitionRegistry",
+				ObjectUtils.nullSafeClassName(beanFactory));
+		}
+
+		ManagedList<BeanDefinition> codecs = new ManagedList<>();
+
+		String[] codecBeanNames = resolveCodecBeanNames();
+
+		if (ObjectUtils.isEmpty(codecBeanNames)) {
+			codecs.add(newCodecBeanDefinition(AdaptiveCompressor.SNAPPY_CODEC_ID, SNAPPY_COMPRESSOR_BEAN_NAME,
+				new RuntimeBeanReference(SNAPPY_COMPRESSOR_BEAN_NAME)));
+			codecs.add(newCodecBeanDefinition(AdaptiveCompressor.DEFLATE_CODEC_ID, DEFLATE_CODEC_NAME,
+				BeanDefinitionBuilder.genericBeanDefinition(DeflateCompressor.class).getBeanDefinition()));
+		}
+		else {
+
+			int[] codecIds = resolveCodecIds();
+
+			if (codecIds.length != codecBeanNames.length) {
+				throw newIllegalArgumentException("A codec id must be declared for each codec bean name %1$s;"
+					+ " codec ids were %2$s", Arrays.toString(codecBeanNames), Arrays.toString(codecIds));
+			}
+
+			for (int index = 0; index < codecBeanNames.length; index++) {
+				codecs.add(newCodecBeanDefinition(codecIds[index], codecBeanNames[index],
+					new RuntimeBeanReference(codecBeanNames[index])));
+			}
+		}
+
+		String adaptiveCompressorBeanName = regionBeanName + ADAPTIVE_COMPRESSOR_BEAN_NAME_SUFFIX;
+
+		((BeanDefinitionRegistry) beanFactory).registerBeanDefinition(adaptiveCompressorBeanName,
+			BeanDefinitionBuilder.genericBeanDefinition(AdaptiveCompressor.class)
+				.addConstructorArgValue(codecs)
+				.addPropertyValue("name", regionBeanName)
+				.addPropertyValue("sampleSize", getSampleSize())
+				.addPropertyValue("thresholdBytes", getThresholdBytes())
+				.getBeanDefinition());
+
+		return adaptiveCompressorBeanName;
+	}
+
+	private BeanDefinition newCodecBeanDefinition(int codecId, String codecName, Object compressor) {
+
+		return BeanDefinitionBuilder.genericBeanDefinition(AdaptiveCompressor.Codec.class)
+			.addConstructorArgValue(codecId)
+			.addConstructorArgValue(codecName)
+			.addConstructorArgValue(compressor)
+			.getBeanDefinition();
 	}
 
 	private boolean isTargetedRegionBean(String beanName, BeanDefinition beanDefinition,
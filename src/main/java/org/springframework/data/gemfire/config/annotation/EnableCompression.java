@@ -28,6 +28,7 @@ import java.lang.annotation.Target;
 import org.apache.geode.cache.Region;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.compression.AdaptiveCompressor;
 
 /**
  * The {@link EnableCompression} annotation marks a Spring {@link Configuration @Configuration} annotated application
@@ -66,4 +67,69 @@ public @interface EnableCompression {
 	 */
 	String[] regionNames() default {};
 
+	/**
+	 * Determines whether each targeted {@link Region} is configured with its own
+	 * {@link org.springframework.data.gemfire.compression.AdaptiveCompressor} selecting a codec among
+	 * the {@link #codecBeanNames() candidate codecs} from sampled {@link Region} values.
+	 *
+	 * When {@literal true}, the {@link #compressorBeanName()} attribute is ignored.
+	 *
+	 * Values stored by the adaptive compression policy are framed with a codec identifier, so values written
+	 * to an existing persistent {@link Region} by a non-adaptive {@link #compressorBeanName() Compressor}
+	 * cannot be read.  Migrate the data before enabling adaptive compression for such a {@link Region},
+	 * for example, by exporting a snapshot and importing it into the re-created {@link Region}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Set the {@literal spring.data.gemfire.cache.compression.adaptive} property
+	 * in {@literal application.properties}.
+	 */
+	boolean adaptive() default false;
+
+	/**
+	 * Names of the {@link org.apache.geode.compression.Compressor} beans considered as candidate codecs
+	 * by the {@link #adaptive() adaptive} compression policy, for example, LZ4 or zstd {@code Compressor}
+	 * implementations.  Each codec requires an identifier declared at the same position in {@link #codecIds()}.
+	 *
+	 * Defaults to Snappy and Deflate.
+	 *
+	 * Set the {@literal spring.data.gemfire.cache.compression.codec-bean-names} property
+	 * in {@literal application.properties}.
+	 */
+	String[] codecBeanNames() default {};
+
+	/**
+	 * Identifiers, between {@literal 1} and {@literal 127}, written with the values compressed by
+	 * the {@link #codecBeanNames() candidate codec} declared at the same position.
+	 *
+	 * Codecs may be added, removed or reordered, but the identifier of a codec must never change or be reused
+	 * by another codec for persistent or overflowed {@link Region Regions}.  Identifiers {@literal 1}
+	 * and {@literal 2} are used by the default Snappy and Deflate codecs.
+	 *
+	 * Set the {@literal spring.data.gemfire.cache.compression.codec-ids} property
+	 * in {@literal application.properties}.
+	 */
+	int[] codecIds() default {};
+
+	/**
+	 * Number of values sampled by the {@link #adaptive() adaptive} compression policy before selecting a codec.
+	 *
+	 * Defaults to {@literal 100}.
+	 *
+	 * Set the {@literal spring.data.gemfire.cache.compression.sample-size} property
+	 * in {@literal application.properties}.
+	 */
+	int sampleSize() default AdaptiveCompressor.DEFAULT_SAMPLE_SIZE;
+
+	/**
+	 * Size in bytes below which values are stored uncompressed by the {@link #adaptive() adaptive}
+	 * compression policy.
+	 *
+	 * Defaults to {@literal 64}.
+	 *
+	 * Set the {@literal spring.data.gemfire.cache.compression.threshold-bytes} property
+	 * in {@literal application.properties}.
+	 */
+	int thresholdBytes() default AdaptiveCompressor.DEFAULT_THRESHOLD_BYTES;
+
 }
@@ -163,6 +163,21 @@ public @interface EnableEntityDefinedRegions {
 	 */
 	RegionShortcut serverRegionShortcut() default RegionShortcut.PARTITION;
 
+	/**
+	 * Determines whether the {@link Region Regions} are created lazily, on first use.
+	 *
+	 * When set to {@literal true}, each {@link Region} bean is a lightweight proxy and the actual {@link Region},
+	 * along with its Indexes, is only created the first time a data access operation is invoked on the proxy.
+	 * The {@link org.springframework.data.gemfire.config.annotation.support.LazyRegionMetrics} bean reports
+	 * which {@link Region Regions} were actually created.
+	 *
+	 * Lazy {@link Region Regions} are only supported in a {@link org.apache.geode.cache.client.ClientCache}
+	 * application; enabling this attribute in a peer cache application fails on startup.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean lazy() default false;
+
 	/**
 	 * Determines whether the created {@link Region} will have strongly-typed key and value constraints
 	 * based on the ID and {@link Class} type of application persistent entity.
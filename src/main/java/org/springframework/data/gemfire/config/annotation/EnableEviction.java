@@ -29,6 +29,7 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.util.ObjectSizer;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.eviction.AdaptiveEvictionController;
 import org.springframework.data.gemfire.eviction.EvictionActionType;
 import org.springframework.data.gemfire.eviction.EvictionPolicyType;
 
@@ -63,6 +64,36 @@ public @interface EnableEviction {
 	 */
 	EvictionPolicy[] policies() default {};
 
+	/**
+	 * Interval, in milliseconds, at which the Eviction maximum of {@link EvictionPolicy#adaptive() adaptive}
+	 * {@link Region Regions} is rebalanced.
+	 *
+	 * Defaults to {@literal 30000} milliseconds.
+	 *
+	 * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
+	 */
+	long adaptiveEvaluationIntervalMillis() default AdaptiveEvictionController.DEFAULT_EVALUATION_INTERVAL_MILLISECONDS;
+
+	/**
+	 * Percentage of time spent in garbage collection above which the Eviction maximum
+	 * of {@link EvictionPolicy#adaptive() adaptive} {@link Region Regions} is reduced.
+	 *
+	 * Defaults to {@literal 5} percent.
+	 *
+	 * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
+	 */
+	float adaptiveMaximumGcTimePercentage() default AdaptiveEvictionController.DEFAULT_MAXIMUM_GC_TIME_PERCENTAGE;
+
+	/**
+	 * Percentage of JVM Heap usage above which the Eviction maximum of {@link EvictionPolicy#adaptive() adaptive}
+	 * {@link Region Regions} is reduced and well below which the Eviction maximum is increased.
+	 *
+	 * Defaults to {@literal 75} percent.
+	 *
+	 * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
+	 */
+	float adaptiveTargetHeapUsagePercentage() default AdaptiveEvictionController.DEFAULT_TARGET_HEAP_USAGE_PERCENTAGE;
+
 	/**
 	 * Definition for a specific Eviction policy that can be applied to 1 or more {@link Region Regions}.
 	 *
@@ -83,6 +114,33 @@ public @interface EnableEviction {
 		 */
 		EvictionActionType action() default EvictionActionType.LOCAL_DESTROY;
 
+		/**
+		 * Determines whether the {@link #maximum()} is rebalanced at runtime, based on JVM Heap usage,
+		 * garbage collection time and the hit ratio of each {@link Region}, within the bounds declared by
+		 * {@link #adaptiveMinimum()} and {@link #adaptiveMaximum()}.
+		 *
+		 * Only applies to {@link EvictionPolicyType#ENTRY_COUNT} and {@link EvictionPolicyType#MEMORY_SIZE}.
+		 *
+		 * Defaults to {@literal false}.
+		 *
+		 * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
+		 */
+		boolean adaptive() default false;
+
+		/**
+		 * Upper bound of the {@link #maximum()} when {@link #adaptive()} is enabled.
+		 *
+		 * Defaults to {@literal 0}, which uses the {@link #maximum()} as the upper bound.
+		 */
+		int adaptiveMaximum() default 0;
+
+		/**
+		 * Lower bound of the {@link #maximum()} when {@link #adaptive()} is enabled.
+		 *
+		 * Defaults to {@literal 1}.
+		 */
+		int adaptiveMinimum() default 1;
+
 		/**
 		 * Threshold applied for entry count Eviction.
 		 *
@@ -94,6 +152,11 @@ public @interface EnableEviction {
 		 * Name of a Spring bean of type {@link ObjectSizer} defined in the Spring application context
 		 * used to size {@link Region} entry values.
 		 *
+		 * Set to {@link org.springframework.data.gemfire.mapping.MappingObjectSizer#MAPPING_OBJECT_SIZER_BEAN_NAME}
+		 * to size entity values from their mapping meta-data; a
+		 * {@link org.springframework.data.gemfire.mapping.MappingObjectSizer} bean is registered with that name
+		 * unless one is already defined.
+		 *
 		 * Defaults to empty.
 		 *
 		 * @see org.apache.geode.cache.util.ObjectSizer
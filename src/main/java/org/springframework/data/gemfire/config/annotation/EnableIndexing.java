@@ -62,4 +62,36 @@ public @interface EnableIndexing {
 	 */
 	boolean define() default false;
 
+	/**
+	 * Determines whether Pivotal GemFire/Apache Geode {@link Index Indexes} are defined in batches by
+	 * {@link org.apache.geode.cache.Region}, with each {@link org.apache.geode.cache.Region Region's} batch
+	 * created in a single pass over the {@link org.apache.geode.cache.Region} and the batches of different
+	 * {@link org.apache.geode.cache.Region Regions} created in parallel on startup.  Implies {@link #define()}.
+	 *
+	 * Only applies to OQL-based {@link Index Indexes}.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean parallel() default false;
+
+	/**
+	 * Determines whether an {@link org.springframework.data.gemfire.IndexAdvisor} is registered to record the OQL
+	 * queries executed by {@link org.springframework.data.repository.Repository Repositories} and recommend
+	 * {@link Index Indexes} for frequently executed, slow query predicates.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean advise() default false;
+
+	/**
+	 * Determines whether the {@link Index Indexes} recommended by the {@link org.springframework.data.gemfire.IndexAdvisor}
+	 * are created at runtime with {@link org.springframework.data.gemfire.config.admin.GemfireAdminOperations}.
+	 * Only applies when {@link #advise()} is {@literal true}.  Requires a {@link org.apache.geode.cache.client.ClientCache},
+	 * unless a {@link org.springframework.data.gemfire.config.admin.GemfireAdminOperations} bean is declared.
+	 * Indexes are created asynchronously, off the thread executing the query.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean createAdvisedIndexes() default false;
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.Region;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableParallelRegionStartup} annotation configures a Spring {@link Configuration} annotated class
+ * to initialize, and recover from disk, independent {@link Region Regions} concurrently during startup.
+ *
+ * {@link Region Regions} depending on other {@link Region Regions}, such as sub-Regions and colocated
+ * {@link Region Regions}, are initialized after the {@link Region Regions} they depend on.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.context.annotation.Import
+ * @see org.springframework.data.gemfire.config.annotation.ParallelRegionStartupConfiguration
+ * @see org.springframework.data.gemfire.config.support.ParallelRegionStartupBeanFactoryPostProcessor
+ * @since 2.2.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(ParallelRegionStartupConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableParallelRegionStartup {
+
+	/**
+	 * Number of {@link Thread Threads} used to initialize {@link Region Regions}.
+	 *
+	 * Defaults to the number of available processors.
+	 *
+	 * Use the {@literal spring.data.gemfire.cache.parallel-region-startup.pool-size} property
+	 * in {@literal application.properties} to dynamically customize this configuration setting.
+	 */
+	int poolSize() default 0;
+
+}
@@ -25,6 +25,7 @@ import java.lang.annotation.Target;
 
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
  * The EnableRegionDataAccessTracing class...
@@ -41,4 +42,48 @@ import org.springframework.context.annotation.Import;
 @SuppressWarnings("unused")
 public @interface EnableRegionDataAccessTracing {
 
+	/**
+	 * Determines whether sampled {@link org.apache.geode.cache.Region} data access calls are aggregated into
+	 * per call site counters and latency histograms rather than logged individually with a stack trace.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * Set the {@literal spring.data.gemfire.region.data-access-tracing.aggregate} property
+	 * in {@literal application.properties}.
+	 */
+	boolean aggregate() default RegionDataAccessTracingAspect.DEFAULT_AGGREGATE;
+
+	/**
+	 * Fraction, between {@literal 0.0} and {@literal 1.0}, of {@link org.apache.geode.cache.Region}
+	 * data access calls that are traced.
+	 *
+	 * Defaults to {@literal 1.0}, tracing every call, or to {@literal 0.01} when {@link #aggregate()} is enabled,
+	 * since every aggregated call captures the caller's stack.
+	 *
+	 * Set the {@literal spring.data.gemfire.region.data-access-tracing.sample-rate} property
+	 * in {@literal application.properties}.
+	 */
+	double sampleRate() default RegionDataAccessTracingAspect.UNSET_SAMPLE_RATE;
+
+	/**
+	 * Maximum number of stack frames captured per traced call.
+	 *
+	 * Defaults to the full stack.
+	 *
+	 * Set the {@literal spring.data.gemfire.region.data-access-tracing.stack-depth} property
+	 * in {@literal application.properties}.
+	 */
+	int stackDepth() default RegionDataAccessTracingAspect.DEFAULT_STACK_DEPTH;
+
+	/**
+	 * Interval, in seconds, at which the aggregated statistics are logged when {@link #aggregate()} is enabled.
+	 * A value less than or equal to {@literal 0} disables the periodic summary.
+	 *
+	 * Defaults to {@literal 60} seconds.
+	 *
+	 * Set the {@literal spring.data.gemfire.region.data-access-tracing.summary-interval-seconds} property
+	 * in {@literal application.properties}.
+	 */
+	long summaryIntervalSeconds() default RegionDataAccessTracingAspect.DEFAULT_SUMMARY_INTERVAL_SECONDS;
+
 }
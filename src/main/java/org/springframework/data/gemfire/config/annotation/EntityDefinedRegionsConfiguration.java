@@ -63,6 +63,8 @@ import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.config.annotation.support.CacheTypeAwareRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner;
+import org.springframework.data.gemfire.config.annotation.support.LazyRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.LazyRegionMetrics;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
@@ -116,6 +118,8 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 
 	protected static final RegionShortcut DEFAULT_SERVER_REGION_SHORTCUT = RegionShortcut.PARTITION;
 
+	protected static final String LAZY_REGION_METRICS_BEAN_NAME = "gemfireLazyRegionMetrics";
+
 	@Autowired(required = false)
 	private GemfireMappingContext mappingContext;
 
@@ -154,7 +158,9 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 
 			AnnotationAttributes enableEntityDefinedRegionsAttributes = getAnnotationAttributes(importingClassMetadata);
 
-			newGemFireComponentClassTypeScanner(importingClassMetadata, enableEntityDefinedRegionsAttributes).scan()
+			newGemFireComponentClassTypeScanner(importingClassMetadata, enableEntityDefinedRegionsAttributes)
+				.withScanScope(registry)
+				.scan()
 				.forEach(persistentEntityType -> {
 
 					RegionBeanDefinitionMetadata regionMetadata =
@@ -350,7 +356,47 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 
 		setRegionAttributes(regionFactoryBeanBuilder, regionMetadata);
 
-		registry.registerBeanDefinition(regionMetadata.getRegionName(), regionFactoryBeanBuilder.getBeanDefinition());
+		if (regionMetadata.isLazy()) {
+			registerLazyRegionBeanDefinition(regionMetadata, regionFactoryBeanBuilder, registry);
+		}
+		else {
+			registry.registerBeanDefinition(regionMetadata.getRegionName(),
+				regionFactoryBeanBuilder.getBeanDefinition());
+		}
+	}
+
+	/**
+	 * Registers a {@link LazyRegionFactoryBean} bean definition for the {@link Region}, along with the
+	 * {@literal abstract} bean definition used to create the actual {@link Region} on first use.
+	 *
+	 * @param regionMetadata {@link RegionBeanDefinitionMetadata} used to configure the {@link Region} bean definition.
+	 * @param regionFactoryBeanBuilder {@link BeanDefinitionBuilder} configuring the actual {@link Region}.
+	 * @param registry {@link BeanDefinitionRegistry} used to register the {@link Region} bean definitions.
+	 * @see org.springframework.data.gemfire.config.annotation.support.LazyRegionFactoryBean
+	 */
+	protected void registerLazyRegionBeanDefinition(RegionBeanDefinitionMetadata regionMetadata,
+			BeanDefinitionBuilder regionFactoryBeanBuilder, BeanDefinitionRegistry registry) {
+
+		String regionName = regionMetadata.getRegionName();
+
+		registry.registerBeanDefinition(regionName + LazyRegionFactoryBean.REGION_DEFINITION_BEAN_NAME_SUFFIX,
+			regionFactoryBeanBuilder.setAbstract(true).getBeanDefinition());
+
+		BeanDefinitionBuilder lazyRegionFactoryBeanBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(LazyRegionFactoryBean.class)
+				.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME)
+				.addPropertyValue("regionName", regionName);
+
+		if (regionMetadata.isStrict()) {
+			lazyRegionFactoryBeanBuilder.addPropertyValue("keyConstraint", regionMetadata.getRegionKeyConstraint());
+		}
+
+		registry.registerBeanDefinition(regionName, lazyRegionFactoryBeanBuilder.getBeanDefinition());
+
+		if (!registry.containsBeanDefinition(LAZY_REGION_METRICS_BEAN_NAME)) {
+			registry.registerBeanDefinition(LAZY_REGION_METRICS_BEAN_NAME,
+				BeanDefinitionBuilder.genericBeanDefinition(LazyRegionMetrics.class).getBeanDefinition());
+		}
 	}
 
 	/* (non-Javadoc) */
@@ -615,6 +661,7 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 			return new RegionBeanDefinitionMetadata(persistentEntity);
 		}
 
+		private boolean lazy;
 		private boolean strict;
 
 		private ClientRegionShortcut clientRegionShortcut;
@@ -630,6 +677,10 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 			this.persistentEntity = persistentEntity;
 		}
 
+		protected boolean isLazy() {
+			return this.lazy;
+		}
+
 		protected boolean isStrict() {
 			return this.strict;
 		}
@@ -691,6 +742,11 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 			return this;
 		}
 
+		protected RegionBeanDefinitionMetadata lazy(boolean lazy) {
+			this.lazy = lazy;
+			return this;
+		}
+
 		protected RegionBeanDefinitionMetadata using(AnnotationAttributes enableEntityDefinedRegionsAttributes) {
 
 			return Optional.ofNullable(enableEntityDefinedRegionsAttributes)
@@ -699,6 +755,7 @@ public class EntityDefinedRegionsConfiguration extends AbstractAnnotationConfigS
 						.using(it.getString("poolName"))
 						.using(it.<RegionShortcut>getEnum("serverRegionShortcut"))
 						.is(it.getBoolean("strict"))
+						.lazy(it.containsKey("lazy") && it.getBoolean("lazy"))
 				)
 				.orElse(this);
 		}
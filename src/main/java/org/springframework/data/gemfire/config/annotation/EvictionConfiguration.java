@@ -24,9 +24,11 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -39,6 +41,7 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ImportAware;
@@ -48,10 +51,13 @@ import org.springframework.data.gemfire.PeerRegionFactoryBean;
 import org.springframework.data.gemfire.ResolvableRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.eviction.AdaptiveEvictionController;
 import org.springframework.data.gemfire.eviction.EvictingRegionFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionActionType;
 import org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.MappingObjectSizer;
 import org.springframework.util.StringUtils;
 
 /**
@@ -72,6 +78,7 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.data.gemfire.ResolvableRegionFactoryBean
  * @see org.springframework.data.gemfire.client.ClientRegionFactoryBean
  * @see org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport
+ * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
  * @see org.springframework.data.gemfire.eviction.EvictionActionType
  * @see org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean
  * @see org.springframework.data.gemfire.eviction.EvictionPolicyType
@@ -85,6 +92,13 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 
 	private EvictionPolicyConfigurer evictionPolicyConfigurer;
 
+	private float adaptiveMaximumGcTimePercentage = AdaptiveEvictionController.DEFAULT_MAXIMUM_GC_TIME_PERCENTAGE;
+	private float adaptiveTargetHeapUsagePercentage = AdaptiveEvictionController.DEFAULT_TARGET_HEAP_USAGE_PERCENTAGE;
+
+	private final List<EvictionPolicyMetaData> adaptiveEvictionPolicies = new ArrayList<>();
+
+	private long adaptiveEvaluationIntervalMillis = AdaptiveEvictionController.DEFAULT_EVALUATION_INTERVAL_MILLISECONDS;
+
 	/**
 	 * Returns the {@link Annotation} {@link Class type} that enables and configures Eviction.
 	 *
@@ -123,11 +137,27 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 			AnnotationAttributes[] policies = enableEvictionAttributes.getAnnotationArray("policies");
 
 			for (AnnotationAttributes evictionPolicyAttributes : nullSafeArray(policies, AnnotationAttributes.class)) {
+
+				EvictionPolicyMetaData evictionPolicy =
+					EvictionPolicyMetaData.from(evictionPolicyAttributes, this.applicationContext);
+
+				if (evictionPolicy.isAdaptive()) {
+					this.adaptiveEvictionPolicies.add(evictionPolicy);
+				}
+
 				this.evictionPolicyConfigurer = ComposableEvictionPolicyConfigurer
-					.compose(this.evictionPolicyConfigurer,
-						EvictionPolicyMetaData.from(evictionPolicyAttributes, this.applicationContext));
+					.compose(this.evictionPolicyConfigurer, evictionPolicy);
 			}
 
+			this.adaptiveEvaluationIntervalMillis =
+				(Long) enableEvictionAttributes.get("adaptiveEvaluationIntervalMillis");
+
+			this.adaptiveMaximumGcTimePercentage =
+				(Float) enableEvictionAttributes.get("adaptiveMaximumGcTimePercentage");
+
+			this.adaptiveTargetHeapUsagePercentage =
+				(Float) enableEvictionAttributes.get("adaptiveTargetHeapUsagePercentage");
+
 			this.evictionPolicyConfigurer = Optional.ofNullable(this.evictionPolicyConfigurer)
 				.orElseGet(EvictionPolicyMetaData::fromDefaults);
 		}
@@ -168,9 +198,43 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 			public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
 				return isRegionFactoryBean(bean) ? getEvictionPolicyConfigurer().configure(bean) : bean;
 			}
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+				if (isRegionFactoryBean(bean)) {
+					EvictionConfiguration.this.adaptiveEvictionPolicies.stream()
+						.filter(evictionPolicy -> evictionPolicy.accepts(bean))
+						.reduce((first, last) -> last)
+						.ifPresent(evictionPolicy -> evictionPolicy.register(adaptiveEvictionController(), bean));
+				}
+
+				return bean;
+			}
 		};
 	}
 
+	/**
+	 * Declares the {@link AdaptiveEvictionController} rebalancing the Eviction maximum of the {@link Region Regions}
+	 * configured with an {@link EvictionPolicy#adaptive() adaptive} Eviction policy.
+	 *
+	 * The {@link AdaptiveEvictionController} is only started when at least one {@link Region} is adaptive.
+	 *
+	 * @return the {@link AdaptiveEvictionController}.
+	 * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
+	 */
+	@Bean
+	public AdaptiveEvictionController adaptiveEvictionController() {
+
+		AdaptiveEvictionController adaptiveEvictionController = new AdaptiveEvictionController();
+
+		adaptiveEvictionController.setEvaluationIntervalMillis(this.adaptiveEvaluationIntervalMillis);
+		adaptiveEvictionController.setMaximumGcTimePercentage(this.adaptiveMaximumGcTimePercentage);
+		adaptiveEvictionController.setTargetHeapUsagePercentage(this.adaptiveTargetHeapUsagePercentage);
+
+		return adaptiveEvictionController;
+	}
+
 	/**
 	 * {@link EvictionPolicyConfigurer} configures the Eviction policy of a Pivotal GemFire {@link Region}.
 	 */
@@ -276,6 +340,11 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 
 		protected static final String[] ALL_REGIONS = new String[0];
 
+		private boolean adaptive = false;
+
+		private int adaptiveMaximum;
+		private int adaptiveMinimum;
+
 		private final EvictionAttributes evictionAttributes;
 
 		private final Set<String> regionNames = new HashSet<>();
@@ -285,18 +354,31 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 
 			Assert.isAssignable(EvictionPolicy.class, evictionPolicyAttributes.annotationType());
 
-			return from(evictionPolicyAttributes.getEnum("type"),
+			EvictionPolicyMetaData evictionPolicy = from(evictionPolicyAttributes.getEnum("type"),
 				(Integer) evictionPolicyAttributes.get("maximum"),
 				evictionPolicyAttributes.getEnum("action"),
 				resolveObjectSizer(evictionPolicyAttributes.getString("objectSizerName"), applicationContext),
 				evictionPolicyAttributes.getStringArray("regionNames"));
+
+			return evictionPolicyAttributes.getBoolean("adaptive")
+				? evictionPolicy.adaptive(evictionPolicyAttributes.getEnum("type"),
+					(Integer) evictionPolicyAttributes.get("adaptiveMinimum"),
+					(Integer) evictionPolicyAttributes.get("adaptiveMaximum"),
+					(Integer) evictionPolicyAttributes.get("maximum"))
+				: evictionPolicy;
 		}
 
 		protected static EvictionPolicyMetaData from(EvictionPolicy evictionPolicy,
 				ApplicationContext applicationContext) {
 
-			return from(evictionPolicy.type(), evictionPolicy.maximum(), evictionPolicy.action(),
-				resolveObjectSizer(evictionPolicy.objectSizerName(), applicationContext), evictionPolicy.regionNames());
+			EvictionPolicyMetaData evictionPolicyMetaData = from(evictionPolicy.type(), evictionPolicy.maximum(),
+				evictionPolicy.action(), resolveObjectSizer(evictionPolicy.objectSizerName(), applicationContext),
+				evictionPolicy.regionNames());
+
+			return evictionPolicy.adaptive()
+				? evictionPolicyMetaData.adaptive(evictionPolicy.type(), evictionPolicy.adaptiveMinimum(),
+					evictionPolicy.adaptiveMaximum(), evictionPolicy.maximum())
+				: evictionPolicyMetaData;
 		}
 
 		protected static EvictionPolicyMetaData from(EvictionPolicyType type, int maximum, EvictionActionType action,
@@ -319,10 +401,43 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 
 		protected static ObjectSizer resolveObjectSizer(String objectSizerName, ApplicationContext applicationContext) {
 
-			boolean resolvable = StringUtils.hasText(objectSizerName)
-				&& applicationContext.containsBean(objectSizerName);
+			if (StringUtils.hasText(objectSizerName)) {
+				if (applicationContext.containsBean(objectSizerName)) {
+					return applicationContext.getBean(objectSizerName, ObjectSizer.class);
+				}
+				else if (MappingObjectSizer.MAPPING_OBJECT_SIZER_BEAN_NAME.equals(objectSizerName)) {
+					return registerMappingObjectSizer(applicationContext);
+				}
+			}
 
-			return (resolvable ? applicationContext.getBean(objectSizerName, ObjectSizer.class) : null);
+			return null;
+		}
+
+		/**
+		 * Registers the {@link MappingObjectSizer} referenced by
+		 * {@link MappingObjectSizer#MAPPING_OBJECT_SIZER_BEAN_NAME} when no bean with that name has been defined,
+		 * sizing entities with the application's {@link GemfireMappingContext} when a single one is defined.
+		 */
+		private static synchronized ObjectSizer registerMappingObjectSizer(ApplicationContext applicationContext) {
+
+			String beanName = MappingObjectSizer.MAPPING_OBJECT_SIZER_BEAN_NAME;
+
+			if (applicationContext.containsBean(beanName)) {
+				return applicationContext.getBean(beanName, ObjectSizer.class);
+			}
+
+			String[] mappingContextBeanNames = applicationContext.getBeanNamesForType(GemfireMappingContext.class);
+
+			MappingObjectSizer mappingObjectSizer = new MappingObjectSizer(mappingContextBeanNames.length == 1
+				? applicationContext.getBean(mappingContextBeanNames[0], GemfireMappingContext.class)
+				: new GemfireMappingContext());
+
+			if (applicationContext instanceof ConfigurableApplicationContext) {
+				((ConfigurableApplicationContext) applicationContext).getBeanFactory()
+					.registerSingleton(beanName, mappingObjectSizer);
+			}
+
+			return mappingObjectSizer;
 		}
 
 		/**
@@ -371,6 +486,68 @@ public class EvictionConfiguration extends AbstractAnnotationConfigSupport
 			Collections.addAll(this.regionNames, nullSafeArray(regionNames, String.class));
 		}
 
+		/**
+		 * Enables adaptive Eviction for this Eviction policy within the given bounds.
+		 *
+		 * @param type {@link EvictionPolicyType} of this Eviction policy.
+		 * @param minimum lower bound of the Eviction maximum.
+		 * @param maximum upper bound of the Eviction maximum, or {@literal 0} to use the {@code threshold}.
+		 * @param threshold initial Eviction maximum.
+		 * @return this {@link EvictionPolicyMetaData}.
+		 * @throws IllegalArgumentException if the {@link EvictionPolicyType} does not support a maximum
+		 * or the bounds are not valid.
+		 * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
+		 */
+		protected EvictionPolicyMetaData adaptive(EvictionPolicyType type, int minimum, int maximum, int threshold) {
+
+			if (!(EvictionPolicyType.ENTRY_COUNT.equals(type) || EvictionPolicyType.MEMORY_SIZE.equals(type))) {
+				throw newIllegalArgumentException("Adaptive Eviction is not supported for EvictionPolicyType [%s]",
+					type);
+			}
+
+			int resolvedMaximum = maximum > 0 ? maximum : threshold;
+
+			if (minimum < 1 || resolvedMaximum < minimum) {
+				throw newIllegalArgumentException("Adaptive Eviction bounds [%1$d, %2$d] are not valid",
+					minimum, resolvedMaximum);
+			}
+
+			this.adaptive = true;
+			this.adaptiveMinimum = minimum;
+			this.adaptiveMaximum = resolvedMaximum;
+
+			return this;
+		}
+
+		/**
+		 * Determines whether this Eviction policy is adaptive.
+		 *
+		 * @return a boolean value indicating whether this Eviction policy is adaptive.
+		 */
+		protected boolean isAdaptive() {
+			return this.adaptive;
+		}
+
+		/**
+		 * Registers the {@link Region} created by the given {@link ResolvableRegionFactoryBean}
+		 * with the {@link AdaptiveEvictionController}.
+		 *
+		 * @param adaptiveEvictionController {@link AdaptiveEvictionController} managing the {@link Region}.
+		 * @param regionFactoryBean {@link ResolvableRegionFactoryBean} creating the {@link Region}.
+		 * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController#register(String, Supplier, int, int)
+		 */
+		protected void register(AdaptiveEvictionController adaptiveEvictionController, Object regionFactoryBean) {
+
+			if (isAdaptive() && regionFactoryBean instanceof ResolvableRegionFactoryBean) {
+
+				ResolvableRegionFactoryBean<?, ?> resolvableRegionFactoryBean =
+					(ResolvableRegionFactoryBean<?, ?>) regionFactoryBean;
+
+				adaptiveEvictionController.register(resolvableRegionFactoryBean.resolveRegionName(),
+					resolvableRegionFactoryBean::getRegion, this.adaptiveMinimum, this.adaptiveMaximum);
+			}
+		}
+
 		/**
 		 * Returns an instance of the {@link EvictionAttributes} specifying the Eviction policy configuration
 		 * captured in this Eviction policy meta-data.
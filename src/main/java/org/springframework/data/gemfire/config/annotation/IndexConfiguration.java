@@ -17,10 +17,14 @@
 
 package org.springframework.data.gemfire.config.annotation;
 
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -30,8 +34,11 @@ import java.util.stream.Collectors;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.lucene.LuceneIndex;
 import org.apache.geode.cache.query.Index;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.core.annotation.AnnotationAttributes;
@@ -39,11 +46,15 @@ import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.gemfire.GemfireUtils;
+import org.springframework.data.gemfire.IndexAdvisor;
 import org.springframework.data.gemfire.IndexFactoryBean;
 import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.config.annotation.support.LazyRegionFactoryBean;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.mapping.EntityIndexes;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.mapping.annotation.CompoundIndex;
 import org.springframework.data.gemfire.mapping.annotation.Indexed;
 import org.springframework.data.gemfire.mapping.annotation.LuceneIndexed;
 import org.springframework.data.gemfire.search.lucene.LuceneIndexFactoryBean;
@@ -78,9 +89,45 @@ import org.springframework.util.StringUtils;
  */
 public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 
+	protected static final String INDEX_ADVISOR_BEAN_NAME = "gemfireIndexAdvisor";
+
 	@Autowired(required = false)
 	private List<IndexConfigurer> indexConfigurers = Collections.emptyList();
 
+	/**
+	 * Registers an {@link IndexAdvisor} bean when {@link EnableIndexing#advise() advice} is enabled.
+	 *
+	 * @see org.springframework.data.gemfire.IndexAdvisor
+	 */
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+
+		super.registerBeanDefinitions(importingClassMetadata, registry);
+
+		if (isAnnotationPresent(importingClassMetadata, getEnableIndexingAnnotationTypeName())) {
+
+			AnnotationAttributes enableIndexingAttributes =
+				getAnnotationAttributes(importingClassMetadata, getEnableIndexingAnnotationTypeName());
+
+			if (enableIndexingAttributes.getBoolean("advise")
+					&& !registry.containsBeanDefinition(INDEX_ADVISOR_BEAN_NAME)) {
+
+				BeanDefinitionBuilder indexAdvisorBuilder =
+					BeanDefinitionBuilder.genericBeanDefinition(IndexAdvisor.class);
+
+				boolean createAdvisedIndexes = enableIndexingAttributes.getBoolean("createAdvisedIndexes");
+
+				indexAdvisorBuilder.addPropertyValue("createIndexes", createAdvisedIndexes);
+
+				if (createAdvisedIndexes) {
+					indexAdvisorBuilder.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+				}
+
+				registry.registerBeanDefinition(INDEX_ADVISOR_BEAN_NAME, indexAdvisorBuilder.getBeanDefinition());
+			}
+		}
+	}
+
 	/**
 	 * Returns the {@link Annotation} {@link Class type} that configures and creates {@link Region} Indexes
 	 * from application persistent entity properties.
@@ -160,6 +207,10 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 						persistentProperty, luceneIndexed, registry));
 
 			});
+
+			EntityIndexes.findCompoundIndexes(localPersistentEntity.getType()).forEach(compoundIndex ->
+				registerCompoundIndexBeanDefinitions(enableIndexingAttributes, localPersistentEntity, compoundIndex,
+					registry));
 		}
 
 		return persistentEntity;
@@ -192,37 +243,144 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 
 			AnnotationAttributes indexedAttributes = getAnnotationAttributes(localIndexAnnotation);
 
-			BeanDefinitionBuilder indexFactoryBeanBuilder =
-				BeanDefinitionBuilder.genericBeanDefinition(IndexFactoryBean.class);
+			IndexType resolvedIndexType = resolveType(persistentEntity, persistentProperty, indexedAttributes, indexType);
+
+			String indexName = resolveName(persistentEntity, persistentProperty, indexedAttributes, resolvedIndexType);
+
+			registerIndexFactoryBeanDefinition(enableIndexingAttributes, indexName,
+				resolveExpression(persistentEntity, persistentProperty, indexedAttributes),
+				resolveFrom(persistentEntity, persistentProperty, indexedAttributes), resolvedIndexType, registry);
+		});
+	}
+
+	/**
+	 * Registers an Index of the {@link CompoundIndex#type() declared type} for each property
+	 * of the {@link CompoundIndex} declared on the {@link GemfirePersistentEntity}.  A property already indexed
+	 * with the same type, for example with {@link Indexed} or another {@link CompoundIndex}, shares that Index.
+	 *
+	 * @param enableIndexingAttributes {@link AnnotationAttributes} containing meta-data
+	 * for the {@link EnableIndexing} annotation.
+	 * @param persistentEntity {@link GemfirePersistentEntity} declaring the {@link CompoundIndex}.
+	 * @param compoundIndex {@link CompoundIndex} declaration.
+	 * @param registry {@link BeanDefinitionRegistry} used to register the Index bean definitions.
+	 * @see org.springframework.data.gemfire.mapping.annotation.CompoundIndex
+	 */
+	protected void registerCompoundIndexBeanDefinitions(AnnotationAttributes enableIndexingAttributes,
+			GemfirePersistentEntity<?> persistentEntity, CompoundIndex compoundIndex, BeanDefinitionRegistry registry) {
+
+		for (String property : compoundIndex.properties()) {
+
+			String indexName =
+				EntityIndexes.generateIndexName(persistentEntity.getRegionName(), property, compoundIndex.type());
+
+			registerIndexFactoryBeanDefinition(enableIndexingAttributes, indexName, property,
+				persistentEntity.getRegionName(), compoundIndex.type(), registry);
+		}
+	}
+
+	private void registerIndexFactoryBeanDefinition(AnnotationAttributes enableIndexingAttributes, String indexName,
+			String expression, String from, IndexType indexType, BeanDefinitionRegistry registry) {
 
-			String indexName = resolveName(persistentEntity, persistentProperty, indexedAttributes, indexType);
+		if (isIndexRegistered(indexName, expression, from, indexType, registry)) {
+			return;
+		}
 
-			indexFactoryBeanBuilder.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
+		BeanDefinitionBuilder indexFactoryBeanBuilder =
+			BeanDefinitionBuilder.genericBeanDefinition(IndexFactoryBean.class);
 
-			indexFactoryBeanBuilder.addPropertyValue("define", resolveDefine(enableIndexingAttributes));
+		String regionBeanName = toRegionName(from);
 
-			indexFactoryBeanBuilder.addPropertyValue("expression",
-				resolveExpression(persistentEntity, persistentProperty, indexedAttributes));
+		boolean lazyRegion = isLazyRegion(regionBeanName, registry);
 
-			String from = resolveFrom(persistentEntity, persistentProperty, indexedAttributes);
+		indexFactoryBeanBuilder.addPropertyReference("cache", GemfireConstants.DEFAULT_GEMFIRE_CACHE_NAME);
 
-			indexFactoryBeanBuilder.addPropertyValue("from", toRegionPath(from));
+		// Indexes on lazy Regions are created with the Region, after the defined Indexes have been created
+		indexFactoryBeanBuilder.addPropertyValue("define", !lazyRegion && resolveDefine(enableIndexingAttributes));
 
-			indexFactoryBeanBuilder.addPropertyValue("ignoreIfExists", Boolean.TRUE);
+		indexFactoryBeanBuilder.addPropertyValue("parallel", !lazyRegion && resolveParallel(enableIndexingAttributes));
 
-			indexFactoryBeanBuilder.addPropertyValue("indexConfigurers", resolveIndexConfigurers());
+		indexFactoryBeanBuilder.addPropertyValue("expression", expression);
 
-			indexFactoryBeanBuilder.addPropertyValue("name", indexName);
+		indexFactoryBeanBuilder.addPropertyValue("from", toRegionPath(from));
 
-			indexFactoryBeanBuilder.addPropertyValue("override", Boolean.FALSE);
+		indexFactoryBeanBuilder.addPropertyValue("ignoreIfExists", Boolean.TRUE);
 
-			indexFactoryBeanBuilder.addPropertyValue("type",
-				resolveType(persistentEntity, persistentProperty, indexedAttributes, indexType).toString());
+		indexFactoryBeanBuilder.addPropertyValue("indexConfigurers", resolveIndexConfigurers());
 
-			indexFactoryBeanBuilder.addDependsOn(toRegionName(from));
+		indexFactoryBeanBuilder.addPropertyValue("name", indexName);
 
-			registry.registerBeanDefinition(indexName, indexFactoryBeanBuilder.getBeanDefinition());
-		});
+		indexFactoryBeanBuilder.addPropertyValue("override", Boolean.FALSE);
+
+		indexFactoryBeanBuilder.addPropertyValue("type", indexType.toString());
+
+		if (lazyRegion) {
+			indexFactoryBeanBuilder.setLazyInit(true);
+			addLazyRegionDependentBeanName(regionBeanName, indexName, registry);
+		}
+		else {
+			indexFactoryBeanBuilder.addDependsOn(regionBeanName);
+		}
+
+		registry.registerBeanDefinition(indexName, indexFactoryBeanBuilder.getBeanDefinition());
+	}
+
+	/**
+	 * Determines whether an identical Index was already registered under the given name, for instance when
+	 * a property is annotated with {@link Indexed} and is also part of a {@link CompoundIndex}.
+	 *
+	 * @throws IllegalStateException if a different Index was registered under the same name.
+	 */
+	private boolean isIndexRegistered(String indexName, String expression, String from, IndexType indexType,
+			BeanDefinitionRegistry registry) {
+
+		if (registry.containsBeanDefinition(indexName)) {
+
+			BeanDefinition beanDefinition = registry.getBeanDefinition(indexName);
+
+			if (IndexFactoryBean.class.getName().equals(beanDefinition.getBeanClassName())) {
+
+				MutablePropertyValues propertyValues = beanDefinition.getPropertyValues();
+
+				boolean identical = expression.equals(propertyValues.get("expression"))
+					&& toRegionPath(from).equals(propertyValues.get("from"))
+					&& indexType.toString().equals(propertyValues.get("type"));
+
+				if (!identical) {
+					throw newIllegalStateException("Index [%1$s] on expression [%2$s] from [%3$s] of type [%4$s]"
+						+ " conflicts with an Index of the same name on expression [%5$s] from [%6$s] of type [%7$s]",
+						indexName, expression, toRegionPath(from), indexType, propertyValues.get("expression"),
+						propertyValues.get("from"), propertyValues.get("type"));
+				}
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean isLazyRegion(String regionBeanName, BeanDefinitionRegistry registry) {
+
+		return registry.containsBeanDefinition(regionBeanName)
+			&& LazyRegionFactoryBean.class.getName()
+				.equals(registry.getBeanDefinition(regionBeanName).getBeanClassName());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addLazyRegionDependentBeanName(String regionBeanName, String beanName,
+			BeanDefinitionRegistry registry) {
+
+		MutablePropertyValues propertyValues = registry.getBeanDefinition(regionBeanName).getPropertyValues();
+
+		PropertyValue dependentBeanNames = propertyValues.getPropertyValue("dependentBeanNames");
+
+		List<String> beanNames = dependentBeanNames != null
+			? new ArrayList<>((List<String>) dependentBeanNames.getValue())
+			: new ArrayList<>();
+
+		beanNames.add(beanName);
+
+		propertyValues.add("dependentBeanNames", beanNames);
 	}
 
 	private String toRegionName(String from) {
@@ -323,6 +481,12 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 			&& enableIndexingAttributes.getBoolean("define");
 	}
 
+	private boolean resolveParallel(AnnotationAttributes enableIndexingAttributes) {
+
+		return enableIndexingAttributes.containsKey("parallel")
+			&& enableIndexingAttributes.getBoolean("parallel");
+	}
+
 	@SuppressWarnings("unused")
 	private String resolveExpression(GemfirePersistentEntity<?> persistentEntity,
 			GemfirePersistentProperty persistentProperty, AnnotationAttributes indexedAttributes) {
@@ -331,7 +495,26 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 			? indexedAttributes.getString("expression")
 			: null;
 
-		return (StringUtils.hasText(expression) ? expression : persistentProperty.getName());
+		String[] keys = resolveKeys(indexedAttributes);
+
+		return (StringUtils.hasText(expression) ? expression
+			: keys.length > 0 ? toMapIndexExpression(persistentProperty.getName(), keys)
+			: persistentProperty.getName());
+	}
+
+	private String[] resolveKeys(AnnotationAttributes indexedAttributes) {
+
+		return indexedAttributes.containsKey("keys")
+			? nullSafeArray(indexedAttributes.getStringArray("keys"), String.class)
+			: new String[0];
+	}
+
+	private String toMapIndexExpression(String propertyName, String[] keys) {
+
+		return Arrays.asList(keys).contains("*") ? String.format("%s[*]", propertyName)
+			: String.format("%1$s[%2$s]", propertyName, Arrays.stream(keys)
+				.map(key -> String.format("'%s'", key))
+				.collect(Collectors.joining(", ")));
 	}
 
 	@SuppressWarnings("unused")
@@ -359,9 +542,8 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 	private String generateIndexName(GemfirePersistentEntity persistentEntity,
 			GemfirePersistentProperty persistentProperty, IndexType indexType) {
 
-		return String.format("%1$s%2$s%3$sIdx", persistentEntity.getRegionName(),
-			StringUtils.capitalize(persistentProperty.getName()),
-				StringUtils.capitalize(indexType.name().toLowerCase()));
+		return EntityIndexes.generateIndexName(persistentEntity.getRegionName(), persistentProperty.getName(),
+			indexType);
 	}
 
 	@SuppressWarnings("unused")
@@ -372,6 +554,11 @@ public class IndexConfiguration extends EntityDefinedRegionsConfiguration {
 			? indexedAttributes.getEnum("type")
 			: null;
 
-		return Optional.ofNullable(resolvedIndexType).orElse(indexType);
+		resolvedIndexType = Optional.ofNullable(resolvedIndexType).orElse(indexType);
+
+		// Map Indexes are only supported as FUNCTIONAL (range) Indexes
+		return resolveKeys(indexedAttributes).length > 0 && resolvedIndexType.isHash()
+			? IndexType.FUNCTIONAL
+			: resolvedIndexType;
 	}
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Annotation;
+
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.config.support.ParallelRegionStartupBeanFactoryPostProcessor;
+
+/**
+ * The {@link ParallelRegionStartupConfiguration} class is a Spring {@link ImportBeanDefinitionRegistrar}
+ * registering the {@link ParallelRegionStartupBeanFactoryPostProcessor} in the Spring application context
+ * when a Spring {@link org.springframework.context.annotation.Configuration @Configuration} annotated
+ * Pivotal GemFire cache application class is annotated with {@link EnableParallelRegionStartup}.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.support.BeanDefinitionRegistry
+ * @see org.springframework.context.annotation.ImportBeanDefinitionRegistrar
+ * @see org.springframework.data.gemfire.config.annotation.EnableParallelRegionStartup
+ * @see org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport
+ * @see org.springframework.data.gemfire.config.support.ParallelRegionStartupBeanFactoryPostProcessor
+ * @since 2.2.0
+ */
+public class ParallelRegionStartupConfiguration extends AbstractAnnotationConfigSupport
+		implements ImportBeanDefinitionRegistrar {
+
+	protected static final String PARALLEL_REGION_STARTUP_BEAN_FACTORY_POST_PROCESSOR_BEAN_NAME =
+		"parallelRegionStartupBeanFactoryPostProcessor";
+
+	@Override
+	protected Class<? extends Annotation> getAnnotationType() {
+		return EnableParallelRegionStartup.class;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void registerBeanDefinitions(AnnotationMetadata importingClassMetadata, BeanDefinitionRegistry registry) {
+
+		if (isAnnotationPresent(importingClassMetadata)
+				&& !registry.containsBeanDefinition(PARALLEL_REGION_STARTUP_BEAN_FACTORY_POST_PROCESSOR_BEAN_NAME)) {
+
+			AnnotationAttributes enableParallelRegionStartupAttributes =
+				getAnnotationAttributes(importingClassMetadata);
+
+			int poolSize = resolveProperty(cacheProperty("parallel-region-startup.pool-size"),
+				(Integer) enableParallelRegionStartupAttributes.get("poolSize"));
+
+			BeanDefinitionBuilder parallelRegionStartupBeanFactoryPostProcessor = BeanDefinitionBuilder
+				.rootBeanDefinition(ParallelRegionStartupBeanFactoryPostProcessor.class)
+				.setRole(AbstractBeanDefinition.ROLE_INFRASTRUCTURE);
+
+			if (poolSize > 0) {
+				parallelRegionStartupBeanFactoryPostProcessor.addPropertyValue("poolSize", poolSize);
+			}
+
+			registry.registerBeanDefinition(PARALLEL_REGION_STARTUP_BEAN_FACTORY_POST_PROCESSOR_BEAN_NAME,
+				parallelRegionStartupBeanFactoryPostProcessor.getBeanDefinition());
+		}
+	}
+}
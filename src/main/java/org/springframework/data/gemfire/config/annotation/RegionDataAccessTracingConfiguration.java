@@ -16,23 +16,87 @@
 
 package org.springframework.data.gemfire.config.annotation;
 
+import java.lang.annotation.Annotation;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
  * The RegionDataAccessTracingConfiguration class...
  *
  * @author John Blum
+ * @see org.springframework.context.annotation.ImportAware
+ * @see org.springframework.data.gemfire.config.annotation.EnableRegionDataAccessTracing
+ * @see org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
  * @since 1.0.0
  */
 @Configuration
 @SuppressWarnings("unused")
-public class RegionDataAccessTracingConfiguration {
+public class RegionDataAccessTracingConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
+
+	private boolean aggregate = RegionDataAccessTracingAspect.DEFAULT_AGGREGATE;
+
+	private double sampleRate = RegionDataAccessTracingAspect.UNSET_SAMPLE_RATE;
+
+	private int stackDepth = RegionDataAccessTracingAspect.DEFAULT_STACK_DEPTH;
+
+	private long summaryIntervalSeconds = RegionDataAccessTracingAspect.DEFAULT_SUMMARY_INTERVAL_SECONDS;
+
+	/**
+	 * Returns the {@link EnableRegionDataAccessTracing} {@link Annotation} {@link Class} type.
+	 *
+	 * @return the {@link EnableRegionDataAccessTracing} {@link Annotation} {@link Class} type.
+	 * @see org.springframework.data.gemfire.config.annotation.EnableRegionDataAccessTracing
+	 * @see java.lang.annotation.Annotation
+	 */
+	@Override
+	protected Class<? extends Annotation> getAnnotationType() {
+		return EnableRegionDataAccessTracing.class;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importingClassMetadata) {
+
+		if (isAnnotationPresent(importingClassMetadata)) {
+
+			AnnotationAttributes enableRegionDataAccessTracingAttributes =
+				getAnnotationAttributes(importingClassMetadata);
+
+			this.aggregate = resolveProperty(regionDataAccessTracingProperty("aggregate"),
+				enableRegionDataAccessTracingAttributes.getBoolean("aggregate"));
+
+			this.sampleRate = resolveProperty(regionDataAccessTracingProperty("sample-rate"),
+				(Double) enableRegionDataAccessTracingAttributes.get("sampleRate"));
+
+			this.stackDepth = resolveProperty(regionDataAccessTracingProperty("stack-depth"),
+				(Integer) enableRegionDataAccessTracingAttributes.get("stackDepth"));
+
+			this.summaryIntervalSeconds = resolveProperty(regionDataAccessTracingProperty("summary-interval-seconds"),
+				(Long) enableRegionDataAccessTracingAttributes.get("summaryIntervalSeconds"));
+		}
+	}
+
+	private String regionDataAccessTracingProperty(String propertyNameSuffix) {
+		return String.format("%1$s%2$s", propertyName("region.data-access-tracing."), propertyNameSuffix);
+	}
 
 	/* (non-Javadoc) */
 	@Bean
 	public RegionDataAccessTracingAspect regionDataAccessTracingAspect() {
-		return new RegionDataAccessTracingAspect();
+
+		RegionDataAccessTracingAspect regionDataAccessTracingAspect = new RegionDataAccessTracingAspect();
+
+		regionDataAccessTracingAspect.setAggregate(this.aggregate);
+		regionDataAccessTracingAspect.setSampleRate(this.sampleRate);
+		regionDataAccessTracingAspect.setStackDepth(this.stackDepth);
+		regionDataAccessTracingAspect.setSummaryIntervalSeconds(this.summaryIntervalSeconds);
+
+		return regionDataAccessTracingAspect;
 	}
 }
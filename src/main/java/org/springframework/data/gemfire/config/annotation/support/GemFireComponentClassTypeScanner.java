@@ -22,11 +22,15 @@ import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Collectors;
 
@@ -36,9 +40,15 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
 /**
@@ -83,8 +93,13 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 			.collect(Collectors.toSet()));
 	}
 
+	private static final Map<Object, Map<String, Set<String>>> scanCache =
+		new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
+
 	private ClassLoader entityClassLoader;
 
+	private Object scanScope;
+
 	private ConfigurableApplicationContext applicationContext;
 
 	private Set<TypeFilter> excludes = new HashSet<>();
@@ -195,8 +210,14 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 	 * Scans the {@link Set} of base packages searching for Pivotal GemFire application components
 	 * accepted by the filters of this scanner.
 	 *
+	 * The candidate components are read from the compile-time {@link GemFireComponentIndex} when present
+	 * and the include filters only match indexed annotations.  When a {@link #withScanScope(Object) scan scope}
+	 * is set, the results of a scan are cached and shared by scanners in the same scope searching the same
+	 * base packages with the same annotation filters.
+	 *
 	 * @return a {@link Set} of Pivotal GemFire application component {@link Class} types found on the classpath.
 	 * @see #newClassPathScanningCandidateComponentProvider(boolean)
+	 * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentIndex
 	 * @see java.util.Set
 	 */
 	public Set<Class<?>> scan() {
@@ -205,26 +226,147 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 
 		ClassLoader entityClassLoader = getEntityClassLoader();
 
+		resolveComponentClassNames(entityClassLoader).forEach(componentClassName -> {
+			try {
+				componentClasses.add(ClassUtils.forName(componentClassName, entityClassLoader));
+			}
+			catch (ClassNotFoundException ignore) {
+				log.warn(String.format("Class for component type [%s] not found", componentClassName));
+			}
+		});
+
+		return componentClasses;
+	}
+
+	/**
+	 * Clears the results of previous scans shared between scanners.
+	 */
+	public static void clearScanCache() {
+		scanCache.clear();
+	}
+
+	/* (non-Javadoc) */
+	Set<String> resolveComponentClassNames(ClassLoader classLoader) {
+
+		String scanCacheKey = this.scanScope != null ? resolveScanCacheKey() : null;
+
+		if (scanCacheKey != null) {
+
+			Map<String, Set<String>> scopedScanCache =
+				scanCache.computeIfAbsent(this.scanScope, key -> new ConcurrentHashMap<>());
+
+			Set<String> componentClassNames = scopedScanCache.get(scanCacheKey);
+
+			if (componentClassNames == null) {
+				componentClassNames = Collections.unmodifiableSet(doResolveComponentClassNames(classLoader));
+				scopedScanCache.put(scanCacheKey, componentClassNames);
+			}
+
+			return componentClassNames;
+		}
+
+		return doResolveComponentClassNames(classLoader);
+	}
+
+	/**
+	 * Scan results are only shared when the scan is fully described by the base packages and the names
+	 * of the annotations matched by the include filters.
+	 */
+	private String resolveScanCacheKey() {
+
+		if (this.excludes.isEmpty() && !this.includes.isEmpty()
+				&& this.includes.stream().allMatch(this::isAnnotationTypeFilter)) {
+
+			return String.format("%1$s|%2$s", new TreeSet<>(this.basePackages), this.includes.stream()
+				.map(filter -> ((AnnotationTypeFilter) filter).getAnnotationType().getName())
+				.collect(Collectors.toCollection(TreeSet::new)));
+		}
+
+		return null;
+	}
+
+	private boolean isAnnotationTypeFilter(TypeFilter filter) {
+		return filter != null && AnnotationTypeFilter.class.equals(filter.getClass());
+	}
+
+	private Set<String> doResolveComponentClassNames(ClassLoader classLoader) {
+
+		GemFireComponentIndex index = isIndexable() ? GemFireComponentIndex.load(classLoader) : null;
+
+		return index != null ? findCandidateComponentClassNames(index, classLoader)
+			: scanCandidateComponentClassNames();
+	}
+
+	private boolean isIndexable() {
+
+		return !this.includes.isEmpty() && this.includes.stream().allMatch(filter -> isAnnotationTypeFilter(filter)
+			&& GemFireComponentIndex.REGION_STEREOTYPES.contains(
+				((AnnotationTypeFilter) filter).getAnnotationType().getName()));
+	}
+
+	private Set<String> findCandidateComponentClassNames(GemFireComponentIndex index, ClassLoader classLoader) {
+
+		Set<String> componentClassNames = new HashSet<>();
+
+		MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(classLoader);
+
+		for (String basePackage : this.basePackages) {
+			for (String candidateClassName
+					: index.getCandidateTypes(basePackage, GemFireComponentIndex.REGION_STEREOTYPES)) {
+				try {
+
+					MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(candidateClassName);
+
+					if (isCandidateComponent(metadataReader, metadataReaderFactory)) {
+						componentClassNames.add(candidateClassName);
+					}
+				}
+				catch (IOException cause) {
+					log.warn(String.format("Failed to read metadata for indexed component type [%s]",
+						candidateClassName), cause);
+				}
+			}
+		}
+
+		return componentClassNames;
+	}
+
+	private boolean isCandidateComponent(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory)
+			throws IOException {
+
+		for (TypeFilter exclude : this.excludes) {
+			if (exclude.match(metadataReader, metadataReaderFactory)) {
+				return false;
+			}
+		}
+
+		for (TypeFilter include : this.includes) {
+			if (include.match(metadataReader, metadataReaderFactory)) {
+
+				ClassMetadata classMetadata = metadataReader.getClassMetadata();
+
+				return classMetadata.isIndependent() && classMetadata.isConcrete();
+			}
+		}
+
+		return false;
+	}
+
+	private Set<String> scanCandidateComponentClassNames() {
+
+		Set<String> componentClassNames = ConcurrentHashMap.newKeySet();
+
 		ClassPathScanningCandidateComponentProvider componentProvider =
 			newClassPathScanningCandidateComponentProvider();
 
 		stream(this.spliterator(), true)
 			.flatMap(packageName -> componentProvider.findCandidateComponents(packageName).stream())
-			.forEach(beanDefinition -> {
+			.forEach(beanDefinition ->
 				Optional.ofNullable(beanDefinition.getBeanClassName())
 					.filter(StringUtils::hasText)
-					.ifPresent(beanClassName -> {
-						try {
-							componentClasses.add(ClassUtils.forName(beanClassName, entityClassLoader));
-						}
-						catch (ClassNotFoundException ignore) {
-							log.warn(String.format("Class for component type [%s] not found",
-								beanDefinition.getBeanClassName()));
-						}
-					});
-			});
+					.ifPresent(componentClassNames::add));
 
-		return componentClasses;
+		return componentClassNames;
 	}
 
 	/**
@@ -273,6 +415,21 @@ public class GemFireComponentClassTypeScanner implements Iterable<String> {
 		return this;
 	}
 
+	/**
+	 * Sets the scope in which the results of a scan are shared with other scanners, typically the
+	 * {@link org.springframework.beans.factory.support.BeanDefinitionRegistry} of the Spring container
+	 * being configured.  Scopes are referenced weakly, so the cached results are discarded along with
+	 * the Spring container, and a new container always scans the classpath again.
+	 *
+	 * @param scanScope {@link Object} identifying the scope in which scans are shared; may be {@literal null}
+	 * to disable sharing.
+	 * @return this {@link GemFireComponentClassTypeScanner}.
+	 */
+	public GemFireComponentClassTypeScanner withScanScope(Object scanScope) {
+		this.scanScope = scanScope;
+		return this;
+	}
+
 	/* (non-Javadoc) */
 	public GemFireComponentClassTypeScanner withExcludes(TypeFilter... excludes) {
 		return withExcludes(asSet(nullSafeArray(excludes, TypeFilter.class)));
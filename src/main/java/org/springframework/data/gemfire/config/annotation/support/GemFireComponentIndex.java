@@ -0,0 +1,181 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link GemFireComponentIndex} is a compile-time index of Pivotal GemFire/Apache Geode application components,
+ * such as {@link org.springframework.data.gemfire.mapping.annotation.Region} annotated persistent entities
+ * and function execution interfaces, generated by the {@link GemFireComponentIndexProcessor}.
+ *
+ * When the index is present on the classpath, component scanning reads the candidate components from the index
+ * rather than scanning the classpath.  Set the {@literal spring.data.gemfire.index.ignore} property
+ * to {@literal true} to ignore the index.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentClassTypeScanner
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentIndexProcessor
+ * @since 2.2.0
+ */
+public class GemFireComponentIndex {
+
+	public static final String COMPONENTS_RESOURCE_LOCATION = "META-INF/spring-data-gemfire.components";
+
+	public static final String IGNORE_INDEX_PROPERTY = "spring.data.gemfire.index.ignore";
+
+	/**
+	 * Names of the application persistent entity {@link java.lang.annotation.Annotation Annotations}
+	 * recorded in the index.
+	 */
+	public static final List<String> REGION_STEREOTYPES = Collections.unmodifiableList(Arrays.asList(
+		"org.springframework.data.gemfire.mapping.annotation.ClientRegion",
+		"org.springframework.data.gemfire.mapping.annotation.LocalRegion",
+		"org.springframework.data.gemfire.mapping.annotation.PartitionRegion",
+		"org.springframework.data.gemfire.mapping.annotation.Region",
+		"org.springframework.data.gemfire.mapping.annotation.ReplicateRegion"
+	));
+
+	/**
+	 * Names of the function execution {@link java.lang.annotation.Annotation Annotations} recorded in the index.
+	 */
+	public static final List<String> FUNCTION_EXECUTION_STEREOTYPES = Collections.unmodifiableList(Arrays.asList(
+		"org.springframework.data.gemfire.function.annotation.OnMember",
+		"org.springframework.data.gemfire.function.annotation.OnMembers",
+		"org.springframework.data.gemfire.function.annotation.OnRegion",
+		"org.springframework.data.gemfire.function.annotation.OnServer",
+		"org.springframework.data.gemfire.function.annotation.OnServers"
+	));
+
+	/**
+	 * Names of the {@link java.lang.annotation.Annotation Annotations} declared on methods of function
+	 * implementations and CQ listeners, which are recorded in the index against the declaring class.
+	 */
+	public static final List<String> METHOD_STEREOTYPES = Collections.unmodifiableList(Arrays.asList(
+		"org.springframework.data.gemfire.function.annotation.GemfireFunction",
+		"org.springframework.data.gemfire.listener.annotation.ContinuousQuery"
+	));
+
+	private static final Log logger = LogFactory.getLog(GemFireComponentIndex.class);
+
+	private static final Map<ClassLoader, Optional<GemFireComponentIndex>> cache = new ConcurrentReferenceHashMap<>();
+
+	private final Map<String, Set<String>> stereotypesByType;
+
+	/**
+	 * Loads the {@link GemFireComponentIndex} from all {@link #COMPONENTS_RESOURCE_LOCATION index resources}
+	 * visible to the given {@link ClassLoader}.
+	 *
+	 * @param classLoader {@link ClassLoader} used to find the index resources.
+	 * @return the {@link GemFireComponentIndex}, or {@literal null} if no index is present
+	 * or the index is ignored.
+	 */
+	public static GemFireComponentIndex load(ClassLoader classLoader) {
+
+		if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+			return null;
+		}
+
+		ClassLoader resolvedClassLoader = classLoader != null ? classLoader
+			: GemFireComponentIndex.class.getClassLoader();
+
+		return cache.computeIfAbsent(resolvedClassLoader, GemFireComponentIndex::doLoad).orElse(null);
+	}
+
+	private static Optional<GemFireComponentIndex> doLoad(ClassLoader classLoader) {
+
+		try {
+
+			Enumeration<URL> resources = classLoader.getResources(COMPONENTS_RESOURCE_LOCATION);
+
+			Map<String, Set<String>> stereotypesByType = new HashMap<>();
+
+			boolean found = false;
+
+			while (resources.hasMoreElements()) {
+
+				found = true;
+
+				Properties properties = new Properties();
+
+				try (InputStream in = resources.nextElement().openStream()) {
+					properties.load(in);
+				}
+
+				properties.stringPropertyNames().forEach(type ->
+					stereotypesByType.computeIfAbsent(type, key -> new HashSet<>())
+						.addAll(StringUtils.commaDelimitedListToSet(properties.getProperty(type))));
+			}
+
+			return found ? Optional.of(new GemFireComponentIndex(stereotypesByType)) : Optional.empty();
+		}
+		catch (IOException cause) {
+
+			logger.warn(String.format("Unable to load GemFire component index from [%s]; scanning the classpath",
+				COMPONENTS_RESOURCE_LOCATION), cause);
+
+			return Optional.empty();
+		}
+	}
+
+	GemFireComponentIndex(Map<String, Set<String>> stereotypesByType) {
+		this.stereotypesByType = stereotypesByType;
+	}
+
+	/**
+	 * Returns the names of the indexed types in the given base package, or any of its sub-packages,
+	 * having any of the given stereotypes.
+	 *
+	 * @param basePackage base package to search.
+	 * @param stereotypes {@link Collection} of stereotypes (fully-qualified annotation type names) to match.
+	 * @return the names of the matching indexed types.
+	 */
+	public Set<String> getCandidateTypes(String basePackage, Collection<String> stereotypes) {
+
+		String packagePrefix = StringUtils.hasText(basePackage) ? basePackage + "." : "";
+
+		Set<String> candidateTypes = new TreeSet<>();
+
+		this.stereotypesByType.forEach((type, typeStereotypes) -> {
+			if (type.startsWith(packagePrefix) && typeStereotypes.stream().anyMatch(stereotypes::contains)) {
+				candidateTypes.add(type);
+			}
+		});
+
+		return candidateTypes;
+	}
+}
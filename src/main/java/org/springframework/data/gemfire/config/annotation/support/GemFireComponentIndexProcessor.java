@@ -0,0 +1,233 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * {@link GemFireComponentIndexProcessor} is a Java annotation processor that generates
+ * the {@link GemFireComponentIndex} at compile-time, recording the application persistent entities, function
+ * execution interfaces, function implementations and CQ listeners declared by an application.
+ *
+ * The index is written to {@link GemFireComponentIndex#COMPONENTS_RESOURCE_LOCATION} as a {@link Properties} file
+ * mapping each type to its comma-delimited stereotypes (fully-qualified annotation type names).  Stereotypes
+ * are recorded whether declared directly or as meta-annotations of a composed annotation, matching the
+ * meta-annotation aware filters used when scanning the classpath.
+ *
+ * The processor is not registered automatically.  Enable it by adding Spring Data GemFire to the annotation processor
+ * path and naming it with the {@literal -processor} compiler option (e.g. in the
+ * {@literal maven-compiler-plugin} {@literal annotationProcessors} configuration).
+ *
+ * @author John Blum
+ * @see javax.annotation.processing.AbstractProcessor
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentIndex
+ * @since 2.2.0
+ */
+public class GemFireComponentIndexProcessor extends AbstractProcessor {
+
+	private static final Set<String> TYPE_STEREOTYPES;
+
+	static {
+
+		Set<String> typeStereotypes = new HashSet<>(GemFireComponentIndex.REGION_STEREOTYPES);
+
+		typeStereotypes.addAll(GemFireComponentIndex.FUNCTION_EXECUTION_STEREOTYPES);
+
+		TYPE_STEREOTYPES = Collections.unmodifiableSet(typeStereotypes);
+	}
+
+	private static final Set<String> METHOD_STEREOTYPES =
+		Collections.unmodifiableSet(new HashSet<>(GemFireComponentIndex.METHOD_STEREOTYPES));
+
+	private final Map<String, Set<String>> components = new TreeMap<>();
+
+	private final Set<String> processedTypes = new HashSet<>();
+
+	/**
+	 * All types are processed since a stereotype may be present as a meta-annotation
+	 * of an application-defined, composed annotation.
+	 */
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+
+		ElementFilter.typesIn(roundEnvironment.getRootElements()).forEach(this::processType);
+
+		if (roundEnvironment.processingOver()) {
+			writeIndex();
+		}
+
+		return false;
+	}
+
+	private void processType(TypeElement type) {
+
+		if (type.getKind() != ElementKind.ANNOTATION_TYPE) {
+
+			String typeName = getBinaryName(type);
+
+			this.processedTypes.add(typeName);
+
+			Set<String> stereotypes = new TreeSet<>();
+
+			collectStereotypes(type, TYPE_STEREOTYPES, stereotypes, new HashSet<>());
+
+			ElementFilter.methodsIn(type.getEnclosedElements()).forEach(method ->
+				collectStereotypes(method, METHOD_STEREOTYPES, stereotypes, new HashSet<>()));
+
+			if (!stereotypes.isEmpty()) {
+				this.components.put(typeName, stereotypes);
+			}
+		}
+
+		ElementFilter.typesIn(type.getEnclosedElements()).forEach(this::processType);
+	}
+
+	/**
+	 * Collects the given stereotypes declared on the {@link Element} either directly or as meta-annotations.
+	 */
+	private void collectStereotypes(Element element, Set<String> candidateStereotypes, Set<String> stereotypes,
+			Set<String> visitedAnnotationTypes) {
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+
+			String annotationTypeName = annotationType.getQualifiedName().toString();
+
+			if (candidateStereotypes.contains(annotationTypeName)) {
+				stereotypes.add(annotationTypeName);
+			}
+			else if (!annotationTypeName.startsWith("java.lang.annotation.")
+					&& visitedAnnotationTypes.add(annotationTypeName)) {
+
+				collectStereotypes(annotationType, candidateStereotypes, stereotypes, visitedAnnotationTypes);
+			}
+		}
+	}
+
+	private String getBinaryName(TypeElement type) {
+		return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void writeIndex() {
+
+		Map<String, Set<String>> existingIndex = readExistingIndex();
+
+		if (!this.components.isEmpty() || existingIndex != null) {
+
+			Map<String, Set<String>> index = existingIndex != null ? existingIndex : new TreeMap<>();
+
+			this.components.forEach(index::put);
+
+			try {
+
+				FileObject resource = this.processingEnv.getFiler()
+					.createResource(StandardLocation.CLASS_OUTPUT, "", GemFireComponentIndex.COMPONENTS_RESOURCE_LOCATION);
+
+				try (OutputStream out = resource.openOutputStream();
+					 Writer writer = new OutputStreamWriter(out, StandardCharsets.ISO_8859_1)) {
+
+					for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+						writer.write(String.format("%1$s=%2$s%n", entry.getKey(), String.join(",", entry.getValue())));
+					}
+				}
+			}
+			catch (IOException cause) {
+				this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(
+					"Failed to write GemFire component index [%1$s]: %2$s",
+						GemFireComponentIndex.COMPONENTS_RESOURCE_LOCATION, cause.getMessage()));
+			}
+		}
+	}
+
+	/**
+	 * Reads the index written by a previous, incremental compilation so that components compiled earlier
+	 * are preserved.
+	 *
+	 * Entries for types compiled by this compilation are dropped and replaced by the stereotypes found now,
+	 * and entries for types that no longer resolve (e.g. deleted or renamed types) are pruned.
+	 *
+	 * @return the existing index, or {@literal null} if no index was written by a previous compilation.
+	 */
+	private Map<String, Set<String>> readExistingIndex() {
+
+		Map<String, Set<String>> index = new TreeMap<>();
+
+		try {
+
+			FileObject resource = this.processingEnv.getFiler()
+				.getResource(StandardLocation.CLASS_OUTPUT, "", GemFireComponentIndex.COMPONENTS_RESOURCE_LOCATION);
+
+			Properties properties = new Properties();
+
+			try (InputStream in = resource.openInputStream()) {
+				properties.load(in);
+			}
+
+			properties.stringPropertyNames().stream()
+				.filter(type -> !this.processedTypes.contains(type))
+				.filter(this::isResolvable)
+				.forEach(type ->
+					index.put(type, new TreeSet<>(Arrays.asList(properties.getProperty(type).split(",")))));
+		}
+		catch (IOException | IllegalArgumentException ignore) {
+			// no index from a previous compilation
+			return null;
+		}
+
+		return index;
+	}
+
+	private boolean isResolvable(String binaryTypeName) {
+		return this.processingEnv.getElementUtils().getTypeElement(binaryTypeName.replace('$', '.')) != null;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * The {@link LazyRegion} interface is implemented by the {@link Region} proxies created by
+ * the {@link LazyRegionFactoryBean}, which create the actual {@link Region} on first use.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.annotation.support.LazyRegionFactoryBean
+ * @since 2.2.0
+ */
+public interface LazyRegion {
+
+	/**
+	 * Returns the key constraint of the {@link Region}, which is the declared key constraint
+	 * until the actual {@link Region} has been created.
+	 *
+	 * @return the {@link Class type} of the {@link Region} keys, or {@literal null} if unconstrained.
+	 * @see org.apache.geode.cache.RegionAttributes#getKeyConstraint()
+	 */
+	Class<?> getKeyConstraint();
+
+	/**
+	 * Returns the time taken to create the actual {@link Region}, in nanoseconds.
+	 *
+	 * @return the time taken to create the actual {@link Region}, or {@literal -1} if the {@link Region}
+	 * has not been created yet.
+	 */
+	long getMaterializationNanos();
+
+	/**
+	 * Determines whether the actual {@link Region} has been created.
+	 *
+	 * @return a boolean value indicating whether the actual {@link Region} has been created.
+	 */
+	boolean isMaterialized();
+
+}
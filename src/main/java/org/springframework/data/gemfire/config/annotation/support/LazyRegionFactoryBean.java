@@ -0,0 +1,313 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
+import org.springframework.data.gemfire.util.CacheUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * The {@link LazyRegionFactoryBean} class is a Spring {@link org.springframework.beans.factory.FactoryBean}
+ * that creates a lightweight {@link Region} proxy, which creates the actual {@link Region} on first use.
+ *
+ * The actual {@link Region} is configured by an {@literal abstract} bean definition, named after this bean
+ * with the {@link #REGION_DEFINITION_BEAN_NAME_SUFFIX}, so that it is neither created at startup nor matched
+ * by {@link Region} type lookups.  On first use, other than {@link Region#getName()} and {@link Region#getFullPath()},
+ * a concrete copy of the bean definition is registered and the {@link Region} is created by the Spring container
+ * along with any dependent beans, such as the {@link Region Region's} Indexes.
+ *
+ * Lazy {@link Region Regions} are only supported in a {@link ClientCache}.  A peer {@link Region} participates
+ * in data distribution, partitioning and redundancy as soon as it is created, so deferring its creation
+ * to the first local data access operation would leave the cluster without the {@link Region} on this member.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.client.ClientCache
+ * @see org.springframework.data.gemfire.config.annotation.support.CacheTypeAwareRegionFactoryBean
+ * @see org.springframework.data.gemfire.config.annotation.support.LazyRegion
+ * @see org.springframework.data.gemfire.support.AbstractFactoryBeanSupport
+ * @since 2.2.0
+ */
+@SuppressWarnings("unused")
+public class LazyRegionFactoryBean<K, V> extends AbstractFactoryBeanSupport<Region<K, V>> implements InitializingBean {
+
+	public static final String REGION_DEFINITION_BEAN_NAME_SUFFIX = ".lazyRegionDefinition";
+	public static final String REGION_TARGET_BEAN_NAME_SUFFIX = ".lazyRegionTarget";
+
+	private Class<K> keyConstraint;
+
+	private GemFireCache cache;
+
+	private List<String> dependentBeanNames = new ArrayList<>();
+
+	private Region<K, V> regionProxy;
+
+	private String regionName;
+
+	/**
+	 * Creates the lazy {@link Region} proxy.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void afterPropertiesSet() throws Exception {
+
+		Assert.state(getBeanFactory() instanceof ConfigurableListableBeanFactory,
+			"A ConfigurableListableBeanFactory is required to create lazy Regions");
+
+		String regionPath = resolveRegionPath();
+
+		if (!CacheUtils.isClient(this.cache)) {
+			throw newIllegalStateException("Lazy Region [%1$s] requires a ClientCache; peer cache [%2$s] Regions"
+				+ " must be created eagerly", regionPath, this.cache);
+		}
+
+		this.regionProxy = (Region<K, V>) Proxy.newProxyInstance(getClass().getClassLoader(),
+			new Class<?>[] { Region.class, LazyRegion.class }, new LazyRegionInvocationHandler(regionPath));
+	}
+
+	private String resolveRegionPath() {
+
+		String regionName = StringUtils.hasText(this.regionName) ? this.regionName : getBeanName();
+
+		return regionName.startsWith(Region.SEPARATOR) ? regionName : Region.SEPARATOR.concat(regionName);
+	}
+
+	/**
+	 * Creates the actual {@link Region} from the {@literal abstract} bean definition along with any dependent beans.
+	 *
+	 * @return the actual {@link Region}.
+	 */
+	@SuppressWarnings("unchecked")
+	Region<K, V> materialize() {
+
+		ConfigurableListableBeanFactory beanFactory = (ConfigurableListableBeanFactory) getBeanFactory();
+
+		String regionDefinitionBeanName = getBeanName() + REGION_DEFINITION_BEAN_NAME_SUFFIX;
+		String regionTargetBeanName = getBeanName() + REGION_TARGET_BEAN_NAME_SUFFIX;
+
+		if (!beanFactory.containsBeanDefinition(regionTargetBeanName)) {
+
+			RootBeanDefinition regionTargetBeanDefinition =
+				new RootBeanDefinition(beanFactory.getMergedBeanDefinition(regionDefinitionBeanName));
+
+			regionTargetBeanDefinition.setAbstract(false);
+			regionTargetBeanDefinition.setLazyInit(true);
+
+			((BeanDefinitionRegistry) beanFactory)
+				.registerBeanDefinition(regionTargetBeanName, regionTargetBeanDefinition);
+		}
+
+		Region<K, V> region = beanFactory.getBean(regionTargetBeanName, Region.class);
+
+		startLifecycle(beanFactory, regionTargetBeanName);
+
+		this.dependentBeanNames.forEach(beanFactory::getBean);
+
+		return region;
+	}
+
+	private void startLifecycle(BeanFactory beanFactory, String regionTargetBeanName) {
+
+		Object regionFactoryBean = beanFactory.getBean(BeanFactory.FACTORY_BEAN_PREFIX + regionTargetBeanName);
+
+		if (regionFactoryBean instanceof SmartLifecycle) {
+
+			SmartLifecycle lifecycle = (SmartLifecycle) regionFactoryBean;
+
+			if (lifecycle.isAutoStartup() && !lifecycle.isRunning()) {
+				lifecycle.start();
+			}
+		}
+	}
+
+	/**
+	 * Returns the lazy {@link Region} proxy.
+	 *
+	 * @return the lazy {@link Region} proxy.
+	 */
+	@Override
+	public Region<K, V> getObject() throws Exception {
+		return this.regionProxy;
+	}
+
+	@Override
+	public Class<?> getObjectType() {
+		return Region.class;
+	}
+
+	/**
+	 * Sets the {@link ClientCache} in which the actual {@link Region} will be created.
+	 *
+	 * @param cache {@link GemFireCache} in which the actual {@link Region} will be created;
+	 * must be a {@link ClientCache}.
+	 */
+	public void setCache(GemFireCache cache) {
+		this.cache = cache;
+	}
+
+	protected GemFireCache getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * Sets the names of beans, such as Indexes, that must be created once the actual {@link Region} is created.
+	 *
+	 * @param dependentBeanNames {@link List} of bean names dependent on the actual {@link Region}.
+	 */
+	public void setDependentBeanNames(List<String> dependentBeanNames) {
+		this.dependentBeanNames = dependentBeanNames != null ? new ArrayList<>(dependentBeanNames) : new ArrayList<>();
+	}
+
+	protected List<String> getDependentBeanNames() {
+		return Collections.unmodifiableList(this.dependentBeanNames);
+	}
+
+	public void setRegionName(String regionName) {
+		this.regionName = regionName;
+	}
+
+	protected String getRegionName() {
+		return this.regionName;
+	}
+
+	/**
+	 * Sets the key constraint declared for the actual {@link Region}, which is reported by
+	 * {@link LazyRegion#getKeyConstraint()} without creating the {@link Region}.
+	 *
+	 * @param keyConstraint {@link Class type} of the {@link Region} keys.
+	 */
+	public void setKeyConstraint(Class<K> keyConstraint) {
+		this.keyConstraint = keyConstraint;
+	}
+
+	protected Class<K> getKeyConstraint() {
+		return this.keyConstraint;
+	}
+
+	/**
+	 * {@link InvocationHandler} answering {@link Region} identity operations from the {@link Region} path
+	 * and creating the actual {@link Region} on first use of any other operation.
+	 */
+	private final class LazyRegionInvocationHandler implements InvocationHandler {
+
+		private final String regionPath;
+		private final String regionSimpleName;
+
+		private volatile long materializationNanos = -1L;
+
+		private volatile Region<K, V> region;
+
+		private LazyRegionInvocationHandler(String regionPath) {
+			this.regionPath = regionPath;
+			this.regionSimpleName = regionPath.substring(regionPath.lastIndexOf(Region.SEPARATOR) + 1);
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+			boolean noArguments = args == null || args.length == 0;
+
+			switch (method.getName()) {
+				case "equals":
+					return !noArguments && proxy == args[0];
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "toString":
+					return String.format("LazyRegion [%1$s] materialized [%2$s]", this.regionPath, isMaterialized());
+				case "getName":
+					if (noArguments) {
+						return this.regionSimpleName;
+					}
+					break;
+				case "getFullPath":
+					if (noArguments) {
+						return this.regionPath;
+					}
+					break;
+				case "getKeyConstraint":
+					return isMaterialized() ? this.region.getAttributes().getKeyConstraint() : getKeyConstraint();
+				case "getMaterializationNanos":
+					return this.materializationNanos;
+				case "isMaterialized":
+					return isMaterialized();
+			}
+
+			try {
+				return method.invoke(resolveRegion(), args);
+			}
+			catch (InvocationTargetException cause) {
+				throw cause.getTargetException();
+			}
+		}
+
+		private boolean isMaterialized() {
+			return this.region != null;
+		}
+
+		private Region<K, V> resolveRegion() {
+
+			Region<K, V> region = this.region;
+
+			if (region == null) {
+				synchronized (this) {
+
+					region = this.region;
+
+					if (region == null) {
+
+						long startTime = System.nanoTime();
+
+						region = materialize();
+
+						if (region == null) {
+							throw newIllegalStateException("Lazy Region [%s] could not be created", this.regionPath);
+						}
+
+						this.materializationNanos = System.nanoTime() - startTime;
+						this.region = region;
+
+						logInfo("Created lazy Region [%1$s] on first use in [%2$d] ms", this.regionPath,
+							TimeUnit.NANOSECONDS.toMillis(this.materializationNanos));
+					}
+				}
+			}
+
+			return region;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.geode.cache.Region;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link LazyRegionMetrics} reports which {@link LazyRegion lazy Regions} declared in the Spring container
+ * have been created (materialized) on first use, and how long each took to create.
+ *
+ * @author John Blum
+ * @see org.springframework.beans.factory.BeanFactoryAware
+ * @see org.springframework.data.gemfire.config.annotation.support.LazyRegion
+ * @see org.springframework.data.gemfire.config.annotation.support.LazyRegionFactoryBean
+ * @since 2.2.0
+ */
+public class LazyRegionMetrics implements BeanFactoryAware {
+
+	private ListableBeanFactory beanFactory;
+
+	@Override
+	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+
+		Assert.isInstanceOf(ListableBeanFactory.class, beanFactory,
+			"A ListableBeanFactory is required to report lazy Region metrics");
+
+		this.beanFactory = (ListableBeanFactory) beanFactory;
+	}
+
+	/**
+	 * Returns the materialization time, in nanoseconds, of every {@link LazyRegion} keyed by {@link Region} path,
+	 * with a value of {@literal -1} for {@link Region Regions} that have not been created yet.
+	 *
+	 * @return the materialization time of every {@link LazyRegion} keyed by {@link Region} path.
+	 */
+	public Map<String, Long> getLazyRegions() {
+
+		Map<String, Long> lazyRegions = new TreeMap<>();
+
+		if (this.beanFactory != null) {
+			this.beanFactory.getBeansOfType(Region.class, false, false).values().stream()
+				.filter(LazyRegion.class::isInstance)
+				.forEach(region ->
+					lazyRegions.put(region.getFullPath(), ((LazyRegion) region).getMaterializationNanos()));
+		}
+
+		return lazyRegions;
+	}
+
+	/**
+	 * Returns the paths of the {@link LazyRegion lazy Regions} that have been created on first use.
+	 *
+	 * @return the paths of the {@link LazyRegion lazy Regions} that have been created.
+	 */
+	public Set<String> getMaterializedRegions() {
+
+		Map<String, Long> lazyRegions = getLazyRegions();
+
+		lazyRegions.values().removeIf(materializationNanos -> materializationNanos < 0);
+
+		return lazyRegions.keySet();
+	}
+
+	@Override
+	public String toString() {
+
+		Map<String, Long> lazyRegions = getLazyRegions();
+
+		int lazyRegionCount = lazyRegions.size();
+
+		lazyRegions.values().removeIf(materializationNanos -> materializationNanos < 0);
+
+		return String.format("Materialized [%1$d] of [%2$d] lazy Regions %3$s", lazyRegions.size(),
+			lazyRegionCount, lazyRegions.keySet());
+	}
+}
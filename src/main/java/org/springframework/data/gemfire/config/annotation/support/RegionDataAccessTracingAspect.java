@@ -16,30 +16,83 @@
 
 package org.springframework.data.gemfire.config.annotation.support;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ObjectUtils;
 
 /**
  * The RegionDataAccessTracingAspect class...
  *
+ * By default, every {@link org.apache.geode.cache.Region} data access call is logged at {@literal TRACE} level
+ * along with the caller's stack trace.  The stack trace is only captured when {@literal TRACE} is enabled,
+ * bounded by the configured {@link #getStackDepth() stack depth} and only for the configured
+ * {@link #getSampleRate() sample rate} of calls.
+ *
+ * When {@link #isAggregate() aggregation} is enabled, sampled calls are not logged individually but rather
+ * timed and recorded by call site in {@link RegionDataAccessTracingStatistics}, which can be exported
+ * with {@link #getStatistics()} and is periodically logged at the configured
+ * {@link #getSummaryIntervalSeconds() summary interval}.  Resolving the call site still captures the caller's
+ * stack (Java 8 cannot walk a partial stack), so aggregation samples {@link #DEFAULT_AGGREGATE_SAMPLE_RATE 1%}
+ * of calls unless a sample rate is set explicitly.  Call sites are recorded as {@link CallSite} keys,
+ * which are only rendered as {@link String Strings} when the statistics are summarized.
+ *
  * @author John Blum
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingStatistics
  * @since 1.0.0
  */
 @Aspect
 @SuppressWarnings("unused")
-public class RegionDataAccessTracingAspect {
+public class RegionDataAccessTracingAspect implements InitializingBean, DisposableBean {
+
+	public static final boolean DEFAULT_AGGREGATE = false;
+
+	public static final double DEFAULT_AGGREGATE_SAMPLE_RATE = 0.01d;
+	public static final double DEFAULT_SAMPLE_RATE = 1.0d;
+	public static final double UNSET_SAMPLE_RATE = -1.0d;
+
+	public static final int DEFAULT_STACK_DEPTH = Integer.MAX_VALUE;
+
+	public static final long DEFAULT_SUMMARY_INTERVAL_SECONDS = 60L;
+
+	private static final String[] EXCLUDED_CALL_SITE_CLASS_NAME_PREFIXES = {
+		"com.sun.proxy.",
+		"java.lang.reflect.",
+		"jdk.internal.reflect.",
+		"org.apache.geode.",
+		"org.aspectj.",
+		"org.springframework.aop.",
+		RegionDataAccessTracingAspect.class.getName(),
+		"sun.reflect.",
+	};
+
+	private boolean aggregate = DEFAULT_AGGREGATE;
+
+	private double sampleRate = UNSET_SAMPLE_RATE;
+
+	private int stackDepth = DEFAULT_STACK_DEPTH;
+
+	private long summaryIntervalSeconds = DEFAULT_SUMMARY_INTERVAL_SECONDS;
 
 	private final Logger logger = newLogger();
 
+	private final RegionDataAccessTracingStatistics statistics = new RegionDataAccessTracingStatistics();
+
+	private ScheduledExecutorService summaryExecutor;
+
 	/* (non-Javadoc) */
 	protected Logger newLogger() {
 		return LoggerFactory.getLogger(getClass());
@@ -48,11 +101,51 @@ public class RegionDataAccessTracingAspect {
 	/* (non-Javadoc) */
 	protected String getCurrentThreadStackTrace() {
 
-		StringWriter writer = new StringWriter();
+		StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+
+		int depth = Math.min(stackTrace.length, getStackDepth());
+
+		StringBuilder buffer = new StringBuilder(Throwable.class.getName());
+
+		for (int index = 0; index < depth; index++) {
+			buffer.append(System.lineSeparator()).append("\tat ").append(stackTrace[index]);
+		}
+
+		return buffer.toString();
+	}
+
+	/* (non-Javadoc) */
+	protected StackTraceElement getCurrentThreadCallSite() {
+
+		StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+
+		int depth = Math.min(stackTrace.length, getStackDepth());
+
+		for (int index = 0; index < depth; index++) {
+			if (isCallSite(stackTrace[index])) {
+				return stackTrace[index];
+			}
+		}
 
-		new Throwable().printStackTrace(new PrintWriter(writer));
+		return null;
+	}
+
+	/* (non-Javadoc) */
+	private boolean isCallSite(StackTraceElement stackTraceElement) {
+
+		String className = stackTraceElement.getClassName();
+
+		if (className.contains("$$")) {
+			return false;
+		}
+
+		for (String excludedClassNamePrefix : EXCLUDED_CALL_SITE_CLASS_NAME_PREFIXES) {
+			if (className.startsWith(excludedClassNamePrefix)) {
+				return false;
+			}
+		}
 
-		return writer.toString();
+		return true;
 	}
 
 	/* (non-Javadoc) */
@@ -60,6 +153,106 @@ public class RegionDataAccessTracingAspect {
 		return this.logger;
 	}
 
+	public void setAggregate(boolean aggregate) {
+		this.aggregate = aggregate;
+	}
+
+	public boolean isAggregate() {
+		return this.aggregate;
+	}
+
+	/**
+	 * Sets the fraction, between {@literal 0.0} and {@literal 1.0}, of calls that are traced.
+	 * A negative value resets the sample rate to the default for the configured mode.
+	 *
+	 * @param sampleRate fraction of calls that are traced.
+	 * @see #getSampleRate()
+	 */
+	public void setSampleRate(double sampleRate) {
+		this.sampleRate = sampleRate < 0.0d ? UNSET_SAMPLE_RATE : Math.min(sampleRate, 1.0d);
+	}
+
+	/**
+	 * Returns the fraction of calls that are traced, defaulting to {@link #DEFAULT_AGGREGATE_SAMPLE_RATE}
+	 * when {@link #isAggregate() aggregating} and {@link #DEFAULT_SAMPLE_RATE} otherwise.
+	 *
+	 * @return the fraction of calls that are traced.
+	 */
+	public double getSampleRate() {
+
+		double sampleRate = this.sampleRate;
+
+		return sampleRate >= 0.0d ? sampleRate
+			: isAggregate() ? DEFAULT_AGGREGATE_SAMPLE_RATE
+			: DEFAULT_SAMPLE_RATE;
+	}
+
+	public void setStackDepth(int stackDepth) {
+		this.stackDepth = stackDepth > 0 ? stackDepth : DEFAULT_STACK_DEPTH;
+	}
+
+	public int getStackDepth() {
+		return this.stackDepth;
+	}
+
+	public void setSummaryIntervalSeconds(long summaryIntervalSeconds) {
+		this.summaryIntervalSeconds = summaryIntervalSeconds;
+	}
+
+	public long getSummaryIntervalSeconds() {
+		return this.summaryIntervalSeconds;
+	}
+
+	/**
+	 * Returns the {@link RegionDataAccessTracingStatistics} aggregated by this aspect
+	 * when {@link #isAggregate() aggregation} is enabled.
+	 *
+	 * @return the {@link RegionDataAccessTracingStatistics} aggregated by this aspect.
+	 * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingStatistics
+	 */
+	public RegionDataAccessTracingStatistics getStatistics() {
+		return this.statistics;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+
+		if (isAggregate() && getSummaryIntervalSeconds() > 0) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("RegionDataAccessTracingSummary-");
+
+			threadFactory.setDaemon(true);
+
+			this.summaryExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+			this.summaryExecutor.scheduleAtFixedRate(this::logSummary, getSummaryIntervalSeconds(),
+				getSummaryIntervalSeconds(), TimeUnit.SECONDS);
+		}
+	}
+
+	@Override
+	public void destroy() {
+
+		Optional.ofNullable(this.summaryExecutor).ifPresent(ScheduledExecutorService::shutdownNow);
+
+		this.summaryExecutor = null;
+	}
+
+	/* (non-Javadoc) */
+	protected void logSummary() {
+
+		if (getLogger().isInfoEnabled()) {
+			getLogger().info(getStatistics().toSummary());
+		}
+	}
+
+	/* (non-Javadoc) */
+	protected boolean isSampled() {
+
+		double sampleRate = getSampleRate();
+
+		return sampleRate >= 1.0d || (sampleRate > 0.0d && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
 	/* (non-Javadoc) */
 	@Pointcut("target(org.apache.geode.cache.Region)")
 	private void regionPointcut() {}
@@ -90,10 +283,34 @@ public class RegionDataAccessTracingAspect {
 	private void regionDataAccessPointcut() {}
 
 	/* (non-Javadoc) */
-	@Before("regionPointcut() && regionDataAccessPointcut()")
-	public void regionDataAccessTracingAdvice(JoinPoint joinPoint) {
-		getLogger().trace("Region data access call [{}(..)] with stack trace [{}]",
-			toRegionMethodSignature(joinPoint), getCurrentThreadStackTrace());
+	@Around("regionPointcut() && regionDataAccessPointcut()")
+	public Object regionDataAccessTracingAdvice(ProceedingJoinPoint joinPoint) throws Throwable {
+
+		if (!isSampled()) {
+			return joinPoint.proceed();
+		}
+
+		if (isAggregate()) {
+
+			long startTime = System.nanoTime();
+
+			try {
+				return joinPoint.proceed();
+			}
+			finally {
+				long elapsedNanos = System.nanoTime() - startTime;
+
+				getStatistics().record(new CallSite(ObjectUtils.nullSafeClassName(joinPoint.getTarget()),
+					joinPoint.getSignature().getName(), getCurrentThreadCallSite()), elapsedNanos);
+			}
+		}
+
+		if (getLogger().isTraceEnabled()) {
+			getLogger().trace("Region data access call [{}(..)] with stack trace [{}]",
+				toRegionMethodSignature(joinPoint), getCurrentThreadStackTrace());
+		}
+
+		return joinPoint.proceed();
 	}
 
 	/* (non-Javadoc) */
@@ -101,8 +318,63 @@ public class RegionDataAccessTracingAspect {
 
 		return Optional.ofNullable(joinPoint)
 			.map(JoinPoint::getSignature)
-			.map(signature ->
-				String.format("%1$s.%2$s", ObjectUtils.nullSafeClassName(joinPoint.getTarget()), signature.getName()))
+			.map(signature -> ObjectUtils.nullSafeClassName(joinPoint.getTarget()) + "." + signature.getName())
 			.orElse("");
 	}
+
+	/**
+	 * Identifies the {@link org.apache.geode.cache.Region} method called and the application {@link StackTraceElement}
+	 * from which it was called.  The {@link String} form is only built when the statistics are summarized.
+	 */
+	public static final class CallSite {
+
+		private final String regionType;
+		private final String methodName;
+
+		private final StackTraceElement caller;
+
+		CallSite(String regionType, String methodName, StackTraceElement caller) {
+
+			this.regionType = regionType;
+			this.methodName = methodName;
+			this.caller = caller;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CallSite)) {
+				return false;
+			}
+
+			CallSite that = (CallSite) obj;
+
+			return this.methodName.equals(that.methodName)
+				&& this.regionType.equals(that.regionType)
+				&& ObjectUtils.nullSafeEquals(this.caller, that.caller);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashValue = 17;
+
+			hashValue = 37 * hashValue + this.regionType.hashCode();
+			hashValue = 37 * hashValue + this.methodName.hashCode();
+			hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(this.caller);
+
+			return hashValue;
+		}
+
+		@Override
+		public String toString() {
+
+			return this.regionType + "." + this.methodName + "(..) from "
+				+ (this.caller != null ? this.caller : RegionDataAccessTracingStatistics.OVERFLOW_CALL_SITE);
+		}
+	}
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RegionDataAccessTracingStatistics} class aggregates sampled {@link org.apache.geode.cache.Region}
+ * data access calls into per call site counters and latency histograms.
+ *
+ * Latencies are recorded in power-of-two microsecond buckets, where bucket {@literal 0} counts calls completing
+ * in under {@literal 1} microsecond and bucket {@literal n} counts calls completing in
+ * {@literal [2^(n-1), 2^n)} microseconds; the last bucket is unbounded.
+ *
+ * The number of distinct call sites tracked is bounded.  Calls from call sites beyond the bound are aggregated
+ * under the {@link #OVERFLOW_CALL_SITE} entry.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.atomic.LongAdder
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
+ * @since 2.2.0
+ */
+public class RegionDataAccessTracingStatistics {
+
+	public static final int DEFAULT_MAXIMUM_CALL_SITES = 1000;
+	public static final int HISTOGRAM_BUCKET_COUNT = 32;
+
+	public static final String OVERFLOW_CALL_SITE = "<other>";
+
+	private final int maximumCallSites;
+
+	private final ConcurrentMap<Object, CallSiteStatistics> callSiteStatistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link RegionDataAccessTracingStatistics} tracking
+	 * up to {@link #DEFAULT_MAXIMUM_CALL_SITES} distinct call sites.
+	 */
+	public RegionDataAccessTracingStatistics() {
+		this(DEFAULT_MAXIMUM_CALL_SITES);
+	}
+
+	/**
+	 * Constructs a new instance of {@link RegionDataAccessTracingStatistics} tracking
+	 * up to the given number of distinct call sites.
+	 *
+	 * @param maximumCallSites maximum number of distinct call sites tracked.
+	 * @throws IllegalArgumentException if {@code maximumCallSites} is less than {@literal 1}.
+	 */
+	public RegionDataAccessTracingStatistics(int maximumCallSites) {
+
+		if (maximumCallSites < 1) {
+			throw newIllegalArgumentException("Maximum call sites [%d] must be greater than 0", maximumCallSites);
+		}
+
+		this.maximumCallSites = maximumCallSites;
+	}
+
+	/**
+	 * Returns the maximum number of distinct call sites tracked.
+	 *
+	 * @return the maximum number of distinct call sites tracked.
+	 */
+	public int getMaximumCallSites() {
+		return this.maximumCallSites;
+	}
+
+	/**
+	 * Records a single {@link org.apache.geode.cache.Region} data access call from the given call site.
+	 *
+	 * The call site is compared with {@link Object#equals(Object)} and only rendered with
+	 * {@link Object#toString()} in a {@link #snapshot()}, so callers can avoid building a {@link String} per call.
+	 *
+	 * @param callSite {@link Object} identifying the call site; must not be {@literal null}.
+	 * @param elapsedNanos latency of the call in nanoseconds.
+	 * @throws IllegalArgumentException if {@code callSite} is {@literal null}.
+	 */
+	public void record(Object callSite, long elapsedNanos) {
+
+		Assert.notNull(callSite, "Call site must not be null");
+
+		CallSiteStatistics statistics = this.callSiteStatistics.get(callSite);
+
+		if (statistics == null) {
+
+			Object resolvedCallSite = this.callSiteStatistics.size() < this.maximumCallSites
+				? callSite
+				: OVERFLOW_CALL_SITE;
+
+			statistics = this.callSiteStatistics.computeIfAbsent(resolvedCallSite, CallSiteStatistics::new);
+		}
+
+		statistics.record(Math.max(elapsedNanos, 0L));
+	}
+
+	/**
+	 * Clears all recorded statistics.
+	 */
+	public void reset() {
+		this.callSiteStatistics.clear();
+	}
+
+	/**
+	 * Returns a point-in-time snapshot of the recorded statistics, one {@link CallSiteSnapshot} per call site,
+	 * ordered by call count in descending order.
+	 *
+	 * @return a {@link List} of {@link CallSiteSnapshot CallSiteSnapshots}.
+	 * @see CallSiteSnapshot
+	 */
+	public List<CallSiteSnapshot> snapshot() {
+
+		List<CallSiteSnapshot> snapshots = new ArrayList<>(this.callSiteStatistics.size());
+
+		this.callSiteStatistics.values().forEach(statistics -> snapshots.add(statistics.snapshot()));
+
+		snapshots.sort(Comparator.comparingLong(CallSiteSnapshot::getCount).reversed()
+			.thenComparing(CallSiteSnapshot::getCallSite));
+
+		return Collections.unmodifiableList(snapshots);
+	}
+
+	/**
+	 * Returns a multi-line, human-readable summary of the recorded statistics.
+	 *
+	 * @return a {@link String} summarizing the recorded statistics.
+	 * @see #snapshot()
+	 */
+	public String toSummary() {
+
+		StringBuilder summary = new StringBuilder("Region data access summary:");
+
+		snapshot().forEach(snapshot -> summary.append(System.lineSeparator()).append('\t').append(snapshot));
+
+		return summary.toString();
+	}
+
+	static int toHistogramBucket(long elapsedNanos) {
+
+		long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+
+		return Math.min(Long.SIZE - Long.numberOfLeadingZeros(elapsedMicros), HISTOGRAM_BUCKET_COUNT - 1);
+	}
+
+	static final class CallSiteStatistics {
+
+		private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKET_COUNT);
+
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final Object callSite;
+
+		CallSiteStatistics(Object callSite) {
+			this.callSite = callSite;
+		}
+
+		void record(long elapsedNanos) {
+
+			this.count.increment();
+			this.totalNanos.add(elapsedNanos);
+			this.maxNanos.accumulate(elapsedNanos);
+			this.histogram.incrementAndGet(toHistogramBucket(elapsedNanos));
+		}
+
+		CallSiteSnapshot snapshot() {
+
+			long[] histogram = new long[HISTOGRAM_BUCKET_COUNT];
+
+			for (int index = 0; index < histogram.length; index++) {
+				histogram[index] = this.histogram.get(index);
+			}
+
+			return new CallSiteSnapshot(String.valueOf(this.callSite), this.count.sum(), this.totalNanos.sum(),
+				this.maxNanos.get(), histogram);
+		}
+	}
+
+	/**
+	 * Immutable, point-in-time view of the statistics recorded for a single call site.
+	 */
+	public static final class CallSiteSnapshot {
+
+		private final long count;
+		private final long maxNanos;
+		private final long totalNanos;
+
+		private final long[] histogram;
+
+		private final String callSite;
+
+		CallSiteSnapshot(String callSite, long count, long totalNanos, long maxNanos, long[] histogram) {
+
+			this.callSite = callSite;
+			this.count = count;
+			this.totalNanos = totalNanos;
+			this.maxNanos = maxNanos;
+			this.histogram = histogram;
+		}
+
+		public String getCallSite() {
+			return this.callSite;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+
+		public long[] getHistogram() {
+			return this.histogram.clone();
+		}
+
+		public long getMaxNanos() {
+			return this.maxNanos;
+		}
+
+		public long getMeanNanos() {
+			return this.count > 0 ? this.totalNanos / this.count : 0L;
+		}
+
+		public long getTotalNanos() {
+			return this.totalNanos;
+		}
+
+		/**
+		 * Returns the upper bound, in microseconds, of the histogram bucket containing the given percentile.
+		 *
+		 * @param percentile {@link Double} value between {@literal 0.0} and {@literal 1.0}.
+		 * @return the upper bound in microseconds of the histogram bucket containing the given percentile,
+		 * or {@link Long#MAX_VALUE} if the percentile falls in the last, unbounded bucket.
+		 */
+		public long getPercentileUpperBoundMicros(double percentile) {
+
+			Assert.isTrue(percentile >= 0.0d && percentile <= 1.0d,
+				() -> String.format("Percentile [%s] must be between 0.0 and 1.0", percentile));
+
+			long threshold = (long) Math.ceil(this.count * percentile);
+			long cumulativeCount = 0L;
+
+			for (int index = 0; index < this.histogram.length; index++) {
+
+				cumulativeCount += this.histogram[index];
+
+				if (cumulativeCount >= threshold) {
+					return index < this.histogram.length - 1 ? 1L << index : Long.MAX_VALUE;
+				}
+			}
+
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public String toString() {
+
+			return String.format("%1$s count [%2$d] mean [%3$d us] p99 [<= %4$d us] max [%5$d us]",
+				getCallSite(), getCount(), TimeUnit.NANOSECONDS.toMicros(getMeanNanos()),
+				getPercentileUpperBoundMicros(0.99d), TimeUnit.NANOSECONDS.toMicros(getMaxNanos()));
+		}
+	}
+}
@@ -62,6 +62,27 @@ public class IndexDefinition extends SchemaObjectDefinition {
 		return new IndexDefinition(index);
 	}
 
+	/**
+	 * Factory method used to construct a new instance of {@link IndexDefinition} defined with the given name,
+	 * expression, {@literal FROM} clause and {@link IndexType}.
+	 *
+	 * @param name {@link String} containing the name of the {@link Index}.
+	 * @param expression {@link String} containing the indexed expression.
+	 * @param fromClause {@link String} containing the {@literal FROM} clause, such as a {@link Region} path.
+	 * @param indexType {@link IndexType} of the {@link Index}.
+	 * @return a new instance of {@link IndexDefinition}.
+	 * @throws IllegalArgumentException if the name is not specified.
+	 * @see org.springframework.data.gemfire.IndexType
+	 */
+	public static IndexDefinition from(String name, String expression, String fromClause, IndexType indexType) {
+
+		if (!StringUtils.hasText(name)) {
+			throw newIllegalArgumentException("Index name is required");
+		}
+
+		return new IndexDefinition(IndexWrapper.from(name, expression, fromClause, indexType)).as(indexType);
+	}
+
 	private transient Index index;
 
 	private IndexType indexType;
@@ -16,10 +16,20 @@
 
 package org.springframework.data.gemfire.config.support;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.query.Index;
 import org.apache.geode.cache.query.MultiIndexCreationException;
 import org.apache.geode.cache.query.QueryService;
 import org.springframework.context.ApplicationContext;
@@ -43,30 +53,117 @@ public class DefinedIndexesApplicationListener implements ApplicationListener<Co
 
 	protected final Log logger = initLogger();
 
+	private volatile IndexCreationReport indexCreationReport = new IndexCreationReport();
+
 	/**
 	 * Attempts to create all defined {@link org.apache.geode.cache.query.Index Indexes} using
 	 * the {@link QueryService}, {@literal defineXxxIndex(..)} API once the Spring {@link ApplicationContext}
 	 * has been refreshed.
 	 *
+	 * {@link org.apache.geode.cache.query.Index Indexes} defined in parallel mode are batched by
+	 * {@link org.apache.geode.cache.Region} using a separate {@link QueryService} per {@link org.apache.geode.cache.Region},
+	 * and the batches are created in parallel.
+	 *
 	 * @param event {@link ContextRefreshedEvent} fired when the Spring {@link ApplicationContext} gets refreshed.
 	 * @see org.springframework.context.event.ContextRefreshedEvent
 	 * @see org.apache.geode.cache.query.QueryService#createDefinedIndexes()
-	 * @see #getQueryService(ContextRefreshedEvent)
+	 * @see #getQueryServices(ApplicationContext)
 	 */
 	@Override
-	@SuppressWarnings("all")
 	public void onApplicationEvent(ContextRefreshedEvent event) {
 
-		Optional.ofNullable(getQueryService(event))
-			.ifPresent(queryService -> {
+		Map<String, QueryService> queryServices = getQueryServices(event.getApplicationContext());
+
+		IndexCreationReport indexCreationReport = new IndexCreationReport();
+
+		long startTime = System.nanoTime();
+
+		if (queryServices.size() > 1) {
+			createDefinedIndexesInParallel(queryServices, indexCreationReport);
+		}
+		else {
+			queryServices.forEach((batch, queryService) ->
+				createDefinedIndexes(batch, queryService, indexCreationReport));
+		}
+
+		indexCreationReport.setElapsedNanos(System.nanoTime() - startTime);
+
+		this.indexCreationReport = indexCreationReport;
+
+		if (!queryServices.isEmpty() && logger.isInfoEnabled()) {
+			logger.info(indexCreationReport);
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void createDefinedIndexesInParallel(Map<String, QueryService> queryServices,
+			IndexCreationReport indexCreationReport) {
+
+		int poolSize = Math.min(queryServices.size(), Runtime.getRuntime().availableProcessors());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(poolSize, runnable -> {
+
+			Thread thread = new Thread(runnable, "DefinedIndexesCreationThread");
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>(queryServices.size());
+
+			queryServices.forEach((batch, queryService) -> futures.add(executorService.submit(() ->
+				createDefinedIndexes(batch, queryService, indexCreationReport))));
+
+			for (Future<?> future : futures) {
 				try {
-					queryService.createDefinedIndexes();
+					future.get();
 				}
-				catch (MultiIndexCreationException cause) {
-					logger.warn(String.format("Failed to create pre-defined Indexes: %s", cause.getMessage()), cause);
-
+				catch (ExecutionException cause) {
+					logger.warn(String.format("Failed to create pre-defined Indexes: %s",
+						cause.getCause().getMessage()), cause.getCause());
 				}
-			});
+				catch (InterruptedException cause) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/* (non-Javadoc) */
+	private void createDefinedIndexes(String batch, QueryService queryService,
+			IndexCreationReport indexCreationReport) {
+
+		long startTime = System.nanoTime();
+
+		try {
+
+			List<Index> indexes = queryService.createDefinedIndexes();
+
+			indexCreationReport.add(batch, indexes != null ? indexes : Collections.emptyList(),
+				System.nanoTime() - startTime);
+		}
+		catch (MultiIndexCreationException cause) {
+			logger.warn(String.format("Failed to create pre-defined Indexes: %s", cause.getMessage()), cause);
+		}
+	}
+
+	/**
+	 * Returns the {@link IndexCreationReport} of the last time the defined
+	 * {@link org.apache.geode.cache.query.Index Indexes} were created.
+	 *
+	 * @return the {@link IndexCreationReport} of the last time the defined
+	 * {@link org.apache.geode.cache.query.Index Indexes} were created.
+	 * @see org.springframework.data.gemfire.config.support.IndexCreationReport
+	 */
+	public IndexCreationReport getIndexCreationReport() {
+		return this.indexCreationReport;
 	}
 
 	/* (non-Javadoc) */
@@ -75,9 +172,32 @@ public class DefinedIndexesApplicationListener implements ApplicationListener<Co
 	}
 
 	/* (non-Javadoc) */
-	private QueryService getQueryService(ContextRefreshedEvent event) {
+	private Map<String, QueryService> getQueryServices(ApplicationContext applicationContext) {
 
-		ApplicationContext applicationContext = event.getApplicationContext();
+		Map<String, QueryService> queryServices = new LinkedHashMap<>();
+
+		Optional.ofNullable(getQueryService(applicationContext))
+			.ifPresent(queryService -> queryServices.put(getQueryServiceBeanName(), queryService));
+
+		String regionQueryServiceBeanNamePrefix = getQueryServiceBeanName() + ".";
+
+		Map<String, QueryService> queryServiceBeans = applicationContext.getBeansOfType(QueryService.class);
+
+		if (queryServiceBeans != null) {
+			queryServiceBeans.forEach((beanName, queryService) -> {
+				if (beanName.startsWith(regionQueryServiceBeanNamePrefix)
+						&& queryServices.values().stream().noneMatch(it -> it == queryService)) {
+
+					queryServices.put(beanName.substring(regionQueryServiceBeanNamePrefix.length()), queryService);
+				}
+			});
+		}
+
+		return queryServices;
+	}
+
+	/* (non-Javadoc) */
+	private QueryService getQueryService(ApplicationContext applicationContext) {
 
 		String queryServiceBeanName = getQueryServiceBeanName();
 
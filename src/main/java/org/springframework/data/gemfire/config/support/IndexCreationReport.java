@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.query.Index;
+
+/**
+ * {@link IndexCreationReport} reports the time taken to create the defined {@link Index Indexes} at startup.
+ *
+ * Defined {@link Index Indexes} are created in batches, one batch per {@link org.apache.geode.cache.Region}
+ * when defined in parallel mode, and all {@link Index Indexes} in a batch are populated in a single pass over
+ * the {@link org.apache.geode.cache.Region}.  Therefore, each {@link Index} reports the time taken to create
+ * the batch it belongs to.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Index
+ * @see org.springframework.data.gemfire.config.support.DefinedIndexesApplicationListener
+ * @since 2.2.0
+ */
+public class IndexCreationReport {
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	private long elapsedNanos;
+
+	synchronized void add(String batch, List<Index> indexes, long elapsedNanos) {
+
+		for (Index index : indexes) {
+			this.entries.add(new Entry(index.getName(), batch, indexes.size(), elapsedNanos));
+		}
+	}
+
+	void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the total time taken to create all defined {@link Index Indexes}, in nanoseconds.
+	 *
+	 * @return the total time taken to create all defined {@link Index Indexes}.
+	 */
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * Returns an {@link Entry} for each created {@link Index}.
+	 *
+	 * @return an {@link Entry} for each created {@link Index}.
+	 */
+	public synchronized List<Entry> getEntries() {
+		return Collections.unmodifiableList(new ArrayList<>(this.entries));
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder report = new StringBuilder(String.format("Created [%1$d] Indexes in [%2$d] ms",
+			getEntries().size(), TimeUnit.NANOSECONDS.toMillis(getElapsedNanos())));
+
+		getEntries().forEach(entry -> report.append(System.lineSeparator()).append("\t").append(entry));
+
+		return report.toString();
+	}
+
+	/**
+	 * {@link Entry} records the creation of a single {@link Index}.
+	 */
+	public static final class Entry {
+
+		private final int batchSize;
+
+		private final long elapsedNanos;
+
+		private final String batch;
+		private final String indexName;
+
+		Entry(String indexName, String batch, int batchSize, long elapsedNanos) {
+			this.indexName = indexName;
+			this.batch = batch;
+			this.batchSize = batchSize;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public String getBatch() {
+			return this.batch;
+		}
+
+		public int getBatchSize() {
+			return this.batchSize;
+		}
+
+		public long getElapsedNanos() {
+			return this.elapsedNanos;
+		}
+
+		public String getIndexName() {
+			return this.indexName;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Index [%1$s] created in [%2$d] ms with [%3$d] Indexes of batch [%4$s]",
+				getIndexName(), TimeUnit.NANOSECONDS.toMillis(getElapsedNanos()), getBatchSize(), getBatch());
+		}
+	}
+}
@@ -0,0 +1,407 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.Region;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.config.TypedStringValue;
+import org.springframework.data.gemfire.DiskStoreFactoryBean;
+import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.util.ArrayUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link ParallelRegionStartupBeanFactoryPostProcessor} is a Spring
+ * {@link org.springframework.beans.factory.config.BeanFactoryPostProcessor} that orchestrates the startup of
+ * the {@link Region Regions} declared in the Spring container so that {@link Region Regions} are initialized
+ * off the Spring container {@link Thread}, concurrently with each other and with the creation of other beans.
+ *
+ * The dependency graph of each {@link Region} bean (its {@link org.apache.geode.cache.DiskStore},
+ * {@link org.apache.geode.cache.client.Pool}, parent and colocated {@link Region Regions}) is made explicit
+ * with {@literal depends-on}, as is the dependency of each OQL {@link org.apache.geode.cache.query.Index}
+ * on its {@link Region}.  Each {@link Region} bean is then configured with a startup {@link Executor} so that
+ * the {@link Region} is created, and persistent {@link Region Regions} are recovered from disk, on a separate
+ * {@link Thread} while the Spring container continues with the next bean.  A {@link Region} is only awaited when
+ * another bean depends on it, or after all singletons have been instantiated, at which point
+ * the {@link RegionStartupTimeline} is logged.
+ *
+ * {@link Region Regions} are not created while holding the cache monitor, so independent {@link Region Regions}
+ * are created and recovered from disk concurrently.  Only dependent {@link Region Regions} are serialized,
+ * by their {@literal depends-on} and parent references.  {@link org.apache.geode.cache.DiskStore DiskStores}
+ * and {@link org.apache.geode.cache.client.Pool Pools} only receive dependency edges; they are still initialized
+ * on the Spring container {@link Thread} before the {@link Region Regions} that use them.
+ *
+ * Beans accessing a {@link Region} by name from the cache rather than by injection must declare
+ * a {@literal depends-on} to the {@link Region} bean.
+ *
+ * Enable with {@link org.springframework.data.gemfire.config.annotation.EnableParallelRegionStartup}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.beans.factory.SmartInitializingSingleton
+ * @see org.springframework.data.gemfire.config.annotation.EnableParallelRegionStartup
+ * @see org.springframework.data.gemfire.ResolvableRegionFactoryBean#setStartupExecutor(Executor)
+ * @see org.springframework.data.gemfire.config.support.AbstractDependencyStructuringBeanFactoryPostProcessor
+ * @see org.springframework.data.gemfire.config.support.RegionStartupTimeline
+ * @since 2.2.0
+ */
+public class ParallelRegionStartupBeanFactoryPostProcessor extends AbstractDependencyStructuringBeanFactoryPostProcessor
+		implements DisposableBean, SmartInitializingSingleton {
+
+	protected static final String COLOCATED_WITH_PROPERTY = "colocatedWith";
+	protected static final String DISK_STORE_NAME_PROPERTY = "diskStoreName";
+	protected static final String FROM_PROPERTY = "from";
+	protected static final String NAME_PROPERTY = "name";
+	protected static final String PARENT_PROPERTY = "parent";
+	protected static final String PARTITION_ATTRIBUTES_PROPERTY = "partitionAttributes";
+	protected static final String POOL_NAME_PROPERTY = "poolName";
+	protected static final String REGION_NAME_PROPERTY = "regionName";
+	protected static final String STARTUP_EXECUTOR_PROPERTY = "startupExecutor";
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final AtomicInteger threadCount = new AtomicInteger(0);
+
+	private ConfigurableListableBeanFactory beanFactory;
+
+	private volatile ExecutorService executorService;
+
+	private int poolSize = Runtime.getRuntime().availableProcessors();
+
+	private final Map<String, Integer> regionLevels = new HashMap<>();
+
+	private final Map<String, Set<String>> regionDependencies = new LinkedHashMap<>();
+
+	private volatile RegionStartupTimeline regionStartupTimeline = new RegionStartupTimeline();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+
+		this.beanFactory = beanFactory;
+
+		Map<String, BeanDefinition> indexBeans = new LinkedHashMap<>();
+		Map<String, BeanDefinition> regionBeans = new LinkedHashMap<>();
+		Map<String, String> regionBeanNamesByRegionName = new HashMap<>();
+
+		Set<String> diskStoreBeanNames = new HashSet<>();
+		Set<String> poolBeanNames = new HashSet<>();
+
+		Arrays.stream(beanFactory.getBeanDefinitionNames()).forEach(beanName -> {
+
+			BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+
+			if (isRegionBean(beanDefinition)) {
+				regionBeans.put(beanName, beanDefinition);
+				regionBeanNamesByRegionName.put(resolveRegionName(beanName, beanDefinition), beanName);
+			}
+			else if (isBeanDefinitionOfType(beanDefinition, DiskStoreFactoryBean.class)) {
+				diskStoreBeanNames.add(beanName);
+			}
+			else if (isPoolBean(beanDefinition)) {
+				poolBeanNames.add(beanName);
+			}
+			else if (isBeanDefinitionOfType(beanDefinition, IndexFactoryBean.class)) {
+				indexBeans.put(beanName, beanDefinition);
+			}
+		});
+
+		regionBeans.forEach((regionBeanName, regionBean) -> {
+
+			Set<String> dependencies = new LinkedHashSet<>();
+
+			getStringPropertyValue(regionBean, DISK_STORE_NAME_PROPERTY)
+				.filter(diskStoreBeanNames::contains)
+				.ifPresent(dependencies::add);
+
+			getStringPropertyValue(regionBean, POOL_NAME_PROPERTY)
+				.filter(poolBeanNames::contains)
+				.ifPresent(dependencies::add);
+
+			getColocatedWith(beanFactory, regionBean)
+				.map(colocatedWith -> findRegionBeanName(regionBeanNamesByRegionName, colocatedWith))
+				.ifPresent(dependencies::add);
+
+			addDependsOn(regionBean, dependencies.toArray(new String[0]));
+
+			getPropertyValue(regionBean, PARENT_PROPERTY)
+				.filter(RuntimeBeanReference.class::isInstance)
+				.map(parent -> ((RuntimeBeanReference) parent).getBeanName())
+				.ifPresent(dependencies::add);
+
+			Arrays.stream(ArrayUtils.nullSafeArray(regionBean.getDependsOn(), String.class))
+				.filter(regionBeans::containsKey)
+				.forEach(dependencies::add);
+
+			this.regionDependencies.put(regionBeanName, dependencies);
+		});
+
+		indexBeans.values().forEach(indexBean ->
+			getStringPropertyValue(indexBean, FROM_PROPERTY)
+				.map(IndexFactoryBean::resolveRegionPath)
+				.map(regionPath -> findRegionBeanName(regionBeanNamesByRegionName, regionPath))
+				.ifPresent(regionBeanName -> addDependsOn(indexBean, regionBeanName)));
+
+		this.regionDependencies.keySet().forEach(regionBeanName -> {
+			resolveLevel(regionBeanName, new HashSet<>());
+			regionBeans.get(regionBeanName).getPropertyValues()
+				.add(STARTUP_EXECUTOR_PROPERTY, newStartupExecutor(regionBeanName));
+		});
+	}
+
+	private boolean isRegionBean(BeanDefinition beanDefinition) {
+
+		return !beanDefinition.isAbstract()
+			&& !beanDefinition.isLazyInit()
+			&& beanDefinition.isSingleton()
+			&& isBeanDefinitionOfType(beanDefinition, isRegionBeanType());
+	}
+
+	private String resolveRegionName(String beanName, BeanDefinition regionBean) {
+
+		return getStringPropertyValue(regionBean, REGION_NAME_PROPERTY)
+			.orElseGet(() -> getStringPropertyValue(regionBean, NAME_PROPERTY).orElse(beanName));
+	}
+
+	private String findRegionBeanName(Map<String, String> regionBeanNamesByRegionName, String regionPath) {
+
+		String regionName = regionPath.substring(regionPath.lastIndexOf(Region.SEPARATOR) + 1);
+
+		return regionBeanNamesByRegionName.get(regionName);
+	}
+
+	private Optional<String> getColocatedWith(ConfigurableListableBeanFactory beanFactory,
+			BeanDefinition regionBean) {
+
+		return getPropertyValue(regionBean, PARTITION_ATTRIBUTES_PROPERTY)
+			.map(partitionAttributes -> resolveBeanDefinition(beanFactory, partitionAttributes))
+			.flatMap(partitionAttributesBean -> getStringPropertyValue(partitionAttributesBean,
+				COLOCATED_WITH_PROPERTY));
+	}
+
+	private BeanDefinition resolveBeanDefinition(ConfigurableListableBeanFactory beanFactory, Object value) {
+
+		if (value instanceof BeanDefinition) {
+			return (BeanDefinition) value;
+		}
+		else if (value instanceof BeanDefinitionHolder) {
+			return ((BeanDefinitionHolder) value).getBeanDefinition();
+		}
+		else if (value instanceof RuntimeBeanReference) {
+
+			String beanName = ((RuntimeBeanReference) value).getBeanName();
+
+			return beanFactory.containsBeanDefinition(beanName) ? beanFactory.getBeanDefinition(beanName) : null;
+		}
+
+		return null;
+	}
+
+	private Optional<String> getStringPropertyValue(BeanDefinition beanDefinition, String propertyName) {
+
+		return getPropertyValue(beanDefinition, propertyName)
+			.map(value -> value instanceof TypedStringValue ? ((TypedStringValue) value).getValue() : value)
+			.filter(String.class::isInstance)
+			.map(String.class::cast)
+			.filter(StringUtils::hasText);
+	}
+
+	/**
+	 * Resolves the level of the {@link Region} in the startup dependency graph, which is {@literal 0}
+	 * for a {@link Region} that does not depend on any other {@link Region}.
+	 */
+	private int resolveLevel(String regionBeanName, Set<String> visiting) {
+
+		Integer level = this.regionLevels.get(regionBeanName);
+
+		if (level == null) {
+
+			level = 0;
+
+			if (visiting.add(regionBeanName)) {
+
+				for (String dependency : getDependencies(regionBeanName)) {
+					if (this.regionDependencies.containsKey(dependency)) {
+						level = Math.max(level, resolveLevel(dependency, visiting) + 1);
+					}
+				}
+
+				visiting.remove(regionBeanName);
+			}
+
+			this.regionLevels.put(regionBeanName, level);
+		}
+
+		return level;
+	}
+
+	/**
+	 * Returns the {@link String names} of the beans the given {@link Region} bean depends on.
+	 *
+	 * @param regionBeanName {@link String name} of the {@link Region} bean.
+	 * @return the {@link String names} of the beans the {@link Region} bean depends on.
+	 */
+	public Set<String> getDependencies(String regionBeanName) {
+		return Collections.unmodifiableSet(this.regionDependencies.getOrDefault(regionBeanName,
+			Collections.emptySet()));
+	}
+
+	/**
+	 * Returns the level of the given {@link Region} bean in the startup dependency graph.  {@link Region Regions}
+	 * at the same level do not depend on each other.
+	 *
+	 * @param regionBeanName {@link String name} of the {@link Region} bean.
+	 * @return the level of the {@link Region} bean in the startup dependency graph.
+	 */
+	public int getLevel(String regionBeanName) {
+		return this.regionLevels.getOrDefault(regionBeanName, 0);
+	}
+
+	/**
+	 * Sets the number of {@link Thread Threads} used to initialize {@link Region Regions}.  Defaults to the number
+	 * of available processors.
+	 *
+	 * @param poolSize number of {@link Thread Threads} used to initialize {@link Region Regions}.
+	 * @throws IllegalArgumentException if {@code poolSize} is less than {@literal 1}.
+	 */
+	public void setPoolSize(int poolSize) {
+
+		Assert.isTrue(poolSize > 0, "Pool size must be greater than 0");
+
+		this.poolSize = poolSize;
+	}
+
+	/**
+	 * Returns the number of {@link Thread Threads} used to initialize {@link Region Regions}.
+	 *
+	 * @return the number of {@link Thread Threads} used to initialize {@link Region Regions}.
+	 */
+	public int getPoolSize() {
+		return this.poolSize;
+	}
+
+	/**
+	 * Returns the {@link RegionStartupTimeline} recording the initialization of each {@link Region}.
+	 *
+	 * @return the {@link RegionStartupTimeline}.
+	 * @see org.springframework.data.gemfire.config.support.RegionStartupTimeline
+	 */
+	public RegionStartupTimeline getRegionStartupTimeline() {
+		return this.regionStartupTimeline;
+	}
+
+	/* (non-Javadoc) */
+	Executor newStartupExecutor(String regionBeanName) {
+
+		return command -> resolveExecutorService().execute(() -> {
+
+			long startNanos = System.nanoTime();
+
+			try {
+				command.run();
+			}
+			finally {
+				getRegionStartupTimeline().add(regionBeanName, getLevel(regionBeanName),
+					getDependencies(regionBeanName), Thread.currentThread().getName(), startNanos, System.nanoTime());
+			}
+		});
+	}
+
+	private synchronized ExecutorService resolveExecutorService() {
+
+		if (this.executorService == null) {
+
+			this.regionStartupTimeline = new RegionStartupTimeline();
+
+			this.executorService = Executors.newFixedThreadPool(getPoolSize(), runnable -> {
+
+				Thread thread = new Thread(runnable,
+					String.format("RegionStartupThread-%d", this.threadCount.incrementAndGet()));
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+		}
+
+		return this.executorService;
+	}
+
+	/**
+	 * Waits for all {@link Region Regions} to be initialized, failing the startup of the Spring container
+	 * if any {@link Region} could not be initialized, and logs the {@link RegionStartupTimeline}.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+
+		if (this.executorService != null && this.beanFactory != null) {
+			try {
+
+				this.regionDependencies.keySet().forEach(this.beanFactory::getBean);
+
+				RegionStartupTimeline regionStartupTimeline = getRegionStartupTimeline();
+
+				regionStartupTimeline.setElapsedNanos(System.nanoTime() - regionStartupTimeline.getStartNanos());
+
+				if (this.logger.isInfoEnabled()) {
+					this.logger.info(regionStartupTimeline);
+				}
+			}
+			finally {
+				shutdown();
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		shutdown();
+	}
+
+	private synchronized void shutdown() {
+
+		if (this.executorService != null) {
+			this.executorService.shutdownNow();
+			this.executorService = null;
+		}
+	}
+}
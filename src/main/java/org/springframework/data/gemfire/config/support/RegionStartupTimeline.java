@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+
+/**
+ * {@link RegionStartupTimeline} records when, on which {@link Thread} and for how long each {@link Region}
+ * was initialized at startup.
+ *
+ * {@link Region Regions} at the same level in the startup dependency graph do not depend on each other
+ * and may be initialized concurrently.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.support.ParallelRegionStartupBeanFactoryPostProcessor
+ * @since 2.2.0
+ */
+public class RegionStartupTimeline {
+
+	private final List<Entry> entries = new ArrayList<>();
+
+	private final long startNanos;
+
+	private long elapsedNanos;
+
+	RegionStartupTimeline() {
+		this(System.nanoTime());
+	}
+
+	RegionStartupTimeline(long startNanos) {
+		this.startNanos = startNanos;
+	}
+
+	synchronized void add(String regionBeanName, int level, Set<String> dependencies, String threadName,
+			long startNanos, long endNanos) {
+
+		this.entries.add(new Entry(regionBeanName, level, dependencies, threadName,
+			startNanos - this.startNanos, endNanos - startNanos));
+	}
+
+	long getStartNanos() {
+		return this.startNanos;
+	}
+
+	void setElapsedNanos(long elapsedNanos) {
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * Returns the total time taken to initialize all {@link Region Regions}, in nanoseconds.
+	 *
+	 * @return the total time taken to initialize all {@link Region Regions}.
+	 */
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	/**
+	 * Returns an {@link Entry} for each initialized {@link Region} in the order the initialization started.
+	 *
+	 * @return an {@link Entry} for each initialized {@link Region}.
+	 */
+	public synchronized List<Entry> getEntries() {
+
+		List<Entry> entries = new ArrayList<>(this.entries);
+
+		entries.sort(Comparator.comparingLong(Entry::getStartOffsetNanos));
+
+		return Collections.unmodifiableList(entries);
+	}
+
+	@Override
+	public String toString() {
+
+		List<Entry> entries = getEntries();
+
+		StringBuilder timeline = new StringBuilder(String.format("Initialized [%1$d] Regions in [%2$d] ms",
+			entries.size(), TimeUnit.NANOSECONDS.toMillis(getElapsedNanos())));
+
+		entries.forEach(entry -> timeline.append(System.lineSeparator()).append("\t").append(entry));
+
+		return timeline.toString();
+	}
+
+	/**
+	 * {@link Entry} records the initialization of a single {@link Region}.
+	 */
+	public static final class Entry {
+
+		private final int level;
+
+		private final long elapsedNanos;
+		private final long startOffsetNanos;
+
+		private final Set<String> dependencies;
+
+		private final String regionBeanName;
+		private final String threadName;
+
+		Entry(String regionBeanName, int level, Set<String> dependencies, String threadName,
+				long startOffsetNanos, long elapsedNanos) {
+
+			this.regionBeanName = regionBeanName;
+			this.level = level;
+			this.dependencies = Collections.unmodifiableSet(dependencies);
+			this.threadName = threadName;
+			this.startOffsetNanos = startOffsetNanos;
+			this.elapsedNanos = elapsedNanos;
+		}
+
+		public Set<String> getDependencies() {
+			return this.dependencies;
+		}
+
+		public long getElapsedNanos() {
+			return this.elapsedNanos;
+		}
+
+		public int getLevel() {
+			return this.level;
+		}
+
+		public String getRegionBeanName() {
+			return this.regionBeanName;
+		}
+
+		public long getStartOffsetNanos() {
+			return this.startOffsetNanos;
+		}
+
+		public String getThreadName() {
+			return this.threadName;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Region [%1$s] at level [%2$d] started at [+%3$d] ms on Thread [%4$s]"
+					+ " and took [%5$d] ms; depends on %6$s", getRegionBeanName(), getLevel(),
+				TimeUnit.NANOSECONDS.toMillis(getStartOffsetNanos()), getThreadName(),
+				TimeUnit.NANOSECONDS.toMillis(getElapsedNanos()), getDependencies());
+		}
+	}
+}
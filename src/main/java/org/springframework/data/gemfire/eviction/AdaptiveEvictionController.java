@@ -0,0 +1,718 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.eviction;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EvictionAlgorithm;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AdaptiveEvictionController} rebalances the Eviction maximum of {@link Region Regions} configured with
+ * {@link EvictionPolicyType#ENTRY_COUNT entry count} or {@link EvictionPolicyType#MEMORY_SIZE memory size}
+ * Eviction at runtime.
+ *
+ * On every evaluation, the controller measures JVM Heap usage and the percentage of time spent in garbage collection
+ * since the previous evaluation.  When either exceeds its target, the total Eviction budget of the managed
+ * {@link Region Regions} shrinks; when the JVM Heap is comfortably below its target, the budget grows.  The budget
+ * is then redistributed among the {@link Region Regions} in proportion to each {@link Region Region's} hit ratio
+ * since the previous evaluation, always within the declared minimum and maximum of each {@link Region}.
+ *
+ * Entry count and memory size budgets are rebalanced separately since the maximum is expressed in different units.
+ * The hit ratio of a {@link Region} is only available when statistics are enabled on the {@link Region};
+ * otherwise, a neutral weight is used and a warning is logged once for the {@link Region}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.EvictionAttributesMutator#setMaximum(int)
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.context.SmartLifecycle
+ * @since 2.2.0
+ */
+public class AdaptiveEvictionController implements SmartLifecycle {
+
+	public static final float DEFAULT_MAXIMUM_GC_TIME_PERCENTAGE = 5.0f;
+	public static final float DEFAULT_TARGET_HEAP_USAGE_PERCENTAGE = 75.0f;
+
+	public static final long DEFAULT_EVALUATION_INTERVAL_MILLISECONDS = TimeUnit.SECONDS.toMillis(30);
+
+	protected static final double ADJUSTMENT_FACTOR = 0.1d;
+	protected static final double HEAP_USAGE_HYSTERESIS_PERCENTAGE = 10.0d;
+	protected static final double MINIMUM_WEIGHT = 0.05d;
+	protected static final double NEUTRAL_WEIGHT = 0.5d;
+
+	protected static final int MAXIMUM_RECORDED_DECISIONS = 100;
+
+	private volatile boolean running = false;
+
+	private volatile double lastGcTimePercentage;
+	private volatile double lastHeapUsagePercentage;
+
+	private float maximumGcTimePercentage = DEFAULT_MAXIMUM_GC_TIME_PERCENTAGE;
+	private float targetHeapUsagePercentage = DEFAULT_TARGET_HEAP_USAGE_PERCENTAGE;
+
+	private long evaluationCount;
+	private long evaluationIntervalMillis = DEFAULT_EVALUATION_INTERVAL_MILLISECONDS;
+	private long lastEvaluationNanos = -1L;
+	private long lastGcTimeMillis;
+
+	private final LinkedList<Decision> decisions = new LinkedList<>();
+
+	protected final Log logger = LogFactory.getLog(getClass());
+
+	private final Map<String, ManagedRegion> managedRegions = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService scheduledExecutorService;
+
+	/**
+	 * Registers the {@link Region} with the given {@link String name} to be managed by this controller.
+	 *
+	 * The {@link Region} is resolved lazily, on the first evaluation after the {@link Region} becomes available.
+	 *
+	 * @param regionName {@link String name} of the {@link Region}.
+	 * @param region {@link Supplier} of the {@link Region}.
+	 * @param minimum lower bound of the Eviction maximum of the {@link Region}.
+	 * @param maximum upper bound of the Eviction maximum of the {@link Region}.
+	 * @throws IllegalArgumentException if the bounds are invalid.
+	 */
+	public void register(String regionName, Supplier<Region<?, ?>> region, int minimum, int maximum) {
+
+		Assert.hasText(regionName, "Region name is required");
+		Assert.notNull(region, "Region Supplier is required");
+
+		if (minimum < 1 || maximum < minimum) {
+			throw newIllegalArgumentException("Adaptive Eviction bounds [%1$d, %2$d] of Region [%3$s] are not valid",
+				minimum, maximum, regionName);
+		}
+
+		this.managedRegions.put(regionName, new ManagedRegion(regionName, region, minimum, maximum));
+	}
+
+	/**
+	 * Determines whether any {@link Region Regions} are managed by this controller.
+	 *
+	 * @return a boolean value indicating whether any {@link Region Regions} are managed by this controller.
+	 */
+	public boolean hasManagedRegions() {
+		return !this.managedRegions.isEmpty();
+	}
+
+	/**
+	 * Evaluates the JVM Heap usage, garbage collection time and hit ratio of each managed {@link Region}
+	 * and rebalances the Eviction maximum of the managed {@link Region Regions} accordingly.
+	 *
+	 * @return the {@link List} of {@link Decision Decisions} made during this evaluation.
+	 */
+	public synchronized List<Decision> evaluate() {
+
+		long nowNanos = System.nanoTime();
+		long gcTimeMillis = readGcTimeMillis();
+
+		double heapUsagePercentage = readHeapUsagePercentage();
+
+		double gcTimePercentage = this.lastEvaluationNanos < 0 ? 0.0d
+			: percentage(gcTimeMillis - this.lastGcTimeMillis,
+				TimeUnit.NANOSECONDS.toMillis(nowNanos - this.lastEvaluationNanos));
+
+		this.lastEvaluationNanos = nowNanos;
+		this.lastGcTimeMillis = gcTimeMillis;
+		this.lastGcTimePercentage = gcTimePercentage;
+		this.lastHeapUsagePercentage = heapUsagePercentage;
+		this.evaluationCount++;
+
+		double adjustment = resolveAdjustment(heapUsagePercentage, gcTimePercentage);
+
+		Map<Boolean, List<ManagedRegion>> regionsByMemorySize = this.managedRegions.values().stream()
+			.filter(this::resolve)
+			.collect(Collectors.partitioningBy(ManagedRegion::isMemorySize));
+
+		List<Decision> decisions = new ArrayList<>();
+
+		regionsByMemorySize.values().forEach(regions ->
+			decisions.addAll(rebalance(regions, adjustment, heapUsagePercentage, gcTimePercentage)));
+
+		recordDecisions(decisions);
+
+		return decisions;
+	}
+
+	private boolean resolve(ManagedRegion region) {
+
+		if (region.isResolved()) {
+			return true;
+		}
+		else if (region.resolve()) {
+
+			if (!region.isStatisticsEnabled()) {
+				warnStatisticsDisabled(region);
+			}
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private double sampleHitRatio(ManagedRegion region) {
+
+		try {
+			return region.sampleHitRatio();
+		}
+		catch (StatisticsDisabledException ignore) {
+
+			region.disableStatistics();
+			warnStatisticsDisabled(region);
+
+			return NEUTRAL_WEIGHT;
+		}
+	}
+
+	private void warnStatisticsDisabled(ManagedRegion region) {
+
+		if (this.logger.isWarnEnabled()) {
+			this.logger.warn(String.format("Statistics are disabled on Region [%s];"
+				+ " using a neutral hit ratio to rebalance its Eviction maximum", region.getName()));
+		}
+	}
+
+	private double resolveAdjustment(double heapUsagePercentage, double gcTimePercentage) {
+
+		if (heapUsagePercentage > getTargetHeapUsagePercentage() || gcTimePercentage > getMaximumGcTimePercentage()) {
+			return 1.0d - ADJUSTMENT_FACTOR;
+		}
+		else if (heapUsagePercentage < getTargetHeapUsagePercentage() - HEAP_USAGE_HYSTERESIS_PERCENTAGE) {
+			return 1.0d + ADJUSTMENT_FACTOR;
+		}
+
+		return 1.0d;
+	}
+
+	private List<Decision> rebalance(List<ManagedRegion> regions, double adjustment, double heapUsagePercentage,
+			double gcTimePercentage) {
+
+		if (regions.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		long currentBudget = 0L;
+		long minimumBudget = 0L;
+		long maximumBudget = 0L;
+
+		Map<ManagedRegion, Double> weights = new LinkedHashMap<>();
+
+		for (ManagedRegion region : regions) {
+			currentBudget += region.getCurrentMaximum();
+			minimumBudget += region.getMinimum();
+			maximumBudget += region.getMaximum();
+			weights.put(region, Math.max(sampleHitRatio(region), MINIMUM_WEIGHT));
+		}
+
+		long budget = Math.max(minimumBudget, Math.min(maximumBudget, Math.round(currentBudget * adjustment)));
+
+		Map<ManagedRegion, Integer> allocations = allocate(budget, weights);
+
+		List<Decision> decisions = new ArrayList<>();
+
+		allocations.forEach((region, newMaximum) -> {
+
+			int previousMaximum = region.getCurrentMaximum();
+
+			if (newMaximum != previousMaximum) {
+				region.setMaximum(newMaximum);
+				decisions.add(new Decision(region.getName(), previousMaximum, newMaximum, region.getLastHitRatio(),
+					heapUsagePercentage, gcTimePercentage));
+			}
+		});
+
+		return decisions;
+	}
+
+	/**
+	 * Allocates the budget in proportion to the weights by water-filling.  Each pass computes the proportional share
+	 * of the remaining budget for every unallocated {@link Region} and, when shares fall outside the bounds of their
+	 * {@link Region Regions}, fixes the {@link Region Regions} whose bound the net correction favors (the maximums
+	 * when clamping frees budget, the minimums when clamping consumes budget), removing both their allocation
+	 * and their weight before recomputing the shares, until every remaining share is within bounds.
+	 */
+	private Map<ManagedRegion, Integer> allocate(long budget, Map<ManagedRegion, Double> weights) {
+
+		Map<ManagedRegion, Integer> allocations = new LinkedHashMap<>();
+		Map<ManagedRegion, Double> unallocated = new LinkedHashMap<>(weights);
+
+		long remainingBudget = budget;
+
+		while (!unallocated.isEmpty()) {
+
+			double totalWeight = unallocated.values().stream().mapToDouble(Double::doubleValue).sum();
+
+			Map<ManagedRegion, Integer> maximumClamped = new LinkedHashMap<>();
+			Map<ManagedRegion, Integer> minimumClamped = new LinkedHashMap<>();
+
+			double correction = 0.0d;
+
+			for (Map.Entry<ManagedRegion, Double> entry : unallocated.entrySet()) {
+
+				ManagedRegion region = entry.getKey();
+
+				double share = remainingBudget * entry.getValue() / totalWeight;
+
+				if (share > region.getMaximum()) {
+					maximumClamped.put(region, region.getMaximum());
+					correction += region.getMaximum() - share;
+				}
+				else if (share < region.getMinimum()) {
+					minimumClamped.put(region, region.getMinimum());
+					correction += region.getMinimum() - share;
+				}
+			}
+
+			if (maximumClamped.isEmpty() && minimumClamped.isEmpty()) {
+				break;
+			}
+
+			// the opposite bound may no longer be violated once the freed (or consumed) budget is redistributed
+			Map<ManagedRegion, Integer> clamped = correction < 0.0d ? maximumClamped
+				: correction > 0.0d ? minimumClamped
+				: merge(maximumClamped, minimumClamped);
+
+			for (Map.Entry<ManagedRegion, Integer> entry : clamped.entrySet()) {
+				allocations.put(entry.getKey(), entry.getValue());
+				unallocated.remove(entry.getKey());
+				remainingBudget -= entry.getValue();
+			}
+		}
+
+		double totalWeight = unallocated.values().stream().mapToDouble(Double::doubleValue).sum();
+
+		long unallocatedBudget = Math.max(0L, remainingBudget);
+
+		unallocated.forEach((region, weight) ->
+			allocations.put(region, (int) Math.round(unallocatedBudget * weight / totalWeight)));
+
+		return allocations;
+	}
+
+	private Map<ManagedRegion, Integer> merge(Map<ManagedRegion, Integer> one, Map<ManagedRegion, Integer> two) {
+
+		Map<ManagedRegion, Integer> merged = new LinkedHashMap<>(one);
+
+		merged.putAll(two);
+
+		return merged;
+	}
+
+	private synchronized void recordDecisions(List<Decision> decisions) {
+
+		decisions.forEach(decision -> {
+
+			this.decisions.addLast(decision);
+
+			if (this.decisions.size() > MAXIMUM_RECORDED_DECISIONS) {
+				this.decisions.removeFirst();
+			}
+
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(decision);
+			}
+		});
+	}
+
+	private double percentage(long part, long whole) {
+		return whole > 0 ? Math.min(100.0d, part * 100.0d / whole) : 0.0d;
+	}
+
+	/**
+	 * Reads the percentage of the maximum JVM Heap currently used.
+	 *
+	 * @return the percentage of the maximum JVM Heap currently used.
+	 */
+	protected double readHeapUsagePercentage() {
+
+		MemoryUsage heapMemoryUsage = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+		long maximum = heapMemoryUsage.getMax() > 0 ? heapMemoryUsage.getMax() : heapMemoryUsage.getCommitted();
+
+		return maximum > 0 ? heapMemoryUsage.getUsed() * 100.0d / maximum : 0.0d;
+	}
+
+	/**
+	 * Reads the accumulated time spent in garbage collection by all collectors, in milliseconds.
+	 *
+	 * @return the accumulated time spent in garbage collection.
+	 */
+	protected long readGcTimeMillis() {
+
+		return ManagementFactory.getGarbageCollectorMXBeans().stream()
+			.mapToLong(GarbageCollectorMXBean::getCollectionTime)
+			.filter(collectionTime -> collectionTime > 0)
+			.sum();
+	}
+
+	/**
+	 * Returns the most recent {@link Decision Decisions} made by this controller, oldest first.
+	 *
+	 * @return the most recent {@link Decision Decisions} made by this controller.
+	 */
+	public synchronized List<Decision> getDecisions() {
+		return Collections.unmodifiableList(new ArrayList<>(this.decisions));
+	}
+
+	/**
+	 * Returns the number of evaluations performed by this controller.
+	 *
+	 * @return the number of evaluations performed by this controller.
+	 */
+	public synchronized long getEvaluationCount() {
+		return this.evaluationCount;
+	}
+
+	/**
+	 * Returns the percentage of time spent in garbage collection measured during the last evaluation.
+	 *
+	 * @return the percentage of time spent in garbage collection during the last evaluation.
+	 */
+	public double getLastGcTimePercentage() {
+		return this.lastGcTimePercentage;
+	}
+
+	/**
+	 * Returns the percentage of the maximum JVM Heap used measured during the last evaluation.
+	 *
+	 * @return the percentage of the maximum JVM Heap used during the last evaluation.
+	 */
+	public double getLastHeapUsagePercentage() {
+		return this.lastHeapUsagePercentage;
+	}
+
+	/**
+	 * Returns the current Eviction maximum of each managed {@link Region} by {@link Region} name.
+	 *
+	 * @return the current Eviction maximum of each managed {@link Region}.
+	 */
+	public Map<String, Integer> getRegionMaximums() {
+
+		return Collections.unmodifiableMap(this.managedRegions.values().stream()
+			.filter(ManagedRegion::isResolved)
+			.collect(Collectors.toMap(ManagedRegion::getName, ManagedRegion::getCurrentMaximum)));
+	}
+
+	public void setEvaluationIntervalMillis(long evaluationIntervalMillis) {
+
+		Assert.isTrue(evaluationIntervalMillis > 0, "Evaluation interval must be greater than 0");
+
+		this.evaluationIntervalMillis = evaluationIntervalMillis;
+	}
+
+	public long getEvaluationIntervalMillis() {
+		return this.evaluationIntervalMillis;
+	}
+
+	public void setMaximumGcTimePercentage(float maximumGcTimePercentage) {
+		this.maximumGcTimePercentage = maximumGcTimePercentage;
+	}
+
+	public float getMaximumGcTimePercentage() {
+		return this.maximumGcTimePercentage;
+	}
+
+	public void setTargetHeapUsagePercentage(float targetHeapUsagePercentage) {
+		this.targetHeapUsagePercentage = targetHeapUsagePercentage;
+	}
+
+	public float getTargetHeapUsagePercentage() {
+		return this.targetHeapUsagePercentage;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return true;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Schedules the periodic evaluation when any {@link Region Regions} are managed by this controller.
+	 */
+	@Override
+	public synchronized void start() {
+
+		if (!isRunning() && hasManagedRegions()) {
+
+			this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread thread = new Thread(runnable, "AdaptiveEvictionControllerThread");
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			this.scheduledExecutorService.scheduleWithFixedDelay(this::safeEvaluate, getEvaluationIntervalMillis(),
+				getEvaluationIntervalMillis(), TimeUnit.MILLISECONDS);
+
+			this.running = true;
+		}
+	}
+
+	private void safeEvaluate() {
+
+		try {
+			evaluate();
+		}
+		catch (RuntimeException cause) {
+			this.logger.warn("Failed to rebalance Region Eviction maximums", cause);
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+
+		Optional.ofNullable(this.scheduledExecutorService).ifPresent(ScheduledExecutorService::shutdownNow);
+
+		this.scheduledExecutorService = null;
+		this.running = false;
+	}
+
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	/**
+	 * {@link Decision} records a change of the Eviction maximum of a {@link Region}.
+	 */
+	public static final class Decision {
+
+		private final double gcTimePercentage;
+		private final double heapUsagePercentage;
+		private final double hitRatio;
+
+		private final int newMaximum;
+		private final int previousMaximum;
+
+		private final long timestamp;
+
+		private final String regionName;
+
+		Decision(String regionName, int previousMaximum, int newMaximum, double hitRatio,
+				double heapUsagePercentage, double gcTimePercentage) {
+
+			this.regionName = regionName;
+			this.previousMaximum = previousMaximum;
+			this.newMaximum = newMaximum;
+			this.hitRatio = hitRatio;
+			this.heapUsagePercentage = heapUsagePercentage;
+			this.gcTimePercentage = gcTimePercentage;
+			this.timestamp = System.currentTimeMillis();
+		}
+
+		public double getGcTimePercentage() {
+			return this.gcTimePercentage;
+		}
+
+		public double getHeapUsagePercentage() {
+			return this.heapUsagePercentage;
+		}
+
+		public double getHitRatio() {
+			return this.hitRatio;
+		}
+
+		public int getNewMaximum() {
+			return this.newMaximum;
+		}
+
+		public int getPreviousMaximum() {
+			return this.previousMaximum;
+		}
+
+		public String getRegionName() {
+			return this.regionName;
+		}
+
+		public long getTimestamp() {
+			return this.timestamp;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Changed Eviction maximum of Region [%1$s] from [%2$d] to [%3$d]"
+					+ " with hit ratio [%4$.2f], Heap usage [%5$.1f%%] and GC time [%6$.1f%%]", getRegionName(),
+				getPreviousMaximum(), getNewMaximum(), getHitRatio(), getHeapUsagePercentage(), getGcTimePercentage());
+		}
+	}
+
+	/**
+	 * {@link ManagedRegion} tracks the bounds, current Eviction maximum and hit statistics of a managed {@link Region}.
+	 */
+	static final class ManagedRegion {
+
+		private boolean memorySize;
+		private boolean statisticsEnabled;
+
+		private double lastHitRatio = NEUTRAL_WEIGHT;
+
+		private final int maximum;
+		private final int minimum;
+
+		private int currentMaximum;
+
+		private long lastHitCount;
+		private long lastMissCount;
+
+		private Region<?, ?> region;
+
+		private final String name;
+
+		private final Supplier<Region<?, ?>> regionSupplier;
+
+		ManagedRegion(String name, Supplier<Region<?, ?>> regionSupplier, int minimum, int maximum) {
+
+			this.name = name;
+			this.regionSupplier = regionSupplier;
+			this.minimum = minimum;
+			this.maximum = maximum;
+		}
+
+		/**
+		 * Resolves the {@link Region} and its Eviction configuration on first use.
+		 *
+		 * @return a boolean value indicating whether the {@link Region} supports adaptive Eviction.
+		 */
+		boolean resolve() {
+
+			if (this.region == null) {
+
+				Region<?, ?> region = this.regionSupplier.get();
+
+				EvictionAttributes evictionAttributes = region != null && region.getAttributes() != null
+					? region.getAttributes().getEvictionAttributes()
+					: null;
+
+				EvictionAlgorithm algorithm = evictionAttributes != null ? evictionAttributes.getAlgorithm() : null;
+
+				if (algorithm == null || !(algorithm.isLRUEntry() || algorithm.isLRUMemory())) {
+					return false;
+				}
+
+				this.memorySize = algorithm.isLRUMemory();
+				this.statisticsEnabled = region.getAttributes().getStatisticsEnabled();
+				this.currentMaximum = Math.max(this.minimum, Math.min(this.maximum, evictionAttributes.getMaximum()));
+				this.region = region;
+			}
+
+			return true;
+		}
+
+		boolean isResolved() {
+			return this.region != null;
+		}
+
+		boolean isMemorySize() {
+			return this.memorySize;
+		}
+
+		boolean isStatisticsEnabled() {
+			return this.statisticsEnabled;
+		}
+
+		void disableStatistics() {
+			this.statisticsEnabled = false;
+			this.lastHitRatio = NEUTRAL_WEIGHT;
+		}
+
+		int getCurrentMaximum() {
+			return this.currentMaximum;
+		}
+
+		double getLastHitRatio() {
+			return this.lastHitRatio;
+		}
+
+		int getMaximum() {
+			return this.maximum;
+		}
+
+		int getMinimum() {
+			return this.minimum;
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Samples the hit ratio of the {@link Region} since the previous sample, or returns a neutral weight
+		 * when statistics are disabled on the {@link Region}.
+		 *
+		 * @throws StatisticsDisabledException if statistics were disabled after the {@link Region} was resolved.
+		 */
+		double sampleHitRatio() {
+
+			if (isStatisticsEnabled()) {
+
+				CacheStatistics statistics = this.region.getStatistics();
+
+				long hits = statistics.getHitCount() - this.lastHitCount;
+				long misses = statistics.getMissCount() - this.lastMissCount;
+
+				this.lastHitCount = statistics.getHitCount();
+				this.lastMissCount = statistics.getMissCount();
+				this.lastHitRatio = hits + misses > 0 ? (double) hits / (hits + misses) : NEUTRAL_WEIGHT;
+			}
+
+			return this.lastHitRatio;
+		}
+
+		void setMaximum(int maximum) {
+			this.region.getAttributesMutator().getEvictionAttributesMutator().setMaximum(maximum);
+			this.currentMaximum = maximum;
+		}
+	}
+}
@@ -17,12 +17,22 @@
 package org.springframework.data.gemfire.expiration;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.time.Instant;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.geode.cache.CustomExpiry;
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.pdx.PdxInstance;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
@@ -33,16 +43,24 @@ import org.springframework.context.expression.EnvironmentAccessor;
 import org.springframework.context.expression.MapAccessor;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.support.StandardTypeConverter;
 import org.springframework.expression.spel.support.StandardTypeLocator;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * The {@link AnnotationBasedExpiration} class is an implementation of the {@link CustomExpiry} interface
@@ -50,12 +68,26 @@ import org.springframework.util.ObjectUtils;
  * by introspecting the {@link Region} entry's class type and reflecting on any {@link Region} entries annotated
  * with SDG's Expiration-based Annotations.
  *
+ * The expiration policy is resolved once per {@link Region} entry value {@link Class type} and cached, so that
+ * {@link ExpirationAttributes} are shared by all entries of the same type.  Call {@link #refresh()} to discard
+ * the cached policies after the properties or beans referenced in the Expiration-based Annotations change.
+ *
+ * Additionally, a {@link Region} entry value may carry its own time-to-live (TTL) deadline in a property
+ * annotated with {@link ExpiresAt}, which takes precedence over the class-level expiration policy.  The property
+ * is read through the {@link GemfireMappingContext} property accessors, or directly from the {@link PdxInstance}
+ * field when the value is PDX serialized, without deserializing the entire value.  When the domain class
+ * of a {@link PdxInstance} cannot be loaded, e.g. on a server without the application's classes,
+ * the {@link #setPdxExpiresAtFieldName(String) PDX expires at field}, if configured, is read instead.
+ * {@link ExpiresAt} deadlines are never applied when this {@link CustomExpiry} is the {@link Region Region's}
+ * custom entry idle timeout, since they declare a time-to-live (TTL) deadline.
+ *
  * @author John Blum
  * @see java.lang.annotation.Annotation
  * @see org.springframework.beans.factory.BeanFactory
  * @see org.springframework.beans.factory.BeanFactoryAware
  * @see org.springframework.data.gemfire.expiration.Expiration
  * @see org.springframework.data.gemfire.expiration.ExpirationActionType
+ * @see org.springframework.data.gemfire.expiration.ExpiresAt
  * @see org.springframework.data.gemfire.expiration.IdleTimeoutExpiration
  * @see org.springframework.data.gemfire.expiration.TimeToLiveExpiration
  * @see org.apache.geode.cache.CustomExpiry
@@ -74,9 +106,24 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	protected static final AtomicReference<StandardEvaluationContext> EVALUATION_CONTEXT_REFERENCE
 		= new AtomicReference<StandardEvaluationContext>(null);
 
+	private static final ExpirationAttributes NO_EXPIRATION_POLICY =
+		new ExpirationAttributes(0, ExpirationAction.INVALIDATE);
+
+	private static final ExpiresAtMetaData NO_EXPIRES_AT = new ExpiresAtMetaData(null, null, null, null);
+
+	private final ConcurrentMap<Class<?>, ExpirationAttributes> expirationPolicies = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, ExpiresAtMetaData> expiresAtMetaData = new ConcurrentHashMap<>();
+
+	private GemfireMappingContext mappingContext = new GemfireMappingContext();
+
 	//private ExpirationAttributes defaultExpirationAttributes = ExpirationAttributes.DEFAULT;
 	private ExpirationAttributes defaultExpirationAttributes;
 
+	private ExpirationActionType pdxExpiresAtAction = ExpirationActionType.INVALIDATE;
+
+	private String pdxExpiresAtFieldName;
+
 	/**
 	 * Constructs a new instance of the AnnotationBasedExpiration class with no default expiration policy.
 	 */
@@ -100,6 +147,8 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 * {@link ExpirationAttributes} to process expired annotated {@link Region} entries
 	 * using Idle Timeout (TTI) Expiration.
 	 *
+	 * {@link ExpiresAt} annotated properties are ignored, since they declare a time-to-live (TTL) deadline.
+	 *
 	 * @param <K> {@link Class} type of the {@link Region} entry key.
 	 * @param <V> {@link Class} type of the {@link Region} entry value.
 	 * @return an {@link AnnotationBasedExpiration} instance to process expired annotated {@link Region} entries
@@ -117,6 +166,8 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 * default {@link ExpirationAttributes} to process expired annotated {@link Region} entries
 	 * using Idle Timeout (TTI) expiration.
 	 *
+	 * {@link ExpiresAt} annotated properties are ignored, since they declare a time-to-live (TTL) deadline.
+	 *
 	 * @param <K> {@link Class} type of the {@link Region} entry key.
 	 * @param <V> {@link Class} type of the {@link Region} entry value.
 	 * @param defaultExpirationAttributes {@link ExpirationAttributes} used by default if no expiration policy
@@ -138,6 +189,11 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 					? ExpirationMetaData.from(getIdleTimeout(entry))
 					: super.getExpirationMetaData(entry);
 			}
+
+			@Override
+			protected boolean isExpiresAtSupported() {
+				return false;
+			}
 		};
 	}
 
@@ -236,6 +292,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		BEAN_FACTORY_REFERENCE.set(beanFactory);
 		initEvaluationContext();
+		refresh();
 	}
 
 	/**
@@ -252,6 +309,34 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 		return localBeanFactory;
 	}
 
+	/**
+	 * Sets the {@link GemfireMappingContext} used to resolve and access the {@link ExpiresAt} annotated property
+	 * of {@link Region} entry values.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} used to access {@link ExpiresAt} annotated properties.
+	 * @throws IllegalArgumentException if {@link GemfireMappingContext} is {@literal null}.
+	 * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+	 */
+	public void setMappingContext(GemfireMappingContext mappingContext) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		this.mappingContext = mappingContext;
+
+		refresh();
+	}
+
+	/**
+	 * Returns the {@link GemfireMappingContext} used to resolve and access the {@link ExpiresAt} annotated property
+	 * of {@link Region} entry values.
+	 *
+	 * @return the {@link GemfireMappingContext} used to access {@link ExpiresAt} annotated properties.
+	 * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+	 */
+	protected GemfireMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
 	/**
 	 * Sets the expiration policy to use by default when no application domain object specific expiration meta-data
 	 * has been specified.
@@ -277,6 +362,38 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 		return this.defaultExpirationAttributes;
 	}
 
+	/**
+	 * Sets the name of the {@link PdxInstance} field holding the expiration deadline of PDX serialized
+	 * {@link Region} entry values whose domain class cannot be loaded, and therefore cannot be introspected
+	 * for an {@link ExpiresAt} annotated property.  The field may hold a {@link java.util.Date},
+	 * {@link java.util.Calendar}, {@link java.time.Instant} or a {@link Number} of milliseconds since the epoch.
+	 * Defaults to {@literal null}, which disables the lookup.
+	 *
+	 * @param pdxExpiresAtFieldName name of the {@link PdxInstance} field holding the expiration deadline.
+	 * @see #setPdxExpiresAtAction(ExpirationActionType)
+	 */
+	public void setPdxExpiresAtFieldName(String pdxExpiresAtFieldName) {
+		this.pdxExpiresAtFieldName = pdxExpiresAtFieldName;
+		refresh();
+	}
+
+	/**
+	 * Sets the {@link ExpirationActionType action} taken when a PDX serialized {@link Region} entry value
+	 * expires by its {@link #setPdxExpiresAtFieldName(String) PDX expires at field}.
+	 * Defaults to {@link ExpirationActionType#INVALIDATE}.
+	 *
+	 * @param pdxExpiresAtAction {@link ExpirationActionType} taken on expiration; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ExpirationActionType} is {@literal null}.
+	 */
+	public void setPdxExpiresAtAction(ExpirationActionType pdxExpiresAtAction) {
+
+		Assert.notNull(pdxExpiresAtAction, "ExpirationActionType must not be null");
+
+		this.pdxExpiresAtAction = pdxExpiresAtAction;
+
+		refresh();
+	}
+
 	/**
 	 * Calculate the expiration for a given entry. Returning {@literal null} indicates that the default
 	 * for the {@link Region} should be used. The entry parameter should not be used after this method
@@ -291,7 +408,162 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 */
 	@Override
 	public ExpirationAttributes getExpiry(Region.Entry<K, V> entry) {
-		return newExpirationAttributes(getExpirationMetaData(entry));
+
+		Object value = entry != null ? entry.getValue() : null;
+
+		if (value == null) {
+			return newExpirationAttributes(getExpirationMetaData(entry));
+		}
+
+		if (isExpiresAtSupported() && !isIdleTimeout(entry)) {
+
+			ExpirationAttributes entryExpirationAttributes = resolveExpiresAtMetaData(value).toExpirationAttributes(value);
+
+			if (entryExpirationAttributes != null) {
+				return entryExpirationAttributes;
+			}
+		}
+
+		ExpirationAttributes expirationPolicy = this.expirationPolicies.get(value.getClass());
+
+		if (expirationPolicy == null) {
+			expirationPolicy = this.expirationPolicies.computeIfAbsent(value.getClass(),
+				type -> resolveExpirationPolicy(entry));
+		}
+
+		return expirationPolicy != NO_EXPIRATION_POLICY
+			? expirationPolicy
+			: newExpirationAttributes(null);
+	}
+
+	private ExpirationAttributes resolveExpirationPolicy(Region.Entry<K, V> entry) {
+
+		ExpirationMetaData expirationMetaData = getExpirationMetaData(entry);
+
+		return expirationMetaData != null
+			? newExpirationAttributes(expirationMetaData)
+			: NO_EXPIRATION_POLICY;
+	}
+
+	/**
+	 * Determines whether the {@link ExpiresAt} annotated property of a {@link Region} entry value is used
+	 * to compute a per-entry time-to-live (TTL) expiration policy.
+	 *
+	 * @return a boolean value indicating whether {@link ExpiresAt} annotated properties are supported.
+	 * @see org.springframework.data.gemfire.expiration.ExpiresAt
+	 */
+	protected boolean isExpiresAtSupported() {
+		return true;
+	}
+
+	/**
+	 * Determines whether this {@link CustomExpiry} is the custom entry idle timeout of the {@link Region}
+	 * containing the given {@link Region.Entry}.
+	 */
+	private boolean isIdleTimeout(Region.Entry<K, V> entry) {
+
+		Region<K, V> region = entry.getRegion();
+
+		RegionAttributes<K, V> regionAttributes = region != null ? region.getAttributes() : null;
+
+		return regionAttributes != null && regionAttributes.getCustomEntryIdleTimeout() == this;
+	}
+
+	private ExpiresAtMetaData resolveExpiresAtMetaData(Object value) {
+
+		String typeName = value instanceof PdxInstance
+			? ((PdxInstance) value).getClassName()
+			: value.getClass().getName();
+
+		ExpiresAtMetaData metaData = this.expiresAtMetaData.get(typeName);
+
+		if (metaData == null) {
+			metaData = this.expiresAtMetaData.computeIfAbsent(typeName, name -> newExpiresAtMetaData(value));
+		}
+
+		return metaData;
+	}
+
+	private ExpiresAtMetaData newExpiresAtMetaData(Object value) {
+
+		Class<?> type = value instanceof PdxInstance
+			? resolvePdxType((PdxInstance) value)
+			: value.getClass();
+
+		if (type == null) {
+			return StringUtils.hasText(this.pdxExpiresAtFieldName)
+				? new ExpiresAtMetaData(null, null, this.pdxExpiresAtFieldName,
+					this.pdxExpiresAtAction.getExpirationAction())
+				: NO_EXPIRES_AT;
+		}
+
+		if (!hasExpiresAtAnnotatedMember(type)) {
+			return NO_EXPIRES_AT;
+		}
+
+		GemfirePersistentEntity<?> entity = getMappingContext().getPersistentEntity(type);
+
+		GemfirePersistentProperty property = entity != null ? entity.getPersistentProperty(ExpiresAt.class) : null;
+
+		if (property == null) {
+			return NO_EXPIRES_AT;
+		}
+
+		ExpiresAt expiresAt = property.findAnnotation(ExpiresAt.class);
+
+		ExpirationAction action = expiresAt != null
+			? ExpirationMetaData.parseAction(expiresAt.action()).getExpirationAction()
+			: ExpirationAction.INVALIDATE;
+
+		return new ExpiresAtMetaData(entity, property, property.getName(), action);
+	}
+
+	private Class<?> resolvePdxType(PdxInstance pdxInstance) {
+
+		try {
+			BeanFactory beanFactory = BEAN_FACTORY_REFERENCE.get();
+
+			ClassLoader classLoader = beanFactory instanceof ConfigurableBeanFactory
+				? ((ConfigurableBeanFactory) beanFactory).getBeanClassLoader()
+				: ClassUtils.getDefaultClassLoader();
+
+			return ClassUtils.forName(pdxInstance.getClassName(), classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError ignore) {
+			return null;
+		}
+	}
+
+	private boolean hasExpiresAtAnnotatedMember(Class<?> type) {
+
+		if (type.isArray() || type.isPrimitive() || type.getName().startsWith("java.")) {
+			return false;
+		}
+
+		boolean[] found = { false };
+
+		ReflectionUtils.FieldCallback fieldCallback = field -> found[0] |= isExpiresAtAnnotated(field);
+		ReflectionUtils.MethodCallback methodCallback = method -> found[0] |= isExpiresAtAnnotated(method);
+
+		ReflectionUtils.doWithFields(type, fieldCallback);
+		ReflectionUtils.doWithMethods(type, methodCallback);
+
+		return found[0];
+	}
+
+	private boolean isExpiresAtAnnotated(AccessibleObject member) {
+		return member.isAnnotationPresent(ExpiresAt.class);
+	}
+
+	/**
+	 * Discards all expiration policies cached by {@link Region} entry value {@link Class type}, causing
+	 * the Expiration-based Annotations, including any SpEL expressions and property placeholders,
+	 * to be re-evaluated on the next call to {@link #getExpiry(Region.Entry)}.
+	 */
+	public void refresh() {
+		this.expirationPolicies.clear();
+		this.expiresAtMetaData.clear();
+		ExpirationMetaData.EXPRESSIONS.clear();
 	}
 
 	/**
@@ -441,6 +713,89 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	@Override
 	public void close() { }
 
+	/**
+	 * The ExpiresAtMetaData class encapsulates the {@link ExpiresAt} annotated property of a {@link Region} entry
+	 * value type and computes the time-to-live (TTL) of individual {@link Region} entry values from it.
+	 */
+	static final class ExpiresAtMetaData {
+
+		private final ExpirationAction action;
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final GemfirePersistentProperty property;
+
+		private final String fieldName;
+
+		ExpiresAtMetaData(GemfirePersistentEntity<?> entity, GemfirePersistentProperty property,
+				String fieldName, ExpirationAction action) {
+
+			this.entity = entity;
+			this.property = property;
+			this.fieldName = fieldName;
+			this.action = action;
+		}
+
+		ExpirationAttributes toExpirationAttributes(Object value) {
+
+			if (this.fieldName == null) {
+				return null;
+			}
+
+			Object expiresAt;
+
+			if (value instanceof PdxInstance) {
+
+				PdxInstance pdxInstance = (PdxInstance) value;
+
+				// without the domain class, the field is only known by name and may be absent from this PDX type
+				expiresAt = this.property != null || pdxInstance.hasField(this.fieldName)
+					? pdxInstance.getField(this.fieldName)
+					: null;
+			}
+			else {
+				expiresAt = this.property != null
+					? this.entity.getPropertyAccessor(value).getProperty(this.property)
+					: null;
+			}
+
+			long timeout = toTimeoutInSeconds(expiresAt, System.currentTimeMillis());
+
+			return timeout > 0 ? new ExpirationAttributes((int) timeout, this.action) : null;
+		}
+
+		/**
+		 * Converts the given deadline into the number of seconds remaining from {@code now}, rounded up and never
+		 * less than {@literal 1} second since a timeout of {@literal 0} means never expire; returns {@literal -1}
+		 * if the deadline is {@literal null} or not a supported type.
+		 */
+		static long toTimeoutInSeconds(Object expiresAt, long now) {
+
+			long expiresAtMillis;
+
+			if (expiresAt instanceof Date) {
+				expiresAtMillis = ((Date) expiresAt).getTime();
+			}
+			else if (expiresAt instanceof Calendar) {
+				expiresAtMillis = ((Calendar) expiresAt).getTimeInMillis();
+			}
+			else if (expiresAt instanceof TemporalAccessor
+					&& ((TemporalAccessor) expiresAt).isSupported(ChronoField.INSTANT_SECONDS)) {
+				expiresAtMillis = Instant.from((TemporalAccessor) expiresAt).toEpochMilli();
+			}
+			else if (expiresAt instanceof Number) {
+				expiresAtMillis = ((Number) expiresAt).longValue();
+			}
+			else {
+				return -1L;
+			}
+
+			long remainingSeconds = (expiresAtMillis - now + 999L) / 1000L;
+
+			return Math.max(1L, Math.min(remainingSeconds, Integer.MAX_VALUE));
+		}
+	}
+
 	/**
 	 * The ExpirationMetaData class encapsulates the settings constituting the expiration policy including
 	 * the expiration timeout and the action performed when expiration occurs.
@@ -451,6 +806,11 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 
 		private static final ExpirationActionConverter EXPIRATION_ACTION_CONVERTER = new ExpirationActionConverter();
 
+		private static final ConcurrentMap<String, Expression> EXPRESSIONS = new ConcurrentHashMap<>();
+
+		private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, AnnotationBasedExpiration.class.getClassLoader()));
+
 		private final int timeout;
 
 		private final ExpirationActionType action;
@@ -491,9 +851,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 
 				try {
 					// Next, try to parse the 'timeout' as a Spring Expression using SpEL.
-					return new SpelExpressionParser()
-						.parseExpression(timeout)
-						.getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
+					return parseExpression(timeout).getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
 				}
 				catch (ParseException e) {
 
@@ -523,7 +881,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 
 				try {
 
-					Expression expression = new SpelExpressionParser().parseExpression(action);
+					Expression expression = parseExpression(action);
 
 					Class<?> valueType = expression.getValueType(evaluationContext);
 
@@ -560,6 +918,22 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 			}
 		}
 
+		/**
+		 * Parses the given SpEL {@link String expression} once and caches the resulting {@link Expression},
+		 * which is compiled after repeated evaluations.
+		 */
+		private static Expression parseExpression(String expression) {
+
+			Expression parsedExpression = EXPRESSIONS.get(expression);
+
+			if (parsedExpression == null) {
+				parsedExpression = EXPRESSION_PARSER.parseExpression(expression);
+				EXPRESSIONS.putIfAbsent(expression, parsedExpression);
+			}
+
+			return parsedExpression;
+		}
+
 		public ExpirationActionType action() {
 			return action;
 		}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.expiration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ExpiresAt marks the property of an application domain object holding the point in time at which
+ * the individual object expires, giving each {@link org.apache.geode.cache.Region} entry its own
+ * time-to-live (TTL) expiration policy.
+ *
+ * The annotated property may be a {@link java.util.Date}, {@link java.util.Calendar},
+ * {@link java.time.Instant}, {@link java.time.OffsetDateTime}, {@link java.time.ZonedDateTime}
+ * or a {@link Number} of milliseconds since the epoch.  When the property value is {@literal null},
+ * the class-level expiration policy, if any, applies.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.expiration.AnnotationBasedExpiration
+ * @see org.springframework.data.gemfire.expiration.ExpirationActionType
+ * @see org.springframework.data.gemfire.expiration.TimeToLiveExpiration
+ * @since 2.2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+public @interface ExpiresAt {
+
+	String action() default "INVALIDATE";
+
+}
@@ -16,16 +16,20 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Inherited;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.ScannedGenericBeanDefinition;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.core.type.filter.AbstractTypeHierarchyTraversingFilter;
 import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.data.gemfire.config.annotation.support.GemFireComponentIndex;
 import org.springframework.util.Assert;
 
 /**
@@ -37,6 +41,8 @@ import org.springframework.util.Assert;
 class FunctionExecutionComponentProvider extends ClassPathScanningCandidateComponentProvider {
 
 
+	private final boolean indexable;
+
 	private final Set<Class<? extends Annotation>> functionExecutionAnnotationTypes;
 
 	/**
@@ -53,6 +59,8 @@ class FunctionExecutionComponentProvider extends ClassPathScanningCandidateCompo
 		this.functionExecutionAnnotationTypes = functionExecutionAnnotationTypes;
 		Assert.notNull(includeFilters);
 
+		this.indexable = !includeFilters.iterator().hasNext();
+
 		if (includeFilters.iterator().hasNext()) {
 			for (TypeFilter filter : includeFilters) {
 				addIncludeFilter(filter);
@@ -88,6 +96,55 @@ class FunctionExecutionComponentProvider extends ClassPathScanningCandidateCompo
 		super.addIncludeFilter(new AllTypeFilter(filterPlusAnnotation));
 	}
 
+	/**
+	 * Reads the candidate function execution interfaces from the {@link GemFireComponentIndex} when present
+	 * and no custom include filters are used, otherwise scans the classpath.
+	 *
+	 * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentIndex
+	 */
+	@Override
+	public Set<BeanDefinition> findCandidateComponents(String basePackage) {
+
+		GemFireComponentIndex index = this.indexable
+			? GemFireComponentIndex.load(getResourceLoader().getClassLoader())
+			: null;
+
+		return index != null ? findCandidateComponentsInIndex(index, basePackage)
+			: super.findCandidateComponents(basePackage);
+	}
+
+	private Set<BeanDefinition> findCandidateComponentsInIndex(GemFireComponentIndex index, String basePackage) {
+
+		Set<BeanDefinition> candidateComponents = new LinkedHashSet<BeanDefinition>();
+
+		for (String candidateType
+				: index.getCandidateTypes(basePackage, GemFireComponentIndex.FUNCTION_EXECUTION_STEREOTYPES)) {
+			try {
+
+				MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(candidateType);
+
+				if (isCandidateComponent(metadataReader)) {
+
+					ScannedGenericBeanDefinition beanDefinition = new ScannedGenericBeanDefinition(metadataReader);
+
+					beanDefinition.setResource(metadataReader.getResource());
+					beanDefinition.setSource(metadataReader.getResource());
+
+					if (isCandidateComponent(beanDefinition)) {
+						candidateComponents.add(beanDefinition);
+					}
+				}
+			}
+			catch (IOException cause) {
+				// a stale index entry (e.g. a deleted type) must not fail startup
+				logger.warn(String.format("Failed to read metadata for indexed function execution interface [%s]",
+					candidateType), cause);
+			}
+		}
+
+		return candidateComponents;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider#isCandidateComponent(org.springframework.beans.factory.annotation.AnnotatedBeanDefinition)
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.annotation.CompoundIndex;
+import org.springframework.data.gemfire.mapping.annotation.Indexed;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link EntityIndexes} describes the Indexes declared on a {@link GemfirePersistentEntity} with the {@link Id},
+ * {@link Indexed} and {@link CompoundIndex} annotations, using the same Index names as
+ * {@link org.springframework.data.gemfire.config.annotation.EnableIndexing}.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.GemfirePersistentEntity
+ * @see org.springframework.data.gemfire.mapping.annotation.CompoundIndex
+ * @see org.springframework.data.gemfire.mapping.annotation.Indexed
+ * @since 2.2.0
+ */
+public class EntityIndexes {
+
+	private final List<IndexMetadata> indexes;
+
+	private final List<List<IndexMetadata>> compoundIndexes;
+
+	/**
+	 * Resolves the Indexes declared on the given {@link GemfirePersistentEntity}.
+	 *
+	 * @param entity {@link GemfirePersistentEntity} declaring the Indexes.
+	 * @return the {@link EntityIndexes} declared on the {@link GemfirePersistentEntity}.
+	 */
+	public static EntityIndexes from(GemfirePersistentEntity<?> entity) {
+
+		List<IndexMetadata> indexes = new ArrayList<>();
+		List<List<IndexMetadata>> compoundIndexes = new ArrayList<>();
+
+		if (entity != null) {
+
+			String regionName = entity.getRegionName();
+
+			entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+
+				if (persistentProperty.findAnnotation(Id.class) != null) {
+					indexes.add(new IndexMetadata(generateIndexName(regionName, persistentProperty.getName(),
+						IndexType.KEY), persistentProperty.getName(), IndexType.KEY));
+				}
+
+				Indexed indexed = persistentProperty.findAnnotation(Indexed.class);
+
+				if (indexed != null && indexed.keys().length == 0 && (!StringUtils.hasText(indexed.expression())
+						|| indexed.expression().equals(persistentProperty.getName()))) {
+
+					String indexName = StringUtils.hasText(indexed.name()) ? indexed.name()
+						: generateIndexName(regionName, persistentProperty.getName(), indexed.type());
+
+					indexes.add(new IndexMetadata(indexName, persistentProperty.getName(), indexed.type()));
+				}
+			});
+
+			for (CompoundIndex compoundIndex : findCompoundIndexes(entity.getType())) {
+				compoundIndexes.add(Arrays.stream(compoundIndex.properties())
+					.map(property -> new IndexMetadata(generateIndexName(regionName, property, compoundIndex.type()),
+						property, compoundIndex.type()))
+					.collect(Collectors.toList()));
+			}
+		}
+
+		return new EntityIndexes(indexes, compoundIndexes);
+	}
+
+	/**
+	 * Finds all {@link CompoundIndex} annotations declared on the given application persistent entity {@link Class type}.
+	 *
+	 * @param entityType application persistent entity {@link Class type}.
+	 * @return all {@link CompoundIndex} annotations declared on the entity {@link Class type}.
+	 */
+	public static List<CompoundIndex> findCompoundIndexes(Class<?> entityType) {
+
+		return entityType != null
+			? new ArrayList<>(AnnotatedElementUtils.findMergedRepeatableAnnotations(entityType, CompoundIndex.class))
+			: Collections.emptyList();
+	}
+
+	/**
+	 * Generates the name of the Index on the given property path of the entity stored in the named
+	 * {@link org.apache.geode.cache.Region}, for example {@literal PeopleLastNameHashIdx}.
+	 *
+	 * @param regionName name of the {@link org.apache.geode.cache.Region} storing the entity.
+	 * @param propertyPath name or dot-separated path of the indexed property.
+	 * @param indexType {@link IndexType} of the Index.
+	 * @return the generated Index name.
+	 */
+	public static String generateIndexName(String regionName, String propertyPath, IndexType indexType) {
+
+		String capitalizedPropertyPath = Arrays.stream(StringUtils.delimitedListToStringArray(propertyPath, "."))
+			.map(StringUtils::capitalize)
+			.collect(Collectors.joining());
+
+		return String.format("%1$s%2$s%3$sIdx", regionName, capitalizedPropertyPath,
+			StringUtils.capitalize(indexType.name().toLowerCase()));
+	}
+
+	private EntityIndexes(List<IndexMetadata> indexes, List<List<IndexMetadata>> compoundIndexes) {
+		this.indexes = Collections.unmodifiableList(indexes);
+		this.compoundIndexes = Collections.unmodifiableList(compoundIndexes);
+	}
+
+	/**
+	 * Returns the Indexes declared on single properties with the {@link Id} and {@link Indexed} annotations.
+	 *
+	 * @return the Indexes declared on single properties.
+	 */
+	public List<IndexMetadata> getIndexes() {
+		return this.indexes;
+	}
+
+	/**
+	 * Returns the Indexes declared with the {@link CompoundIndex} annotation, as the list of per-property Indexes
+	 * of each {@link CompoundIndex}.
+	 *
+	 * @return the Indexes declared with the {@link CompoundIndex} annotation.
+	 */
+	public List<List<IndexMetadata>> getCompoundIndexes() {
+		return this.compoundIndexes;
+	}
+
+	/**
+	 * Returns whether the entity declares any Indexes.
+	 *
+	 * @return a boolean value indicating whether the entity declares any Indexes.
+	 */
+	public boolean isEmpty() {
+		return this.indexes.isEmpty() && this.compoundIndexes.isEmpty();
+	}
+
+	/**
+	 * {@link IndexMetadata} describes a single Index on a property path.
+	 */
+	public static final class IndexMetadata {
+
+		private final IndexType indexType;
+
+		private final String name;
+		private final String propertyPath;
+
+		IndexMetadata(String name, String propertyPath, IndexType indexType) {
+			this.name = name;
+			this.propertyPath = propertyPath;
+			this.indexType = indexType;
+		}
+
+		public IndexType getIndexType() {
+			return this.indexType;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public String getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		/**
+		 * Determines whether this Index can be used to evaluate a range predicate (e.g. {@literal >}, {@literal <=}).
+		 * Only {@link IndexType#FUNCTIONAL} Indexes are ordered.
+		 *
+		 * @return a boolean value indicating whether this Index supports range predicates.
+		 */
+		public boolean supportsRange() {
+			return this.indexType.isFunctional();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%1$s(%2$s, %3$s)", getName(), getPropertyPath(), getIndexType());
+		}
+	}
+}
@@ -0,0 +1,549 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.util.ObjectSizer;
+import org.apache.geode.cache.util.ReflectionObjectSizer;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.data.gemfire.mapping.model.GemfireSimpleTypeHolder;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.SimpleTypeHolder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link MappingObjectSizer} is an Apache Geode {@link ObjectSizer} estimating the size of application domain
+ * model objects (entities) from the entity mapping meta-data provided by the {@link GemfireMappingContext}.
+ *
+ * The fixed size of each type, that is, the object header and the primitive fields and references declared by
+ * the type and its super types, is computed once and cached.  Only the variable-length parts of an object
+ * ({@link String Strings}, arrays, {@link Collection Collections}, {@link Map Maps} and nested entities)
+ * are sized on every call by walking the persistent properties of the entity.  Objects referenced more than once
+ * in the same object graph, including cyclic references, are only sized once.  {@link PdxInstance PdxInstances}
+ * are sized from their serialized length, which is computed once per {@link PdxInstance} and cached, weakly
+ * referencing the {@link PdxInstance}, until the {@link PdxInstance} is garbage collected.
+ *
+ * The size of primitive wrapper types is cached per type; other simple types, such as
+ * {@link java.math.BigDecimal} or {@link java.math.BigInteger}, vary in size by value and are measured
+ * with the {@link ReflectionObjectSizer} on every call.
+ *
+ * Sizes assume a 64-bit JVM with compressed object pointers.  The estimates can be calibrated against
+ * the {@link ReflectionObjectSizer} using a sample of objects with {@link #calibrate(Iterable)}.
+ *
+ * To size {@link org.apache.geode.cache.Region} values with a {@link MappingObjectSizer}, declare it as a bean
+ * and reference the bean by name from the {@literal objectSizerName} attribute of
+ * {@link org.springframework.data.gemfire.config.annotation.EnableEviction.EvictionPolicy}.  Alternatively,
+ * reference {@link #MAPPING_OBJECT_SIZER_BEAN_NAME}, in which case a {@link MappingObjectSizer} using
+ * the application's {@link GemfireMappingContext} is registered when no bean with that name is defined.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.util.ObjectSizer
+ * @see org.apache.geode.cache.util.ReflectionObjectSizer
+ * @see org.springframework.data.gemfire.mapping.GemfireMappingContext
+ * @since 2.2.0
+ */
+public class MappingObjectSizer implements ObjectSizer {
+
+	public static final String MAPPING_OBJECT_SIZER_BEAN_NAME = "mappingObjectSizer";
+
+	protected static final int ALIGNMENT = 8;
+	protected static final int ARRAY_HEADER_SIZE = 16;
+	protected static final int DEFAULT_MAXIMUM_DEPTH = 8;
+	protected static final int HASH_NODE_SIZE = 32;
+	protected static final int OBJECT_HEADER_SIZE = 12;
+	protected static final int PDX_INSTANCE_OVERHEAD = 64;
+	protected static final int REFERENCE_SIZE = 4;
+	protected static final int STRING_SIZE = 24;
+
+	private int maximumDepth = DEFAULT_MAXIMUM_DEPTH;
+
+	private final ConcurrentMap<Class<?>, Long> primitiveWrapperSizes = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<PdxInstance, Long> pdxInstanceSizes = new IdentityWeakReferenceMap<>();
+
+	private final ConcurrentMap<Class<?>, TypeLayout> typeLayouts = new ConcurrentHashMap<>();
+
+	private final GemfireMappingContext mappingContext;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final ObjectSizer referenceObjectSizer = ReflectionObjectSizer.getInstance();
+
+	private final SimpleTypeHolder simpleTypeHolder = new GemfireSimpleTypeHolder();
+
+	/**
+	 * Constructs a new instance of {@link MappingObjectSizer} using a new {@link GemfireMappingContext}.
+	 */
+	public MappingObjectSizer() {
+		this(new GemfireMappingContext());
+	}
+
+	/**
+	 * Constructs a new instance of {@link MappingObjectSizer} initialized with the given {@link GemfireMappingContext}.
+	 *
+	 * @param mappingContext {@link GemfireMappingContext} supplying entity mapping meta-data.
+	 * @throws IllegalArgumentException if {@link GemfireMappingContext} is {@literal null}.
+	 */
+	public MappingObjectSizer(GemfireMappingContext mappingContext) {
+
+		Assert.notNull(mappingContext, "GemfireMappingContext is required");
+
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Returns the {@link GemfireMappingContext} supplying entity mapping meta-data.
+	 *
+	 * @return the {@link GemfireMappingContext} supplying entity mapping meta-data.
+	 */
+	protected GemfireMappingContext getMappingContext() {
+		return this.mappingContext;
+	}
+
+	/**
+	 * Sets the maximum depth of nested objects that are sized; deeper objects only count as a reference.
+	 *
+	 * Defaults to {@literal 8}.
+	 *
+	 * @param maximumDepth maximum depth of nested objects that are sized.
+	 */
+	public void setMaximumDepth(int maximumDepth) {
+		this.maximumDepth = maximumDepth;
+	}
+
+	public int getMaximumDepth() {
+		return this.maximumDepth;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public int sizeof(Object value) {
+		return (int) Math.min(Integer.MAX_VALUE, sizeOf(value, 0, newVisitedSet()));
+	}
+
+	/**
+	 * Calibrates the estimates of this {@link ObjectSizer} against the {@link ReflectionObjectSizer}
+	 * using the given sample of objects.
+	 *
+	 * For each entity type in the sample, the ratio of the total size measured by the {@link ReflectionObjectSizer}
+	 * to the total estimated size becomes the calibration factor applied to subsequent estimates of that type.
+	 *
+	 * @param samples sample of objects used to calibrate the estimates.
+	 * @return the calibration factor for each entity type in the sample.
+	 */
+	public Map<Class<?>, Double> calibrate(Iterable<?> samples) {
+
+		Map<Class<?>, long[]> totals = new HashMap<>();
+
+		for (Object sample : samples) {
+			if (sample != null && !isSimpleType(sample.getClass())) {
+
+				TypeLayout typeLayout = getTypeLayout(sample.getClass());
+
+				if (typeLayout.isEntity()) {
+
+					long[] total = totals.computeIfAbsent(sample.getClass(), type -> new long[2]);
+
+					total[0] += sizeOfObject(sample, typeLayout, 0, false, newVisitedSet(sample));
+					total[1] += this.referenceObjectSizer.sizeof(sample);
+				}
+			}
+		}
+
+		Map<Class<?>, Double> calibrationFactors = new HashMap<>();
+
+		totals.forEach((type, total) -> {
+			if (total[0] > 0) {
+
+				double calibrationFactor = (double) total[1] / total[0];
+
+				getTypeLayout(type).setCalibrationFactor(calibrationFactor);
+				calibrationFactors.put(type, calibrationFactor);
+			}
+		});
+
+		return Collections.unmodifiableMap(calibrationFactors);
+	}
+
+	private static Set<Object> newVisitedSet(Object... values) {
+
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		Collections.addAll(visited, values);
+
+		return visited;
+	}
+
+	/* (non-Javadoc) */
+	long sizeOf(@Nullable Object value, int depth) {
+		return sizeOf(value, depth, newVisitedSet());
+	}
+
+	private long sizeOf(@Nullable Object value, int depth, Set<Object> visited) {
+
+		if (value == null || value instanceof Enum) {
+			return 0L;
+		}
+		else if (depth > getMaximumDepth()) {
+			return REFERENCE_SIZE;
+		}
+
+		Class<?> type = value.getClass();
+
+		if (ClassUtils.isPrimitiveWrapper(type)) {
+			return this.primitiveWrapperSizes.computeIfAbsent(type,
+				key -> (long) this.referenceObjectSizer.sizeof(value));
+		}
+		else if (!visited.add(value)) {
+			// already sized as part of this object graph
+			return 0L;
+		}
+		else if (value instanceof String) {
+			return sizeOfString((String) value);
+		}
+		else if (value instanceof PdxInstance) {
+			return sizeOfPdxInstance((PdxInstance) value);
+		}
+		else if (type.isArray()) {
+			return sizeOfArray(value, depth, visited);
+		}
+		else if (value instanceof Collection) {
+			return sizeOfCollection((Collection<?>) value, depth, visited);
+		}
+		else if (value instanceof Map) {
+			return sizeOfMap((Map<?, ?>) value, depth, visited);
+		}
+		else if (isSimpleType(type)) {
+			return this.referenceObjectSizer.sizeof(value);
+		}
+
+		TypeLayout typeLayout = getTypeLayout(type);
+
+		return typeLayout.isEntity() ? sizeOfObject(value, typeLayout, depth, true, visited)
+			: this.referenceObjectSizer.sizeof(value);
+	}
+
+	private long sizeOfArray(Object array, int depth, Set<Object> visited) {
+
+		Class<?> componentType = array.getClass().getComponentType();
+
+		int length = Array.getLength(array);
+
+		if (componentType.isPrimitive()) {
+			return align(ARRAY_HEADER_SIZE + (long) length * sizeOfPrimitive(componentType));
+		}
+
+		long size = align(ARRAY_HEADER_SIZE + (long) length * REFERENCE_SIZE);
+
+		for (Object element : (Object[]) array) {
+			size += sizeOf(element, depth + 1, visited);
+		}
+
+		return size;
+	}
+
+	private long sizeOfCollection(Collection<?> collection, int depth, Set<Object> visited) {
+
+		long size = sizeOfFixedLayout(collection.getClass());
+
+		if (collection instanceof Set) {
+			size += sizeOfHashTable(collection.size());
+		}
+		else {
+			size += align(ARRAY_HEADER_SIZE + (long) collection.size() * REFERENCE_SIZE);
+		}
+
+		for (Object element : collection) {
+			size += sizeOf(element, depth + 1, visited);
+		}
+
+		return size;
+	}
+
+	private long sizeOfMap(Map<?, ?> map, int depth, Set<Object> visited) {
+
+		long size = sizeOfFixedLayout(map.getClass()) + sizeOfHashTable(map.size());
+
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			size += sizeOf(entry.getKey(), depth + 1, visited);
+			size += sizeOf(entry.getValue(), depth + 1, visited);
+		}
+
+		return size;
+	}
+
+	private long sizeOfHashTable(int size) {
+
+		int capacity = Integer.highestOneBit(Math.max(1, (int) (size / 0.75f)) * 2 - 1);
+
+		return align(ARRAY_HEADER_SIZE + (long) capacity * REFERENCE_SIZE) + (long) size * HASH_NODE_SIZE;
+	}
+
+	private long sizeOfFixedLayout(Class<?> type) {
+		return this.typeLayouts.computeIfAbsent(type, key -> new TypeLayout(computeFixedSize(key))).getFixedSize();
+	}
+
+	private long sizeOfObject(Object value, TypeLayout typeLayout, int depth, boolean calibrated,
+			Set<Object> visited) {
+
+		long size = typeLayout.getFixedSize();
+
+		if (typeLayout.hasVariableProperties()) {
+
+			PersistentPropertyAccessor<?> accessor = typeLayout.getEntity().getPropertyAccessor(value);
+
+			for (GemfirePersistentProperty property : typeLayout.getVariableProperties()) {
+				size += sizeOf(accessor.getProperty(property), depth + 1, visited);
+			}
+		}
+
+		return calibrated ? Math.round(size * typeLayout.getCalibrationFactor()) : size;
+	}
+
+	/**
+	 * Sizes the {@link PdxInstance} from its serialized length, without deserializing it.  A {@link PdxInstance}
+	 * is immutable, so the length is only computed the first time a {@link PdxInstance} is sized.
+	 */
+	private long sizeOfPdxInstance(PdxInstance pdxInstance) {
+
+		Long size = this.pdxInstanceSizes.get(pdxInstance);
+
+		if (size == null) {
+			size = computePdxInstanceSize(pdxInstance);
+			this.pdxInstanceSizes.put(pdxInstance, size);
+		}
+
+		return size;
+	}
+
+	private long computePdxInstanceSize(PdxInstance pdxInstance) {
+
+		CountingOutputStream outputStream = new CountingOutputStream();
+
+		try {
+			DataSerializer.writeObject(pdxInstance, new DataOutputStream(outputStream));
+			return PDX_INSTANCE_OVERHEAD + outputStream.getCount();
+		}
+		catch (IOException | RuntimeException cause) {
+
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug(String.format("Failed to serialize PdxInstance of type [%s];"
+					+ " sizing it with the ReflectionObjectSizer", pdxInstance.getClassName()), cause);
+			}
+
+			return this.referenceObjectSizer.sizeof(pdxInstance);
+		}
+	}
+
+	private long sizeOfString(String value) {
+		return STRING_SIZE + align(ARRAY_HEADER_SIZE + 2L * value.length());
+	}
+
+	private boolean isSimpleType(Class<?> type) {
+		return this.simpleTypeHolder.isSimpleType(type);
+	}
+
+	/**
+	 * Returns the cached {@link TypeLayout} of the given {@link Class type}, computing it on first use.
+	 *
+	 * @param type {@link Class type} of the object to size.
+	 * @return the {@link TypeLayout} of the {@link Class type}.
+	 */
+	TypeLayout getTypeLayout(Class<?> type) {
+		return this.typeLayouts.computeIfAbsent(type, this::newTypeLayout);
+	}
+
+	private TypeLayout newTypeLayout(Class<?> type) {
+
+		GemfirePersistentEntity<?> entity;
+
+		try {
+			entity = getMappingContext().getPersistentEntity(type);
+		}
+		catch (RuntimeException ignore) {
+			entity = null;
+		}
+
+		if (entity == null) {
+			return new TypeLayout(computeFixedSize(type));
+		}
+
+		List<GemfirePersistentProperty> variableProperties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) property -> {
+			if (!property.getType().isPrimitive()) {
+				variableProperties.add(property);
+			}
+		});
+
+		return new TypeLayout(computeFixedSize(type), entity, variableProperties);
+	}
+
+	/**
+	 * Computes the shallow size of an instance of the given {@link Class type}: the object header plus
+	 * all primitive fields and references declared by the {@link Class type} and its super types.
+	 */
+	private long computeFixedSize(Class<?> type) {
+
+		long size = OBJECT_HEADER_SIZE;
+
+		for (Class<?> currentType = type; currentType != null; currentType = currentType.getSuperclass()) {
+			for (Field field : currentType.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers())) {
+					size += field.getType().isPrimitive() ? sizeOfPrimitive(field.getType()) : REFERENCE_SIZE;
+				}
+			}
+		}
+
+		return align(size);
+	}
+
+	private static int sizeOfPrimitive(Class<?> type) {
+
+		if (long.class.equals(type) || double.class.equals(type)) {
+			return 8;
+		}
+		else if (int.class.equals(type) || float.class.equals(type)) {
+			return 4;
+		}
+		else if (short.class.equals(type) || char.class.equals(type)) {
+			return 2;
+		}
+
+		return 1;
+	}
+
+	private static long align(long size) {
+		return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+	}
+
+	/**
+	 * {@link TypeLayout} caches the fixed size and the variable-length persistent properties of a type.
+	 */
+	static final class TypeLayout {
+
+		private volatile double calibrationFactor = 1.0d;
+
+		private final long fixedSize;
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final List<GemfirePersistentProperty> variableProperties;
+
+		TypeLayout(long fixedSize) {
+			this(fixedSize, null, Collections.emptyList());
+		}
+
+		TypeLayout(long fixedSize, GemfirePersistentEntity<?> entity,
+				List<GemfirePersistentProperty> variableProperties) {
+
+			this.fixedSize = fixedSize;
+			this.entity = entity;
+			this.variableProperties = variableProperties;
+		}
+
+		double getCalibrationFactor() {
+			return this.calibrationFactor;
+		}
+
+		void setCalibrationFactor(double calibrationFactor) {
+			this.calibrationFactor = calibrationFactor;
+		}
+
+		GemfirePersistentEntity<?> getEntity() {
+			return this.entity;
+		}
+
+		boolean isEntity() {
+			return this.entity != null;
+		}
+
+		long getFixedSize() {
+			return this.fixedSize;
+		}
+
+		boolean hasVariableProperties() {
+			return !this.variableProperties.isEmpty();
+		}
+
+		List<GemfirePersistentProperty> getVariableProperties() {
+			return this.variableProperties;
+		}
+	}
+
+	/**
+	 * {@link ConcurrentReferenceHashMap} weakly referencing its keys and hashing them by identity, so that looking up
+	 * a key neither computes its {@link Object#hashCode()} nor keeps it from being garbage collected.
+	 */
+	static final class IdentityWeakReferenceMap<K, V> extends ConcurrentReferenceHashMap<K, V> {
+
+		IdentityWeakReferenceMap() {
+			super(16, ReferenceType.WEAK);
+		}
+
+		@Override
+		protected int getHash(@Nullable Object key) {
+
+			// spread the identity hash code so that the upper bits used to select a segment vary
+			return System.identityHashCode(key) * 0x9E3779B9;
+		}
+	}
+
+	static final class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		long getCount() {
+			return this.count;
+		}
+
+		@Override
+		public void write(int b) {
+			this.count++;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			this.count += length;
+		}
+	}
+}
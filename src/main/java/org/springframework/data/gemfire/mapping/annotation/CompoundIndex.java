@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.geode.cache.query.Index;
+import org.springframework.data.gemfire.IndexType;
+
+/**
+ * The {@link CompoundIndex} annotation declares an Index over several properties of an application persistent entity
+ * that are queried together.
+ *
+ * Pivotal GemFire/Apache Geode does not support multi-column {@link Index Indexes}, so an {@link Index} is created
+ * for each property.  Derived {@link org.springframework.data.repository.Repository} queries filtering on all
+ * the properties add a {@literal <HINT>} naming the {@link Index Indexes}, which makes the OQL query engine prefer
+ * them over other {@link Index Indexes} when evaluating the query.  The engine typically selects candidate entries
+ * with one of the hinted {@link Index Indexes} and evaluates the remaining predicates on those entries; it does not
+ * guarantee an intersection of the {@link Index Indexes}.
+ *
+ * A property that is also annotated with {@link Indexed} of the same type shares the {@link Index}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.query.Index
+ * @see org.springframework.data.gemfire.IndexType
+ * @see org.springframework.data.gemfire.mapping.annotation.CompoundIndexes
+ * @see org.springframework.data.gemfire.mapping.annotation.Indexed
+ * @since 2.2.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Repeatable(CompoundIndexes.class)
+@SuppressWarnings({ "unused" })
+public @interface CompoundIndex {
+
+	/**
+	 * Names (or dot-separated paths) of the properties to index.
+	 */
+	String[] properties();
+
+	/**
+	 * Type of Index to create for each property.
+	 *
+	 * Defaults to {@link IndexType#FUNCTIONAL}, which supports both equality and range predicates.
+	 */
+	IndexType type() default IndexType.FUNCTIONAL;
+
+}
@@ -70,6 +70,15 @@ public @interface Indexed {
 	 */
 	String from() default "";
 
+	/**
+	 * Keys of a {@link java.util.Map} property to index, or {@literal *} to index all keys.
+	 *
+	 * When set and no {@link #expression()} is given, a Map Index is created with an expression
+	 * of the form {@literal property['key1', 'key2']} or {@literal property[*]}.
+	 * Map Indexes are always {@link IndexType#FUNCTIONAL} Indexes.
+	 */
+	String[] keys() default {};
+
 	/**
 	 * Type of Index to create.
 	 *
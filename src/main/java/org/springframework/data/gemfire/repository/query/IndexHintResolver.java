@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.data.gemfire.mapping.EntityIndexes;
+import org.springframework.data.gemfire.mapping.EntityIndexes.IndexMetadata;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * {@link IndexHintResolver} matches the predicates of a derived query to the Indexes declared on
+ * the queried {@link GemfirePersistentEntity} and resolves the Index names to use in an OQL {@literal <HINT>}.
+ *
+ * A {@link org.springframework.data.gemfire.mapping.annotation.CompoundIndex} matches when the query
+ * filters on all of its properties.  A single property Index matches when its property is filtered with
+ * a predicate the Index supports; only {@link org.springframework.data.gemfire.IndexType#FUNCTIONAL} Indexes
+ * support range predicates.  Only Indexes that are {@link #IndexHintResolver(GemfirePersistentEntity, Predicate)
+ * known to exist}, for example Index beans registered by
+ * {@link org.springframework.data.gemfire.config.annotation.EnableIndexing}, are hinted.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.mapping.EntityIndexes
+ * @see org.springframework.data.repository.query.parser.PartTree
+ * @since 2.2.0
+ */
+class IndexHintResolver {
+
+	private static final Set<Part.Type> EQUALITY_TYPES = EnumSet.of(Part.Type.IN, Part.Type.SIMPLE_PROPERTY);
+
+	private static final Set<Part.Type> RANGE_TYPES = EnumSet.of(Part.Type.AFTER, Part.Type.BEFORE,
+		Part.Type.BETWEEN, Part.Type.GREATER_THAN, Part.Type.GREATER_THAN_EQUAL, Part.Type.LESS_THAN,
+		Part.Type.LESS_THAN_EQUAL);
+
+	private final EntityIndexes entityIndexes;
+
+	private final Predicate<String> indexExists;
+
+	IndexHintResolver(GemfirePersistentEntity<?> entity, Predicate<String> indexExists) {
+		this.entityIndexes = EntityIndexes.from(entity);
+		this.indexExists = indexExists != null ? indexExists : indexName -> false;
+	}
+
+	/**
+	 * Resolves the names of the Indexes matching the predicates of the given {@link PartTree}.
+	 *
+	 * @param tree {@link PartTree} of the derived query.
+	 * @return the names of the matching Indexes, or an empty array if no declared Index matches.
+	 */
+	String[] resolveHints(PartTree tree) {
+
+		if (this.entityIndexes.isEmpty()) {
+			return new String[0];
+		}
+
+		Map<String, Boolean> predicates = new HashMap<>();
+
+		for (Part part : tree.getParts()) {
+
+			Part.Type type = part.getType();
+
+			if (EQUALITY_TYPES.contains(type) || RANGE_TYPES.contains(type)) {
+				predicates.merge(part.getProperty().toDotPath(), RANGE_TYPES.contains(type), Boolean::logicalOr);
+			}
+		}
+
+		Set<String> hints = new LinkedHashSet<>();
+
+		for (List<IndexMetadata> compoundIndex : this.entityIndexes.getCompoundIndexes()) {
+			if (compoundIndex.stream().allMatch(index -> matches(index, predicates))) {
+				compoundIndex.forEach(index -> hints.add(index.getName()));
+			}
+		}
+
+		for (IndexMetadata index : this.entityIndexes.getIndexes()) {
+			if (matches(index, predicates)) {
+				hints.add(index.getName());
+			}
+		}
+
+		return hints.stream().filter(this.indexExists).toArray(String[]::new);
+	}
+
+	private boolean matches(IndexMetadata index, Map<String, Boolean> predicates) {
+
+		Boolean range = predicates.get(index.getPropertyPath());
+
+		return range != null && (!range || index.supportsRange());
+	}
+}
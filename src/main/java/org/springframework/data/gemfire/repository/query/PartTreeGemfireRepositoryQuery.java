@@ -18,6 +18,7 @@ package org.springframework.data.gemfire.repository.query;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
@@ -41,6 +42,8 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	private final PartTree tree;
 
+	private final String[] indexHints;
+
 	/**
 	 * Creates a new {@link PartTreeGemfireRepositoryQuery} using the given {@link GemfireQueryMethod} and
 	 * {@link GemfireTemplate}.
@@ -49,6 +52,21 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 * @param template must not be {@literal null}.
 	 */
 	public PartTreeGemfireRepositoryQuery(GemfireQueryMethod method, GemfireTemplate template) {
+		this(method, template, null);
+	}
+
+	/**
+	 * Creates a new {@link PartTreeGemfireRepositoryQuery} using the given {@link GemfireQueryMethod},
+	 * {@link GemfireTemplate} and {@link Predicate} determining whether a named Index exists.  Indexes declared
+	 * on the queried entity that exist are added to the derived query as a {@literal <HINT>}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param template must not be {@literal null}.
+	 * @param indexExists {@link Predicate} determining whether a named Index exists; may be {@literal null},
+	 * in which case no Indexes are hinted.
+	 */
+	public PartTreeGemfireRepositoryQuery(GemfireQueryMethod method, GemfireTemplate template,
+			Predicate<String> indexExists) {
 
 		super(method);
 
@@ -57,6 +75,7 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.method = method;
 		this.template = template;
 		this.tree = new PartTree(method.getName(), domainClass);
+		this.indexHints = new IndexHintResolver(method.getPersistentEntity(), indexExists).resolveHints(this.tree);
 	}
 
 	/*
@@ -80,7 +99,10 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryMethod.getPersistentEntity());
 
-		return queryCreator.createQuery(parameterAccessor.getSort());
+		QueryString query = queryCreator.createQuery(parameterAccessor.getSort());
+
+		// an explicit @Hint on the query method takes precedence over the Indexes declared on the entity
+		return queryMethod.hasHint() ? query : query.withHints(this.indexHints);
 	}
 
 	private GemfireRepositoryQuery newRepositoryQuery(QueryString query,
@@ -58,6 +58,7 @@ public class QueryString {
 	private static final String TRACE_OQL_TEMPLATE = "<TRACE> %1$s";
 
 	// OQL Query Regular Expression Patterns
+	private static final String IN_COLLECTION_PARAMETER_PATTERN = "IN (SET|LIST) (\\$\\d+)";
 	private static final String IN_PATTERN = "(?<=IN (SET|LIST) )\\$\\d";
 	private static final String IN_PARAMETER_PATTERN = "(?<=IN (SET|LIST) \\$)\\d";
 	private static final String REGION_PATTERN = "\\/(\\/?\\w)+";
@@ -208,6 +209,20 @@ public class QueryString {
 		return this;
 	}
 
+	/**
+	 * Rewrites the {@literal IN SET} and {@literal IN LIST} parameters of the OQL Query so that each parameter
+	 * binds a {@link Collection} of values, for example {@literal x.id IN SET $1} becomes {@literal x.id IN $1}.
+	 *
+	 * Unlike {@link #bindIn(Collection)}, the query text does not depend on the values, so the same compiled
+	 * query is reused regardless of the values bound to the {@literal IN} parameter.
+	 *
+	 * @return a Query String having "in" parameters bind {@link Collection Collections} of values.
+	 * @see #getInParameterIndexes()
+	 */
+	public QueryString bindInAsParameters() {
+		return QueryString.of(this.query.replaceAll(IN_COLLECTION_PARAMETER_PATTERN, "IN $2"));
+	}
+
 	/**
 	 * Replaces the {@link Class domain classes} referenced inside the current {@link String query}
 	 * with the given {@link Region}.
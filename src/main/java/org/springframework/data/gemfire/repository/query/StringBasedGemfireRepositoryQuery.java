@@ -22,12 +22,16 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.util.PdxInstanceUtils;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -150,14 +154,16 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		QueryMethod queryMethod = getQueryMethod();
 
-		QueryString query = preProcess(queryMethod, getQuery(), arguments);
+		Object[] queryArguments = arguments != null ? arguments.clone() : new Object[0];
+
+		QueryString query = preProcess(queryMethod, getQuery(), queryArguments);
 
 		String queryString = query.toString();
 		String processedQueryString = getQueryPostProcessor().postProcess(queryMethod, queryString, arguments);
 
-		SelectResults<?> selectResults = getTemplate().find(processedQueryString, arguments);
+		SelectResults<?> selectResults = getTemplate().find(processedQueryString, queryArguments);
 
-		return postProcess(queryMethod, selectResults);
+		return processResult(queryMethod, postProcess(queryMethod, selectResults), queryArguments);
 	}
 
 	QueryString preProcess(QueryMethod queryMethod, QueryString query, Object[] arguments) {
@@ -169,10 +175,12 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			new ParametersParameterAccessor(queryMethod.getParameters(), arguments);
 
 		for (Integer index : query.getInParameterIndexes()) {
-			query = query.bindIn(toCollection(parameterAccessor.getBindableValue(index - 1)));
+			if (index > 0 && index <= arguments.length) {
+				arguments[index - 1] = toCollection(parameterAccessor.getBindableValue(index - 1));
+			}
 		}
 
-		return query;
+		return query.bindInAsParameters();
 	}
 
 	Object postProcess(QueryMethod queryMethod, SelectResults<?> selectResults) {
@@ -201,6 +209,43 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		}
 	}
 
+	/**
+	 * Processes the query result into the projection returned by the query method, if any.
+	 *
+	 * When the cache reads PDX serialized values in serialized form, query methods returning a projection interface
+	 * receive lightweight views backed by the {@link PdxInstance PdxInstances} that only deserialize the properties
+	 * actually accessed, while query methods returning a projection class receive deserialized values.
+	 * The results of all other query methods, including those returning the entity type, are returned as is.
+	 *
+	 * @param queryMethod {@link QueryMethod} being executed.
+	 * @param result query result to process.
+	 * @param arguments array of {@link Object arguments} passed to the query method.
+	 * @return the processed query result.
+	 * @see org.springframework.data.repository.query.ResultProcessor
+	 */
+	Object processResult(QueryMethod queryMethod, Object result, Object[] arguments) {
+
+		ResultProcessor resultProcessor = queryMethod.getResultProcessor();
+
+		if (resultProcessor != null) {
+
+			resultProcessor = resultProcessor
+				.withDynamicProjection(new ParametersParameterAccessor(queryMethod.getParameters(), arguments));
+
+			ReturnedType returnedType = resultProcessor.getReturnedType();
+
+			Class<?> returnedTypeClass = returnedType.getReturnedType();
+
+			if (returnedType.isProjecting() && !PdxInstance.class.isAssignableFrom(returnedTypeClass)) {
+				return returnedTypeClass.isInterface()
+					? resultProcessor.processResult(result)
+					: PdxInstanceUtils.deserialize(result);
+			}
+		}
+
+		return result;
+	}
+
 	@SuppressWarnings("all")
 	boolean isSingleNonEntityResult(QueryMethod method, Collection<?> result) {
 
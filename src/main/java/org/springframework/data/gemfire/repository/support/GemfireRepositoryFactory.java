@@ -21,9 +21,13 @@ import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newI
 import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.apache.geode.cache.Region;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.IndexAdvisor;
+import org.springframework.data.gemfire.config.annotation.support.LazyRegion;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.mapping.Regions;
@@ -74,6 +78,10 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 	private final Regions regions;
 
+	private IndexAdvisor indexAdvisor;
+
+	private Predicate<String> indexExists;
+
 	/**
 	 * Constructs a new instance of {@link GemfireRepositoryFactory} initialized with the given collection
 	 * of configured {@link Region Regions} and the {@link MappingContext}.
@@ -109,6 +117,39 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		return this.mappingContext;
 	}
 
+	/**
+	 * Sets the {@link IndexAdvisor} recording the OQL queries executed by the {@link Repository Repositories}
+	 * created by this factory.
+	 *
+	 * @param indexAdvisor {@link IndexAdvisor} recording executed queries.
+	 * @see org.springframework.data.gemfire.IndexAdvisor
+	 */
+	public void setIndexAdvisor(@Nullable IndexAdvisor indexAdvisor) {
+		this.indexAdvisor = indexAdvisor;
+	}
+
+	@Nullable
+	protected IndexAdvisor getIndexAdvisor() {
+		return this.indexAdvisor;
+	}
+
+	/**
+	 * Sets the {@link Predicate} determining whether a named Index exists.  Indexes declared on an entity
+	 * that exist are added as a {@literal <HINT>} to the derived queries of the entity's
+	 * {@link Repository Repositories}.  When not set, no Indexes are hinted.
+	 *
+	 * @param indexExists {@link Predicate} determining whether a named Index exists.
+	 * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+	 */
+	public void setIndexExists(@Nullable Predicate<String> indexExists) {
+		this.indexExists = indexExists;
+	}
+
+	@Nullable
+	protected Predicate<String> getIndexExists() {
+		return this.indexExists;
+	}
+
 	/**
 	 * Returns a reference to the configured, application-defined {@link Region Regions}.
 	 *
@@ -138,6 +179,27 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 		return SimpleGemfireRepository.class;
 	}
 
+	/**
+	 * Returns a {@link PdxInstanceProjectionFactory} used to create lightweight, lazily deserializing views
+	 * of PDX serialized values returned by query methods with a projection interface return type.
+	 *
+	 * @param classLoader {@link ClassLoader} used to load and define the projection types.
+	 * @param beanFactory {@link BeanFactory} used to resolve beans referenced in SpEL projection expressions.
+	 * @return a {@link PdxInstanceProjectionFactory}.
+	 * @see org.springframework.data.gemfire.repository.support.PdxInstanceProjectionFactory
+	 * @see org.springframework.data.projection.ProjectionFactory
+	 */
+	@Override
+	protected ProjectionFactory getProjectionFactory(ClassLoader classLoader, BeanFactory beanFactory) {
+
+		PdxInstanceProjectionFactory projectionFactory = new PdxInstanceProjectionFactory(classLoader);
+
+		projectionFactory.setBeanClassLoader(classLoader);
+		projectionFactory.setBeanFactory(beanFactory);
+
+		return projectionFactory;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getTargetRepository(org.springframework.data.repository.core.RepositoryInformation)
@@ -170,7 +232,12 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		GemfirePersistentEntity<?> entity = resolvePersistentEntity(repositoryMetadata.getDomainType());
 
-		return new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+		GemfireTemplate template =
+			new GemfireTemplate(validate(repositoryMetadata, entity, resolveRegion(repositoryMetadata, entity)));
+
+		template.setIndexAdvisor(getIndexAdvisor());
+
+		return template;
 	}
 
 	@Nullable
@@ -194,7 +261,10 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 
 		Class<?> repositoryIdType = repositoryMetadata.getIdType();
 
-		Optional.ofNullable(region.getAttributes().getKeyConstraint())
+		// avoid creating a lazy Region just to validate its key constraint
+		Optional.of(region)
+			.map(it -> it instanceof LazyRegion ? ((LazyRegion) it).getKeyConstraint()
+				: it.getAttributes().getKeyConstraint())
 			.ifPresent(regionKeyType -> Assert.isTrue(regionKeyType.isAssignableFrom(repositoryIdType),
 				() -> String.format(REGION_REPOSITORY_ID_TYPE_MISMATCH, region.getFullPath(), regionKeyType.getName(),
 					repositoryMetadata.getRepositoryInterface().getName(), repositoryIdType.getName())));
@@ -269,7 +339,7 @@ public class GemfireRepositoryFactory extends RepositoryFactorySupport {
 						queryMethod, template).asUserDefinedQuery();
 				}
 
-				return new PartTreeGemfireRepositoryQuery(queryMethod, template);
+				return new PartTreeGemfireRepositoryQuery(queryMethod, template, getIndexExists());
 			});
 	}
 
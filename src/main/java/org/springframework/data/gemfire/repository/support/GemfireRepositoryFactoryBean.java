@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.WeakHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -32,6 +33,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.OrderComparator;
+import org.springframework.data.gemfire.IndexAdvisor;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
@@ -73,6 +75,8 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	private ApplicationContext applicationContext;
 
+	private IndexAdvisor indexAdvisor;
+
 	private Iterable<Region<?, ?>> regions;
 
 	private MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext;
@@ -141,6 +145,21 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		return this.mappingContext;
 	}
 
+	/**
+	 * Configures the {@link IndexAdvisor} recording the OQL queries executed by the {@link Repository}.
+	 *
+	 * @param indexAdvisor {@link IndexAdvisor} recording executed queries.
+	 * @see org.springframework.data.gemfire.IndexAdvisor
+	 */
+	@Autowired(required = false)
+	public void setIndexAdvisor(IndexAdvisor indexAdvisor) {
+		this.indexAdvisor = indexAdvisor;
+	}
+
+	protected IndexAdvisor getIndexAdvisor() {
+		return this.indexAdvisor;
+	}
+
 	/**
 	 * Attempts to resolve the {@link MappingContext} used to map {@link GemfirePersistentEntity entities}
 	 * to Pivotal GemFire.
@@ -184,6 +203,13 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		GemfireRepositoryFactory repositoryFactory =
 			new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
 
+		repositoryFactory.setIndexAdvisor(getIndexAdvisor());
+
+		// only hint the Indexes declared on entities that were registered as beans, e.g. by @EnableIndexing
+		getApplicationContext()
+			.map(applicationContext -> (Predicate<String>) applicationContext::containsBean)
+			.ifPresent(repositoryFactory::setIndexExists);
+
 		getApplicationContext()
 			.map(applicationContext -> new QueryPostProcessorRegistrationOnQueryCreationListener(applicationContext))
 			.ifPresent(repositoryFactory::addQueryCreationListener);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.support;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory;
+import org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+/**
+ * {@link PdxInstanceProjectionFactory} is a Spring Data {@link org.springframework.data.projection.ProjectionFactory}
+ * creating lightweight views of {@link PdxInstance PdxInstances} returned by repository finders when the cache reads
+ * PDX serialized values in serialized form (e.g. {@code @EnablePdx(readSerialized = true)}).
+ *
+ * The view reads each property from the serialized PDX bytes with {@link PdxInstance#getField(String)} only when
+ * the caller invokes the corresponding accessor, so that only the properties actually touched are deserialized
+ * and the entity object is never materialized.  Projection interfaces consisting entirely of accessors and mutators
+ * use the {@link CompiledPdxInstanceProjectionFactory}; all other projection interfaces (e.g. using SpEL)
+ * are backed by the {@link PdxInstance} through the {@link PdxInstanceMethodInterceptorFactory}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory
+ * @see org.springframework.data.projection.SpelAwareProxyProjectionFactory
+ * @since 2.2.0
+ */
+public class PdxInstanceProjectionFactory extends SpelAwareProxyProjectionFactory {
+
+	private final CompiledPdxInstanceProjectionFactory compiledProjectionFactory;
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceProjectionFactory} using the default {@link ClassLoader}.
+	 */
+	public PdxInstanceProjectionFactory() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link PdxInstanceProjectionFactory} initialized with the given {@link ClassLoader}
+	 * used to define the generated projection classes.
+	 *
+	 * @param classLoader {@link ClassLoader} used to define the generated projection classes.
+	 * @see java.lang.ClassLoader
+	 */
+	public PdxInstanceProjectionFactory(ClassLoader classLoader) {
+
+		this.compiledProjectionFactory = new CompiledPdxInstanceProjectionFactory(classLoader);
+
+		registerMethodInvokerFactory(PdxInstanceMethodInterceptorFactory.INSTANCE);
+	}
+
+	/**
+	 * Returns the {@link CompiledPdxInstanceProjectionFactory} used to create views of {@link PdxInstance PdxInstances}.
+	 *
+	 * @return the {@link CompiledPdxInstanceProjectionFactory}.
+	 */
+	protected CompiledPdxInstanceProjectionFactory getCompiledProjectionFactory() {
+		return this.compiledProjectionFactory;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public <T> T createProjection(Class<T> projectionType, Object source) {
+
+		return source instanceof PdxInstance && getCompiledProjectionFactory().supports(source, projectionType)
+			? getCompiledProjectionFactory().createProjection(projectionType, (PdxInstance) source)
+			: super.createProjection(projectionType, source);
+	}
+}
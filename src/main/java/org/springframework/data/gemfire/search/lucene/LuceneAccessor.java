@@ -233,6 +233,29 @@ public abstract class LuceneAccessor extends LuceneOperationsSupport implements
 		return resolvedRegionPath;
 	}
 
+	/**
+	 * Resolves the {@link Region} to which the Lucene data access, query operations are performed, either from
+	 * the configured {@link Region} reference or by looking up the {@link Region} in the {@link GemFireCache}
+	 * using the {@link #resolveRegionPath() resolved Region path}.
+	 *
+	 * @param <K> {@link Class} type of the {@link Region} key.
+	 * @param <V> {@link Class} type of the {@link Region} value.
+	 * @return the resolved {@link Region}.
+	 * @throws IllegalStateException if the {@link Region} cannot be resolved.
+	 * @see org.apache.geode.cache.Region
+	 * @see #resolveRegionPath()
+	 * @see #getRegion()
+	 */
+	@SuppressWarnings("unchecked")
+	protected <K, V> Region<K, V> resolveRegion() {
+		Region<K, V> resolvedRegion = (Region<K, V>) Optional.ofNullable(getRegion())
+			.orElseGet(() -> resolveCache().getRegion(resolveRegionPath()));
+
+		Assert.state(resolvedRegion != null, "Region could not be resolved");
+
+		return resolvedRegion;
+	}
+
 	/**
 	 * Sets a reference to the {@link GemFireCache}.
 	 *
@@ -17,17 +17,37 @@
 
 package org.springframework.data.gemfire.search.lucene;
 
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.util.ObjectSizer;
 import org.apache.geode.cache.lucene.LuceneIndex;
 import org.apache.geode.cache.lucene.LuceneQuery;
 import org.apache.geode.cache.lucene.LuceneQueryFactory;
 import org.apache.geode.cache.lucene.LuceneQueryProvider;
 import org.apache.geode.cache.lucene.LuceneResultStruct;
 import org.apache.geode.cache.lucene.PageableLuceneQueryResults;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryException;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.gemfire.search.lucene.support.LuceneAccessorSupport;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link LuceneTemplate} is a Lucene data access operations class encapsulating functionality
@@ -49,6 +69,18 @@ import org.springframework.data.gemfire.search.lucene.support.LuceneAccessorSupp
 @SuppressWarnings("unused")
 public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOperations {
 
+	public static final int DEFAULT_BULK_FETCH_BATCH_SIZE = 1000;
+
+	public static final long DEFAULT_BULK_FETCH_MAX_BYTES = 16L * 1024L * 1024L;
+
+	private boolean bulkFetchEnabled = false;
+
+	private int bulkFetchBatchSize = DEFAULT_BULK_FETCH_BATCH_SIZE;
+
+	private long bulkFetchMaxBytes = DEFAULT_BULK_FETCH_MAX_BYTES;
+
+	private ObjectSizer bulkFetchObjectSizer = ObjectSizer.DEFAULT;
+
 	/**
 	 * Constructs an uninitialized instance of {@link LuceneTemplate}.
 	 */
@@ -88,6 +120,107 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 		super(indexName, regionPath);
 	}
 
+	/**
+	 * Sets whether {@link #queryForValues(String, String, int)} and {@link #queryForValues(LuceneQueryProvider, int)}
+	 * first find only the keys of the matching entries and then fetch the values in batches
+	 * with {@link Region#getAll(Collection)} rather than returning the values inline with the Lucene query results.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @param bulkFetchEnabled boolean value indicating whether values are bulk fetched by key.
+	 * @see #setBulkFetchBatchSize(int)
+	 */
+	public void setBulkFetchEnabled(boolean bulkFetchEnabled) {
+		this.bulkFetchEnabled = bulkFetchEnabled;
+	}
+
+	/**
+	 * Determines whether values are bulk fetched by key after the Lucene query finds the matching keys.
+	 *
+	 * @return a boolean value indicating whether values are bulk fetched by key.
+	 * @see #setBulkFetchEnabled(boolean)
+	 */
+	public boolean isBulkFetchEnabled() {
+		return this.bulkFetchEnabled;
+	}
+
+	/**
+	 * Sets the maximum number of keys fetched in a single {@link Region#getAll(Collection)} or field query.
+	 *
+	 * Batches are further bounded by the {@link #setBulkFetchMaxBytes(long) estimated size} of the fetched values.
+	 *
+	 * @param bulkFetchBatchSize maximum number of keys per batch; must be greater than 0.
+	 * @throws IllegalArgumentException if the batch size is less than 1.
+	 * @see #DEFAULT_BULK_FETCH_BATCH_SIZE
+	 */
+	public void setBulkFetchBatchSize(int bulkFetchBatchSize) {
+		Assert.isTrue(bulkFetchBatchSize > 0,
+			() -> String.format("Bulk fetch batch size [%d] must be greater than 0", bulkFetchBatchSize));
+		this.bulkFetchBatchSize = bulkFetchBatchSize;
+	}
+
+	/**
+	 * Returns the maximum number of keys fetched in a single {@link Region#getAll(Collection)} or field query.
+	 *
+	 * @return the maximum number of keys per batch.
+	 * @see #DEFAULT_BULK_FETCH_BATCH_SIZE
+	 */
+	public int getBulkFetchBatchSize() {
+		return this.bulkFetchBatchSize;
+	}
+
+	/**
+	 * Sets the approximate maximum number of bytes of values (or selected fields) fetched in a single batch.
+	 *
+	 * Values are only known once fetched, so the size of each batch after the first is estimated from the average
+	 * {@link #setBulkFetchObjectSizer(ObjectSizer) size} of the values fetched so far.  The first batch is bounded
+	 * by the {@link #getBulkFetchBatchSize() batch size} only.  A value less than 1 disables the bound.
+	 *
+	 * Defaults to {@link #DEFAULT_BULK_FETCH_MAX_BYTES}.
+	 *
+	 * @param bulkFetchMaxBytes approximate maximum number of bytes fetched in a single batch.
+	 * @see #setBulkFetchObjectSizer(ObjectSizer)
+	 */
+	public void setBulkFetchMaxBytes(long bulkFetchMaxBytes) {
+		this.bulkFetchMaxBytes = bulkFetchMaxBytes;
+	}
+
+	/**
+	 * Returns the approximate maximum number of bytes of values (or selected fields) fetched in a single batch.
+	 *
+	 * @return the approximate maximum number of bytes per batch.
+	 * @see #DEFAULT_BULK_FETCH_MAX_BYTES
+	 */
+	public long getBulkFetchMaxBytes() {
+		return this.bulkFetchMaxBytes;
+	}
+
+	/**
+	 * Sets the {@link ObjectSizer} used to estimate the size of fetched values when bounding
+	 * the {@link #setBulkFetchMaxBytes(long) bytes per batch}.
+	 *
+	 * Defaults to {@link ObjectSizer#DEFAULT}.
+	 *
+	 * @param bulkFetchObjectSizer {@link ObjectSizer} used to estimate the size of fetched values;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ObjectSizer} is {@literal null}.
+	 * @see org.apache.geode.cache.util.ObjectSizer
+	 */
+	public void setBulkFetchObjectSizer(ObjectSizer bulkFetchObjectSizer) {
+		Assert.notNull(bulkFetchObjectSizer, "ObjectSizer must not be null");
+		this.bulkFetchObjectSizer = bulkFetchObjectSizer;
+	}
+
+	/**
+	 * Returns the {@link ObjectSizer} used to estimate the size of fetched values.
+	 *
+	 * @return the {@link ObjectSizer} used to estimate the size of fetched values.
+	 * @see org.apache.geode.cache.util.ObjectSizer
+	 */
+	public ObjectSizer getBulkFetchObjectSizer() {
+		return this.bulkFetchObjectSizer;
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -193,6 +326,10 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 	@Override
 	public <V> Collection<V> queryForValues(String query, String defaultField, int resultLimit) {
 
+		if (isBulkFetchEnabled()) {
+			return doBulkFetch(queryForKeys(query, defaultField, resultLimit));
+		}
+
 		String indexName = resolveIndexName();
 		String regionPath = resolveRegionPath();
 
@@ -209,6 +346,10 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 	@Override
 	public <V> Collection<V> queryForValues(LuceneQueryProvider queryProvider, int resultLimit) {
 
+		if (isBulkFetchEnabled()) {
+			return doBulkFetch(queryForKeys(queryProvider, resultLimit));
+		}
+
 		String indexName = resolveIndexName();
 		String regionPath = resolveRegionPath();
 
@@ -218,4 +359,246 @@ public class LuceneTemplate extends LuceneAccessorSupport implements LuceneOpera
 
 		return doFind(queryWrapper::findValues, queryProvider, regionPath, indexName);
 	}
+
+	/**
+	 * Executes the given Lucene {@link String query} returning only the given fields of the matching values.
+	 *
+	 * The keys of the matching entries are found first and then the fields are selected with an OQL projection
+	 * over the keys in batches of {@link #getBulkFetchBatchSize()}, so that only the selected fields,
+	 * rather than whole values, are transferred and deserialized.  For PDX serialized values, the fields
+	 * are read from the serialized form.
+	 *
+	 * @param query {@link String} containing the Lucene query to execute.
+	 * @param defaultField {@link String} specifying the default field used in Lucene queries when a field
+	 * is not explicitly defined in the Lucene query clause.
+	 * @param resultLimit limit on the number of query results to return.
+	 * @param fieldNames names of the fields to select from the matching values.
+	 * @return a {@link List} of {@link Map Maps} of field name to field value, one for each matching value.
+	 * @see #queryForKeys(String, String, int)
+	 */
+	public List<Map<String, Object>> queryForFieldValues(String query, String defaultField, int resultLimit,
+			String... fieldNames) {
+
+		validateFieldNames(fieldNames);
+
+		return doBulkFetchFields(queryForKeys(query, defaultField, resultLimit), fieldNames);
+	}
+
+	/**
+	 * Executes the given {@link LuceneQueryProvider query} returning only the given fields of the matching values.
+	 *
+	 * @param queryProvider {@link LuceneQueryProvider} providing the Lucene query to execute.
+	 * @param resultLimit limit on the number of query results to return.
+	 * @param fieldNames names of the fields to select from the matching values.
+	 * @return a {@link List} of {@link Map Maps} of field name to field value, one for each matching value.
+	 * @see #queryForFieldValues(String, String, int, String...)
+	 * @see #queryForKeys(LuceneQueryProvider, int)
+	 */
+	public List<Map<String, Object>> queryForFieldValues(LuceneQueryProvider queryProvider, int resultLimit,
+			String... fieldNames) {
+
+		validateFieldNames(fieldNames);
+
+		return doBulkFetchFields(queryForKeys(queryProvider, resultLimit), fieldNames);
+	}
+
+	/**
+	 * Fetches the values for the given keys from the {@link #resolveRegion() resolved Region} in batches of
+	 * at most {@link #getBulkFetchBatchSize()} keys and approximately {@link #getBulkFetchMaxBytes()} bytes
+	 * with {@link Region#getAll(Collection)}.
+	 *
+	 * Values are returned in the order of the given keys.  Keys no longer mapped to a value are skipped.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param <V> {@link Class} type of the value.
+	 * @param keys {@link Collection} of keys to fetch.
+	 * @return a {@link Collection} of values for the given keys.
+	 * @see org.apache.geode.cache.Region#getAll(Collection)
+	 */
+	protected <K, V> Collection<V> doBulkFetch(Collection<K> keys) {
+
+		if (keys == null || keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Region<K, V> region = resolveRegion();
+
+		List<V> values = new ArrayList<>(keys.size());
+
+		boolean sized = isBulkFetchSizeBounded();
+
+		forEachBatch(keys, batch -> {
+
+			Map<K, V> batchValues = region.getAll(batch);
+
+			long batchBytes = 0L;
+
+			for (K key : batch) {
+
+				V value = batchValues.get(key);
+
+				if (value != null) {
+					values.add(value);
+					batchBytes += sized ? sizeOf(value) : 0L;
+				}
+			}
+
+			return batchBytes;
+		});
+
+		return values;
+	}
+
+	/**
+	 * Selects the given fields of the values for the given keys from the {@link #resolveRegion() resolved Region}
+	 * using an OQL projection over the keys in batches of at most {@link #getBulkFetchBatchSize()} keys
+	 * and approximately {@link #getBulkFetchMaxBytes()} bytes of selected fields.
+	 *
+	 * Field names are embedded in the OQL query and must therefore be Java identifiers, or a dot separated path
+	 * of Java identifiers for nested fields.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param keys {@link Collection} of keys to fetch.
+	 * @param fieldNames names of the fields to select.
+	 * @return a {@link List} of {@link Map Maps} of field name to field value in the order of the given keys.
+	 * @throws DataRetrievalFailureException if the OQL query fails.
+	 * @throws IllegalArgumentException if no field names are given or a field name is not a valid identifier.
+	 * @see org.apache.geode.cache.query.Query
+	 */
+	protected <K> List<Map<String, Object>> doBulkFetchFields(Collection<K> keys, String... fieldNames) {
+
+		validateFieldNames(fieldNames);
+
+		if (keys == null || keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		Region<K, ?> region = resolveRegion();
+
+		String queryString = String.format("SELECT e.key, %1$s FROM %2$s.entrySet e WHERE e.key IN $1",
+			Arrays.stream(fieldNames).map(fieldName -> "e.value." + fieldName)
+				.collect(Collectors.joining(", ")), region.getFullPath());
+
+		Query query = region.getRegionService().getQueryService().newQuery(queryString);
+
+		Map<Object, Map<String, Object>> fieldValuesByKey = new HashMap<>(keys.size());
+
+		boolean sized = isBulkFetchSizeBounded();
+
+		forEachBatch(keys, batch -> {
+			try {
+
+				SelectResults<?> results = (SelectResults<?>) query.execute(new Object[] { new HashSet<>(batch) });
+
+				long batchBytes = 0L;
+
+				for (Object result : results) {
+
+					Object[] values = ((Struct) result).getFieldValues();
+
+					Map<String, Object> fieldValues = new LinkedHashMap<>(fieldNames.length);
+
+					for (int index = 0; index < fieldNames.length; index++) {
+						fieldValues.put(fieldNames[index], values[index + 1]);
+						batchBytes += sized ? sizeOf(values[index + 1]) : 0L;
+					}
+
+					fieldValuesByKey.put(values[0], fieldValues);
+				}
+
+				return batchBytes;
+			}
+			catch (QueryException cause) {
+				throw new DataRetrievalFailureException(String.format("Failed to execute OQL query [%1$s] for keys %2$s",
+					queryString, ObjectUtils.nullSafeToString(batch.toArray())), cause);
+			}
+		});
+
+		return keys.stream().map(fieldValuesByKey::get).filter(fieldValues -> fieldValues != null)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * Validates that the given field names are safe to embed in an OQL projection, i.e. each field name is
+	 * a Java identifier or a dot separated path of Java identifiers.
+	 *
+	 * @param fieldNames names of the fields to validate.
+	 * @throws IllegalArgumentException if no field names are given or a field name is not a valid identifier.
+	 */
+	private void validateFieldNames(String... fieldNames) {
+
+		Assert.notEmpty(fieldNames, "At least one field name is required");
+
+		for (String fieldName : fieldNames) {
+			if (!isFieldPath(fieldName)) {
+				throw newIllegalArgumentException("Field name [%s] is not a valid identifier", fieldName);
+			}
+		}
+	}
+
+	private boolean isFieldPath(String fieldName) {
+
+		if (fieldName == null || fieldName.isEmpty()) {
+			return false;
+		}
+
+		for (String identifier : fieldName.split("\\.", -1)) {
+
+			if (identifier.isEmpty() || !Character.isJavaIdentifierStart(identifier.charAt(0))) {
+				return false;
+			}
+
+			for (int index = 1; index < identifier.length(); index++) {
+				if (!Character.isJavaIdentifierPart(identifier.charAt(index))) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private boolean isBulkFetchSizeBounded() {
+		return getBulkFetchMaxBytes() > 0L;
+	}
+
+	private long sizeOf(Object value) {
+		return value != null ? Math.max(getBulkFetchObjectSizer().sizeof(value), 0) : 0L;
+	}
+
+	/**
+	 * Hands the given keys to the batch consumer in batches of at most {@link #getBulkFetchBatchSize()} keys.
+	 * The batch consumer returns the estimated size in bytes of the values fetched for the batch, from which
+	 * the number of keys in the next batch is derived so that a batch stays within {@link #getBulkFetchMaxBytes()}.
+	 */
+	private <K> void forEachBatch(Collection<K> keys, ToLongFunction<List<K>> batchConsumer) {
+
+		int maxBatchSize = getBulkFetchBatchSize();
+		int batchSize = maxBatchSize;
+
+		long maxBytes = getBulkFetchMaxBytes();
+		long totalBytes = 0L;
+		long totalKeys = 0L;
+
+		Iterator<K> iterator = keys.iterator();
+
+		while (iterator.hasNext()) {
+
+			List<K> batch = new ArrayList<>(Math.min(batchSize, keys.size()));
+
+			while (batch.size() < batchSize && iterator.hasNext()) {
+				batch.add(iterator.next());
+			}
+
+			totalBytes += batchConsumer.applyAsLong(batch);
+			totalKeys += batch.size();
+
+			if (maxBytes > 0L && totalBytes > 0L) {
+
+				long averageBytes = Math.max(totalBytes / totalKeys, 1L);
+
+				batchSize = (int) Math.max(Math.min(maxBatchSize, maxBytes / averageBytes), 1L);
+			}
+		}
+	}
 }
@@ -0,0 +1,517 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.search.lucene;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.lucene.LuceneQueryProvider;
+import org.apache.geode.cache.lucene.LuceneResultStruct;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MultiIndexLuceneTemplate} executes a single Lucene query against multiple {@link LuceneOperations} targets,
+ * each bound to a different Lucene Index and Region, concurrently and merges the results of all targets
+ * into a single, top-K list of results ordered by {@link LuceneResultStruct#getScore() score}.
+ *
+ * The latency of a query is therefore determined by the slowest Lucene Index rather than the sum of all Indexes.
+ * Each target returns at most {@literal resultLimit} results, which are merged using a min-heap bounded to
+ * {@literal resultLimit} entries.  When one target fails, the queries still running on the other targets
+ * are cancelled and interrupted.
+ *
+ * @author John Blum
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.data.gemfire.search.lucene.LuceneOperations
+ * @see org.springframework.data.projection.ProjectionFactory
+ * @see org.apache.geode.cache.lucene.LuceneResultStruct
+ * @since 2.2.0
+ */
+@SuppressWarnings("unused")
+public class MultiIndexLuceneTemplate implements InitializingBean, DisposableBean {
+
+	protected static final Comparator<LuceneResultStruct<?, ?>> SCORE_ORDER =
+		Comparator.comparingDouble(LuceneResultStruct::getScore);
+
+	private Executor executor;
+
+	private ExecutorService managedExecutor;
+
+	private final List<LuceneOperations> targets;
+
+	private ProjectionFactory projectionFactory;
+
+	/**
+	 * Constructs a new instance of {@link MultiIndexLuceneTemplate} initialized with the given array of
+	 * {@link LuceneOperations} targets.
+	 *
+	 * @param targets array of {@link LuceneOperations} targets, each bound to a Lucene Index and Region.
+	 * @throws IllegalArgumentException if no targets were given.
+	 * @see org.springframework.data.gemfire.search.lucene.LuceneOperations
+	 */
+	public MultiIndexLuceneTemplate(LuceneOperations... targets) {
+		this(Arrays.asList(targets != null ? targets : new LuceneOperations[0]));
+	}
+
+	/**
+	 * Constructs a new instance of {@link MultiIndexLuceneTemplate} initialized with the given {@link List} of
+	 * {@link LuceneOperations} targets.
+	 *
+	 * @param targets {@link List} of {@link LuceneOperations} targets, each bound to a Lucene Index and Region.
+	 * @throws IllegalArgumentException if no targets were given.
+	 * @see org.springframework.data.gemfire.search.lucene.LuceneOperations
+	 */
+	public MultiIndexLuceneTemplate(List<? extends LuceneOperations> targets) {
+
+		Assert.notEmpty(targets, "At least one LuceneOperations target is required");
+		Assert.noNullElements(targets.toArray(), "LuceneOperations targets must not be null");
+
+		this.targets = Collections.unmodifiableList(new ArrayList<>(targets));
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void afterPropertiesSet() throws Exception {
+		this.executor = resolveExecutor();
+		this.projectionFactory = resolveProjectionFactory();
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void destroy() throws Exception {
+		Optional.ofNullable(this.managedExecutor).ifPresent(ExecutorService::shutdownNow);
+	}
+
+	/**
+	 * Resolves the {@link Executor} used to run the per-index Lucene queries, creating a fixed thread pool
+	 * with one {@link Thread} per target when an {@link Executor} was not configured.
+	 *
+	 * @return the resolved {@link Executor}.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected Executor resolveExecutor() {
+		return Optional.ofNullable(getExecutor()).orElseGet(() -> {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("MultiIndexLuceneQueryThread-");
+
+			threadFactory.setDaemon(true);
+
+			this.managedExecutor = Executors.newFixedThreadPool(getTargets().size(), threadFactory);
+
+			return this.managedExecutor;
+		});
+	}
+
+	/**
+	 * Resolves the Spring Data {@link ProjectionFactory} used to create projections out of the merged query results.
+	 *
+	 * @return the resolved {@link ProjectionFactory}.
+	 * @see org.springframework.data.projection.ProjectionFactory
+	 */
+	protected ProjectionFactory resolveProjectionFactory() {
+		return Optional.ofNullable(getProjectionFactory()).orElseGet(() -> {
+			SpelAwareProxyProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+			projectionFactory.registerMethodInvokerFactory(PdxInstanceMethodInterceptorFactory.INSTANCE);
+			return projectionFactory;
+		});
+	}
+
+	/**
+	 * Sets the {@link Executor} used to run the per-index Lucene queries concurrently.
+	 *
+	 * @param executor {@link Executor} used to run the per-index Lucene queries.
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to run the per-index Lucene queries concurrently.
+	 *
+	 * @return the {@link Executor} used to run the per-index Lucene queries.
+	 * @see java.util.concurrent.Executor
+	 */
+	protected Executor getExecutor() {
+		return this.executor;
+	}
+
+	/**
+	 * Sets the Spring Data {@link ProjectionFactory} used to create projections out of the merged query results.
+	 *
+	 * @param projectionFactory {@link ProjectionFactory} used to create projections.
+	 * @see org.springframework.data.projection.ProjectionFactory
+	 */
+	public void setProjectionFactory(ProjectionFactory projectionFactory) {
+		this.projectionFactory = projectionFactory;
+	}
+
+	/**
+	 * Returns the Spring Data {@link ProjectionFactory} used to create projections out of the merged query results.
+	 *
+	 * @return the {@link ProjectionFactory} used to create projections.
+	 * @see org.springframework.data.projection.ProjectionFactory
+	 */
+	protected ProjectionFactory getProjectionFactory() {
+		return this.projectionFactory;
+	}
+
+	/**
+	 * Returns the {@link List} of {@link LuceneOperations} targets queried by this template.
+	 *
+	 * @return the {@link List} of {@link LuceneOperations} targets.
+	 * @see org.springframework.data.gemfire.search.lucene.LuceneOperations
+	 */
+	public List<LuceneOperations> getTargets() {
+		return this.targets;
+	}
+
+	/**
+	 * Executes the given Lucene {@link String query} on all targets concurrently and merges the results.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param <V> {@link Class} type of the value.
+	 * @param query {@link String} containing the Lucene query to execute.
+	 * @param defaultField {@link String} specifying the default field used in Lucene queries when a field
+	 * is not explicitly defined in the Lucene query clause.
+	 * @param resultLimit limit on the number of merged query results to return.
+	 * @return a {@link List} of the top {@literal resultLimit} {@link LuceneResultStruct results}
+	 * across all targets in descending order of score.
+	 * @see org.apache.geode.cache.lucene.LuceneResultStruct
+	 */
+	public <K, V> List<LuceneResultStruct<K, V>> query(String query, String defaultField, int resultLimit) {
+		return fanOut(target -> target.query(query, defaultField, resultLimit), resultLimit);
+	}
+
+	/**
+	 * Executes the given {@link LuceneQueryProvider query} on all targets concurrently and merges the results.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param <V> {@link Class} type of the value.
+	 * @param queryProvider {@link LuceneQueryProvider} providing the Lucene query to execute.
+	 * @param resultLimit limit on the number of merged query results to return.
+	 * @return a {@link List} of the top {@literal resultLimit} {@link LuceneResultStruct results}
+	 * across all targets in descending order of score.
+	 * @see org.apache.geode.cache.lucene.LuceneQueryProvider
+	 * @see org.apache.geode.cache.lucene.LuceneResultStruct
+	 */
+	public <K, V> List<LuceneResultStruct<K, V>> query(LuceneQueryProvider queryProvider, int resultLimit) {
+		return fanOut(target -> target.query(queryProvider, resultLimit), resultLimit);
+	}
+
+	/**
+	 * Executes the given Lucene {@link String query} on all targets concurrently and projects the merged results.
+	 *
+	 * @param <T> {@link Class} type of the projection.
+	 * @param query {@link String} containing the Lucene query to execute.
+	 * @param defaultField {@link String} specifying the default field used in Lucene queries when a field
+	 * is not explicitly defined in the Lucene query clause.
+	 * @param resultLimit limit on the number of merged query results to return.
+	 * @param projectionType {@link Class} type of the projection.
+	 * @return a {@link List} of projections of the top {@literal resultLimit} results in descending order of score.
+	 * @see #query(String, String, int)
+	 */
+	public <T> List<T> query(String query, String defaultField, int resultLimit, Class<T> projectionType) {
+		return project(query(query, defaultField, resultLimit), projectionType);
+	}
+
+	/**
+	 * Executes the given {@link LuceneQueryProvider query} on all targets concurrently and projects
+	 * the merged results.
+	 *
+	 * @param <T> {@link Class} type of the projection.
+	 * @param queryProvider {@link LuceneQueryProvider} providing the Lucene query to execute.
+	 * @param resultLimit limit on the number of merged query results to return.
+	 * @param projectionType {@link Class} type of the projection.
+	 * @return a {@link List} of projections of the top {@literal resultLimit} results in descending order of score.
+	 * @see #query(LuceneQueryProvider, int)
+	 */
+	public <T> List<T> query(LuceneQueryProvider queryProvider, int resultLimit, Class<T> projectionType) {
+		return project(query(queryProvider, resultLimit), projectionType);
+	}
+
+	/**
+	 * Executes the given Lucene {@link String query} on all targets concurrently and returns only the keys
+	 * of the matching entries.
+	 *
+	 * Each target only finds keys, without fetching values.  Since scores are only available from Lucene results
+	 * that include values, the keys are merged by rank instead, taking the next best key of each target in turn,
+	 * until {@literal resultLimit} keys have been collected.  Use {@link #queryForKeysByScore(String, String, int)}
+	 * to merge keys by score.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param query {@link String} containing the Lucene query to execute.
+	 * @param defaultField {@link String} specifying the default field used in Lucene queries when a field
+	 * is not explicitly defined in the Lucene query clause.
+	 * @param resultLimit limit on the number of merged keys to return.
+	 * @return a {@link List} of at most {@literal resultLimit} keys, interleaved by rank across all targets.
+	 * @see org.springframework.data.gemfire.search.lucene.LuceneOperations#queryForKeys(String, String, int)
+	 */
+	public <K> List<K> queryForKeys(String query, String defaultField, int resultLimit) {
+		return interleave(fanOut(target -> target.<K>queryForKeys(query, defaultField, resultLimit)), resultLimit);
+	}
+
+	/**
+	 * Executes the given {@link LuceneQueryProvider query} on all targets concurrently and returns only the keys
+	 * of the matching entries, merged by rank.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param queryProvider {@link LuceneQueryProvider} providing the Lucene query to execute.
+	 * @param resultLimit limit on the number of merged keys to return.
+	 * @return a {@link List} of at most {@literal resultLimit} keys, interleaved by rank across all targets.
+	 * @see #queryForKeys(String, String, int)
+	 * @see org.springframework.data.gemfire.search.lucene.LuceneOperations#queryForKeys(LuceneQueryProvider, int)
+	 */
+	public <K> List<K> queryForKeys(LuceneQueryProvider queryProvider, int resultLimit) {
+		return interleave(fanOut(target -> target.<K>queryForKeys(queryProvider, resultLimit)), resultLimit);
+	}
+
+	/**
+	 * Executes the given Lucene {@link String query} on all targets concurrently and returns only the keys
+	 * of the merged results in descending order of score.
+	 *
+	 * Scores are only available from Lucene results that include values, therefore the per-index queries
+	 * return values, which are discarded after the merge.  Use {@link #queryForKeys(String, String, int)}
+	 * when the order across targets does not need to be based on score.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param query {@link String} containing the Lucene query to execute.
+	 * @param defaultField {@link String} specifying the default field used in Lucene queries when a field
+	 * is not explicitly defined in the Lucene query clause.
+	 * @param resultLimit limit on the number of merged query results to return.
+	 * @return a {@link List} of keys of the top {@literal resultLimit} results in descending order of score.
+	 * @see #query(String, String, int)
+	 */
+	public <K> List<K> queryForKeysByScore(String query, String defaultField, int resultLimit) {
+		return keys(query(query, defaultField, resultLimit));
+	}
+
+	/**
+	 * Executes the given {@link LuceneQueryProvider query} on all targets concurrently and returns only the keys
+	 * of the merged results in descending order of score.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param queryProvider {@link LuceneQueryProvider} providing the Lucene query to execute.
+	 * @param resultLimit limit on the number of merged query results to return.
+	 * @return a {@link List} of keys of the top {@literal resultLimit} results in descending order of score.
+	 * @see #queryForKeysByScore(String, String, int)
+	 * @see #query(LuceneQueryProvider, int)
+	 */
+	public <K> List<K> queryForKeysByScore(LuceneQueryProvider queryProvider, int resultLimit) {
+		return keys(query(queryProvider, resultLimit));
+	}
+
+	/* (non-Javadoc) */
+	<K, V> List<LuceneResultStruct<K, V>> fanOut(
+			Function<LuceneOperations, List<LuceneResultStruct<K, V>>> queryFunction, int resultLimit) {
+
+		return merge(fanOut(queryFunction), resultLimit);
+	}
+
+	/**
+	 * Runs the given query function on all targets concurrently, returning the results in the order of the targets.
+	 *
+	 * Each query is submitted to the {@link Executor} as a {@link java.util.concurrent.FutureTask}, so that
+	 * the first failure cancels, and interrupts, the queries still running on the other targets.
+	 */
+	<R> List<R> fanOut(Function<LuceneOperations, R> queryFunction) {
+
+		CompletionService<R> completionService = new ExecutorCompletionService<>(obtainExecutor());
+
+		List<Future<R>> futures = new ArrayList<>(getTargets().size());
+
+		try {
+
+			getTargets().forEach(target -> futures.add(completionService.submit(() -> queryFunction.apply(target))));
+
+			for (int count = 0; count < futures.size(); count++) {
+				completionService.take().get();
+			}
+
+			List<R> results = new ArrayList<>(futures.size());
+
+			for (Future<R> future : futures) {
+				results.add(future.get());
+			}
+
+			return results;
+		}
+		catch (ExecutionException cause) {
+
+			futures.forEach(future -> future.cancel(true));
+
+			if (cause.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) cause.getCause();
+			}
+
+			throw new DataRetrievalFailureException("Failed to execute multi-index Lucene query", cause.getCause());
+		}
+		catch (InterruptedException cause) {
+
+			futures.forEach(future -> future.cancel(true));
+
+			Thread.currentThread().interrupt();
+
+			throw new DataRetrievalFailureException("Interrupted while executing multi-index Lucene query", cause);
+		}
+	}
+
+	/**
+	 * Interleaves the given per-index keys, each in descending order of score, by rank, taking the next key
+	 * of each index in turn until {@literal resultLimit} keys have been collected.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param keys {@link List} of per-index keys.
+	 * @param resultLimit limit on the number of interleaved keys.
+	 * @return the interleaved {@link List} of keys.
+	 */
+	static <K> List<K> interleave(List<? extends Collection<K>> keys, int resultLimit) {
+
+		int limit = Math.max(resultLimit, 0);
+
+		List<K> interleavedKeys = new ArrayList<>();
+
+		List<Iterator<K>> iterators = new ArrayList<>(keys.size());
+
+		for (Collection<K> indexKeys : keys) {
+			if (indexKeys != null) {
+				iterators.add(indexKeys.iterator());
+			}
+		}
+
+		while (interleavedKeys.size() < limit && !iterators.isEmpty()) {
+
+			Iterator<Iterator<K>> indexIterators = iterators.iterator();
+
+			while (indexIterators.hasNext() && interleavedKeys.size() < limit) {
+
+				Iterator<K> indexKeys = indexIterators.next();
+
+				if (indexKeys.hasNext()) {
+					interleavedKeys.add(indexKeys.next());
+				}
+				else {
+					indexIterators.remove();
+				}
+			}
+		}
+
+		return interleavedKeys;
+	}
+
+	/**
+	 * Merges the given per-index results into a single {@link List} of the top {@literal resultLimit} results
+	 * in descending order of score, using a min-heap bounded to {@literal resultLimit} entries.
+	 *
+	 * @param <K> {@link Class} type of the key.
+	 * @param <V> {@link Class} type of the value.
+	 * @param results {@link List} of per-index results.
+	 * @param resultLimit limit on the number of merged results.
+	 * @return the merged, top-K {@link List} of results.
+	 */
+	static <K, V> List<LuceneResultStruct<K, V>> merge(List<List<LuceneResultStruct<K, V>>> results,
+			int resultLimit) {
+
+		int limit = Math.max(resultLimit, 0);
+
+		if (limit == 0) {
+			return Collections.emptyList();
+		}
+
+		PriorityQueue<LuceneResultStruct<K, V>> topResults = new PriorityQueue<>(limit, SCORE_ORDER);
+
+		for (List<LuceneResultStruct<K, V>> indexResults : results) {
+			if (indexResults != null) {
+				for (LuceneResultStruct<K, V> result : indexResults) {
+					if (topResults.size() < limit) {
+						topResults.offer(result);
+					}
+					else if (result.getScore() > topResults.peek().getScore()) {
+						topResults.poll();
+						topResults.offer(result);
+					}
+				}
+			}
+		}
+
+		List<LuceneResultStruct<K, V>> mergedResults = new ArrayList<>(topResults);
+
+		mergedResults.sort(SCORE_ORDER.reversed());
+
+		return mergedResults;
+	}
+
+	private synchronized Executor obtainExecutor() {
+
+		if (getExecutor() == null) {
+			setExecutor(resolveExecutor());
+		}
+
+		return getExecutor();
+	}
+
+	private synchronized ProjectionFactory obtainProjectionFactory() {
+
+		if (getProjectionFactory() == null) {
+			setProjectionFactory(resolveProjectionFactory());
+		}
+
+		return getProjectionFactory();
+	}
+
+	private <K, V> List<K> keys(List<LuceneResultStruct<K, V>> results) {
+		return results.stream().map(LuceneResultStruct::getKey).collect(Collectors.toList());
+	}
+
+	private <T, K, V> List<T> project(List<LuceneResultStruct<K, V>> results, Class<T> projectionType) {
+
+		ProjectionFactory projectionFactory = obtainProjectionFactory();
+
+		return results.stream()
+			.map(result -> projectionFactory.createProjection(projectionType, result.getValue()))
+			.collect(Collectors.toList());
+	}
+}
@@ -24,10 +24,12 @@ import java.util.stream.Collectors;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.lucene.LuceneIndex;
 import org.apache.geode.cache.lucene.LuceneResultStruct;
+import org.apache.geode.pdx.PdxInstance;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory;
 import org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -43,6 +45,7 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
  * @see org.springframework.beans.factory.BeanFactory
  * @see org.springframework.beans.factory.BeanFactoryAware
  * @see org.springframework.data.gemfire.search.lucene.ProjectingLuceneOperations
+ * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
  * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptorFactory
  * @see org.springframework.data.projection.ProjectionFactory
  * @see org.springframework.data.projection.SpelAwareProxyProjectionFactory
@@ -57,10 +60,14 @@ import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 		implements BeanClassLoaderAware, BeanFactoryAware, ProjectingLuceneOperations {
 
+	private boolean compiledProjectionsEnabled = false;
+
 	private BeanFactory beanFactory;
 
 	private ClassLoader beanClassLoader;
 
+	private CompiledPdxInstanceProjectionFactory compiledProjectionFactory;
+
 	private ProjectionFactory projectionFactory;
 
 	/**
@@ -111,6 +118,7 @@ public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 	public void afterPropertiesSet() throws Exception {
 		super.afterPropertiesSet();
 		this.projectionFactory = resolveProjectionFactory();
+		this.compiledProjectionFactory = resolveCompiledProjectionFactory();
 	}
 
 	/**
@@ -133,6 +141,19 @@ public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 		});
 	}
 
+	/**
+	 * Null-safe method to resolve the {@link CompiledPdxInstanceProjectionFactory} used to create projections
+	 * out of {@link PdxInstance} Lucene query results when {@link #isCompiledProjectionsEnabled() enabled}.
+	 *
+	 * @return a resolved instance of the {@link CompiledPdxInstanceProjectionFactory}.
+	 * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
+	 * @see #afterPropertiesSet()
+	 */
+	protected CompiledPdxInstanceProjectionFactory resolveCompiledProjectionFactory() {
+		return Optional.ofNullable(getCompiledProjectionFactory())
+			.orElseGet(() -> new CompiledPdxInstanceProjectionFactory(getBeanClassLoader()));
+	}
+
 	/**
 	 * @inheritDoc
 	 */
@@ -198,6 +219,54 @@ public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 		return this.projectionFactory;
 	}
 
+	/**
+	 * Sets whether projections of {@link PdxInstance} query results are created with
+	 * the {@link CompiledPdxInstanceProjectionFactory}, avoiding the per-result AOP proxy and per-invocation
+	 * method interception of the {@link ProjectionFactory}.  Projection types not supported by
+	 * the {@link CompiledPdxInstanceProjectionFactory} (e.g. using SpEL) still use the {@link ProjectionFactory}.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @param compiledProjectionsEnabled boolean value indicating whether compiled projections are enabled.
+	 * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
+	 */
+	public void setCompiledProjectionsEnabled(boolean compiledProjectionsEnabled) {
+		this.compiledProjectionsEnabled = compiledProjectionsEnabled;
+	}
+
+	/**
+	 * Determines whether projections of {@link PdxInstance} query results are created with
+	 * the {@link CompiledPdxInstanceProjectionFactory}.
+	 *
+	 * @return a boolean value indicating whether compiled projections are enabled.
+	 * @see #setCompiledProjectionsEnabled(boolean)
+	 */
+	public boolean isCompiledProjectionsEnabled() {
+		return this.compiledProjectionsEnabled;
+	}
+
+	/**
+	 * Sets the {@link CompiledPdxInstanceProjectionFactory} used to create projections
+	 * out of {@link PdxInstance} query results.
+	 *
+	 * @param compiledProjectionFactory {@link CompiledPdxInstanceProjectionFactory} used to create projections.
+	 * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
+	 */
+	public void setCompiledProjectionFactory(CompiledPdxInstanceProjectionFactory compiledProjectionFactory) {
+		this.compiledProjectionFactory = compiledProjectionFactory;
+	}
+
+	/**
+	 * Returns the {@link CompiledPdxInstanceProjectionFactory} used to create projections
+	 * out of {@link PdxInstance} query results.
+	 *
+	 * @return the {@link CompiledPdxInstanceProjectionFactory} used to create projections.
+	 * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
+	 */
+	protected CompiledPdxInstanceProjectionFactory getCompiledProjectionFactory() {
+		return this.compiledProjectionFactory;
+	}
+
 	public <T, K, V> List<T> project(List<LuceneResultStruct<K, V>> source, Class<T> projectionType) {
 		return source.stream().map(luceneResultStruct -> project(luceneResultStruct, projectionType))
 			.collect(Collectors.toList());
@@ -208,6 +277,12 @@ public abstract class ProjectingLuceneAccessor extends LuceneTemplate
 	}
 
 	public <T> T project(Object source, Class<T> projectionType) {
-		return getProjectionFactory().createProjection(projectionType, source);
+
+		CompiledPdxInstanceProjectionFactory compiledProjectionFactory = getCompiledProjectionFactory();
+
+		return isCompiledProjectionsEnabled() && compiledProjectionFactory != null
+			&& compiledProjectionFactory.supports(source, projectionType)
+			? compiledProjectionFactory.createProjection(projectionType, (PdxInstance) source)
+			: getProjectionFactory().createProjection(projectionType, source);
 	}
 }
@@ -0,0 +1,540 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package org.springframework.data.gemfire.search.lucene.support;
+
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
+import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.WritablePdxInstance;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cglib.core.CodeGenerationException;
+import org.springframework.cglib.proxy.Callback;
+import org.springframework.cglib.proxy.CallbackFilter;
+import org.springframework.cglib.proxy.Enhancer;
+import org.springframework.cglib.proxy.Factory;
+import org.springframework.cglib.proxy.MethodInterceptor;
+import org.springframework.cglib.proxy.MethodProxy;
+import org.springframework.data.projection.Accessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * The {@link CompiledPdxInstanceProjectionFactory} class is an alternative to the Spring Data
+ * {@link org.springframework.data.projection.ProjectionFactory} AOP proxy path for creating projections
+ * backed by a {@link PdxInstance}.
+ *
+ * A projection class is generated once per projection interface with Spring's repackaged CGLIB, dispatching
+ * each projection interface method to its own, dedicated callback.  The callbacks reading and writing
+ * the {@link PdxInstance} fields are resolved once per projection interface and PDX type (identified by
+ * {@link PdxInstance#getClassName() class name}) into a {@link ProjectionPlan} shared by all projections
+ * of that PDX type.  Invoking a getter on the projection therefore amounts to a direct callback invocation
+ * followed by {@link PdxInstance#hasField(String)} and {@link PdxInstance#getField(String)}, without any
+ * per-call method resolution.  As with the {@link PdxInstanceMethodInterceptor}, accessing a field missing from
+ * the backing {@link PdxInstance} throws an {@link IllegalStateException}, regardless of which version of
+ * the PDX type the {@link ProjectionPlan} was created for.
+ *
+ * Only projection interfaces consisting entirely of JavaBean style accessor and mutator methods are supported.
+ * Projection interfaces using SpEL ({@link Value @Value}) or {@literal default} methods must continue to use
+ * the {@link org.springframework.data.projection.ProjectionFactory}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.cglib.proxy.Enhancer
+ * @see org.springframework.data.gemfire.search.lucene.support.PdxInstanceMethodInterceptor
+ * @see org.springframework.data.projection.Accessor
+ * @since 2.2.0
+ */
+public class CompiledPdxInstanceProjectionFactory {
+
+	private static final int SOURCE_CALLBACK_INDEX = 0;
+	private static final int OBJECT_METHODS_CALLBACK_INDEX = 1;
+	private static final int PROJECTION_METHODS_CALLBACK_OFFSET = 2;
+
+	private final ClassLoader classLoader;
+
+	private final ConcurrentMap<Class<?>, Optional<ProjectionClass>> projectionClasses = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<ProjectionPlanKey, ProjectionPlan> projectionPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a new instance of {@link CompiledPdxInstanceProjectionFactory} using the default {@link ClassLoader}.
+	 *
+	 * @see org.springframework.util.ClassUtils#getDefaultClassLoader()
+	 */
+	public CompiledPdxInstanceProjectionFactory() {
+		this(null);
+	}
+
+	/**
+	 * Constructs a new instance of {@link CompiledPdxInstanceProjectionFactory} initialized with
+	 * the given {@link ClassLoader} used to define the generated projection classes.
+	 *
+	 * @param classLoader {@link ClassLoader} used to define the generated projection classes;
+	 * defaults to {@link ClassUtils#getDefaultClassLoader()} if {@literal null}.
+	 * @see java.lang.ClassLoader
+	 */
+	public CompiledPdxInstanceProjectionFactory(ClassLoader classLoader) {
+		this.classLoader = classLoader != null ? classLoader : ClassUtils.getDefaultClassLoader();
+	}
+
+	/**
+	 * Returns the {@link ClassLoader} used to define the generated projection classes.
+	 *
+	 * @return the {@link ClassLoader} used to define the generated projection classes.
+	 * @see java.lang.ClassLoader
+	 */
+	protected ClassLoader getClassLoader() {
+		return this.classLoader;
+	}
+
+	/**
+	 * Determines whether this factory is able to create a projection of the given {@link Object source}
+	 * for the given {@link Class projection type}.
+	 *
+	 * @param source {@link Object} to project.
+	 * @param projectionType {@link Class projection type}.
+	 * @return a boolean value indicating whether this factory can create a projection of
+	 * the given {@link Object source} for the given {@link Class projection type}.
+	 * @see #resolveProjectionClass(Class)
+	 */
+	public boolean supports(Object source, Class<?> projectionType) {
+		return source instanceof PdxInstance && resolveProjectionClass(projectionType).isPresent();
+	}
+
+	/**
+	 * Creates a projection of the given {@link PdxInstance} for the given {@link Class projection type}.
+	 *
+	 * @param <T> {@link Class type} of the projection.
+	 * @param projectionType {@link Class projection type}; must be a supported interface.
+	 * @param source {@link PdxInstance} backing the projection.
+	 * @return a projection of the given {@link PdxInstance} implementing the given {@link Class projection type}.
+	 * @throws IllegalArgumentException if the {@link PdxInstance} is {@literal null}
+	 * or the {@link Class projection type} is not supported.
+	 * @see org.apache.geode.pdx.PdxInstance
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T createProjection(Class<T> projectionType, PdxInstance source) {
+
+		Assert.notNull(source, "Source must not be null");
+
+		ProjectionClass projectionClass = resolveProjectionClass(projectionType)
+			.orElseThrow(() -> newIllegalArgumentException("Projection type [%s] is not supported",
+				projectionType != null ? projectionType.getName() : null));
+
+		return (T) projectionClass.newInstance(resolveProjectionPlan(projectionClass, source), source);
+	}
+
+	/**
+	 * Resolves the cached, generated {@link ProjectionClass} for the given interface.
+	 *
+	 * @param projectionType {@link Class projection type}.
+	 * @return an {@link Optional} {@link ProjectionClass}, or {@link Optional#empty()}
+	 * if the {@link Class projection type} is not supported.
+	 */
+	protected Optional<ProjectionClass> resolveProjectionClass(Class<?> projectionType) {
+
+		return projectionType == null ? Optional.empty()
+			: this.projectionClasses.computeIfAbsent(projectionType, this::newProjectionClass);
+	}
+
+	private Optional<ProjectionClass> newProjectionClass(Class<?> projectionType) {
+
+		if (isSupportedProjectionType(projectionType)) {
+			try {
+				return Optional.of(new ProjectionClass(projectionType, resolveClassLoader(projectionType)));
+			}
+			catch (CodeGenerationException | IllegalArgumentException | ReflectiveOperationException ignore) {
+				// projection interface not visible from the ClassLoader
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private ClassLoader resolveClassLoader(Class<?> projectionType) {
+		return ClassUtils.isVisible(projectionType, getClassLoader()) ? getClassLoader()
+			: projectionType.getClassLoader();
+	}
+
+	/**
+	 * Determines whether the given {@link Class projection type} is an interface consisting entirely of
+	 * JavaBean style accessor and mutator methods without SpEL expressions.
+	 *
+	 * @param projectionType {@link Class} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class projection type} is supported.
+	 */
+	protected boolean isSupportedProjectionType(Class<?> projectionType) {
+
+		if (projectionType.isInterface()) {
+			for (Method method : projectionType.getMethods()) {
+				if (method.isDefault() || Modifier.isStatic(method.getModifiers())
+						|| method.isAnnotationPresent(Value.class) || !isAccessorOrMutator(method)) {
+
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private boolean isAccessorOrMutator(Method method) {
+
+		try {
+			new Accessor(method);
+			return true;
+		}
+		catch (IllegalArgumentException ignore) {
+			return false;
+		}
+	}
+
+	/**
+	 * Resolves the cached {@link ProjectionPlan} for the given {@link ProjectionClass}
+	 * and PDX type of the given {@link PdxInstance}.
+	 *
+	 * The PDX type is identified by {@link PdxInstance#getClassName() class name} only, so that resolving the plan
+	 * does not allocate per result.  Since versions of the same PDX type may differ in their fields, the plan does
+	 * not record the fields of any one version; every field is verified against the {@link PdxInstance} when accessed.
+	 *
+	 * @param projectionClass {@link ProjectionClass} of the projection.
+	 * @param source {@link PdxInstance} backing the projection.
+	 * @return the resolved {@link ProjectionPlan}.
+	 */
+	protected ProjectionPlan resolveProjectionPlan(ProjectionClass projectionClass, PdxInstance source) {
+
+		ProjectionPlanKey projectionPlanKey = new ProjectionPlanKey(projectionClass.projectionType,
+			source.getClassName());
+
+		ProjectionPlan projectionPlan = this.projectionPlans.get(projectionPlanKey);
+
+		return projectionPlan != null ? projectionPlan
+			: this.projectionPlans.computeIfAbsent(projectionPlanKey,
+				key -> new ProjectionPlan(projectionClass, key.className));
+	}
+
+	/**
+	 * Returns the number of {@link ProjectionPlan ProjectionPlans} currently cached by this factory.
+	 *
+	 * @return the number of {@link ProjectionPlan ProjectionPlans} currently cached by this factory.
+	 */
+	public int getProjectionPlanCount() {
+		return this.projectionPlans.size();
+	}
+
+	/**
+	 * Interface implemented by all generated projection classes providing access to the backing {@link PdxInstance}.
+	 *
+	 * The method names are deliberately not JavaBean style so they never collide with projection interface methods.
+	 */
+	public interface PdxInstanceSource {
+
+		PdxInstance pdxInstanceSource();
+
+		void pdxInstanceSource(PdxInstance source);
+
+	}
+
+	/**
+	 * The {@link ProjectionClass} is the projection class generated for a projection interface along with
+	 * the fixed assignment of projection interface methods to callbacks.
+	 */
+	static final class ProjectionClass {
+
+		private final Class<?> projectionType;
+
+		private final Factory prototype;
+
+		private final List<Method> projectionMethods;
+
+		ProjectionClass(Class<?> projectionType, ClassLoader classLoader) throws ReflectiveOperationException {
+
+			List<Method> projectionMethods = new ArrayList<>(Arrays.asList(projectionType.getMethods()));
+
+			projectionMethods.sort(Comparator.comparing(Method::toGenericString));
+
+			Class<?>[] callbackTypes = new Class<?>[projectionMethods.size() + PROJECTION_METHODS_CALLBACK_OFFSET];
+
+			Arrays.fill(callbackTypes, MethodInterceptor.class);
+
+			Enhancer enhancer = new Enhancer();
+
+			enhancer.setCallbackFilter(new ProjectionCallbackFilter(projectionMethods));
+			enhancer.setCallbackTypes(callbackTypes);
+			enhancer.setClassLoader(classLoader);
+			enhancer.setInterfaces(new Class<?>[] { projectionType, PdxInstanceSource.class });
+			enhancer.setUseCache(false);
+
+			this.projectionType = projectionType;
+			this.projectionMethods = projectionMethods;
+			this.prototype = (Factory) enhancer.createClass().getDeclaredConstructor().newInstance();
+		}
+
+		Object newInstance(ProjectionPlan projectionPlan, PdxInstance source) {
+
+			Callback[] callbacks = projectionPlan.callbacks.clone();
+
+			callbacks[SOURCE_CALLBACK_INDEX] = new PdxInstanceSourceCallback(source);
+
+			return this.prototype.newInstance(callbacks);
+		}
+	}
+
+	/**
+	 * {@link CallbackFilter} assigning each projection interface method its own callback.
+	 */
+	static final class ProjectionCallbackFilter implements CallbackFilter {
+
+		private final List<Method> projectionMethods;
+
+		ProjectionCallbackFilter(List<Method> projectionMethods) {
+			this.projectionMethods = projectionMethods;
+		}
+
+		@Override
+		public int accept(Method method) {
+
+			if (PdxInstanceSource.class.equals(method.getDeclaringClass())) {
+				return SOURCE_CALLBACK_INDEX;
+			}
+
+			int index = this.projectionMethods.indexOf(method);
+
+			return index < 0 ? OBJECT_METHODS_CALLBACK_INDEX : index + PROJECTION_METHODS_CALLBACK_OFFSET;
+		}
+	}
+
+	/**
+	 * Identifies a {@link ProjectionPlan} by {@link Class projection type} and PDX type, where the PDX type
+	 * is identified by the {@link PdxInstance#getClassName() class name}.
+	 */
+	static final class ProjectionPlanKey {
+
+		private final Class<?> projectionType;
+
+		private final String className;
+
+		ProjectionPlanKey(Class<?> projectionType, String className) {
+			this.projectionType = projectionType;
+			this.className = className;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ProjectionPlanKey)) {
+				return false;
+			}
+
+			ProjectionPlanKey that = (ProjectionPlanKey) obj;
+
+			return this.projectionType.equals(that.projectionType)
+				&& ObjectUtils.nullSafeEquals(this.className, that.className);
+		}
+
+		@Override
+		public int hashCode() {
+
+			int hashValue = 17;
+
+			hashValue = 37 * hashValue + this.projectionType.hashCode();
+			hashValue = 37 * hashValue + ObjectUtils.nullSafeHashCode(this.className);
+
+			return hashValue;
+		}
+	}
+
+	/**
+	 * The {@link ProjectionPlan} holds the callbacks, in the order assigned by the {@link ProjectionClass},
+	 * reading or writing the PDX field accessed by each projection interface method.
+	 */
+	static final class ProjectionPlan {
+
+		private final Callback[] callbacks;
+
+		private final String className;
+
+		ProjectionPlan(ProjectionClass projectionClass, String className) {
+
+			List<Method> projectionMethods = projectionClass.projectionMethods;
+
+			Callback[] callbacks = new Callback[projectionMethods.size() + PROJECTION_METHODS_CALLBACK_OFFSET];
+
+			callbacks[OBJECT_METHODS_CALLBACK_INDEX] = ObjectMethodsCallback.INSTANCE;
+
+			for (int index = 0; index < projectionMethods.size(); index++) {
+
+				Accessor accessor = new Accessor(projectionMethods.get(index));
+
+				String propertyName = accessor.getPropertyName();
+
+				callbacks[index + PROJECTION_METHODS_CALLBACK_OFFSET] = accessor.isGetter()
+					? new FieldGetterCallback(propertyName)
+					: new FieldSetterCallback(propertyName);
+			}
+
+			this.callbacks = callbacks;
+			this.className = className;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("ProjectionPlan for PDX type [%s]", this.className);
+		}
+	}
+
+	private static PdxInstance resolveSource(Object projection, String fieldName) {
+
+		PdxInstance pdxInstance = ((PdxInstanceSource) projection).pdxInstanceSource();
+
+		Assert.state(pdxInstance.hasField(fieldName), () -> String.format(
+			"Source [%1$s] does not contain field with name [%2$s]", pdxInstance, fieldName));
+
+		return pdxInstance;
+	}
+
+	/**
+	 * Per projection callback holding the backing {@link PdxInstance}.
+	 */
+	static final class PdxInstanceSourceCallback implements MethodInterceptor {
+
+		private volatile PdxInstance source;
+
+		PdxInstanceSourceCallback(PdxInstance source) {
+			this.source = source;
+		}
+
+		@Override
+		public Object intercept(Object projection, Method method, Object[] arguments, MethodProxy methodProxy) {
+
+			if (arguments.length == 0) {
+				return this.source;
+			}
+
+			this.source = (PdxInstance) arguments[0];
+
+			return null;
+		}
+	}
+
+	/**
+	 * Shared callback reading a single PDX field.
+	 */
+	static final class FieldGetterCallback implements MethodInterceptor {
+
+		private final String fieldName;
+
+		FieldGetterCallback(String fieldName) {
+			this.fieldName = fieldName;
+		}
+
+		@Override
+		public Object intercept(Object projection, Method method, Object[] arguments, MethodProxy methodProxy) {
+			return resolveSource(projection, this.fieldName).getField(this.fieldName);
+		}
+	}
+
+	/**
+	 * Shared callback writing a single PDX field.
+	 */
+	static final class FieldSetterCallback implements MethodInterceptor {
+
+		private final String fieldName;
+
+		FieldSetterCallback(String fieldName) {
+			this.fieldName = fieldName;
+		}
+
+		@Override
+		public Object intercept(Object projection, Method method, Object[] arguments, MethodProxy methodProxy) {
+
+			PdxInstance pdxInstance = resolveSource(projection, this.fieldName);
+
+			Assert.isTrue(arguments != null && arguments.length == 1, () ->
+				String.format("Invoked setter method [%1$s] must expect exactly 1 argument; Arguments were %2$s",
+					method.getName(), ObjectUtils.nullSafeToString(arguments)));
+
+			Object value = arguments[0];
+
+			WritablePdxInstance writablePdxInstance = pdxInstance.createWriter();
+
+			Assert.state(writablePdxInstance != null, () -> String.format(
+				"No writer for PdxInstance [%1$s] was found for setting field [%2$s] to value [%3$s]",
+					pdxInstance, this.fieldName, value));
+
+			writablePdxInstance.setField(this.fieldName, value);
+
+			((PdxInstanceSource) projection).pdxInstanceSource(writablePdxInstance);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Shared callback implementing {@link Object#equals(Object)}, {@link Object#hashCode()}
+	 * and {@link Object#toString()} in terms of the backing {@link PdxInstance}.
+	 */
+	enum ObjectMethodsCallback implements MethodInterceptor {
+
+		INSTANCE;
+
+		@Override
+		public Object intercept(Object projection, Method method, Object[] arguments, MethodProxy methodProxy)
+				throws Throwable {
+
+			PdxInstance source = ((PdxInstanceSource) projection).pdxInstanceSource();
+
+			if (ReflectionUtils.isEqualsMethod(method)) {
+
+				Object other = arguments[0];
+
+				return projection == other || (other instanceof PdxInstanceSource
+					&& source.equals(((PdxInstanceSource) other).pdxInstanceSource()));
+			}
+			else if (ReflectionUtils.isHashCodeMethod(method)) {
+				return source.hashCode();
+			}
+			else if (ReflectionUtils.isToStringMethod(method)) {
+				return source.toString();
+			}
+			else if (!method.getDeclaringClass().isInterface()) {
+				return methodProxy.invokeSuper(projection, arguments);
+			}
+
+			throw newIllegalStateException("Method [%1$s] is not supported by projection of [%2$s]", method, source);
+		}
+	}
+}
@@ -17,19 +17,25 @@
 
 package org.springframework.data.gemfire.serialization.json;
 
-import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 import static org.springframework.data.gemfire.util.RegionUtils.toRegionName;
 import static org.springframework.data.gemfire.util.RegionUtils.toRegionPath;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -44,11 +50,18 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.support.AbstractRegionInvocationHandler;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
 
 /**
  * Spring/AspectJ AOP Aspect adapting a {@link Region} to handle JSON data.
  *
+ * Applications that do not need AspectJ auto-proxying (e.g. when no other advice applies to the {@link Region})
+ * can {@link #wrap(Region) wrap} the {@link Region} directly, which applies the same conversions
+ * without the AOP interceptor chain on every {@link Region} operation.
+ *
  * @author David Turanski
  * @author John Blum
  * @see org.apache.geode.cache.Region
@@ -61,13 +74,21 @@ import org.springframework.util.CollectionUtils;
 @SuppressWarnings("unused")
 public class JSONRegionAdvice {
 
+	public static final int DEFAULT_PARALLEL_CONVERSION_THRESHOLD = 10000;
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
 	private boolean convertReturnedCollections = true;
 	private boolean prettyPrint = false;
 
-	private List<String> includedRegions = new ArrayList<>();
+	private int parallelConversionThreshold = DEFAULT_PARALLEL_CONVERSION_THRESHOLD;
+
+	private volatile Set<String> includedRegions = Collections.emptySet();
 
 	protected final Log log = LogFactory.getLog(JSONRegionAdvice.class);
 
+	private ObjectMapper objectMapper = new ObjectMapper();
+
 	/**
 	 * Flag to convert collections returned from cache from @{link PdxInstance} to JSON String. If the returned
 	 * collections are very large, overhead will be incurred to covert all the values from from
@@ -85,7 +106,12 @@ public class JSONRegionAdvice {
 	 * @param regions a List of region names to include
 	 */
 	public void setIncludedRegions(List<Region<?, ?>> regions) {
-		nullSafeList(regions).forEach(region -> this.includedRegions.add(toRegionName(region)));
+
+		Set<String> includedRegions = new HashSet<>(this.includedRegions);
+
+		nullSafeList(regions).forEach(region -> includedRegions.add(toRegionName(region)));
+
+		this.includedRegions = Collections.unmodifiableSet(includedRegions);
 	}
 
 	/**
@@ -94,7 +120,29 @@ public class JSONRegionAdvice {
 	 * @param regionNames a List of region names to include
 	 */
 	public void setIncludedRegionNames(List<String> regionNames) {
-		this.includedRegions = nullSafeList(regionNames);
+		this.includedRegions = Collections.unmodifiableSet(new HashSet<>(nullSafeList(regionNames)));
+	}
+
+	/**
+	 * Sets the Jackson {@link ObjectMapper} used to convert application domain objects into JSON.
+	 * The {@link ObjectMapper} is shared by all conversions.
+	 *
+	 * @param objectMapper {@link ObjectMapper} used to convert objects into JSON; must not be {@literal null}.
+	 */
+	public void setObjectMapper(ObjectMapper objectMapper) {
+		Assert.notNull(objectMapper, "ObjectMapper must not be null");
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Sets the number of values in a {@link Region#putAll(Map)}, {@link Region#getAll(Collection)}
+	 * or {@link Region#values()} batch from which the values are converted in parallel.
+	 *
+	 * @param parallelConversionThreshold number of values from which the values are converted in parallel;
+	 * defaults to {@link #DEFAULT_PARALLEL_CONVERSION_THRESHOLD}.
+	 */
+	public void setParallelConversionThreshold(int parallelConversionThreshold) {
+		this.parallelConversionThreshold = parallelConversionThreshold;
 	}
 
 	/**
@@ -116,7 +164,11 @@ public class JSONRegionAdvice {
 		try {
 			if (isIncludedJsonRegion(pjp.getTarget())) {
 				returnValue = pjp.proceed();
-				log.debug("converting " + returnValue + " to JSON string");
+
+				if (log.isDebugEnabled()) {
+					log.debug(String.format("Converting [%s] to JSON", returnValue));
+				}
+
 				returnValue = convertToJson(returnValue);
 			}
 			else {
@@ -146,8 +198,7 @@ public class JSONRegionAdvice {
 				result = returnValue;
 			}
 			else {
-				result = returnValue.entrySet().stream()
-					.collect(Collectors.toMap(Map.Entry::getKey, entry -> convertToJson(entry.getValue())));
+				result = convertValues(returnValue, this::convertToJson);
 			}
 		}
 		catch (Throwable t) {
@@ -168,12 +219,16 @@ public class JSONRegionAdvice {
 		try {
 			if (isIncludedJsonRegion(pjp.getTarget())) {
 
-				Object[] newArgs = Arrays.copyOf(pjp.getArgs(), pjp.getArgs().length);
-				Object val = newArgs[1];
+				// getArgs() already returns a copy of the arguments
+				Object[] newArgs = pjp.getArgs();
 
-				newArgs[1] = convertToPdx(val);
+				newArgs[1] = convertToPdx(newArgs[1]);
 				returnValue = pjp.proceed(newArgs);
-				log.debug(String.format("Converting [%s] to JSON", returnValue));
+
+				if (log.isDebugEnabled()) {
+					log.debug(String.format("Converting [%s] to JSON", returnValue));
+				}
+
 				returnValue = convertToJson(returnValue);
 			}
 			else {
@@ -195,16 +250,10 @@ public class JSONRegionAdvice {
 		try {
 			if (isIncludedJsonRegion(pjp.getTarget())) {
 
-				Object[] newArgs = Arrays.copyOf(pjp.getArgs(), pjp.getArgs().length);
-
-				Map<?, ?> map = (Map<?, ?>) newArgs[0];
-				Map<Object, Object> newArg = new HashMap<>();
-
-				for (Entry<?, ?> entry : map.entrySet()) {
-					newArg.put(entry.getKey(), convertToPdx(entry.getValue()));
-				}
+				// getArgs() already returns a copy of the arguments
+				Object[] newArgs = pjp.getArgs();
 
-				newArgs[0] = newArg;
+				newArgs[0] = convertValues((Map<?, ?>) newArgs[0], this::convertToPdx);
 				returnValue = pjp.proceed(newArgs);
 			}
 			else {
@@ -234,7 +283,7 @@ public class JSONRegionAdvice {
 				result = returnValue;
 			}
 			else {
-				result = returnValue.stream().map(this::convertToPdx).collect(Collectors.toList());
+				result = stream(returnValue).map(this::convertToPdx).collect(Collectors.toList());
 			}
 		}
 		catch (Throwable cause) {
@@ -284,33 +333,77 @@ public class JSONRegionAdvice {
 		return returnValue;
 	}
 
+	/**
+	 * Wraps the given {@link Region} in a proxy applying the same JSON conversions as this Aspect,
+	 * but without AspectJ; each {@link Region} method is resolved to its conversion once and the target
+	 * {@link Region} is invoked through a {@link java.lang.invoke.MethodHandle}.
+	 *
+	 * The {@link #setIncludedRegionNames(List) included Regions} still apply, so a {@link Region}
+	 * not included for JSON conversion is passed through unchanged.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param region {@link Region} to wrap; must not be {@literal null}.
+	 * @return a {@link Region} proxy converting JSON to/from {@link PdxInstance PdxInstances}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	@SuppressWarnings("unchecked")
+	public <K> Region<K, Object> wrap(Region<K, ?> region) {
 
-	private boolean isIncludedJsonRegion(Object target) {
-		return target instanceof Region && isIncludedJsonRegion((Region) target);
+		Assert.notNull(region, "Region must not be null");
+
+		Class<?> regionType = region.getClass();
+
+		return (Region<K, Object>) Proxy.newProxyInstance(regionType.getClassLoader(),
+			ClassUtils.getAllInterfacesForClass(regionType, getClass().getClassLoader()),
+				new JSONRegionInvocationHandler(region));
 	}
 
-	private boolean isIncludedJsonRegion(Region region) {
+	private boolean isIncludedJsonRegion(Object target) {
+		return target instanceof Region && isIncludedJsonRegion((Region<?, ?>) target);
+	}
 
-		boolean result = false;
+	private boolean isIncludedJsonRegion(Region<?, ?> region) {
 
-		if (isIncludedJsonRegion(toRegionName(region), toRegionPath(region))) {
+		Set<String> includedRegions = this.includedRegions;
 
-			if (log.isDebugEnabled()) {
-				log.debug(String.format("Region [%s] is included for JSON conversion", region.getName()));
-			}
+		boolean result = includedRegions.isEmpty() || includedRegions.contains(toRegionName(region))
+			|| includedRegions.contains(toRegionPath(region));
 
-			result = true;
+		if (result && log.isDebugEnabled()) {
+			log.debug(String.format("Region [%s] is included for JSON conversion", region.getName()));
 		}
 
 		return result;
 	}
 
-	private boolean isIncludedJsonRegion(String... regionReferences) {
+	private <T> Stream<T> stream(Collection<T> collection) {
+		return collection.size() >= this.parallelConversionThreshold ? collection.parallelStream()
+			: collection.stream();
+	}
+
+	private Map<Object, Object> convertValues(Map<?, ?> map, Function<Object, Object> converter) {
+
+		Map<Object, Object> convertedMap = new HashMap<>((int) (map.size() / 0.75f) + 1);
+
+		if (map.size() >= this.parallelConversionThreshold) {
 
-		List<String> regionReferencesList = Arrays.asList(nullSafeArray(regionReferences, String.class));
+			// values are converted in parallel (may be null, e.g. from getAll) then put into the Map in a single thread
+			List<Map.Entry<?, ?>> entries = new ArrayList<>(map.entrySet());
 
-		return CollectionUtils.isEmpty(this.includedRegions) || this.includedRegions.stream()
-			.anyMatch(includeRegion -> regionReferencesList.contains(includeRegion));
+			Object[] convertedValues = new Object[entries.size()];
+
+			IntStream.range(0, entries.size()).parallel()
+				.forEach(index -> convertedValues[index] = converter.apply(entries.get(index).getValue()));
+
+			for (int index = 0; index < convertedValues.length; index++) {
+				convertedMap.put(entries.get(index).getKey(), convertedValues[index]);
+			}
+		}
+		else {
+			map.forEach((key, value) -> convertedMap.put(key, converter.apply(value)));
+		}
+
+		return convertedMap;
 	}
 
 	private Object convertToJson(Object returnValue) {
@@ -329,6 +422,11 @@ public class JSONRegionAdvice {
 		return result;
 	}
 
+	/**
+	 * Objects are written by Jackson as UTF-8 JSON bytes, which {@link JSONFormatter#fromJSON(byte[])} parses
+	 * directly; {@link JSONFormatter} only accepts a JSON {@link String} or {@literal byte[]}, so building
+	 * the {@link PdxInstance} straight from Jackson tokens would require Apache Geode's internal JSON/PDX APIs.
+	 */
 	private PdxInstance convertToPdx(Object value) {
 
 		PdxInstance pdx = null;
@@ -340,12 +438,9 @@ public class JSONRegionAdvice {
 			pdx = JSONFormatter.fromJSON((String) value);
 		}
 		else {
-
-			ObjectMapper mapper = new ObjectMapper();
-
 			try {
-				String json = mapper.writeValueAsString(value);
-				pdx = JSONFormatter.fromJSON(json);
+				// serialize to UTF-8 JSON bytes directly, avoiding an intermediate String
+				pdx = JSONFormatter.fromJSON(this.objectMapper.writeValueAsBytes(value));
 			}
 			catch (Throwable cause) {
 				handleThrowable(cause);
@@ -356,7 +451,7 @@ public class JSONRegionAdvice {
 	}
 
 	private Object flattenString(Object result) {
-		return result instanceof String ? ((String) result).replaceAll("\\s*", "") : result;
+		return result instanceof String ? WHITESPACE.matcher((String) result).replaceAll("") : result;
 	}
 
 	private void handleThrowable(Throwable cause) {
@@ -368,4 +463,108 @@ public class JSONRegionAdvice {
 			throw new RuntimeException(cause);
 		}
 	}
+
+	private enum RegionOperation {
+		CONVERT_ARGUMENT, CONVERT_ALL_ARGUMENT, CONVERT_RESULT, CONVERT_ALL_RESULT, CONVERT_VALUES, PASS_THROUGH;
+
+		static RegionOperation from(Method method) {
+
+			switch (method.getName()) {
+				case "get":
+				case "remove":
+				case "selectValue":
+					return CONVERT_RESULT;
+				case "getAll":
+					return CONVERT_ALL_RESULT;
+				case "create":
+				case "put":
+				case "putIfAbsent":
+				case "replace":
+					return method.getParameterCount() > 1 ? CONVERT_ARGUMENT : PASS_THROUGH;
+				case "putAll":
+					return method.getParameterCount() > 0 ? CONVERT_ALL_ARGUMENT : PASS_THROUGH;
+				case "values":
+					return CONVERT_VALUES;
+				default:
+					return PASS_THROUGH;
+			}
+		}
+	}
+
+	/**
+	 * {@link java.lang.reflect.InvocationHandler} applying the conversions of the {@link JSONRegionAdvice} Aspect
+	 * to a wrapped {@link Region}.
+	 *
+	 * @see org.springframework.data.gemfire.support.AbstractRegionInvocationHandler
+	 */
+	private class JSONRegionInvocationHandler extends AbstractRegionInvocationHandler {
+
+		private JSONRegionInvocationHandler(Region<?, ?> target) {
+			super(target);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		protected MethodInvoker newMethodInvoker(Method method) {
+
+			MethodInvoker targetInvoker = newTargetInvoker(method);
+
+			switch (RegionOperation.from(method)) {
+				case CONVERT_RESULT:
+					return (proxy, args) -> isIncludedJsonRegion(getTarget())
+						? convertToJson(targetInvoker.invoke(proxy, args))
+						: targetInvoker.invoke(proxy, args);
+				case CONVERT_ALL_RESULT:
+					return (proxy, args) -> {
+
+						Map<Object, Object> result = (Map<Object, Object>) targetInvoker.invoke(proxy, args);
+
+						return !convertReturnedCollections || CollectionUtils.isEmpty(result)
+							|| !isIncludedJsonRegion(getTarget())
+							? result
+							: convertValues(result, JSONRegionAdvice.this::convertToJson);
+					};
+				case CONVERT_ARGUMENT:
+					return (proxy, args) -> {
+
+						if (isIncludedJsonRegion(getTarget())) {
+
+							Object[] newArgs = args.clone();
+
+							newArgs[1] = convertToPdx(newArgs[1]);
+
+							return convertToJson(targetInvoker.invoke(proxy, newArgs));
+						}
+
+						return targetInvoker.invoke(proxy, args);
+					};
+				case CONVERT_ALL_ARGUMENT:
+					return (proxy, args) -> {
+
+						if (isIncludedJsonRegion(getTarget())) {
+
+							Object[] newArgs = args.clone();
+
+							newArgs[0] = convertValues((Map<?, ?>) newArgs[0], JSONRegionAdvice.this::convertToPdx);
+
+							return targetInvoker.invoke(proxy, newArgs);
+						}
+
+						return targetInvoker.invoke(proxy, args);
+					};
+				case CONVERT_VALUES:
+					return (proxy, args) -> {
+
+						Collection<Object> result = (Collection<Object>) targetInvoker.invoke(proxy, args);
+
+						return !convertReturnedCollections || CollectionUtils.isEmpty(result)
+							|| !isIncludedJsonRegion(getTarget())
+							? result
+							: stream(result).map(JSONRegionAdvice.this::convertToPdx).collect(Collectors.toList());
+					};
+				default:
+					return targetInvoker;
+			}
+		}
+	}
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * The IncrementalSnapshot class manages the layout of an incremental Region snapshot directory, which consists of
+ * a base snapshot followed by a chain of delta snapshots.
+ *
+ * The directory contains:
+ *
+ * <ul>
+ *     <li>{@literal snapshot-00000.gfd} - the base snapshot containing all entries.</li>
+ *     <li>{@literal snapshot-NNNNN.gfd} - a delta snapshot containing the entries modified since the previous
+ *     snapshot in the chain.</li>
+ *     <li>{@literal snapshot-NNNNN.tombstones} - the keys removed since the previous snapshot in the chain.</li>
+ *     <li>{@literal snapshot.keys} - the keys present at the time of the last export, written with Java
+ *     serialization, so keys must be {@link java.io.Serializable}.</li>
+ *     <li>{@literal snapshot.properties} - the manifest recording the sequence number of the last snapshot
+ *     in the chain along with the high-water mark, the cache time at which the last export started
+ *     less a safety margin.</li>
+ * </ul>
+ *
+ * The full set of keys is held in memory while the key and tombstone files are written, so memory use
+ * is proportional to the number of keys in the Region.
+ *
+ * The manifest is written last, so a failed export leaves the previous chain intact.
+ *
+ * @author John Blum
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @see org.springframework.data.gemfire.snapshot.filter.ModifiedSinceSnapshotFilter
+ * @since 2.2.0
+ */
+@SuppressWarnings("unused")
+public class IncrementalSnapshot {
+
+	protected static final int BUFFER_SIZE = 65536;
+
+	protected static final String HIGH_WATER_MARK_PROPERTY = "high-water-mark";
+	protected static final String KEYS_FILENAME = "snapshot.keys";
+	protected static final String MANIFEST_FILENAME = "snapshot.properties";
+	protected static final String SEQUENCE_PROPERTY = "sequence";
+	protected static final String SNAPSHOT_FILENAME_PATTERN = "snapshot-%05d.gfd";
+	protected static final String TOMBSTONES_FILENAME_PATTERN = "snapshot-%05d.tombstones";
+
+	private final File directory;
+
+	private int sequence = -1;
+
+	private long highWaterMark = -1L;
+
+	/**
+	 * Factory method used to read the incremental snapshot stored in the given directory.
+	 *
+	 * @param directory {@link File} referring to the incremental snapshot directory.
+	 * @return the {@link IncrementalSnapshot} stored in the given directory, which does not {@link #exists() exist}
+	 * if no snapshot has been exported to the directory yet.
+	 * @throws IOException if the manifest cannot be read.
+	 */
+	public static IncrementalSnapshot from(File directory) throws IOException {
+
+		IncrementalSnapshot incrementalSnapshot = new IncrementalSnapshot(directory);
+
+		File manifest = new File(directory, MANIFEST_FILENAME);
+
+		if (manifest.isFile()) {
+
+			Properties properties = new Properties();
+
+			try (InputStream in = new BufferedInputStream(new FileInputStream(manifest))) {
+				properties.load(in);
+			}
+
+			try {
+				incrementalSnapshot.sequence = Integer.parseInt(properties.getProperty(SEQUENCE_PROPERTY));
+				incrementalSnapshot.highWaterMark = Long.parseLong(properties.getProperty(HIGH_WATER_MARK_PROPERTY));
+			}
+			catch (NumberFormatException cause) {
+				throw new IOException(String.format("Invalid incremental snapshot manifest [%s]", manifest), cause);
+			}
+		}
+
+		return incrementalSnapshot;
+	}
+
+	/**
+	 * Constructs an instance of IncrementalSnapshot initialized with the incremental snapshot directory.
+	 *
+	 * @param directory {@link File} referring to the incremental snapshot directory.
+	 * @throws IllegalArgumentException if the directory is {@literal null}.
+	 */
+	protected IncrementalSnapshot(File directory) {
+		Assert.notNull(directory, "Directory is required");
+		this.directory = directory;
+	}
+
+	public File getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Determines whether a base snapshot has been exported to the directory.
+	 *
+	 * @return a boolean value indicating whether a base snapshot has been exported to the directory.
+	 */
+	public boolean exists() {
+		return getSequence() > -1;
+	}
+
+	/**
+	 * Returns the time, in milliseconds since the epoch, the last export started.  Entries modified at or after
+	 * the high-water mark are written to the next delta snapshot.
+	 *
+	 * @return the time the last export started or {@literal -1} if no snapshot exists.
+	 */
+	public long getHighWaterMark() {
+		return this.highWaterMark;
+	}
+
+	/**
+	 * Returns the sequence number of the last snapshot in the chain, where {@literal 0} is the base snapshot.
+	 *
+	 * @return the sequence number of the last snapshot in the chain or {@literal -1} if no snapshot exists.
+	 */
+	public int getSequence() {
+		return this.sequence;
+	}
+
+	public int nextSequence() {
+		return getSequence() + 1;
+	}
+
+	public File getSnapshotFile(int sequence) {
+		return new File(getDirectory(), String.format(SNAPSHOT_FILENAME_PATTERN, sequence));
+	}
+
+	public File getTombstonesFile(int sequence) {
+		return new File(getDirectory(), String.format(TOMBSTONES_FILENAME_PATTERN, sequence));
+	}
+
+	/**
+	 * Reads the keys present at the time of the last export.
+	 *
+	 * @return a {@link Set} of keys present at the time of the last export.
+	 * @throws IOException if the keys cannot be read.
+	 */
+	public Set<Object> readKeys() throws IOException {
+		return read(new File(getDirectory(), KEYS_FILENAME));
+	}
+
+	/**
+	 * Reads the keys removed between the given delta snapshot and the previous snapshot in the chain.
+	 *
+	 * @param sequence sequence number of the delta snapshot.
+	 * @return a {@link Set} of removed keys.
+	 * @throws IOException if the tombstones cannot be read.
+	 */
+	public Set<Object> readTombstones(int sequence) throws IOException {
+		return read(getTombstonesFile(sequence));
+	}
+
+	/**
+	 * Records the snapshot with the given sequence number as the last snapshot in the chain.
+	 *
+	 * @param sequence sequence number of the exported snapshot.
+	 * @param highWaterMark time, in milliseconds since the epoch, the export started.
+	 * @param keys {@link Set} of keys present at the time of the export.
+	 * @param tombstones {@link Set} of keys removed since the previous snapshot in the chain.
+	 * @throws IOException if the keys, tombstones or manifest cannot be written.
+	 */
+	public void commit(int sequence, long highWaterMark, Set<?> keys, Set<?> tombstones) throws IOException {
+
+		if (sequence > 0) {
+			write(getTombstonesFile(sequence), tombstones);
+		}
+
+		write(new File(getDirectory(), KEYS_FILENAME), keys);
+
+		Properties properties = new Properties();
+
+		properties.setProperty(SEQUENCE_PROPERTY, String.valueOf(sequence));
+		properties.setProperty(HIGH_WATER_MARK_PROPERTY, String.valueOf(highWaterMark));
+
+		try (OutputStream out = new BufferedOutputStream(
+				new FileOutputStream(new File(getDirectory(), MANIFEST_FILENAME)))) {
+
+			properties.store(out, "Incremental Region snapshot");
+		}
+
+		this.sequence = sequence;
+		this.highWaterMark = highWaterMark;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<Object> read(File file) throws IOException {
+
+		if (!file.isFile()) {
+			return Collections.emptySet();
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(
+				new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+
+			return (Set<Object>) in.readObject();
+		}
+		catch (ClassNotFoundException cause) {
+			throw new IOException(String.format("Failed to read keys from [%s]", file), cause);
+		}
+	}
+
+	private void write(File file, Set<?> keys) throws IOException {
+
+		try (ObjectOutputStream out = new ObjectOutputStream(
+				new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE))) {
+
+			out.writeObject(new HashSet<>(keys));
+		}
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s { directory = %2$s, sequence = %3$d, highWaterMark = %4$d }",
+			getClass().getSimpleName(), getDirectory(), getSequence(), getHighWaterMark());
+	}
+}
@@ -22,36 +22,73 @@ import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBe
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
+import java.io.BufferedInputStream;
 import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.jar.JarFile;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
 import org.apache.geode.cache.snapshot.SnapshotOptions;
+import org.apache.geode.internal.cache.GemFireCacheImpl;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
+import org.springframework.data.gemfire.snapshot.filter.ComposableSnapshotFilter;
+import org.springframework.data.gemfire.snapshot.filter.ModifiedSinceSnapshotFilter;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
+import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
@@ -61,26 +98,60 @@ import org.springframework.util.StringUtils;
  * of an appropriate Pivotal GemFire Snapshot Service to perform data import and exports.  A CacheSnapshotService is created
  * if the Region is not specified, otherwise a RegionSnapshotService is used based on the configured Region.
  *
+ * When the {@link #setParallelism(Integer) parallelism} is greater than 1, individual Region snapshots are imported
+ * and exported concurrently on a single {@link ExecutorService} shared by all imports and exports, which is either
+ * {@link #setExecutor(ExecutorService) provided} or created and shut down by this factory.  Progress and the final
+ * throughput of each snapshot are published as
+ * {@link SnapshotProgressApplicationEvent SnapshotProgressApplicationEvents}.
+ *
+ * Snapshots packaged in a JAR, ZIP, GZIP or Zstandard archive are {@link #setStreamArchives(Boolean) read}
+ * in a single pass, one snapshot at a time, rather than extracting the entire archive before the import.
+ * Pivotal GemFire only loads snapshots from a {@link File}, so each archived snapshot is still spooled
+ * to its own temporary file, which is deleted as soon as the snapshot has been loaded.  The temporary space required
+ * is therefore bounded by the largest snapshot in the archive (or by {@link #setParallelism(Integer) parallelism}
+ * snapshots when loaded concurrently) rather than the size of the entire archive, but the import is not free of
+ * temporary files.  With a parallelism greater than 1, the snapshots of an archive are loaded concurrently while
+ * the archive is still being read.  Zstandard ({@literal .zst}) archives require {@literal zstd-jni}
+ * ({@literal com.github.luben:zstd-jni}) on the classpath.
+ *
+ * Region snapshots may be exported {@link SnapshotMetadata#setIncremental(boolean) incrementally}, in which case
+ * only the entries modified since the previous export are written, along with the keys removed since then.
+ * Incremental exports require Region statistics to be enabled and the Region keys to be {@link java.io.Serializable}.
+ *
  * @author John Blum
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.context.ApplicationListener
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent
  * @see org.apache.geode.cache.snapshot.CacheSnapshotService
  * @see org.apache.geode.cache.snapshot.RegionSnapshotService
  * @since 1.7.0
  */
 @SuppressWarnings("unused")
 public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport<SnapshotServiceAdapter<K, V>>
-		implements InitializingBean, DisposableBean, ApplicationListener<SnapshotApplicationEvent<K, V>> {
+		implements InitializingBean, DisposableBean, ApplicationEventPublisherAware,
+			ApplicationListener<SnapshotApplicationEvent<K, V>> {
 
 	protected static final SnapshotMetadata[] EMPTY_ARRAY = new SnapshotMetadata[0];
 
+	private ApplicationEventPublisher applicationEventPublisher;
+
+	private Boolean streamArchives;
 	private Boolean suppressImportOnInit;
 
+	private Integer parallelism;
+
+	private Long incrementalSafetyMargin;
+	private Long progressInterval;
+
 	private Cache cache;
 
+	private ExecutorService executor;
+	private ExecutorService managedExecutor;
+
 	private Region<K, V> region;
 
 	private SnapshotMetadata<K, V>[] exports;
@@ -138,9 +209,68 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected SnapshotServiceAdapter create() {
 
-		return Optional.ofNullable(getRegion())
+		return configure(Optional.ofNullable(getRegion())
 			.<SnapshotServiceAdapter>map(region -> wrap(region.getSnapshotService()))
-			.orElseGet(() -> wrap(getCache().getSnapshotService()));
+			.orElseGet(() -> wrap(getCache().getSnapshotService())));
+	}
+
+	/**
+	 * Configures the parallelism and progress reporting of the given {@link SnapshotServiceAdapter}.
+	 *
+	 * @param snapshotServiceAdapter {@link SnapshotServiceAdapter} to configure.
+	 * @return the given {@link SnapshotServiceAdapter}.
+	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
+	 */
+	protected SnapshotServiceAdapter configure(SnapshotServiceAdapter snapshotServiceAdapter) {
+
+		if (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport) {
+
+			SnapshotServiceAdapterSupport<?, ?> snapshotServiceAdapterSupport =
+				(SnapshotServiceAdapterSupport<?, ?>) snapshotServiceAdapter;
+
+			snapshotServiceAdapterSupport.setApplicationEventPublisher(this.applicationEventPublisher);
+			snapshotServiceAdapterSupport.setExecutor(resolveExecutor());
+			snapshotServiceAdapterSupport.setParallelism(getParallelism());
+			snapshotServiceAdapterSupport.setProgressInterval(getProgressInterval());
+			snapshotServiceAdapterSupport.setStreamArchives(getStreamArchives());
+
+			if (snapshotServiceAdapter instanceof CacheSnapshotServiceAdapter) {
+				((CacheSnapshotServiceAdapter) snapshotServiceAdapter).setCache(this.cache);
+			}
+			else if (snapshotServiceAdapter instanceof RegionSnapshotServiceAdapter) {
+
+				RegionSnapshotServiceAdapter regionSnapshotServiceAdapter =
+					(RegionSnapshotServiceAdapter) snapshotServiceAdapter;
+
+				regionSnapshotServiceAdapter.setIncrementalSafetyMargin(getIncrementalSafetyMargin());
+				regionSnapshotServiceAdapter.setRegion(this.region);
+			}
+		}
+
+		return snapshotServiceAdapter;
+	}
+
+	/**
+	 * Resolves the {@link ExecutorService} used to process snapshots concurrently, creating a fixed thread pool
+	 * sized to the configured {@link #getParallelism() parallelism} when none was provided.  The created
+	 * {@link ExecutorService} is shut down when this factory is destroyed.
+	 */
+	private ExecutorService resolveExecutor() {
+
+		if (this.executor != null) {
+			return this.executor;
+		}
+
+		if (this.managedExecutor == null && getParallelism() > 1) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("SnapshotService-");
+
+			threadFactory.setDaemon(true);
+
+			this.managedExecutor = Executors.newFixedThreadPool(getParallelism(), threadFactory);
+		}
+
+		return this.managedExecutor;
 	}
 
 	/**
@@ -197,6 +327,123 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			.orElseThrow(() -> newIllegalStateException("The cache was not properly initialized"));
 	}
 
+	/**
+	 * Sets the {@link ApplicationEventPublisher} used to publish snapshot progress events.
+	 *
+	 * @param applicationEventPublisher {@link ApplicationEventPublisher} used to publish
+	 * {@link SnapshotProgressApplicationEvent SnapshotProgressApplicationEvents}.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
+	}
+
+	/**
+	 * Sets the {@link ExecutorService} used to import and export Region snapshots concurrently.  The provided
+	 * {@link ExecutorService} is not shut down by this factory.  When not set, a fixed thread pool sized to the
+	 * configured {@link #setParallelism(Integer) parallelism} is created and shut down with this factory.
+	 *
+	 * @param executor {@link ExecutorService} used to process snapshots concurrently.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	public void setExecutor(ExecutorService executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Sets the maximum number of Region snapshots imported or exported concurrently.
+	 *
+	 * @param parallelism an Integer value indicating the maximum number of concurrent Region snapshots.
+	 * @see #getParallelism()
+	 */
+	public void setParallelism(Integer parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Gets the maximum number of Region snapshots imported or exported concurrently.  Defaults to {@literal 1},
+	 * which processes snapshots sequentially.
+	 *
+	 * @return an int value indicating the maximum number of concurrent Region snapshots.
+	 * @see #setParallelism(Integer)
+	 */
+	protected int getParallelism() {
+		return Math.max(Optional.ofNullable(this.parallelism)
+			.orElse(SnapshotServiceAdapterSupport.DEFAULT_PARALLELISM), 1);
+	}
+
+	/**
+	 * Sets the number of milliseconds subtracted from the high-water mark recorded by an incremental export,
+	 * which compensates for clock skew between members and for entries modified while the export starts.
+	 * Entries modified within the margin are exported again by the next delta, which is harmless.
+	 *
+	 * @param incrementalSafetyMargin a Long value indicating the safety margin in milliseconds.
+	 * @see #getIncrementalSafetyMargin()
+	 */
+	public void setIncrementalSafetyMargin(Long incrementalSafetyMargin) {
+		this.incrementalSafetyMargin = incrementalSafetyMargin;
+	}
+
+	/**
+	 * Gets the number of milliseconds subtracted from the high-water mark recorded by an incremental export.
+	 * Defaults to {@literal 1000} milliseconds.
+	 *
+	 * @return a long value indicating the safety margin in milliseconds.
+	 * @see #setIncrementalSafetyMargin(Long)
+	 */
+	protected long getIncrementalSafetyMargin() {
+		return Math.max(Optional.ofNullable(this.incrementalSafetyMargin)
+			.orElse(RegionSnapshotServiceAdapter.DEFAULT_INCREMENTAL_SAFETY_MARGIN), 0L);
+	}
+
+	/**
+	 * Sets the number of entries processed between snapshot progress events.
+	 *
+	 * @param progressInterval a Long value indicating the number of entries between progress events.
+	 * @see #getProgressInterval()
+	 */
+	public void setProgressInterval(Long progressInterval) {
+		this.progressInterval = progressInterval;
+	}
+
+	/**
+	 * Gets the number of entries processed between snapshot progress events.
+	 *
+	 * @return a long value indicating the number of entries between progress events.
+	 * @see #setProgressInterval(Long)
+	 */
+	protected long getProgressInterval() {
+		return Optional.ofNullable(this.progressInterval)
+			.orElse(SnapshotServiceAdapterSupport.DEFAULT_PROGRESS_INTERVAL);
+	}
+
+	/**
+	 * Sets whether snapshots packaged in an archive (JAR, ZIP, GZIP or Zstandard) are imported by reading
+	 * the archive in a single pass, one snapshot at a time, rather than extracting the entire archive
+	 * to the temporary directory first.
+	 *
+	 * Since Pivotal GemFire only loads snapshots from a {@link File}, each archived snapshot is spooled
+	 * to a temporary file while it is loaded, bounding temporary space by the largest snapshot.
+	 *
+	 * @param streamArchives a Boolean value indicating whether archived snapshots are streamed on import.
+	 * @see #getStreamArchives()
+	 */
+	public void setStreamArchives(Boolean streamArchives) {
+		this.streamArchives = streamArchives;
+	}
+
+	/**
+	 * Determines whether snapshots packaged in an archive are imported by streaming the archive.
+	 * Defaults to {@literal true}.
+	 *
+	 * @return a boolean value indicating whether archived snapshots are streamed on import.
+	 * @see #setStreamArchives(Boolean)
+	 */
+	protected boolean getStreamArchives() {
+		return !Boolean.FALSE.equals(this.streamArchives);
+	}
+
 	/**
 	 * Sets the meta-data (location, filter and format) used to create a snapshot from the Cache or Region data.
 	 *
@@ -320,7 +567,8 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	}
 
 	/**
-	 * Performs an export of the Pivotal GemFire Cache or Region if configured.
+	 * Performs an export of the Pivotal GemFire Cache or Region if configured, and then shuts down
+	 * the {@link ExecutorService} created by this factory, if any.
 	 *
 	 * @throws Exception if the Cache/Region data export operation fails.
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
@@ -330,7 +578,14 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	@Override
 	@SuppressWarnings("all")
 	public void destroy() throws Exception {
-		getObject().doExport(getExports());
+
+		try {
+			getObject().doExport(getExports());
+		}
+		finally {
+			Optional.ofNullable(this.managedExecutor).ifPresent(ExecutorService::shutdownNow);
+			this.managedExecutor = null;
+		}
 	}
 
 	/**
@@ -433,14 +688,80 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static abstract class SnapshotServiceAdapterSupport<K, V> implements SnapshotServiceAdapter<K, V> {
 
+		protected static final int DEFAULT_PARALLELISM = 1;
+
+		protected static final boolean DEFAULT_STREAM_ARCHIVES = true;
+
+		protected static final int ARCHIVE_BUFFER_SIZE = 65536;
+
+		protected static final long DEFAULT_PROGRESS_INTERVAL = 100000L;
+
 		protected static final File TEMPORARY_DIRECTORY = new File(System.getProperty("java.io.tmpdir"));
 
 		protected final Log log = createLog();
 
+		private ApplicationEventPublisher applicationEventPublisher;
+
+		private ExecutorService executor;
+
+		private boolean streamArchives = DEFAULT_STREAM_ARCHIVES;
+
+		private int parallelism = DEFAULT_PARALLELISM;
+
+		private long progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
 		Log createLog() {
 			return LogFactory.getLog(getClass());
 		}
 
+		public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+			this.applicationEventPublisher = applicationEventPublisher;
+		}
+
+		protected ApplicationEventPublisher getApplicationEventPublisher() {
+			return this.applicationEventPublisher;
+		}
+
+		public void setExecutor(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		protected ExecutorService getExecutor() {
+			return this.executor;
+		}
+
+		public void setParallelism(int parallelism) {
+			this.parallelism = Math.max(parallelism, 1);
+		}
+
+		protected int getParallelism() {
+			return this.parallelism;
+		}
+
+		public void setProgressInterval(long progressInterval) {
+			this.progressInterval = progressInterval;
+		}
+
+		protected long getProgressInterval() {
+			return this.progressInterval;
+		}
+
+		public void setStreamArchives(boolean streamArchives) {
+			this.streamArchives = streamArchives;
+		}
+
+		protected boolean isStreamArchives() {
+			return this.streamArchives;
+		}
+
+		/**
+		 * Determines whether snapshots are processed as individually tracked tasks, which is the case when
+		 * snapshots are processed concurrently or progress events are published.
+		 */
+		protected boolean isTracked() {
+			return getParallelism() > 1 || getApplicationEventPublisher() != null;
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			throw new UnsupportedOperationException("not implemented");
@@ -454,178 +775,795 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 				.setParallelMode(metadata.isParallel());
 		}
 
-		@Override
-		@SuppressWarnings("unchecked")
-		public void doExport(SnapshotMetadata<K, V>... configurations) {
+		/**
+		 * Applies the given {@link SnapshotMetadata} to the {@link SnapshotOptions}, counting processed entries
+		 * with the {@link SnapshotProgressTracker} unless the snapshot is processed in Pivotal GemFire's parallel
+		 * mode, in which case the filter is evaluated on remote members.
+		 */
+		protected <S, T> SnapshotOptions<S, T> configureOptions(SnapshotOptions<S, T> options,
+				SnapshotMetadata<S, T> metadata, SnapshotProgressTracker tracker) {
+
+			SnapshotFilter<S, T> filter = metadata.isParallel() ? metadata.getFilter()
+				: tracker.track(metadata.getFilter());
 
-			stream(nullSafeArray(configurations)).forEach(configuration ->
-				save(configuration.getLocation(), configuration.getFormat(), createOptions(configuration)));
+			return options
+				.invokeCallbacks(metadata.isInvokeCallbacks())
+				.setFilter(filter)
+				.setParallelMode(metadata.isParallel());
 		}
 
 		@Override
 		@SuppressWarnings("unchecked")
-		public void doImport(SnapshotMetadata<K, V>... configurations) {
+		public void doExport(SnapshotMetadata<K, V>... configurations) {
 
-			stream(nullSafeArray(configurations)).forEach(configuration ->
-				load(configuration.getFormat(), createOptions(configuration), handleLocation(configuration)));
-		}
+			if (isTracked()) {
 
-		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
+				List<SnapshotTask> tasks = new ArrayList<>();
 
-		protected File[] handleDirectoryLocation(File directory) {
-			return directory.listFiles(pathname -> nullSafeIsFile(pathname));
+				stream(nullSafeArray(configurations)).forEach(configuration ->
+					tasks.addAll(newExportTasks(configuration)));
+
+				execute(tasks);
+			}
+			else {
+				stream(nullSafeArray(configurations)).forEach(configuration ->
+					save(configuration.getLocation(), configuration.getFormat(), createOptions(configuration)));
+			}
 		}
 
-		protected File[] handleFileLocation(File file) {
+		@Override
+		@SuppressWarnings("unchecked")
+		public void doImport(SnapshotMetadata<K, V>... configurations) {
 
-			if (ArchiveFileFilter.INSTANCE.accept(file)) {
-				try {
+			if (isTracked()) {
 
-					File extractedArchiveDirectory =
-						new File(TEMPORARY_DIRECTORY, file.getName().replaceAll("\\.", "-"));
+				List<Runnable> archiveImports = new ArrayList<>();
 
-					Assert.state(extractedArchiveDirectory.isDirectory() || extractedArchiveDirectory.mkdirs(),
-						String.format("Failed create directory (%1$s) in which to extract archive (%2$s)",
-							extractedArchiveDirectory, file));
+				List<SnapshotTask> tasks = new ArrayList<>();
 
-					ZipFile zipFile = (ArchiveFileFilter.INSTANCE.isJarFile(file)
-						? new JarFile(file, false, JarFile.OPEN_READ)
-							: new ZipFile(file, ZipFile.OPEN_READ));
+				stream(nullSafeArray(configurations)).forEach(configuration -> {
 
-					for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
-						if (!entry.isDirectory()) {
+					File[] snapshots = handleLocation(configuration);
 
-							DataInputStream entryInputStream = new DataInputStream(zipFile.getInputStream(entry));
+					if (isImportingArchivesConcurrently() && snapshots != null) {
 
-							DataOutputStream entryOutputStream = new DataOutputStream(new FileOutputStream(
-								new File(extractedArchiveDirectory, toSimpleFilename(entry.getName()))));
+						List<File> files = new ArrayList<>(snapshots.length);
 
-							try {
-								FileCopyUtils.copy(entryInputStream, entryOutputStream);
+						for (File snapshot : snapshots) {
+							if (ArchiveFileFilter.INSTANCE.accept(snapshot)) {
+								archiveImports.add(() -> importArchiveConcurrently(configuration, snapshot));
 							}
-							finally {
-								exceptionSuppressingClose(entryInputStream);
-								exceptionSuppressingClose(entryOutputStream);
+							else {
+								files.add(snapshot);
 							}
 						}
-					}
 
-					return handleDirectoryLocation(extractedArchiveDirectory);
-				}
-				catch (Throwable cause) {
-					throw new ImportSnapshotException(
-						String.format("Failed to extract archive [%1$s] to import", file), cause);
-				}
-			}
+						if (files.isEmpty()) {
+							return;
+						}
 
-			return new File[] { file };
-		}
+						snapshots = files.toArray(new File[0]);
+					}
 
-		protected boolean exceptionSuppressingClose(Closeable closeable) {
+					tasks.addAll(newImportTasks(configuration, snapshots));
+				});
 
-			try {
-				closeable.close();
-				return true;
+				execute(tasks);
+
+				// archives are read on the calling thread, which hands each archived snapshot to the executor
+				archiveImports.forEach(Runnable::run);
 			}
-			catch (IOException ignore) {
-				logDebug(ignore, "Failed to close [%s]", closeable);
-				return false;
+			else {
+				stream(nullSafeArray(configurations)).forEach(configuration ->
+					importSnapshots(configuration.getFormat(), createOptions(configuration),
+						handleLocation(configuration)));
 			}
 		}
 
-		protected void logDebug(Throwable cause, String message, Object... arguments) {
+		/**
+		 * Creates the {@link SnapshotTask SnapshotTasks} exporting the given {@link SnapshotMetadata}.
+		 * By default, a single task saves the snapshot to the configured location.
+		 */
+		protected List<SnapshotTask> newExportTasks(SnapshotMetadata<K, V> configuration) {
 
-			if (log.isDebugEnabled()) {
-				log.debug(String.format(message, arguments), cause);
-			}
-		}
+			return Collections.singletonList(new SnapshotTask(SnapshotProgressApplicationEvent.Operation.EXPORT,
+				configuration.getLocation().getPath(), tracker -> {
 
-		@Override
-		public void load(File directory, SnapshotFormat format) {
-			throw new UnsupportedOperationException("not implemented");
-		}
+					tracker.setBytesWritten(() -> sizeOf(configuration.getLocation()));
 
-		@Override
-		public void load(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
-			throw new UnsupportedOperationException("not implemented");
-		}
+					save(configuration.getLocation(), configuration.getFormat(),
+						configureOptions(createOptions(), configuration, tracker));
 
-		@Override
-		public void save(File location, SnapshotFormat format) {
-			throw new UnsupportedOperationException("not implemented");
+					return new File[] { configuration.getLocation() };
+				}));
 		}
 
-		@Override
-		public void save(File location, SnapshotFormat format, SnapshotOptions<K, V> options) {
-			throw new UnsupportedOperationException("not implemented");
+		/**
+		 * Creates the {@link SnapshotTask SnapshotTasks} importing the given {@link SnapshotMetadata}.
+		 * When processing snapshots concurrently, each snapshot file is imported by its own task.
+		 */
+		protected List<SnapshotTask> newImportTasks(SnapshotMetadata<K, V> configuration) {
+			return newImportTasks(configuration, handleLocation(configuration));
 		}
 
-		protected String toSimpleFilename(String pathname) {
-			int pathSeparatorIndex = String.valueOf(pathname).lastIndexOf(File.separator);
-			pathname = (pathSeparatorIndex > -1 ? pathname.substring(pathSeparatorIndex + 1) : pathname);
-			return StringUtils.trimWhitespace(pathname);
-		}
-	}
+		private List<SnapshotTask> newImportTasks(SnapshotMetadata<K, V> configuration, File[] snapshots) {
 
-	/**
-	 * The CacheSnapshotServiceAdapter is a SnapshotServiceAdapter adapting Pivotal GemFire's CacheSnapshotService.
-	 *
-	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
-	 */
-	protected static class CacheSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
+			if (getParallelism() > 1 && snapshots != null && snapshots.length > 1) {
 
-		private final CacheSnapshotService snapshotService;
+				List<SnapshotTask> tasks = new ArrayList<>(snapshots.length);
 
-		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService) {
-			Assert.notNull(snapshotService, "The backing CacheSnapshotService must not be null");
-			this.snapshotService = snapshotService;
-		}
+				for (File snapshot : snapshots) {
+					tasks.add(newImportTask(configuration, snapshot.getPath(), snapshot));
+				}
 
-		protected CacheSnapshotService getSnapshotService() {
-			return this.snapshotService;
-		}
+				return tasks;
+			}
 
-		@Override
-		public SnapshotOptions<Object, Object> createOptions() {
-			return getSnapshotService().createOptions();
+			return Collections.singletonList(newImportTask(configuration, configuration.getLocation().getPath(),
+				snapshots));
 		}
 
-		@Override
-		protected File[] handleLocation(SnapshotMetadata<Object, Object> configuration) {
+		private SnapshotTask newImportTask(SnapshotMetadata<K, V> configuration, String name, File... snapshots) {
 
-			return (configuration.isFile()
-				? handleFileLocation(configuration.getLocation())
-				: handleDirectoryLocation(configuration.getLocation()));
-		}
+			return new SnapshotTask(SnapshotProgressApplicationEvent.Operation.IMPORT, name, tracker -> {
 
-		@Override
-		public void load(File directory, SnapshotFormat format) {
+				SnapshotOptions<K, V> options = configureOptions(createOptions(), configuration, tracker);
 
-			try {
-				getSnapshotService().load(directory, format);
-			}
-			catch (Throwable cause) {
-				throw new ImportSnapshotException(String.format(
-					"Failed to load snapshots from directory [%1$s] in format [%2$s]",
-						directory, format), cause);
-			}
+				// snapshots are loaded one at a time so that progress events report the bytes loaded so far
+				for (File snapshot : ArrayUtils.nullSafeArray(snapshots, File.class)) {
+					importSnapshots(configuration.getFormat(), options, snapshot);
+					tracker.bytesProcessed(sizeOf(snapshot));
+				}
+
+				return snapshots;
+			});
 		}
 
-		@Override
-		public void load(SnapshotFormat format, SnapshotOptions<Object, Object> options, File... snapshots) {
+		/**
+		 * Executes the given {@link SnapshotTask SnapshotTasks}, concurrently on the configured {@link ExecutorService}
+		 * when the configured parallelism is greater than 1, and logs a summary with the throughput of each snapshot.
+		 *
+		 * When a task fails, all other tasks still pending or running are cancelled before the failure is rethrown.
+		 */
+		protected void execute(List<SnapshotTask> tasks) {
 
-			try {
-				getSnapshotService().load(snapshots, format, options);
-			}
-			catch (Throwable cause) {
-				throw new ImportSnapshotException(String.format(
-					"Failed to load snapshots [%1$s] in format [%2$s] using options [%3$s]",
-						Arrays.toString(snapshots), format, options), cause);
-			}
-		}
+			List<SnapshotProgressApplicationEvent> results = new ArrayList<>(tasks.size());
 
-		@Override
-		public void save(File directory, SnapshotFormat format) {
+			ExecutorService executor = getExecutor();
+
+			if (executor == null || Math.min(getParallelism(), tasks.size()) <= 1) {
+				tasks.forEach(task -> results.add(task.run()));
+			}
+			else {
+
+				CompletionService<SnapshotProgressApplicationEvent> completionService =
+					new ExecutorCompletionService<>(executor);
+
+				List<Future<SnapshotProgressApplicationEvent>> futures = new ArrayList<>(tasks.size());
+
+				try {
+
+					tasks.forEach(task -> futures.add(completionService.submit(task::run)));
+
+					for (int count = 0; count < futures.size(); count++) {
+						completionService.take().get();
+					}
+
+					for (Future<SnapshotProgressApplicationEvent> future : futures) {
+						results.add(future.get());
+					}
+				}
+				catch (ExecutionException cause) {
+
+					futures.forEach(future -> future.cancel(true));
+
+					throw cause.getCause() instanceof RuntimeException
+						? (RuntimeException) cause.getCause()
+						: newIllegalStateException(cause.getCause(), "Snapshot task failed");
+				}
+				catch (InterruptedException cause) {
+
+					futures.forEach(future -> future.cancel(true));
+
+					Thread.currentThread().interrupt();
+
+					throw newIllegalStateException(cause, "Interrupted while waiting for snapshot tasks to complete");
+				}
+			}
+
+			if (log.isInfoEnabled()) {
+				results.forEach(result -> log.info(result.toString()));
+			}
+		}
+
+		/* (non-Javadoc) */
+		static long sizeOf(File... files) {
+
+			long size = 0L;
+
+			for (File file : ArrayUtils.nullSafeArray(files, File.class)) {
+				if (nullSafeIsFile(file)) {
+					size += file.length();
+				}
+				else if (nullSafeIsDirectory(file)) {
+					size += sizeOf(file.listFiles());
+				}
+			}
+
+			return size;
+		}
+
+		/**
+		 * A SnapshotTask is a unit of work importing or exporting a single snapshot, tracking its progress.
+		 */
+		protected final class SnapshotTask {
+
+			private final Function<SnapshotProgressTracker, File[]> work;
+
+			private final SnapshotProgressApplicationEvent.Operation operation;
+
+			private final String name;
+
+			protected SnapshotTask(SnapshotProgressApplicationEvent.Operation operation, String name,
+					Function<SnapshotProgressTracker, File[]> work) {
+
+				this.operation = operation;
+				this.name = name;
+				this.work = work;
+			}
+
+			protected String getName() {
+				return this.name;
+			}
+
+			protected SnapshotProgressApplicationEvent run() {
+
+				SnapshotProgressTracker tracker = new SnapshotProgressTracker(this.operation, this.name);
+
+				File[] snapshots = this.work.apply(tracker);
+
+				return tracker.complete(sizeOf(snapshots));
+			}
+		}
+
+		/**
+		 * The SnapshotProgressTracker counts the entries of a single snapshot and publishes
+		 * {@link SnapshotProgressApplicationEvent SnapshotProgressApplicationEvents}.
+		 */
+		protected final class SnapshotProgressTracker {
+
+			private final long startTime = System.nanoTime();
+
+			private final LongAdder bytes = new LongAdder();
+			private final LongAdder entries = new LongAdder();
+
+			private final SnapshotProgressApplicationEvent.Operation operation;
+
+			private final String name;
+
+			private volatile boolean counting;
+
+			private volatile LongSupplier bytesWritten;
+
+			protected SnapshotProgressTracker(SnapshotProgressApplicationEvent.Operation operation, String name) {
+				this.operation = operation;
+				this.name = name;
+			}
+
+			protected <S, T> SnapshotFilter<S, T> track(SnapshotFilter<S, T> filter) {
+
+				this.counting = true;
+
+				return new CountingSnapshotFilter<>(this::entryProcessed, filter);
+			}
+
+			/**
+			 * Reports the bytes processed so far as the bytes written by an export, e.g. the current size
+			 * of the snapshot file, rather than the bytes accumulated with {@link #bytesProcessed(long)}.
+			 */
+			protected void setBytesWritten(LongSupplier bytesWritten) {
+				this.bytesWritten = bytesWritten;
+			}
+
+			protected void bytesProcessed(long bytes) {
+				this.bytes.add(bytes);
+			}
+
+			void entryProcessed() {
+
+				this.entries.increment();
+
+				long interval = getProgressInterval();
+
+				if (interval > 0 && this.entries.sum() % interval == 0) {
+					publish(newEvent(currentBytes(), false));
+				}
+			}
+
+			SnapshotProgressApplicationEvent complete(long bytes) {
+
+				SnapshotProgressApplicationEvent event = newEvent(bytes, true);
+
+				publish(event);
+
+				return event;
+			}
+
+			private long currentBytes() {
+
+				LongSupplier bytesWritten = this.bytesWritten;
+
+				return bytesWritten != null ? bytesWritten.getAsLong() : this.bytes.sum();
+			}
+
+			private SnapshotProgressApplicationEvent newEvent(long bytes, boolean completed) {
+
+				return new SnapshotProgressApplicationEvent(SnapshotServiceAdapterSupport.this, this.operation,
+					this.name, this.counting ? this.entries.sum() : -1L, bytes, System.nanoTime() - this.startTime,
+					completed);
+			}
+
+			private void publish(SnapshotProgressApplicationEvent event) {
+				Optional.ofNullable(getApplicationEventPublisher()).ifPresent(publisher -> publisher.publishEvent(event));
+			}
+		}
+
+		/**
+		 * Determines whether the snapshots of a streamed archive are loaded concurrently.
+		 */
+		protected boolean isImportingArchivesConcurrently() {
+			return isStreamArchives() && getParallelism() > 1 && getExecutor() != null;
+		}
+
+		/**
+		 * Reads the given archive on the calling thread, spooling each archived snapshot and handing it to
+		 * the {@link #getExecutor() executor} to be loaded while the next snapshot is read.  At most
+		 * {@link #getParallelism() parallelism} spooled snapshots exist at any time, which bounds temporary space.
+		 * The first failure stops reading the archive and cancels the loads still in progress.
+		 */
+		protected void importArchiveConcurrently(SnapshotMetadata<K, V> configuration, File archive) {
+
+			SnapshotProgressTracker tracker = new SnapshotProgressTracker(SnapshotProgressApplicationEvent.Operation.IMPORT,
+				archive.getPath());
+
+			SnapshotOptions<K, V> options = configureOptions(createOptions(), configuration, tracker);
+
+			CompletionService<File> completionService = new ExecutorCompletionService<>(getExecutor());
+
+			AtomicReference<Throwable> failure = new AtomicReference<>();
+
+			List<Future<File>> futures = new ArrayList<>();
+
+			Semaphore spooledSnapshots = new Semaphore(getParallelism());
+
+			try {
+				readArchive(archive, (in, filename) -> {
+
+					acquire(spooledSnapshots);
+
+					if (failure.get() != null) {
+						spooledSnapshots.release();
+						return false;
+					}
+
+					File snapshot = spool(in, filename, spooledSnapshots);
+
+					futures.add(completionService.submit(() -> {
+						try {
+							load(configuration.getFormat(), options, snapshot);
+							tracker.bytesProcessed(snapshot.length());
+							return snapshot;
+						}
+						catch (Throwable cause) {
+							failure.compareAndSet(null, cause);
+							throw cause;
+						}
+						finally {
+							delete(snapshot);
+							spooledSnapshots.release();
+						}
+					}));
+
+					return true;
+				});
+
+				for (int count = 0; count < futures.size(); count++) {
+					completionService.take().get();
+				}
+			}
+			catch (ExecutionException cause) {
+
+				futures.forEach(future -> future.cancel(true));
+
+				throw cause.getCause() instanceof RuntimeException
+					? (RuntimeException) cause.getCause()
+					: new ImportSnapshotException(String.format("Failed to import archive [%s]", archive),
+						cause.getCause());
+			}
+			catch (InterruptedException | InterruptedIOException cause) {
+
+				futures.forEach(future -> future.cancel(true));
+
+				Thread.currentThread().interrupt();
+
+				throw new ImportSnapshotException(String.format("Interrupted while importing archive [%s]", archive),
+					cause);
+			}
+			catch (IOException cause) {
+
+				futures.forEach(future -> future.cancel(true));
+
+				throw new ImportSnapshotException(String.format("Failed to stream archive [%s] to import", archive),
+					cause);
+			}
+
+			SnapshotProgressApplicationEvent result = tracker.complete(sizeOf(archive));
+
+			if (log.isInfoEnabled()) {
+				log.info(result.toString());
+			}
+		}
+
+		private void acquire(Semaphore semaphore) throws InterruptedIOException {
+
+			try {
+				semaphore.acquire();
+			}
+			catch (InterruptedException cause) {
+				throw (InterruptedIOException) new InterruptedIOException("Interrupted while spooling snapshot")
+					.initCause(cause);
+			}
+		}
+
+		/**
+		 * Loads the given snapshots, streaming any snapshot archive when {@link #isStreamArchives() enabled}.
+		 * All other snapshots are loaded together with {@link #load(SnapshotFormat, SnapshotOptions, File...)}.
+		 */
+		protected void importSnapshots(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
+
+			List<File> files = new ArrayList<>();
+
+			for (File snapshot : ArrayUtils.nullSafeArray(snapshots, File.class)) {
+				if (isStreamArchives() && ArchiveFileFilter.INSTANCE.accept(snapshot)) {
+					streamArchive(snapshot, archivedSnapshot -> load(format, options, archivedSnapshot));
+				}
+				else {
+					files.add(snapshot);
+				}
+			}
+
+			if (!files.isEmpty()) {
+				load(format, options, files.toArray(new File[0]));
+			}
+		}
+
+		/**
+		 * Reads the given archive in a single pass, handing each archived snapshot to the loader as it is read.
+		 *
+		 * Pivotal GemFire only loads snapshots from a {@link File}; both the {@link RegionSnapshotService}
+		 * and {@link org.apache.geode.cache.snapshot.SnapshotReader} accept a {@link File} only, and the GemFire
+		 * snapshot format is read by internal classes.  Therefore, each archive entry is spooled to its own temporary
+		 * file, which is deleted as soon as the snapshot has been loaded, and the temporary space required is bounded
+		 * by the largest snapshot in the archive rather than the size of the entire archive.
+		 */
+		protected void streamArchive(File archive, Consumer<File> snapshotLoader) {
+
+			try {
+				readArchive(archive, (in, filename) -> {
+
+					File snapshot = spool(in, filename, null);
+
+					try {
+						snapshotLoader.accept(snapshot);
+					}
+					finally {
+						delete(snapshot);
+					}
+
+					return true;
+				});
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to stream archive [%s] to import", archive),
+					cause);
+			}
+		}
+
+		/**
+		 * Reads the given archive in a single pass, handing each archived snapshot to the {@link ArchiveEntryHandler}
+		 * until the handler returns {@literal false}.  A GZIP or Zstandard archive holds a single snapshot named
+		 * after the archive without its file extension.
+		 */
+		protected void readArchive(File archive, ArchiveEntryHandler handler) throws IOException {
+
+			try (InputStream in = new BufferedInputStream(new FileInputStream(archive), ARCHIVE_BUFFER_SIZE)) {
+
+				if (ArchiveFileFilter.INSTANCE.isCompressedFile(archive)) {
+					handler.handle(ArchiveFileFilter.INSTANCE.decompress(archive, in),
+						ArchiveFileFilter.INSTANCE.stripFileExtension(archive.getName()));
+				}
+				else {
+
+					ZipInputStream zipInputStream = new ZipInputStream(in);
+
+					for (ZipEntry entry = zipInputStream.getNextEntry(); entry != null;
+							entry = zipInputStream.getNextEntry()) {
+
+						if (!entry.isDirectory() && !handler.handle(zipInputStream, toSimpleFilename(entry.getName()))) {
+							break;
+						}
+					}
+				}
+			}
+		}
+
+		private File spool(InputStream in, String filename, Semaphore permits) throws IOException {
+
+			File snapshot = Files.createTempFile(TEMPORARY_DIRECTORY.toPath(), "snapshot-", "-" + filename).toFile();
+
+			try {
+				Files.copy(in, snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				return snapshot;
+			}
+			catch (IOException | RuntimeException cause) {
+
+				delete(snapshot);
+
+				Optional.ofNullable(permits).ifPresent(Semaphore::release);
+
+				throw cause;
+			}
+		}
+
+		private void delete(File snapshot) {
+
+			if (!snapshot.delete()) {
+				snapshot.deleteOnExit();
+			}
+		}
+
+		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
+
+		protected File[] handleDirectoryLocation(File directory) {
+			return directory.listFiles(pathname -> nullSafeIsFile(pathname));
+		}
+
+		protected File[] handleFileLocation(File file) {
+
+			if (ArchiveFileFilter.INSTANCE.accept(file)) {
+				try {
+
+					File extractedArchiveDirectory =
+						new File(TEMPORARY_DIRECTORY, file.getName().replaceAll("\\.", "-"));
+
+					Assert.state(extractedArchiveDirectory.isDirectory() || extractedArchiveDirectory.mkdirs(),
+						String.format("Failed create directory (%1$s) in which to extract archive (%2$s)",
+							extractedArchiveDirectory, file));
+
+					if (ArchiveFileFilter.INSTANCE.isCompressedFile(file)) {
+
+						File extractedSnapshot = new File(extractedArchiveDirectory,
+							ArchiveFileFilter.INSTANCE.stripFileExtension(file.getName()));
+
+						try (InputStream in = ArchiveFileFilter.INSTANCE.decompress(file,
+								new BufferedInputStream(new FileInputStream(file), ARCHIVE_BUFFER_SIZE))) {
+							Files.copy(in, extractedSnapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+						}
+
+						return new File[] { extractedSnapshot };
+					}
+
+					ZipFile zipFile = (ArchiveFileFilter.INSTANCE.isJarFile(file)
+						? new JarFile(file, false, JarFile.OPEN_READ)
+							: new ZipFile(file, ZipFile.OPEN_READ));
+
+					for (ZipEntry entry : CollectionUtils.iterable(zipFile.entries())) {
+						if (!entry.isDirectory()) {
+
+							DataInputStream entryInputStream = new DataInputStream(zipFile.getInputStream(entry));
+
+							DataOutputStream entryOutputStream = new DataOutputStream(new FileOutputStream(
+								new File(extractedArchiveDirectory, toSimpleFilename(entry.getName()))));
+
+							try {
+								FileCopyUtils.copy(entryInputStream, entryOutputStream);
+							}
+							finally {
+								exceptionSuppressingClose(entryInputStream);
+								exceptionSuppressingClose(entryOutputStream);
+							}
+						}
+					}
+
+					return handleDirectoryLocation(extractedArchiveDirectory);
+				}
+				catch (Throwable cause) {
+					throw new ImportSnapshotException(
+						String.format("Failed to extract archive [%1$s] to import", file), cause);
+				}
+			}
+
+			return new File[] { file };
+		}
+
+		protected boolean exceptionSuppressingClose(Closeable closeable) {
+
+			try {
+				closeable.close();
+				return true;
+			}
+			catch (IOException ignore) {
+				logDebug(ignore, "Failed to close [%s]", closeable);
+				return false;
+			}
+		}
+
+		protected void logDebug(Throwable cause, String message, Object... arguments) {
+
+			if (log.isDebugEnabled()) {
+				log.debug(String.format(message, arguments), cause);
+			}
+		}
+
+		@Override
+		public void load(File directory, SnapshotFormat format) {
+			throw new UnsupportedOperationException("not implemented");
+		}
+
+		@Override
+		public void load(SnapshotFormat format, SnapshotOptions<K, V> options, File... snapshots) {
+			throw new UnsupportedOperationException("not implemented");
+		}
+
+		@Override
+		public void save(File location, SnapshotFormat format) {
+			throw new UnsupportedOperationException("not implemented");
+		}
+
+		@Override
+		public void save(File location, SnapshotFormat format, SnapshotOptions<K, V> options) {
+			throw new UnsupportedOperationException("not implemented");
+		}
+
+		protected String toSimpleFilename(String pathname) {
+			int pathSeparatorIndex = String.valueOf(pathname).lastIndexOf(File.separator);
+			pathname = (pathSeparatorIndex > -1 ? pathname.substring(pathSeparatorIndex + 1) : pathname);
+			return StringUtils.trimWhitespace(pathname);
+		}
+	}
+
+	/**
+	 * The CacheSnapshotServiceAdapter is a SnapshotServiceAdapter adapting Pivotal GemFire's CacheSnapshotService.
+	 *
+	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
+	 */
+	protected static class CacheSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
+
+		protected static final String SNAPSHOT_FILE_EXTENSION = ".gfd";
+
+		private Cache cache;
+
+		private final CacheSnapshotService snapshotService;
+
+		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService) {
+			Assert.notNull(snapshotService, "The backing CacheSnapshotService must not be null");
+			this.snapshotService = snapshotService;
+		}
+
+		public void setCache(Cache cache) {
+			this.cache = cache;
+		}
+
+		protected Cache getCache() {
+			return this.cache;
+		}
+
+		protected CacheSnapshotService getSnapshotService() {
+			return this.snapshotService;
+		}
+
+		/**
+		 * When exporting concurrently, each Region is saved to its own snapshot file in the configured directory,
+		 * named as Pivotal GemFire's CacheSnapshotService would name it.
+		 */
+		@Override
+		protected List<SnapshotTask> newExportTasks(SnapshotMetadata<Object, Object> configuration) {
+
+			if (getParallelism() > 1 && getCache() != null && !configuration.isFile()) {
+
+				List<SnapshotTask> tasks = new ArrayList<>();
+
+				for (Region<?, ?> region : getRegions(getCache())) {
+					tasks.add(newRegionExportTask(region, configuration));
+				}
+
+				return tasks;
+			}
+
+			return super.newExportTasks(configuration);
+		}
+
+		@SuppressWarnings("unchecked")
+		private SnapshotTask newRegionExportTask(Region<?, ?> region, SnapshotMetadata<Object, Object> configuration) {
+
+			File snapshot = new File(configuration.getLocation(),
+				"snapshot" + region.getFullPath().replace(Region.SEPARATOR_CHAR, '-') + SNAPSHOT_FILE_EXTENSION);
+
+			return new SnapshotTask(SnapshotProgressApplicationEvent.Operation.EXPORT, region.getFullPath(), tracker -> {
+
+				RegionSnapshotService<Object, Object> regionSnapshotService =
+					(RegionSnapshotService<Object, Object>) region.getSnapshotService();
+
+				tracker.setBytesWritten(() -> sizeOf(snapshot));
+
+				try {
+					regionSnapshotService.save(snapshot, configuration.getFormat(),
+						configureOptions(regionSnapshotService.createOptions(), configuration, tracker));
+				}
+				catch (Throwable cause) {
+					throw new ExportSnapshotException(String.format(
+						"Failed to save snapshot of Region [%1$s] to file [%2$s] in format [%3$s]",
+							region.getFullPath(), snapshot, configuration.getFormat()), cause);
+				}
+
+				return new File[] { snapshot };
+			});
+		}
+
+		private List<Region<?, ?>> getRegions(Cache cache) {
+
+			List<Region<?, ?>> regions = new ArrayList<>();
+
+			for (Region<?, ?> rootRegion : cache.rootRegions()) {
+				regions.add(rootRegion);
+				regions.addAll(rootRegion.subregions(true));
+			}
+
+			return regions;
+		}
+
+		@Override
+		public SnapshotOptions<Object, Object> createOptions() {
+			return getSnapshotService().createOptions();
+		}
+
+		@Override
+		protected File[] handleLocation(SnapshotMetadata<Object, Object> configuration) {
+
+			return (configuration.isFile()
+				? (isStreamArchives() ? new File[] { configuration.getLocation() }
+					: handleFileLocation(configuration.getLocation()))
+				: handleDirectoryLocation(configuration.getLocation()));
+		}
+
+		@Override
+		public void load(File directory, SnapshotFormat format) {
+
+			try {
+				getSnapshotService().load(directory, format);
+			}
+			catch (Throwable cause) {
+				throw new ImportSnapshotException(String.format(
+					"Failed to load snapshots from directory [%1$s] in format [%2$s]",
+						directory, format), cause);
+			}
+		}
+
+		@Override
+		public void load(SnapshotFormat format, SnapshotOptions<Object, Object> options, File... snapshots) {
+
+			try {
+				getSnapshotService().load(snapshots, format, options);
+			}
+			catch (Throwable cause) {
+				throw new ImportSnapshotException(String.format(
+					"Failed to load snapshots [%1$s] in format [%2$s] using options [%3$s]",
+						Arrays.toString(snapshots), format, options), cause);
+			}
+		}
+
+		@Override
+		public void save(File directory, SnapshotFormat format) {
 
 			try {
 				getSnapshotService().save(directory, format);
@@ -658,8 +1596,14 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static class RegionSnapshotServiceAdapter<K, V> extends SnapshotServiceAdapterSupport<K, V> {
 
+		protected static final long DEFAULT_INCREMENTAL_SAFETY_MARGIN = 1000L;
+
 		private final RegionSnapshotService<K, V> snapshotService;
 
+		private long incrementalSafetyMargin = DEFAULT_INCREMENTAL_SAFETY_MARGIN;
+
+		private Region<K, V> region;
+
 		public RegionSnapshotServiceAdapter(RegionSnapshotService<K, V> snapshotService) {
 			Assert.notNull(snapshotService, "The backing RegionSnapshotService must not be null");
 			this.snapshotService = snapshotService;
@@ -669,6 +1613,187 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return this.snapshotService;
 		}
 
+		public void setIncrementalSafetyMargin(long incrementalSafetyMargin) {
+			this.incrementalSafetyMargin = Math.max(incrementalSafetyMargin, 0L);
+		}
+
+		protected long getIncrementalSafetyMargin() {
+			return this.incrementalSafetyMargin;
+		}
+
+		public void setRegion(Region<K, V> region) {
+			this.region = region;
+		}
+
+		protected Region<K, V> getRegion() {
+			return Optional.ofNullable(this.region)
+				.orElseThrow(() -> newIllegalStateException("A Region is required for incremental snapshots"));
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void doExport(SnapshotMetadata<K, V>... configurations) {
+
+			List<SnapshotMetadata<K, V>> fullExports = new ArrayList<>();
+
+			for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations)) {
+				if (configuration.isIncremental()) {
+					exportIncremental(configuration);
+				}
+				else {
+					fullExports.add(configuration);
+				}
+			}
+
+			super.doExport(fullExports.toArray(new SnapshotMetadata[0]));
+		}
+
+		/**
+		 * Exports the base snapshot, or a delta snapshot of the entries modified since the high-water mark
+		 * of the previous export, to the incremental snapshot directory along with the keys removed since.
+		 *
+		 * The keys recorded for the next export are the keys present when the export starts together with
+		 * the keys written to the snapshot, so keys created during the export are not missed.  The Region's
+		 * {@link Region#keySet() key set} is copied into memory for every export and the keys are written with
+		 * Java serialization, so the keys must be {@link java.io.Serializable}.
+		 *
+		 * Entries are selected by their last modified time, so Region statistics must be enabled.
+		 *
+		 * @throws ExportSnapshotException if Region statistics are disabled or the export fails.
+		 * @see #resolveHighWaterMark(Region)
+		 */
+		protected void exportIncremental(SnapshotMetadata<K, V> configuration) {
+
+			File directory = configuration.getLocation();
+
+			try {
+				Assert.state(directory.isDirectory() || directory.mkdirs(),
+					String.format("Failed to create incremental snapshot directory [%s]", directory));
+
+				IncrementalSnapshot incrementalSnapshot = IncrementalSnapshot.from(directory);
+
+				Region<K, V> region = getRegion();
+
+				if (!isStatisticsEnabled(region)) {
+					throw new ExportSnapshotException(String.format(
+						"Region [%s] must have statistics enabled to export an incremental snapshot;"
+							+ " otherwise every delta would contain all entries", region.getFullPath()));
+				}
+
+				long highWaterMark = resolveHighWaterMark(region);
+
+				int sequence = incrementalSnapshot.nextSequence();
+
+				Set<Object> keys = new HashSet<>(region.keySet());
+
+				SnapshotFilter<K, V> filter = incrementalSnapshot.exists()
+					? and(new ModifiedSinceSnapshotFilter<>(incrementalSnapshot.getHighWaterMark()),
+						configuration.getFilter())
+					: configuration.getFilter();
+
+				// the filter is evaluated on remote members in parallel mode, so exported keys cannot be recorded
+				KeyRecordingSnapshotFilter<K, V> keyRecordingFilter = configuration.isParallel() ? null
+					: new KeyRecordingSnapshotFilter<>(filter);
+
+				save(incrementalSnapshot.getSnapshotFile(sequence), configuration.getFormat(), createOptions()
+					.invokeCallbacks(configuration.isInvokeCallbacks())
+					.setFilter(keyRecordingFilter != null ? keyRecordingFilter : filter)
+					.setParallelMode(configuration.isParallel()));
+
+				Set<Object> tombstones = new HashSet<>(incrementalSnapshot.readKeys());
+
+				tombstones.removeAll(keys);
+
+				keys.addAll(keyRecordingFilter != null ? keyRecordingFilter.getKeys() : region.keySet());
+
+				incrementalSnapshot.commit(sequence, highWaterMark, keys, tombstones);
+			}
+			catch (IOException cause) {
+				throw new ExportSnapshotException(String.format(
+					"Failed to export incremental snapshot to directory [%s]", directory), cause);
+			}
+		}
+
+		private boolean isStatisticsEnabled(Region<K, V> region) {
+			return region.getAttributes().getStatisticsEnabled();
+		}
+
+		/**
+		 * Resolves the high-water mark of an incremental export from the cache time, the same clock used to record
+		 * the last modified time of entries, less the configured {@link #setIncrementalSafetyMargin(long) margin}.
+		 *
+		 * @param region {@link Region} being exported.
+		 * @return the high-water mark in milliseconds since the epoch.
+		 */
+		protected long resolveHighWaterMark(Region<K, V> region) {
+
+			RegionService regionService = region.getRegionService();
+
+			long now = regionService instanceof GemFireCacheImpl
+				? ((GemFireCacheImpl) regionService).cacheTimeMillis()
+				: System.currentTimeMillis();
+
+			return now - getIncrementalSafetyMargin();
+		}
+
+		@SuppressWarnings("unchecked")
+		private SnapshotFilter<K, V> and(SnapshotFilter<K, V> filter, SnapshotFilter<K, V> configuredFilter) {
+			return configuredFilter != null ? ComposableSnapshotFilter.and(filter, configuredFilter) : filter;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void doImport(SnapshotMetadata<K, V>... configurations) {
+
+			List<SnapshotMetadata<K, V>> fullImports = new ArrayList<>();
+
+			for (SnapshotMetadata<K, V> configuration : nullSafeArray(configurations)) {
+				if (configuration.isIncremental()) {
+					importIncremental(configuration);
+				}
+				else {
+					fullImports.add(configuration);
+				}
+			}
+
+			super.doImport(fullImports.toArray(new SnapshotMetadata[0]));
+		}
+
+		/**
+		 * Imports the base snapshot followed by each delta snapshot in the chain, removing the keys recorded as
+		 * removed by the delta before loading the delta's entries.
+		 */
+		@SuppressWarnings("unchecked")
+		protected void importIncremental(SnapshotMetadata<K, V> configuration) {
+
+			File directory = configuration.getLocation();
+
+			try {
+				IncrementalSnapshot incrementalSnapshot = IncrementalSnapshot.from(directory);
+
+				if (!incrementalSnapshot.exists()) {
+					throw new ImportSnapshotException(String.format(
+						"No incremental snapshot was found in directory [%s]", directory));
+				}
+
+				for (int sequence = 0; sequence <= incrementalSnapshot.getSequence(); sequence++) {
+
+					Set<Object> tombstones = incrementalSnapshot.readTombstones(sequence);
+
+					if (!tombstones.isEmpty()) {
+						getRegion().removeAll((Collection<K>) (Collection<?>) tombstones);
+					}
+
+					load(configuration.getFormat(), createOptions(configuration),
+						incrementalSnapshot.getSnapshotFile(sequence));
+				}
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format(
+					"Failed to import incremental snapshot from directory [%s]", directory), cause);
+			}
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			return getSnapshotService().createOptions();
@@ -743,11 +1868,13 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	public static class SnapshotMetadata<K, V> {
 
+		protected static final boolean DEFAULT_INCREMENTAL = false;
 		protected static final boolean DEFAULT_INVOKE_CALLBACKS = false;
 		protected static final boolean DEFAULT_PARALLEL = false;
 
 		protected static final SnapshotFormat DEFAULT_SNAPSHOT_FORMAT = SnapshotFormat.GEMFIRE;
 
+		private boolean incremental = DEFAULT_INCREMENTAL;
 		private boolean invokeCallbacks = DEFAULT_INVOKE_CALLBACKS;
 		private boolean parallel = DEFAULT_PARALLEL;
 
@@ -798,6 +1925,23 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return this.filter;
 		}
 
+		/**
+		 * Sets whether the Region snapshot is exported incrementally, in which case the location is a directory
+		 * holding a base snapshot followed by a chain of delta snapshots, and imported by replaying the chain.
+		 *
+		 * Incremental snapshots are only supported for Region snapshots.
+		 *
+		 * @param incremental boolean value indicating whether the Region snapshot is incremental.
+		 * @see org.springframework.data.gemfire.snapshot.IncrementalSnapshot
+		 */
+		public void setIncremental(boolean incremental) {
+			this.incremental = incremental;
+		}
+
+		public boolean isIncremental() {
+			return this.incremental;
+		}
+
 		public void setInvokeCallbacks(boolean invokeCallbacks) {
 			this.invokeCallbacks = invokeCallbacks;
 		}
@@ -824,9 +1968,92 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		}
 	}
 
+	/**
+	 * Callback handling a single snapshot read from an archive.
+	 */
+	@FunctionalInterface
+	protected interface ArchiveEntryHandler {
+
+		/**
+		 * Handles the archived snapshot with the given filename, read from the given {@link InputStream}.
+		 *
+		 * @return {@literal true} to continue reading the archive, {@literal false} to stop.
+		 */
+		boolean handle(InputStream in, String filename) throws IOException;
+
+	}
+
+	/**
+	 * The CountingSnapshotFilter class is a {@link SnapshotFilter} notifying a callback for every entry
+	 * of a snapshot before delegating to the configured {@link SnapshotFilter}, if any.
+	 *
+	 * @see org.apache.geode.cache.snapshot.SnapshotFilter
+	 */
+	static final class CountingSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+		private final transient Runnable entryCallback;
+
+		private final SnapshotFilter<K, V> delegate;
+
+		CountingSnapshotFilter(Runnable entryCallback, SnapshotFilter<K, V> delegate) {
+			this.entryCallback = entryCallback;
+			this.delegate = delegate;
+		}
+
+		SnapshotFilter<K, V> getDelegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public boolean accept(Map.Entry<K, V> entry) {
+
+			if (this.entryCallback != null) {
+				this.entryCallback.run();
+			}
+
+			return this.delegate == null || this.delegate.accept(entry);
+		}
+	}
+
+	/**
+	 * The KeyRecordingSnapshotFilter class is a {@link SnapshotFilter} recording the keys of all entries accepted
+	 * by the configured {@link SnapshotFilter}, if any.
+	 *
+	 * @see org.apache.geode.cache.snapshot.SnapshotFilter
+	 */
+	static final class KeyRecordingSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+		private final transient Set<Object> keys = ConcurrentHashMap.newKeySet();
+
+		private final SnapshotFilter<K, V> delegate;
+
+		KeyRecordingSnapshotFilter(SnapshotFilter<K, V> delegate) {
+			this.delegate = delegate;
+		}
+
+		Set<Object> getKeys() {
+			return this.keys;
+		}
+
+		@Override
+		public boolean accept(Map.Entry<K, V> entry) {
+
+			boolean accepted = this.delegate == null || this.delegate.accept(entry);
+
+			if (accepted) {
+				this.keys.add(entry.getKey());
+			}
+
+			return accepted;
+		}
+	}
+
 	/**
 	 * The ArchiveFileFilter class is a Java FileFilter implementation accepting any File that is either
-	 * a JAR file or ZIP file.
+	 * a JAR, ZIP, GZIP or Zstandard file.
+	 *
+	 * Zstandard ({@literal .zst}) files are decompressed with {@literal zstd-jni}, which is an optional dependency
+	 * loaded reflectively; reading a Zstandard file without it on the classpath fails with an {@link IOException}.
 	 *
 	 * @see java.io.File
 	 * @see java.io.FileFilter
@@ -835,14 +2062,55 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 
 		protected static final ArchiveFileFilter INSTANCE = new ArchiveFileFilter();
 
-		protected static final List<String> ACCEPTED_FILE_EXTENSIONS = Arrays.asList("jar", "zip");
+		protected static final List<String> ACCEPTED_FILE_EXTENSIONS = Arrays.asList("gz", "jar", "zip", "zst");
 
 		protected static final String FILE_EXTENSION_DOT_SEPARATOR = ".";
 
+		protected static final String ZSTD_INPUT_STREAM_CLASS_NAME = "com.github.luben.zstd.ZstdInputStream";
+
+		protected boolean isCompressedFile(File file) {
+			return isGzipFile(file) || isZstdFile(file);
+		}
+
+		protected boolean isGzipFile(File file) {
+			return "gz".equalsIgnoreCase(getFileExtension(file));
+		}
+
+		protected boolean isZstdFile(File file) {
+			return "zst".equalsIgnoreCase(getFileExtension(file));
+		}
+
+		/**
+		 * Decompresses the contents of the given GZIP or Zstandard {@link File} read from the {@link InputStream}.
+		 */
+		protected InputStream decompress(File file, InputStream in) throws IOException {
+
+			if (isZstdFile(file)) {
+				try {
+					return (InputStream) ClassUtils.forName(ZSTD_INPUT_STREAM_CLASS_NAME,
+						ArchiveFileFilter.class.getClassLoader()).getConstructor(InputStream.class).newInstance(in);
+				}
+				catch (ClassNotFoundException | LinkageError cause) {
+					throw new IOException(String.format("Reading Zstandard archive [%s] requires zstd-jni"
+						+ " (com.github.luben:zstd-jni) on the classpath", file), cause);
+				}
+				catch (ReflectiveOperationException cause) {
+					throw new IOException(String.format("Failed to decompress Zstandard archive [%s]", file), cause);
+				}
+			}
+
+			return new GZIPInputStream(in, SnapshotServiceAdapterSupport.ARCHIVE_BUFFER_SIZE);
+		}
+
 		protected boolean isJarFile(File file) {
 			return "jar".equalsIgnoreCase(getFileExtension(file));
 		}
 
+		protected String stripFileExtension(String filename) {
+			int fileExtensionIndex = filename.lastIndexOf(FILE_EXTENSION_DOT_SEPARATOR);
+			return (fileExtensionIndex > 0 ? filename.substring(0, fileExtensionIndex) : filename);
+		}
+
 		protected String getFileExtension(File file) {
 
 			String fileExtension = "";
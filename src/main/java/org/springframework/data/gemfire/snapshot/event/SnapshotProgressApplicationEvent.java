@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * The SnapshotProgressApplicationEvent class is a Spring ApplicationEvent reporting the progress of a single
+ * Pivotal GemFire Cache or Region snapshot import/export, such as an individual Region snapshot file.
+ *
+ * Progress events are published periodically while the snapshot is being processed and once more
+ * when the snapshot {@link #isCompleted() completes}, in which case the event carries the final
+ * throughput of the snapshot.
+ *
+ * Unlike {@link SnapshotApplicationEvent}, this event does not trigger a snapshot import/export.
+ *
+ * @author John Blum
+ * @see org.springframework.context.ApplicationEvent
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 2.2.0
+ */
+@SuppressWarnings("unused")
+public class SnapshotProgressApplicationEvent extends ApplicationEvent {
+
+	private final boolean completed;
+
+	private final long bytes;
+	private final long elapsedNanos;
+	private final long entries;
+
+	private final Operation operation;
+
+	private final String snapshotName;
+
+	/**
+	 * Constructs an instance of SnapshotProgressApplicationEvent initialized with an event source and the progress
+	 * of the named snapshot.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param operation the snapshot {@link Operation} in progress.
+	 * @param snapshotName name of the snapshot, such as the Region path or snapshot file pathname.
+	 * @param entries number of entries processed so far, or {@literal -1} if unknown.
+	 * @param bytes number of snapshot bytes processed so far, or {@literal -1} if unknown.
+	 * @param elapsedNanos time elapsed since the snapshot started in nanoseconds.
+	 * @param completed boolean value indicating whether the snapshot has completed.
+	 */
+	public SnapshotProgressApplicationEvent(Object source, Operation operation, String snapshotName, long entries,
+			long bytes, long elapsedNanos, boolean completed) {
+
+		super(source);
+
+		this.operation = operation;
+		this.snapshotName = snapshotName;
+		this.entries = entries;
+		this.bytes = bytes;
+		this.elapsedNanos = elapsedNanos;
+		this.completed = completed;
+	}
+
+	public long getBytes() {
+		return this.bytes;
+	}
+
+	public long getBytesPerSecond() {
+		return perSecond(getBytes());
+	}
+
+	public boolean isCompleted() {
+		return this.completed;
+	}
+
+	public long getElapsedNanos() {
+		return this.elapsedNanos;
+	}
+
+	public long getEntries() {
+		return this.entries;
+	}
+
+	public long getEntriesPerSecond() {
+		return perSecond(getEntries());
+	}
+
+	public Operation getOperation() {
+		return this.operation;
+	}
+
+	public String getSnapshotName() {
+		return this.snapshotName;
+	}
+
+	private long perSecond(long count) {
+
+		return count < 0 ? -1L
+			: this.elapsedNanos > 0 ? (long) (count * (double) TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos)
+			: count;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s snapshot [%2$s] %3$s [%4$d] entries, [%5$d] bytes in [%6$d] ms"
+				+ " ([%7$d] entries/s, [%8$d] bytes/s)",
+			getOperation(), getSnapshotName(), isCompleted() ? "completed" : "processed", getEntries(), getBytes(),
+			TimeUnit.NANOSECONDS.toMillis(getElapsedNanos()), getEntriesPerSecond(), getBytesPerSecond());
+	}
+
+	public enum Operation {
+		EXPORT, IMPORT
+	}
+}
@@ -26,6 +26,7 @@ import org.apache.geode.cache.snapshot.SnapshotFilter;
  *
  * @author John Blum
  * @see org.apache.geode.cache.snapshot.SnapshotFilter
+ * @see org.springframework.data.gemfire.snapshot.filter.CompositeSnapshotFilter
  * @since 1.7.0
  */
 @SuppressWarnings("unused")
@@ -136,6 +137,9 @@ public class ComposableSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
 	/**
 	 * Determines whether the following Map Entry is accepted by this composed SnapshotFilter implementation.
 	 *
+	 * The right operand is only evaluated when the left operand does not decide the result, that is, when the left
+	 * operand accepts the entry for AND or rejects the entry for OR.
+	 *
 	 * @param entry the Map.Entry to evaluate.
 	 * @return a boolean value indicating whether this composed SnapshotFilter accepts the Map Entry.
 	 * @see ComposableSnapshotFilter.Operator
@@ -144,7 +148,10 @@ public class ComposableSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
 	 */
 	@Override
 	public boolean accept(final Map.Entry<K, V> entry) {
-		return operator.operate(leftOperand.accept(entry), rightOperand.accept(entry));
+		boolean leftResult = leftOperand.accept(entry);
+
+		return (operator.isAnd() ? leftResult && rightOperand.accept(entry)
+			: leftResult || rightOperand.accept(entry));
 	}
 
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+import org.springframework.util.Assert;
+
+/**
+ * The CompositeSnapshotFilter class is a Pivotal GemFire SnapshotFilter combining any number of SnapshotFilters
+ * with a single logical AND or OR operator.
+ *
+ * Unlike {@link ComposableSnapshotFilter}, which builds a binary tree of filters, the composed filters are kept in
+ * a flat array and evaluated in order, stopping as soon as the result is decided, that is, at the first filter
+ * rejecting the entry for AND or accepting the entry for OR.  Nested CompositeSnapshotFilters using the same
+ * operator are flattened into the enclosing filter.
+ *
+ * When {@link #adaptive() adaptive}, the filters are periodically reordered based on their observed selectivity
+ * and sampled cost so that cheap filters most likely to decide the result are evaluated first.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.snapshot.SnapshotFilter
+ * @see org.springframework.data.gemfire.snapshot.filter.ComposableSnapshotFilter
+ * @since 2.2.0
+ */
+@SuppressWarnings("unused")
+public class CompositeSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+	protected static final int COST_SAMPLE_INTERVAL = 64;
+	protected static final int REORDER_INTERVAL = 4096;
+
+	private final boolean adaptive;
+	private final boolean and;
+
+	private final LongAdder evaluations = new LongAdder();
+
+	private volatile FilterStatistics<K, V>[] filters;
+
+	/**
+	 * Composes the given SnapshotFilters into a filter accepting entries accepted by all of the SnapshotFilters.
+	 *
+	 * @param <K> the class type of the SnapshotFilter key.
+	 * @param <V> the class type of the SnapshotFilter value.
+	 * @param snapshotFilters the SnapshotFilters to compose.
+	 * @return a CompositeSnapshotFilter composed of the SnapshotFilters using the logical AND operator.
+	 */
+	@SafeVarargs
+	public static <K, V> CompositeSnapshotFilter<K, V> allOf(SnapshotFilter<K, V>... snapshotFilters) {
+		return new CompositeSnapshotFilter<>(true, false, snapshotFilters);
+	}
+
+	/**
+	 * Composes the given SnapshotFilters into a filter accepting entries accepted by any of the SnapshotFilters.
+	 *
+	 * @param <K> the class type of the SnapshotFilter key.
+	 * @param <V> the class type of the SnapshotFilter value.
+	 * @param snapshotFilters the SnapshotFilters to compose.
+	 * @return a CompositeSnapshotFilter composed of the SnapshotFilters using the logical OR operator.
+	 */
+	@SafeVarargs
+	public static <K, V> CompositeSnapshotFilter<K, V> anyOf(SnapshotFilter<K, V>... snapshotFilters) {
+		return new CompositeSnapshotFilter<>(false, false, snapshotFilters);
+	}
+
+	@SuppressWarnings("unchecked")
+	private CompositeSnapshotFilter(boolean and, boolean adaptive, SnapshotFilter<K, V>... snapshotFilters) {
+
+		Assert.notEmpty(snapshotFilters, "At least one SnapshotFilter is required");
+
+		this.and = and;
+		this.adaptive = adaptive;
+
+		List<FilterStatistics<K, V>> filters = new ArrayList<>(snapshotFilters.length);
+
+		for (SnapshotFilter<K, V> snapshotFilter : snapshotFilters) {
+
+			Assert.notNull(snapshotFilter, "SnapshotFilter must not be null");
+
+			if (snapshotFilter instanceof CompositeSnapshotFilter
+					&& ((CompositeSnapshotFilter<K, V>) snapshotFilter).isAnd() == and) {
+
+				for (FilterStatistics<K, V> nestedFilter : ((CompositeSnapshotFilter<K, V>) snapshotFilter).filters) {
+					filters.add(new FilterStatistics<>(nestedFilter.getFilter()));
+				}
+			}
+			else {
+				filters.add(new FilterStatistics<>(snapshotFilter));
+			}
+		}
+
+		this.filters = filters.toArray(new FilterStatistics[0]);
+	}
+
+	/**
+	 * Returns a copy of this CompositeSnapshotFilter that reorders the composed filters based on their observed
+	 * selectivity and cost.
+	 *
+	 * @return an adaptive copy of this CompositeSnapshotFilter.
+	 */
+	@SuppressWarnings("unchecked")
+	public CompositeSnapshotFilter<K, V> adaptive() {
+		return new CompositeSnapshotFilter<>(isAnd(), true, getFilters().toArray(new SnapshotFilter[0]));
+	}
+
+	public boolean isAdaptive() {
+		return this.adaptive;
+	}
+
+	public boolean isAnd() {
+		return this.and;
+	}
+
+	/**
+	 * Returns the composed filters in the order in which they are currently evaluated.
+	 *
+	 * @return a {@link List} of the composed SnapshotFilters.
+	 */
+	public List<SnapshotFilter<K, V>> getFilters() {
+
+		List<SnapshotFilter<K, V>> snapshotFilters = new ArrayList<>(this.filters.length);
+
+		for (FilterStatistics<K, V> filter : this.filters) {
+			snapshotFilters.add(filter.getFilter());
+		}
+
+		return snapshotFilters;
+	}
+
+	/**
+	 * Determines whether the given Map Entry is accepted, evaluating the composed filters in order
+	 * until the result is decided.
+	 *
+	 * @param entry the Map.Entry to evaluate.
+	 * @return a boolean value indicating whether this composite SnapshotFilter accepts the Map Entry.
+	 * @see org.apache.geode.cache.snapshot.SnapshotFilter#accept(Map.Entry)
+	 */
+	@Override
+	public boolean accept(Map.Entry<K, V> entry) {
+
+		FilterStatistics<K, V>[] filters = this.filters;
+
+		if (this.adaptive) {
+			return adaptiveAccept(filters, entry);
+		}
+
+		boolean decisiveResult = !this.and;
+
+		for (FilterStatistics<K, V> filter : filters) {
+			if (filter.getFilter().accept(entry) == decisiveResult) {
+				return decisiveResult;
+			}
+		}
+
+		return this.and;
+	}
+
+	private boolean adaptiveAccept(FilterStatistics<K, V>[] filters, Map.Entry<K, V> entry) {
+
+		this.evaluations.increment();
+
+		long evaluationCount = this.evaluations.sum();
+
+		boolean sampleCost = evaluationCount % COST_SAMPLE_INTERVAL == 0;
+		boolean decisiveResult = !this.and;
+		boolean result = this.and;
+
+		for (FilterStatistics<K, V> filter : filters) {
+			if (filter.accept(entry, sampleCost) == decisiveResult) {
+				result = decisiveResult;
+				break;
+			}
+		}
+
+		if (evaluationCount % REORDER_INTERVAL == 0) {
+			reorder(filters);
+		}
+
+		return result;
+	}
+
+	private void reorder(FilterStatistics<K, V>[] filters) {
+
+		FilterStatistics<K, V>[] reorderedFilters = Arrays.copyOf(filters, filters.length);
+
+		boolean and = this.and;
+
+		Arrays.sort(reorderedFilters, Comparator.comparingDouble(filter -> filter.getRank(and)));
+
+		this.filters = reorderedFilters;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s %2$s", isAnd() ? "allOf" : "anyOf", getFilters());
+	}
+
+	/**
+	 * FilterStatistics records how often a composed SnapshotFilter is evaluated and accepts an entry,
+	 * along with the sampled cost of evaluating the filter.
+	 */
+	static final class FilterStatistics<K, V> implements Serializable {
+
+		private final LongAdder accepted = new LongAdder();
+		private final LongAdder evaluated = new LongAdder();
+		private final LongAdder sampledEvaluations = new LongAdder();
+		private final LongAdder sampledNanos = new LongAdder();
+
+		private final SnapshotFilter<K, V> filter;
+
+		FilterStatistics(SnapshotFilter<K, V> filter) {
+			this.filter = filter;
+		}
+
+		SnapshotFilter<K, V> getFilter() {
+			return this.filter;
+		}
+
+		boolean accept(Map.Entry<K, V> entry, boolean sampleCost) {
+
+			long startTime = sampleCost ? System.nanoTime() : 0L;
+
+			boolean result = this.filter.accept(entry);
+
+			if (sampleCost) {
+				this.sampledNanos.add(System.nanoTime() - startTime);
+				this.sampledEvaluations.increment();
+			}
+
+			this.evaluated.increment();
+
+			if (result) {
+				this.accepted.increment();
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the expected cost of deciding the result with this filter, that is, the average cost of
+		 * evaluating the filter divided by the probability the filter decides the result.  Lower ranks
+		 * are evaluated first.
+		 */
+		double getRank(boolean and) {
+
+			long evaluated = this.evaluated.sum();
+
+			if (evaluated == 0) {
+				return Double.MAX_VALUE;
+			}
+
+			long sampledEvaluations = this.sampledEvaluations.sum();
+
+			double cost = sampledEvaluations > 0 ? (double) this.sampledNanos.sum() / sampledEvaluations : 1.0d;
+			double acceptRate = (double) this.accepted.sum() / evaluated;
+			double decisiveRate = and ? 1.0d - acceptRate : acceptRate;
+
+			return Math.max(cost, 1.0d) / Math.max(decisiveRate, 0.0001d);
+		}
+
+		@Override
+		public String toString() {
+			return String.valueOf(this.filter);
+		}
+	}
+}
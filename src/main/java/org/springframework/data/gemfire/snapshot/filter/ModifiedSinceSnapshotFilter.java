@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import java.util.Map;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+
+/**
+ * The ModifiedSinceSnapshotFilter class is a Pivotal GemFire SnapshotFilter accepting only those Region entries
+ * last modified at or after a given point in time, as recorded by the entry's {@link CacheStatistics}.
+ *
+ * Entries for which the last modified time cannot be determined, for instance when Region statistics are disabled
+ * or the entry is not a {@link Region.Entry}, are always accepted so that no change is ever lost.  Incremental
+ * exports therefore reject Regions with statistics disabled rather than silently exporting every entry.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.CacheStatistics
+ * @see org.apache.geode.cache.snapshot.SnapshotFilter
+ * @since 2.2.0
+ */
+@SuppressWarnings("unused")
+public class ModifiedSinceSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+	private final long timestamp;
+
+	/**
+	 * Constructs an instance of ModifiedSinceSnapshotFilter initialized with the point in time, in milliseconds
+	 * since the epoch, at or after which entries must have been modified to be accepted.
+	 *
+	 * @param timestamp point in time in milliseconds since the epoch.
+	 */
+	public ModifiedSinceSnapshotFilter(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * Determines whether the given Map Entry was modified at or after the configured point in time.
+	 *
+	 * @param entry the Map.Entry to evaluate.
+	 * @return a boolean value indicating whether the Map Entry was modified since the configured point in time.
+	 * @see org.apache.geode.cache.snapshot.SnapshotFilter#accept(Map.Entry)
+	 */
+	@Override
+	public boolean accept(Map.Entry<K, V> entry) {
+
+		if (entry instanceof Region.Entry) {
+			try {
+
+				CacheStatistics statistics = ((Region.Entry<?, ?>) entry).getStatistics();
+
+				return statistics == null || statistics.getLastModifiedTime() >= this.timestamp;
+			}
+			catch (StatisticsDisabledException ignore) {
+				return true;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s { timestamp = %2$d }", getClass().getSimpleName(), getTimestamp());
+	}
+}
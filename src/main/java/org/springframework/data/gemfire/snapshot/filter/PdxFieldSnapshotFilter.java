@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.util.Assert;
+
+/**
+ * The PdxFieldSnapshotFilter class is a Pivotal GemFire SnapshotFilter evaluating a {@link FieldPredicate}
+ * against a single named field of the entry value.
+ *
+ * When the value is a {@link PdxInstance}, for instance when the cache is configured with PDX read-serialized,
+ * the field is read with {@link PdxInstance#getField(String)} without deserializing the value.  Otherwise,
+ * the field is read directly from the value object.  Values without the named field are rejected.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.snapshot.SnapshotFilter
+ * @see org.apache.geode.pdx.PdxInstance
+ * @since 2.2.0
+ */
+@SuppressWarnings("unused")
+public class PdxFieldSnapshotFilter<K, V> implements SnapshotFilter<K, V> {
+
+	private final FieldPredicate predicate;
+
+	private final String fieldName;
+
+	/**
+	 * Factory method used to construct a PdxFieldSnapshotFilter evaluating the given {@link FieldPredicate}
+	 * against the value of the named field.
+	 *
+	 * @param <K> the class type of the SnapshotFilter key.
+	 * @param <V> the class type of the SnapshotFilter value.
+	 * @param fieldName name of the field to evaluate.
+	 * @param predicate {@link FieldPredicate} evaluated against the field value.
+	 * @return a new PdxFieldSnapshotFilter.
+	 * @throws IllegalArgumentException if the field name is not specified or the predicate is {@literal null}.
+	 */
+	public static <K, V> PdxFieldSnapshotFilter<K, V> where(String fieldName, FieldPredicate predicate) {
+		return new PdxFieldSnapshotFilter<>(fieldName, predicate);
+	}
+
+	/**
+	 * Constructs an instance of PdxFieldSnapshotFilter initialized with the name of the field to evaluate
+	 * and the {@link FieldPredicate} evaluated against the field value.
+	 *
+	 * @param fieldName name of the field to evaluate.
+	 * @param predicate {@link FieldPredicate} evaluated against the field value.
+	 * @throws IllegalArgumentException if the field name is not specified or the predicate is {@literal null}.
+	 */
+	public PdxFieldSnapshotFilter(String fieldName, FieldPredicate predicate) {
+
+		Assert.hasText(fieldName, "Field name is required");
+		Assert.notNull(predicate, "FieldPredicate is required");
+
+		this.fieldName = fieldName;
+		this.predicate = predicate;
+	}
+
+	public String getFieldName() {
+		return this.fieldName;
+	}
+
+	public FieldPredicate getPredicate() {
+		return this.predicate;
+	}
+
+	/**
+	 * Determines whether the value of the named field of the Map Entry value satisfies the {@link FieldPredicate}.
+	 *
+	 * @param entry the Map.Entry to evaluate.
+	 * @return a boolean value indicating whether the named field of the entry value satisfies the predicate.
+	 * @see org.apache.geode.cache.snapshot.SnapshotFilter#accept(Map.Entry)
+	 */
+	@Override
+	public boolean accept(Map.Entry<K, V> entry) {
+
+		Object value = entry != null ? entry.getValue() : null;
+
+		if (value instanceof PdxInstance) {
+
+			PdxInstance pdxInstance = (PdxInstance) value;
+
+			return pdxInstance.hasField(getFieldName()) && getPredicate().test(pdxInstance.getField(getFieldName()));
+		}
+		else if (value != null) {
+
+			DirectFieldAccessor fieldAccessor = new DirectFieldAccessor(value);
+
+			return fieldAccessor.isReadableProperty(getFieldName())
+				&& getPredicate().test(fieldAccessor.getPropertyValue(getFieldName()));
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s { fieldName = %2$s }", getClass().getSimpleName(), getFieldName());
+	}
+
+	/**
+	 * {@link Serializable} {@link Predicate} evaluated against the value of a field, allowing the filter to be sent
+	 * to remote members when exporting snapshots in parallel.
+	 */
+	@FunctionalInterface
+	public interface FieldPredicate extends Predicate<Object>, Serializable {
+
+		static FieldPredicate isEqualTo(Object expectedValue) {
+			return value -> expectedValue == null ? value == null : expectedValue.equals(value);
+		}
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.geode.cache.Region;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AbstractRegionInvocationHandler} class is an abstract base class for JDK dynamic proxy
+ * {@link InvocationHandler InvocationHandlers} wrapping a target {@link Region}.
+ *
+ * How to handle each {@link Method} is resolved once, on first invocation, and cached as a {@link MethodInvoker},
+ * so that subsequent invocations neither compare {@link Method} names nor reflectively invoke the target
+ * {@link Region}.  {@literal equals} and {@literal hashCode} are based on the identity of the proxy.  All other
+ * {@link Method Methods} are dispatched to the target {@link Region} through a bound {@link MethodHandle},
+ * falling back to reflection for {@link Method Methods} declared by non-public interfaces.
+ *
+ * Subclasses customize the handling of individual {@link Method Methods} by overriding
+ * {@link #newMethodInvoker(Method)}.
+ *
+ * @author John Blum
+ * @see java.lang.invoke.MethodHandle
+ * @see java.lang.reflect.InvocationHandler
+ * @see org.apache.geode.cache.Region
+ * @since 2.2.0
+ */
+public abstract class AbstractRegionInvocationHandler implements InvocationHandler {
+
+	protected static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
+	private final Map<Method, MethodInvoker> methodInvokers = new ConcurrentHashMap<>();
+
+	private final Region<?, ?> target;
+
+	/**
+	 * Constructs a new instance of {@link AbstractRegionInvocationHandler} initialized with the given,
+	 * required target {@link Region}.
+	 *
+	 * @param target {@link Region} to which {@link Method} invocations are dispatched.
+	 * @throws IllegalArgumentException if the target {@link Region} is {@literal null}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	protected AbstractRegionInvocationHandler(Region<?, ?> target) {
+
+		Assert.notNull(target, "Target Region must not be null");
+
+		this.target = target;
+	}
+
+	/**
+	 * Returns the target {@link Region} to which {@link Method} invocations are dispatched.
+	 *
+	 * @return the target {@link Region}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	protected Region<?, ?> getTarget() {
+		return this.target;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+		MethodInvoker methodInvoker = this.methodInvokers.get(method);
+
+		if (methodInvoker == null) {
+			methodInvoker = this.methodInvokers.computeIfAbsent(method, this::resolveMethodInvoker);
+		}
+
+		return methodInvoker.invoke(proxy, args != null ? args : EMPTY_ARGUMENTS);
+	}
+
+	private MethodInvoker resolveMethodInvoker(Method method) {
+
+		String methodName = method.getName();
+
+		int parameterCount = method.getParameterCount();
+
+		if ("equals".equals(methodName) && parameterCount == 1) {
+			// only consider equal when proxies are identical
+			return (proxy, args) -> proxy == args[0];
+		}
+		else if ("hashCode".equals(methodName) && parameterCount == 0) {
+			// use hashCode of Region proxy
+			return (proxy, args) -> System.identityHashCode(proxy);
+		}
+
+		return newMethodInvoker(method);
+	}
+
+	/**
+	 * Creates the {@link MethodInvoker} handling all invocations of the given {@link Method}.
+	 *
+	 * Defaults to dispatching the invocation to the target {@link Region}.
+	 *
+	 * @param method {@link Method} to handle.
+	 * @return the {@link MethodInvoker} handling the given {@link Method}.
+	 * @see #newTargetInvoker(Method)
+	 */
+	protected MethodInvoker newMethodInvoker(Method method) {
+		return newTargetInvoker(method);
+	}
+
+	/**
+	 * Creates a {@link MethodInvoker} dispatching invocations of the given {@link Method} to the target
+	 * {@link Region}.
+	 *
+	 * @param method {@link Method} to invoke on the target {@link Region}.
+	 * @return a {@link MethodInvoker} invoking the given {@link Method} on the target {@link Region}.
+	 * @see #getTarget()
+	 */
+	protected MethodInvoker newTargetInvoker(Method method) {
+
+		try {
+
+			MethodHandle methodHandle = MethodHandles.publicLookup().unreflect(method)
+				.bindTo(getTarget())
+				.asSpreader(Object[].class, method.getParameterCount())
+				.asType(MethodType.methodType(Object.class, Object[].class));
+
+			return (proxy, args) -> methodHandle.invokeExact(args);
+		}
+		catch (IllegalAccessException ignore) {
+
+			// fallback to reflection for Methods declared by non-public interfaces
+			return (proxy, args) -> {
+				try {
+					return method.invoke(getTarget(), args);
+				}
+				catch (InvocationTargetException cause) {
+					throw cause.getTargetException();
+				}
+			};
+		}
+	}
+
+	/**
+	 * Handles the invocation of a single, resolved {@link Method} on a {@link Region} proxy.
+	 */
+	@FunctionalInterface
+	protected interface MethodInvoker {
+		Object invoke(Object proxy, Object[] args) throws Throwable;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.ResultsCollectionWrapper;
+import org.apache.geode.cache.query.types.CollectionType;
+import org.apache.geode.pdx.PdxInstance;
+import org.springframework.core.CollectionFactory;
+
+/**
+ * {@link PdxInstanceUtils} is an abstract utility class encapsulating common operations for working with
+ * {@link PdxInstance PdxInstances}, which are returned by {@link org.apache.geode.cache.Region} reads and
+ * OQL queries when the cache is configured to read PDX serialized values in serialized form.
+ *
+ * @author John Blum
+ * @see org.apache.geode.pdx.PdxInstance
+ * @since 2.2.0
+ */
+public abstract class PdxInstanceUtils {
+
+	/**
+	 * Deserializes the given value if it is a {@link PdxInstance}, or the elements of the given {@link Collection}
+	 * that are {@link PdxInstance PdxInstances}.
+	 *
+	 * The elements of a {@link Collection} are deserialized into a {@link Collection} of the same kind;
+	 * a {@link SelectResults} remains a {@link SelectResults} with the same element type, duplicates and ordering,
+	 * a {@link java.util.Set} remains a {@link java.util.Set} and so on.
+	 *
+	 * @param <T> {@link Class type} of the deserialized value.
+	 * @param value value to deserialize.
+	 * @return the deserialized value or the given value if no {@link PdxInstance PdxInstances} were present.
+	 * @see org.apache.geode.pdx.PdxInstance#getObject()
+	 * @see org.springframework.core.CollectionFactory#createApproximateCollection(Object, int)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T deserialize(Object value) {
+
+		if (value instanceof PdxInstance) {
+			return (T) ((PdxInstance) value).getObject();
+		}
+		else if (value instanceof Collection && containsPdxInstance((Collection<?>) value)) {
+
+			Collection<?> collection = (Collection<?>) value;
+
+			if (collection instanceof SelectResults) {
+
+				CollectionType collectionType = ((SelectResults<?>) collection).getCollectionType();
+
+				Collection<Object> deserializedValues = collectionType.allowsDuplicates()
+					? new ArrayList<>(collection.size())
+					: new LinkedHashSet<>(collection.size());
+
+				return (T) new ResultsCollectionWrapper(collectionType.getElementType(),
+					deserializeAll(collection, deserializedValues));
+			}
+
+			return (T) deserializeAll(collection, CollectionFactory.createApproximateCollection(collection,
+				collection.size()));
+		}
+
+		return (T) value;
+	}
+
+	private static Collection<Object> deserializeAll(Collection<?> collection, Collection<Object> deserializedValues) {
+
+		for (Object element : collection) {
+			deserializedValues.add(element instanceof PdxInstance ? ((PdxInstance) element).getObject() : element);
+		}
+
+		return deserializedValues;
+	}
+
+	private static boolean containsPdxInstance(Collection<?> collection) {
+
+		for (Object element : collection) {
+			if (element instanceof PdxInstance) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -17,20 +17,35 @@
 package org.springframework.data.gemfire;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
+import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
@@ -39,6 +54,8 @@ import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.NoAvailableServersException;
+import org.apache.geode.cache.client.ServerOperationException;
 import org.apache.geode.cache.query.Query;
 import org.apache.geode.cache.query.QueryService;
 import org.apache.geode.cache.query.SelectResults;
@@ -47,6 +64,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.gemfire.test.support.AbstractUnitAndIntegrationTestsWithMockSupport;
 
@@ -155,6 +173,34 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		assertThat(callbackInvoked.get()).isTrue();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void proxyRegionSuppressesCloseAndDelegatesOtherOperations() {
+
+		when(((Region<Object, Object>) mockRegion).get(eq("key"))).thenReturn("value");
+		when(mockRegion.containsKey(eq("key"))).thenReturn(true);
+		when(mockRegion.getName()).thenThrow(new IllegalStateException("TEST"));
+
+		template.execute(region -> {
+
+			region.close();
+
+			assertThat(region.get("key")).isEqualTo("value");
+			assertThat(region.get("key")).isEqualTo("value");
+			assertThat(region.containsKey("key")).isTrue();
+			assertThat(region).isEqualTo(region);
+			assertThat(region.hashCode()).isEqualTo(System.identityHashCode(region));
+
+			assertThatThrownBy(region::getName).isInstanceOf(IllegalStateException.class).hasMessage("TEST");
+
+			return null;
+		});
+
+		verify(mockRegion, never()).close();
+		verify(mockRegion, times(2)).get(eq("key"));
+		verify(mockRegion, times(1)).getName();
+	}
+
 	@Test
 	public void queryCallsRegionQuery() throws Exception {
 		String expectedQuery = "SELECT * FROM /Example";
@@ -164,6 +210,105 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		verify(mockRegion, times(1)).query(eq(expectedQuery));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findReusesPreparedQuery() throws Exception {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		String query = "SELECT * FROM /Example WHERE id IN $1";
+
+		assertThat(template.<Object>find(query, Arrays.asList(1, 2))).isSameAs(mockSelectResults);
+		assertThat(template.<Object>find(query, Arrays.asList(3, 4, 5))).isSameAs(mockSelectResults);
+		assertThat(template.prepare(query)).isSameAs(mockQuery);
+
+		verify(mockQueryService, times(1)).newQuery(eq(query));
+		verify(mockQuery, times(2)).execute(any(Object.class));
+
+		QueryExecutionStatistics statistics = template.getQueryExecutionStatistics();
+
+		assertThat(statistics.getPreparations()).isEqualTo(1L);
+		assertThat(statistics.getCacheHits()).isEqualTo(2L);
+		assertThat(statistics.getExecutions()).isEqualTo(2L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findWithQueryCachingDisabledPreparesQueryOnEveryExecution() throws Exception {
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mock(SelectResults.class));
+
+		template.setQueryCacheSize(0);
+
+		template.find("SELECT * FROM /Example WHERE id = $1", 1);
+		template.find("SELECT * FROM /Example WHERE id = $1", 2);
+
+		verify(mockQueryService, times(2)).newQuery(eq("SELECT * FROM /Example WHERE id = $1"));
+
+		assertThat(template.getQueryExecutionStatistics().getCacheHits()).isZero();
+	}
+
+	@Test
+	public void queryCacheIsBounded() {
+
+		template.setQueryCacheSize(2);
+
+		template.prepare("SELECT * FROM /A");
+		template.prepare("SELECT * FROM /B");
+		template.prepare("SELECT * FROM /C");
+		template.prepare("SELECT * FROM /C");
+
+		assertThat(template.getQueryExecutionStatistics().getPreparations()).isEqualTo(3L);
+		assertThat(template.getQueryExecutionStatistics().getCacheHits()).isEqualTo(1L);
+	}
+
+	@Test
+	public void queryCacheEvictsLeastRecentlyUsedQuery() {
+
+		template.setQueryCacheSize(2);
+
+		template.prepare("SELECT * FROM /A");
+		template.prepare("SELECT * FROM /B");
+		template.prepare("SELECT * FROM /A");
+		template.prepare("SELECT * FROM /C");
+		template.prepare("SELECT * FROM /A");
+		template.prepare("SELECT * FROM /B");
+
+		assertThat(template.getQueryExecutionStatistics().getPreparations()).isEqualTo(4L);
+		assertThat(template.getQueryExecutionStatistics().getCacheHits()).isEqualTo(2L);
+
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /A"));
+		verify(mockQueryService, times(2)).newQuery(eq("SELECT * FROM /B"));
+	}
+
+	@Test
+	public void shrinkingQueryCacheEvictsLeastRecentlyUsedQueries() {
+
+		template.prepare("SELECT * FROM /A");
+		template.prepare("SELECT * FROM /B");
+		template.setQueryCacheSize(1);
+		template.prepare("SELECT * FROM /B");
+		template.prepare("SELECT * FROM /A");
+
+		assertThat(template.getQueryExecutionStatistics().getPreparations()).isEqualTo(3L);
+		assertThat(template.getQueryExecutionStatistics().getCacheHits()).isEqualTo(1L);
+	}
+
+	@Test
+	public void defaultPrepareCompilesQueryWithRegionQueryService() {
+
+		GemfireOperations operations = mock(GemfireOperations.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+
+		when(operations.execute(any(GemfireCallback.class))).thenAnswer(invocation ->
+			invocation.<GemfireCallback<?>>getArgument(0).doInGemfire(mockRegion));
+
+		assertThat(operations.prepare("SELECT * FROM /Example")).isSameAs(mockQuery);
+
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Example"));
+	}
+
 	@Test
 	public void findIsSuccessful() throws Exception {
 
@@ -361,4 +506,229 @@ public class GemfireTemplateUnitTests extends AbstractUnitAndIntegrationTestsWit
 		verify(mockRegion, never()).getAttributes();
 		verify(mockRegionService, times(1)).getQueryService();
 	}
+
+	private static Stream<Map.Entry<Object, Object>> entries(int count) {
+		return IntStream.range(0, count).mapToObj(index -> new AbstractMap.SimpleEntry<>(index, "value" + index));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkLoadPutsEntriesInBatches() {
+
+		template.setBulkLoadBatchSize(2);
+
+		BulkLoadStatistics statistics = template.bulkLoad(entries(5));
+
+		assertThat(statistics.getEntries()).isEqualTo(5L);
+		assertThat(statistics.getBatches()).isEqualTo(3L);
+		assertThat(statistics.getRetries()).isZero();
+		assertThat(statistics.getEstimatedBytes()).isEqualTo(-1L);
+
+		verify((Region<Object, Object>) mockRegion, times(3)).putAll(any(Map.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkLoadBoundsBatchesByEstimatedSize() {
+
+		template.setBulkLoadBatchSizeInBytes(20L);
+		template.setBulkLoadObjectSizer(object -> 5);
+
+		BulkLoadStatistics statistics = template.bulkLoad(entries(4));
+
+		assertThat(statistics.getBatches()).isEqualTo(2L);
+		assertThat(statistics.getEstimatedBytes()).isEqualTo(40L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkLoadRetriesBatchFailingWithTransientException() {
+
+		doThrow(new NoAvailableServersException("TEST")).doNothing()
+			.when((Region<Object, Object>) mockRegion).putAll(any(Map.class));
+
+		template.setBulkLoadRetryAttempts(1);
+
+		BulkLoadStatistics statistics = template.bulkLoad(entries(3));
+
+		assertThat(statistics.getEntries()).isEqualTo(3L);
+		assertThat(statistics.getBatches()).isEqualTo(1L);
+		assertThat(statistics.getRetries()).isEqualTo(1L);
+
+		verify((Region<Object, Object>) mockRegion, times(2)).putAll(any(Map.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkLoadDoesNotRetryByDefault() {
+
+		doThrow(new NoAvailableServersException("TEST")).when((Region<Object, Object>) mockRegion)
+			.putAll(any(Map.class));
+
+		assertThatThrownBy(() -> template.bulkLoad(entries(3))).isInstanceOf(DataAccessException.class);
+
+		verify((Region<Object, Object>) mockRegion, times(1)).putAll(any(Map.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkLoadDoesNotRetryServerOperationException() {
+
+		doThrow(new ServerOperationException("TEST")).when((Region<Object, Object>) mockRegion)
+			.putAll(any(Map.class));
+
+		template.setBulkLoadRetryAttempts(3);
+
+		assertThatThrownBy(() -> template.bulkLoad(entries(3))).isInstanceOf(DataAccessException.class);
+
+		verify((Region<Object, Object>) mockRegion, times(1)).putAll(any(Map.class));
+	}
+
+	@Test
+	public void bulkLoadClosesStream() {
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		template.bulkLoad(entries(3).onClose(() -> closed.set(true)));
+
+		assertThat(closed.get()).isTrue();
+	}
+
+	@Test(expected = DataAccessException.class)
+	@SuppressWarnings("unchecked")
+	public void bulkLoadThrowsDataAccessExceptionWhenRetriesAreExhausted() {
+
+		doThrow(new NoAvailableServersException("TEST")).when((Region<Object, Object>) mockRegion)
+			.putAll(any(Map.class));
+
+		template.setBulkLoadBatchSize(1);
+		template.setBulkLoadRetryAttempts(1);
+
+		try {
+			template.bulkLoad(entries(10));
+		}
+		finally {
+			// reading the entries stops at the first failed batch
+			verify((Region<Object, Object>) mockRegion, times(2)).putAll(any(Map.class));
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void bulkLoadPutsBatchesConcurrently() {
+
+		template.setBulkLoadBatchSize(1);
+		template.setBulkLoadConcurrency(4);
+
+		BulkLoadStatistics statistics = template.bulkLoad(entries(10).iterator());
+
+		assertThat(statistics.getEntries()).isEqualTo(10L);
+		assertThat(statistics.getBatches()).isEqualTo(10L);
+
+		verify((Region<Object, Object>) mockRegion, times(10)).putAll(any(Map.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubGetAll() {
+
+		when(((Region<Object, Object>) mockRegion).getAll(anyCollection())).thenAnswer(invocation ->
+			((Collection<Object>) invocation.getArgument(0)).stream()
+				.collect(Collectors.toMap(Function.identity(), key -> "value" + key)));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getAllUsesSingleRequestByDefault() {
+
+		stubGetAll();
+
+		template.setParallelGetAllBatchSize(2);
+
+		Map<Object, Object> results = template.getAll(Arrays.asList(0, 1, 2, 3, 4));
+
+		assertThat(template.isParallelGetAll()).isFalse();
+		assertThat(results).hasSize(5);
+
+		verify((Region<Object, Object>) mockRegion, times(1)).getAll(anyCollection());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void parallelGetAllSplitsKeysAndMergesResults() {
+
+		stubGetAll();
+
+		template.setParallelGetAll(true);
+		template.setParallelGetAllBatchSize(2);
+		template.setParallelGetAllConcurrency(2);
+		template.setParallelGetAllExecutor(Runnable::run);
+
+		Map<Object, Object> results = template.getAll(Arrays.asList(0, 1, 2, 3, 4));
+
+		assertThat(results).hasSize(5);
+		assertThat(results).containsEntry(0, "value0").containsEntry(4, "value4");
+
+		verify((Region<Object, Object>) mockRegion, times(3)).getAll(anyCollection());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void parallelGetAllSplitsKeysByCountForNonPartitionedPeerRegions() {
+
+		template.setParallelGetAllBatchSize(4);
+
+		List<List<Object>> batches = template.partitionKeys(mockRegion, Arrays.asList(0, 1, 2, 3, 4, 5));
+
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(0)).containsExactly(0, 1, 2, 3);
+		assertThat(batches.get(1)).containsExactly(4, 5);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void parallelGetAllUsesTemplateOwnedExecutorShutDownOnDestroy() {
+
+		stubGetAll();
+
+		template.setParallelGetAll(true);
+		template.setParallelGetAllBatchSize(1);
+		template.setParallelGetAllConcurrency(2);
+
+		Executor executor = template.getParallelGetAllExecutor();
+
+		assertThat(executor).isInstanceOf(ExecutorService.class);
+		assertThat(template.getParallelGetAllExecutor()).isSameAs(executor);
+		assertThat(template.getAll(Arrays.asList(0, 1, 2))).hasSize(3);
+
+		template.destroy();
+
+		assertThat(((ExecutorService) executor).isShutdown()).isTrue();
+	}
+
+	@Test
+	public void destroyDoesNotShutDownProvidedExecutor() {
+
+		ExecutorService mockExecutorService = mock(ExecutorService.class);
+
+		template.setParallelGetAllExecutor(mockExecutorService);
+		template.destroy();
+
+		assertThat(template.getParallelGetAllExecutor()).isSameAs(mockExecutorService);
+
+		verifyZeroInteractions(mockExecutorService);
+	}
+
+	@Test(expected = DataAccessException.class)
+	@SuppressWarnings("unchecked")
+	public void parallelGetAllConvertsGemFireException() {
+
+		when(((Region<Object, Object>) mockRegion).getAll(anyCollection()))
+			.thenThrow(new ServerOperationException("TEST"));
+
+		template.setParallelGetAll(true);
+		template.setParallelGetAllBatchSize(1);
+		template.setParallelGetAllExecutor(Runnable::run);
+
+		template.getAll(Arrays.asList(0, 1, 2));
+	}
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.client.ClientCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.gemfire.config.admin.GemfireAdminOperations;
+import org.springframework.data.gemfire.config.admin.remote.FunctionGemfireAdminTemplate;
+import org.springframework.data.gemfire.config.schema.definitions.IndexDefinition;
+
+/**
+ * Unit tests for {@link IndexAdvisor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.IndexAdvisor
+ * @since 2.2.0
+ */
+public class IndexAdvisorUnitTests {
+
+	private static final long ONE_MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+	private static final String QUERY =
+		"SELECT DISTINCT * FROM /People p WHERE p.lastName = $1 AND p.age >= $2 ORDER BY p.age LIMIT 10";
+
+	private IndexAdvisor indexAdvisor;
+
+	@Before
+	public void setup() {
+
+		this.indexAdvisor = new IndexAdvisor();
+		this.indexAdvisor.setMinimumExecutions(2);
+		this.indexAdvisor.setMinimumAverageLatencyMicroseconds(500L);
+	}
+
+	@Test
+	public void recordsQueryRegionPredicatesFrequencyAndLatency() {
+
+		this.indexAdvisor.record(QUERY, ONE_MILLISECOND);
+		this.indexAdvisor.record(QUERY, 3 * ONE_MILLISECOND);
+
+		List<IndexAdvisor.QueryRecord> queryRecords = this.indexAdvisor.getQueryRecords();
+
+		assertThat(queryRecords).hasSize(1);
+
+		IndexAdvisor.QueryRecord queryRecord = queryRecords.get(0);
+
+		assertThat(queryRecord.getQuery()).isEqualTo(QUERY);
+		assertThat(queryRecord.getFromClause()).isEqualTo("/People");
+		assertThat(queryRecord.getExecutions()).isEqualTo(2L);
+		assertThat(queryRecord.getAverageNanos()).isEqualTo(2 * ONE_MILLISECOND);
+		assertThat(queryRecord.getPredicates()).extracting(IndexAdvisor.Predicate::getExpression)
+			.containsExactly("age", "lastName");
+		assertThat(queryRecord.getPredicates()).extracting(IndexAdvisor.Predicate::isRange)
+			.containsExactly(true, false);
+	}
+
+	@Test
+	public void recommendsIndexTypeFromPredicates() {
+
+		String keyQuery = "SELECT * FROM /People WHERE id IN $1";
+
+		for (int count = 0; count < 2; count++) {
+			this.indexAdvisor.record(QUERY, ONE_MILLISECOND);
+			this.indexAdvisor.record(keyQuery, ONE_MILLISECOND);
+		}
+
+		List<IndexDefinition> recommendations = this.indexAdvisor.getRecommendations();
+
+		assertThat(recommendations).hasSize(3);
+		assertThat(recommendations).extracting(IndexDefinition::getFromClause).containsOnly("/People");
+		assertThat(recommendations).extracting(IndexDefinition::getName)
+			.containsExactlyInAnyOrder("PeopleAgeFunctionalIdx", "PeopleLastNameHashIdx", "PeopleIdKeyIdx");
+		assertThat(recommendations).extracting(IndexDefinition::getIndexType)
+			.containsExactlyInAnyOrder(IndexType.FUNCTIONAL, IndexType.HASH, IndexType.KEY);
+	}
+
+	@Test
+	public void doesNotRecommendIndexesForInfrequentOrFastQueries() {
+
+		this.indexAdvisor.record(QUERY, ONE_MILLISECOND);
+		this.indexAdvisor.record("SELECT * FROM /People p WHERE p.firstName = $1", 1000L);
+		this.indexAdvisor.record("SELECT * FROM /People p WHERE p.firstName = $1", 1000L);
+
+		assertThat(this.indexAdvisor.getRecommendations()).isEmpty();
+	}
+
+	@Test
+	public void createsRecommendedIndexesOnceWhenEnabled() {
+
+		GemfireAdminOperations mockAdminOperations = mock(GemfireAdminOperations.class);
+
+		this.indexAdvisor.setGemfireAdminOperations(mockAdminOperations);
+		this.indexAdvisor.setCreateIndexes(true);
+		this.indexAdvisor.setExecutor(Runnable::run);
+
+		String query = "SELECT * FROM /People p WHERE p.lastName = $1";
+
+		this.indexAdvisor.record(query, ONE_MILLISECOND);
+
+		verify(mockAdminOperations, never()).createIndex(any(IndexDefinition.class));
+
+		for (int count = 0; count < 5; count++) {
+			this.indexAdvisor.record(query, ONE_MILLISECOND);
+		}
+
+		verify(mockAdminOperations, times(1)).createIndex(any(IndexDefinition.class));
+		assertThat(this.indexAdvisor.createRecommendedIndexes()).isEmpty();
+	}
+
+	@Test
+	public void createsIndexesOnExecutor() {
+
+		GemfireAdminOperations mockAdminOperations = mock(GemfireAdminOperations.class);
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		this.indexAdvisor.setGemfireAdminOperations(mockAdminOperations);
+		this.indexAdvisor.setCreateIndexes(true);
+		this.indexAdvisor.setExecutor(tasks::add);
+
+		for (int count = 0; count < 3; count++) {
+			this.indexAdvisor.record("SELECT * FROM /People p WHERE p.lastName = $1", ONE_MILLISECOND);
+		}
+
+		assertThat(tasks).hasSize(1);
+
+		verify(mockAdminOperations, never()).createIndex(any(IndexDefinition.class));
+
+		tasks.get(0).run();
+
+		verify(mockAdminOperations, times(1)).createIndex(any(IndexDefinition.class));
+	}
+
+	@Test
+	public void reschedulesIndexCreationWhenExecutorRejectsTask() {
+
+		GemfireAdminOperations mockAdminOperations = mock(GemfireAdminOperations.class);
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		AtomicBoolean reject = new AtomicBoolean(true);
+
+		this.indexAdvisor.setGemfireAdminOperations(mockAdminOperations);
+		this.indexAdvisor.setCreateIndexes(true);
+		this.indexAdvisor.setExecutor(task -> {
+
+			if (reject.getAndSet(false)) {
+				throw new RejectedExecutionException("TEST");
+			}
+
+			tasks.add(task);
+		});
+
+		for (int count = 0; count < 4; count++) {
+			this.indexAdvisor.record("SELECT * FROM /People p WHERE p.lastName = $1", ONE_MILLISECOND);
+		}
+
+		assertThat(reject.get()).isFalse();
+		assertThat(tasks).hasSize(1);
+	}
+
+	@Test
+	public void resolvesGemfireAdminOperationsFromClientCache() {
+
+		this.indexAdvisor.setCache(mock(ClientCache.class));
+		this.indexAdvisor.setCreateIndexes(true);
+		this.indexAdvisor.afterPropertiesSet();
+
+		assertThat(this.indexAdvisor.getGemfireAdminOperations()).isInstanceOf(FunctionGemfireAdminTemplate.class);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void createIndexesWithPeerCacheAndNoGemfireAdminOperationsFailsFast() {
+
+		this.indexAdvisor.setCache(mock(Cache.class));
+		this.indexAdvisor.setCreateIndexes(true);
+		this.indexAdvisor.afterPropertiesSet();
+	}
+
+	@Test
+	public void evictsLeastRecentlyExecutedQuery() {
+
+		String firstQuery = "SELECT * FROM /People WHERE id = $1";
+
+		this.indexAdvisor.record(firstQuery, ONE_MILLISECOND);
+
+		for (int count = 0; count < IndexAdvisor.MAXIMUM_RECORDED_QUERIES; count++) {
+			this.indexAdvisor.record("SELECT * FROM /People WHERE id = " + count, ONE_MILLISECOND);
+		}
+
+		List<IndexAdvisor.QueryRecord> queryRecords = this.indexAdvisor.getQueryRecords();
+
+		assertThat(queryRecords.size()).isLessThanOrEqualTo(IndexAdvisor.MAXIMUM_RECORDED_QUERIES)
+			.isGreaterThanOrEqualTo(IndexAdvisor.MAXIMUM_RECORDED_QUERIES - IndexAdvisor.QUERY_RECORD_EVICTION_BATCH_SIZE);
+		assertThat(queryRecords).extracting(IndexAdvisor.QueryRecord::getQuery).doesNotContain(firstQuery)
+			.contains("SELECT * FROM /People WHERE id = " + (IndexAdvisor.MAXIMUM_RECORDED_QUERIES - 1));
+	}
+}
@@ -104,6 +104,7 @@ public class IndexFactoryBeanTest {
 		indexFactoryBean.setExpression(null);
 		indexFactoryBean.setFrom(null);
 		indexFactoryBean.setImports(null);
+		indexFactoryBean.setParallel(false);
 		indexFactoryBean.setQueryService(null);
 		indexFactoryBean.setType((IndexType) null);
 	}
@@ -437,6 +438,32 @@ public class IndexFactoryBeanTest {
 		verify(mockCache, times(1)).getQueryService();
 	}
 
+	@Test
+	public void resolveQueryServiceBeanNameInParallelModeIsPerRegion() {
+
+		IndexFactoryBean indexFactoryBean = newIndexFactoryBean();
+
+		indexFactoryBean.setFrom("/Customers c, c.orders o");
+
+		assertThat(indexFactoryBean.resolveQueryServiceBeanName())
+			.isEqualTo(GemfireConstants.DEFAULT_GEMFIRE_INDEX_DEFINITION_QUERY_SERVICE);
+
+		indexFactoryBean.setParallel(true);
+
+		assertThat(indexFactoryBean.isDefine()).isTrue();
+		assertThat(indexFactoryBean.resolveQueryServiceBeanName())
+			.isEqualTo(GemfireConstants.DEFAULT_GEMFIRE_INDEX_DEFINITION_QUERY_SERVICE + "./Customers");
+	}
+
+	@Test
+	public void resolveRegionPathFromFromClause() {
+
+		assertThat(IndexFactoryBean.resolveRegionPath("/Example")).isEqualTo("/Example");
+		assertThat(IndexFactoryBean.resolveRegionPath(" /Parent/Child c")).isEqualTo("/Parent/Child");
+		assertThat(IndexFactoryBean.resolveRegionPath("/Example.entrySet e")).isEqualTo("/Example");
+		assertThat(IndexFactoryBean.resolveRegionPath("Example")).isEqualTo("Example");
+	}
+
 	@Test
 	public void resolveQueryServiceReturnsIndexFactoryBeanConfiguredQueryService() {
 		assertThat(newIndexFactoryBean().resolveQueryService()).isSameAs(mockQueryService);
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Integration tests for {@link ResolvableRegionFactoryBean} creating peer {@link Region Regions}
+ * in a real {@link Cache} on a {@link ResolvableRegionFactoryBean#setStartupExecutor(java.util.concurrent.Executor)
+ * startup Executor}.
+ *
+ * @author John Blum
+ * @see org.apache.geode.cache.Cache
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.LocalRegionFactoryBean
+ * @see org.springframework.data.gemfire.ReplicatedRegionFactoryBean
+ * @see org.springframework.data.gemfire.ResolvableRegionFactoryBean
+ * @since 2.2.0
+ */
+public class ResolvableRegionFactoryBeanStartupExecutorIntegrationTests {
+
+	private static Cache cache;
+
+	private ExecutorService startupExecutor;
+
+	@BeforeClass
+	public static void createCache() {
+
+		cache = new CacheFactory()
+			.set("name", ResolvableRegionFactoryBeanStartupExecutorIntegrationTests.class.getSimpleName())
+			.set("mcast-port", "0")
+			.set("log-level", "error")
+			.create();
+	}
+
+	@AfterClass
+	public static void closeCache() {
+
+		if (cache != null) {
+			cache.close();
+		}
+	}
+
+	@Before
+	public void setup() {
+		this.startupExecutor = Executors.newFixedThreadPool(2);
+	}
+
+	@After
+	public void tearDown() {
+		this.startupExecutor.shutdownNow();
+	}
+
+	private <T extends PeerRegionFactoryBean<Object, Object>> T initialize(T regionFactoryBean, String regionName)
+			throws Exception {
+
+		regionFactoryBean.setBeanName(regionName);
+		regionFactoryBean.setCache(cache);
+		regionFactoryBean.setClose(false);
+		regionFactoryBean.setStartupExecutor(this.startupExecutor);
+		regionFactoryBean.afterPropertiesSet();
+
+		return regionFactoryBean;
+	}
+
+	@Test(timeout = 30000L)
+	public void createsLocalRegionOnStartupExecutor() throws Exception {
+
+		LocalRegionFactoryBean<Object, Object> regionFactoryBean =
+			initialize(new LocalRegionFactoryBean<>(), "LocalExample");
+
+		Region<Object, Object> region = regionFactoryBean.getObject();
+
+		assertThat(region).isNotNull();
+		assertThat(region.getName()).isEqualTo("LocalExample");
+		assertThat(region.getAttributes().getDataPolicy()).isEqualTo(DataPolicy.NORMAL);
+		assertThat(cache.getRegion("LocalExample")).isSameAs(region);
+		assertThat(regionFactoryBean.getRegion()).isSameAs(region);
+	}
+
+	@Test(timeout = 30000L)
+	public void createsReplicateRegionOnStartupExecutor() throws Exception {
+
+		ReplicatedRegionFactoryBean<Object, Object> regionFactoryBean =
+			initialize(new ReplicatedRegionFactoryBean<>(), "ReplicateExample");
+
+		Region<Object, Object> region = regionFactoryBean.getObject();
+
+		assertThat(region).isNotNull();
+		assertThat(region.getAttributes().getDataPolicy()).isEqualTo(DataPolicy.REPLICATE);
+		assertThat(cache.getRegion("ReplicateExample")).isSameAs(region);
+	}
+
+	@Test(timeout = 30000L)
+	public void createsIndependentRegionsConcurrently() throws Exception {
+
+		CountDownLatch regionsCreating = new CountDownLatch(2);
+
+		LocalRegionFactoryBean<Object, Object> regionOneFactoryBean =
+			initialize(new AwaitingLocalRegionFactoryBean(regionsCreating), "ConcurrentOne");
+
+		LocalRegionFactoryBean<Object, Object> regionTwoFactoryBean =
+			initialize(new AwaitingLocalRegionFactoryBean(regionsCreating), "ConcurrentTwo");
+
+		assertThat(regionOneFactoryBean.getObject().getName()).isEqualTo("ConcurrentOne");
+		assertThat(regionTwoFactoryBean.getObject().getName()).isEqualTo("ConcurrentTwo");
+	}
+
+	static class AwaitingLocalRegionFactoryBean extends LocalRegionFactoryBean<Object, Object> {
+
+		private final CountDownLatch regionsCreating;
+
+		AwaitingLocalRegionFactoryBean(CountDownLatch regionsCreating) {
+			this.regionsCreating = regionsCreating;
+		}
+
+		@Override
+		protected Region<Object, Object> createRegion(GemFireCache gemfireCache, String regionName) throws Exception {
+
+			this.regionsCreating.countDown();
+
+			assertThat(this.regionsCreating.await(10L, TimeUnit.SECONDS))
+				.describedAs("Region [%s] was not created concurrently with another Region", regionName)
+				.isTrue();
+
+			return super.createRegion(gemfireCache, regionName);
+		}
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.apache.geode.compression.CompressionException;
+import org.apache.geode.compression.Compressor;
+import org.junit.Test;
+import org.springframework.data.gemfire.compression.AdaptiveCompressor.Codec;
+
+/**
+ * Unit tests for {@link AdaptiveCompressor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.compression.AdaptiveCompressor
+ * @since 2.2.0
+ */
+public class AdaptiveCompressorUnitTests {
+
+	private static Codec deflate() {
+		return new Codec(AdaptiveCompressor.DEFLATE_CODEC_ID, "Deflate", new DeflateCompressor());
+	}
+
+	private static byte[] compressibleValue(int index) {
+
+		StringBuilder value = new StringBuilder();
+
+		for (int count = 0; count < 32; count++) {
+			value.append("{ \"id\": ").append(index).append(", \"firstName\": \"Jon\", \"lastName\": \"Doe\" }");
+		}
+
+		return value.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] randomValue(Random random) {
+
+		byte[] value = new byte[512];
+
+		random.nextBytes(value);
+
+		return value;
+	}
+
+	private static AdaptiveCompressor newAdaptiveCompressor(int sampleSize, Codec... codecs) {
+
+		AdaptiveCompressor compressor = new AdaptiveCompressor(Arrays.asList(codecs));
+
+		compressor.setSampleSize(sampleSize);
+
+		return compressor;
+	}
+
+	@Test
+	public void valuesBelowThresholdAreStoredUncompressed() {
+
+		AdaptiveCompressor compressor = newAdaptiveCompressor(10, deflate());
+
+		compressor.setThresholdBytes(64);
+
+		byte[] value = "Jon Doe".getBytes(StandardCharsets.UTF_8);
+		byte[] stored = compressor.compress(value);
+
+		assertThat(stored).hasSize(value.length + 1);
+		assertThat(compressor.decompress(stored)).isEqualTo(value);
+		assertThat(compressor.getStoredUncompressedCount()).isEqualTo(1L);
+		assertThat(compressor.getCodecStatistics().get("Deflate").getSampleCount()).isZero();
+		assertThat(compressor.getSelectedCodecName()).isNotPresent();
+	}
+
+	@Test
+	public void compressibleValuesSelectSmallestCodec() {
+
+		AdaptiveCompressor compressor =
+			newAdaptiveCompressor(5, new Codec(5, "Identity", new IdentityCompressor()), deflate());
+
+		for (int index = 0; index < 10; index++) {
+
+			byte[] value = compressibleValue(index);
+			byte[] stored = compressor.compress(value);
+
+			assertThat(stored.length).isLessThan(value.length);
+			assertThat(compressor.decompress(stored)).isEqualTo(value);
+		}
+
+		assertThat(compressor.getSelectedCodecName()).hasValue("Deflate");
+		assertThat(compressor.getCompressionRatio()).isGreaterThan(2.0d);
+		assertThat(compressor.getCompressionCount()).isEqualTo(10L);
+		assertThat(compressor.getDecompressionCount()).isEqualTo(10L);
+		assertThat(compressor.getCompressionNanosPerOperation()).isGreaterThan(0.0d);
+		assertThat(compressor.getCodecStatistics().get("Deflate").getSampleCount()).isEqualTo(5L);
+		assertThat(compressor.getCodecStatistics().get("Deflate").getCompressionRatio()).isGreaterThan(2.0d);
+		assertThat(compressor.getCodecStatistics().get("Identity").getCompressionRatio()).isEqualTo(1.0d);
+	}
+
+	@Test
+	public void incompressibleValuesAreStoredUncompressed() {
+
+		AdaptiveCompressor compressor = newAdaptiveCompressor(5, deflate());
+
+		Random random = new Random(1L);
+
+		for (int index = 0; index < 10; index++) {
+
+			byte[] value = randomValue(random);
+
+			assertThat(compressor.decompress(compressor.compress(value))).isEqualTo(value);
+		}
+
+		assertThat(compressor.getSelectedCodecName()).hasValue(AdaptiveCompressor.UNCOMPRESSED_CODEC_NAME);
+		assertThat(compressor.getStoredUncompressedCount()).isEqualTo(10L);
+	}
+
+	@Test
+	public void cheapestCodecWithComparableCompressionIsSelected() {
+
+		AdaptiveCompressor compressor = newAdaptiveCompressor(3,
+			new Codec(3, "Slow", new SlowCompressor(new DeflateCompressor())),
+				new Codec(4, "Fast", new DeflateCompressor()));
+
+		for (int index = 0; index < 3; index++) {
+			compressor.compress(compressibleValue(index));
+		}
+
+		assertThat(compressor.getSelectedCodecName()).hasValue("Fast");
+		assertThat(compressor.getCodecStatistics().get("Slow").getCompressionNanosPerOperation())
+			.isGreaterThan(compressor.getCodecStatistics().get("Fast").getCompressionNanosPerOperation());
+	}
+
+	@Test
+	public void valuesStoredBeforeResamplingRemainReadable() {
+
+		AdaptiveCompressor compressor = newAdaptiveCompressor(2, deflate());
+
+		byte[] compressibleValue = compressibleValue(1);
+		byte[] storedCompressibleValue = compressor.compress(compressibleValue);
+
+		compressor.compress(compressibleValue(2));
+
+		assertThat(compressor.getSelectedCodecName()).hasValue("Deflate");
+
+		compressor.resample();
+
+		assertThat(compressor.getSelectedCodecName()).isNotPresent();
+		assertThat(compressor.getCodecStatistics().get("Deflate").getSampleCount()).isZero();
+
+		Random random = new Random(2L);
+
+		compressor.compress(randomValue(random));
+		compressor.compress(randomValue(random));
+
+		assertThat(compressor.getSelectedCodecName()).hasValue(AdaptiveCompressor.UNCOMPRESSED_CODEC_NAME);
+		assertThat(compressor.decompress(storedCompressibleValue)).isEqualTo(compressibleValue);
+	}
+
+	@Test
+	public void valuesRemainReadableAfterCodecsAreReordered() {
+
+		AdaptiveCompressor compressor =
+			newAdaptiveCompressor(1, new Codec(5, "Identity", new IdentityCompressor()), deflate());
+
+		byte[] value = compressibleValue(1);
+		byte[] stored = compressor.compress(value);
+
+		assertThat(stored[0]).isEqualTo((byte) AdaptiveCompressor.DEFLATE_CODEC_ID);
+
+		AdaptiveCompressor reorderedCompressor = newAdaptiveCompressor(1,
+			new Codec(7, "Slow", new SlowCompressor(new DeflateCompressor())), deflate(),
+				new Codec(5, "Identity", new IdentityCompressor()));
+
+		assertThat(reorderedCompressor.decompress(stored)).isEqualTo(value);
+	}
+
+	@Test
+	public void decompressWithUnknownCodecThrowsCompressionException() {
+
+		AdaptiveCompressor compressor = newAdaptiveCompressor(1, deflate());
+
+		assertThatThrownBy(() -> compressor.decompress(new byte[] { 3, 0, 1 }))
+			.isInstanceOf(CompressionException.class)
+			.hasMessageStartingWith("Unknown codec identifier [3]");
+	}
+
+	@Test
+	public void decompressUnframedValueThrowsCompressionException() {
+
+		AdaptiveCompressor compressor = newAdaptiveCompressor(1, deflate());
+
+		assertThatThrownBy(() -> compressor.decompress(new byte[] { (byte) 0x96, 0x01, 0x00 }))
+			.isInstanceOf(CompressionException.class)
+			.hasMessageContaining("not written by an AdaptiveCompressor");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithDuplicateCodecIdThrowsIllegalArgumentException() {
+		newAdaptiveCompressor(1, deflate(), new Codec(AdaptiveCompressor.DEFLATE_CODEC_ID, "Identity",
+			new IdentityCompressor()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void codecWithUncompressedIdThrowsIllegalArgumentException() {
+		new Codec(0, "Identity", new IdentityCompressor());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void setSampleSizeToZeroThrowsIllegalArgumentException() {
+		newAdaptiveCompressor(0);
+	}
+
+	static class IdentityCompressor implements Compressor {
+
+		@Override
+		public byte[] compress(byte[] input) {
+			return input.clone();
+		}
+
+		@Override
+		public byte[] decompress(byte[] input) {
+			return input.clone();
+		}
+	}
+
+	static class SlowCompressor implements Compressor {
+
+		private final Compressor delegate;
+
+		SlowCompressor(Compressor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public byte[] compress(byte[] input) {
+
+			try {
+				Thread.sleep(5L);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+
+			return this.delegate.compress(input);
+		}
+
+		@Override
+		public byte[] decompress(byte[] input) {
+			return this.delegate.decompress(input);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import org.apache.geode.compression.CompressionException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link DeflateCompressor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.compression.DeflateCompressor
+ * @since 2.2.0
+ */
+public class DeflateCompressorUnitTests {
+
+	@Test
+	public void compressAndDecompressCompressibleValue() {
+
+		StringBuilder value = new StringBuilder();
+
+		for (int count = 0; count < 100; count++) {
+			value.append("Jon Doe, ");
+		}
+
+		byte[] input = value.toString().getBytes(StandardCharsets.UTF_8);
+
+		DeflateCompressor compressor = new DeflateCompressor();
+
+		byte[] compressed = compressor.compress(input);
+
+		assertThat(compressed.length).isLessThan(input.length / 4);
+		assertThat(compressor.decompress(compressed)).isEqualTo(input);
+	}
+
+	@Test
+	public void compressAndDecompressRandomAndEmptyValues() {
+
+		byte[] input = new byte[10000];
+
+		new Random(1L).nextBytes(input);
+
+		DeflateCompressor compressor = new DeflateCompressor(Deflater.BEST_COMPRESSION);
+
+		assertThat(compressor.getCompressionLevel()).isEqualTo(Deflater.BEST_COMPRESSION);
+		assertThat(compressor.decompress(compressor.compress(input))).isEqualTo(input);
+		assertThat(compressor.decompress(compressor.compress(new byte[0]))).isEmpty();
+	}
+
+	@Test
+	public void decompressFromOffset() {
+
+		byte[] input = "Jon Doe, Jane Doe, Jon Doe, Jane Doe".getBytes(StandardCharsets.UTF_8);
+
+		DeflateCompressor compressor = new DeflateCompressor();
+
+		byte[] compressed = compressor.compress(input);
+		byte[] framed = new byte[compressed.length + 3];
+
+		System.arraycopy(compressed, 0, framed, 3, compressed.length);
+
+		assertThat(compressor.decompress(framed, 3)).isEqualTo(input);
+	}
+
+	@Test(expected = CompressionException.class)
+	public void decompressInvalidInputThrowsCompressionException() {
+		new DeflateCompressor().decompress(new byte[] { 0, 0, 0, 8, 1, 2, 3 });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidCompressionLevelThrowsIllegalArgumentException() {
+		new DeflateCompressor(10);
+	}
+}
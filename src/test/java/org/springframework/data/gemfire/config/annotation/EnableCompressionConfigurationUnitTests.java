@@ -17,6 +17,7 @@
 package org.springframework.data.gemfire.config.annotation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.springframework.data.gemfire.config.annotation.CompressionConfiguration.SNAPPY_COMPRESSOR_BEAN_NAME;
 
@@ -33,11 +34,14 @@ import org.junit.Test;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.LocalRegionFactoryBean;
 import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
 import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.compression.AdaptiveCompressor;
+import org.springframework.data.gemfire.compression.DeflateCompressor;
 import org.springframework.data.gemfire.test.mock.annotation.EnableGemFireMockObjects;
 import org.springframework.data.gemfire.test.model.Person;
 
@@ -110,6 +114,55 @@ public class EnableCompressionConfigurationUnitTests {
 		});
 	}
 
+	@Test
+	public void enableAdaptiveCompressionForSelectRegions() {
+
+		this.applicationContext = newApplicationContext(EnableAdaptiveCompressionConfiguration.class);
+
+		assertThat(this.applicationContext).isNotNull();
+
+		AdaptiveCompressor compressor =
+			this.applicationContext.getBean("People.AdaptiveCompressor", AdaptiveCompressor.class);
+
+		assertThat(compressor).isNotNull();
+		assertThat(compressor.getName()).isEqualTo("People");
+		assertThat(compressor.getSampleSize()).isEqualTo(50);
+		assertThat(compressor.getThresholdBytes()).isEqualTo(128);
+		assertThat(compressor.getSelectedCodecName()).isNotPresent();
+		assertThat(compressor.getCodecStatistics().keySet())
+			.containsExactly(AdaptiveCompressor.UNCOMPRESSED_CODEC_NAME, SNAPPY_COMPRESSOR_BEAN_NAME, "Deflate");
+
+		assertRegionCompressor(this.applicationContext.getBean("People", Region.class), "People", compressor);
+		assertRegionCompressor(this.applicationContext.getBean("ExampleClientRegion", Region.class),
+			"ExampleClientRegion", null);
+
+		assertThat(this.applicationContext.containsBean("ExampleClientRegion.AdaptiveCompressor")).isFalse();
+	}
+
+	@Test
+	public void enableAdaptiveCompressionWithDeclaredCodecIds() {
+
+		this.applicationContext = newApplicationContext(EnableAdaptiveCompressionWithCodecIdsConfiguration.class);
+
+		AdaptiveCompressor compressor =
+			this.applicationContext.getBean("People.AdaptiveCompressor", AdaptiveCompressor.class);
+
+		assertThat(compressor.getCodecStatistics().keySet())
+			.containsExactly(AdaptiveCompressor.UNCOMPRESSED_CODEC_NAME, "MockCompressor", "Deflate");
+
+		assertThatThrownBy(() -> compressor.decompress(new byte[] { AdaptiveCompressor.SNAPPY_CODEC_ID, 0 }))
+			.hasMessageStartingWith("Unknown codec identifier [1]");
+	}
+
+	@Test
+	public void enableAdaptiveCompressionWithoutCodecIdsFails() {
+
+		assertThatThrownBy(() -> newApplicationContext(EnableAdaptiveCompressionWithoutCodecIdsConfiguration.class))
+			.satisfies(cause -> assertThat(NestedExceptionUtils.getMostSpecificCause(cause))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageStartingWith("A codec id must be declared for each codec bean name"));
+	}
+
 	@PeerCacheApplication
 	@EnableGemFireMockObjects
 	@EnableEntityDefinedRegions(basePackageClasses = Person.class)
@@ -178,4 +231,56 @@ public class EnableCompressionConfigurationUnitTests {
 			return mock(Compressor.class);
 		}
 	}
+
+	@ClientCacheApplication
+	@EnableGemFireMockObjects
+	@EnableEntityDefinedRegions(basePackageClasses = Person.class)
+	@EnableCompression(adaptive = true, regionNames = "People", sampleSize = 50, thresholdBytes = 128)
+	@SuppressWarnings("unused")
+	static class EnableAdaptiveCompressionConfiguration {
+
+		@Bean("ExampleClientRegion")
+		public ClientRegionFactoryBean<Object, Object> clientRegion(GemFireCache gemfireCache) {
+
+			ClientRegionFactoryBean<Object, Object> clientRegion = new ClientRegionFactoryBean<>();
+
+			clientRegion.setCache(gemfireCache);
+			clientRegion.setClose(false);
+			clientRegion.setShortcut(ClientRegionShortcut.LOCAL);
+
+			return clientRegion;
+		}
+	}
+
+	@ClientCacheApplication
+	@EnableGemFireMockObjects
+	@EnableEntityDefinedRegions(basePackageClasses = Person.class)
+	@EnableCompression(adaptive = true, regionNames = "People", codecBeanNames = { "MockCompressor", "Deflate" },
+		codecIds = { 9, AdaptiveCompressor.DEFLATE_CODEC_ID })
+	@SuppressWarnings("unused")
+	static class EnableAdaptiveCompressionWithCodecIdsConfiguration {
+
+		@Bean("Deflate")
+		Compressor deflateCompressor() {
+			return new DeflateCompressor();
+		}
+
+		@Bean("MockCompressor")
+		Compressor mockCompressor() {
+			return mock(Compressor.class);
+		}
+	}
+
+	@ClientCacheApplication
+	@EnableGemFireMockObjects
+	@EnableEntityDefinedRegions(basePackageClasses = Person.class)
+	@EnableCompression(adaptive = true, regionNames = "People", codecBeanNames = "MockCompressor")
+	@SuppressWarnings("unused")
+	static class EnableAdaptiveCompressionWithoutCodecIdsConfiguration {
+
+		@Bean("MockCompressor")
+		Compressor mockCompressor() {
+			return mock(Compressor.class);
+		}
+	}
 }
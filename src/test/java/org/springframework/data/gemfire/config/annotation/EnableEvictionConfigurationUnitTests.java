@@ -45,6 +45,7 @@ import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionActionType;
 import org.springframework.data.gemfire.eviction.EvictionAttributesFactoryBean;
 import org.springframework.data.gemfire.eviction.EvictionPolicyType;
+import org.springframework.data.gemfire.mapping.MappingObjectSizer;
 import org.springframework.data.gemfire.util.ArrayUtils;
 
 /**
@@ -137,6 +138,22 @@ public class EnableEvictionConfigurationUnitTests {
 		assertEvictionAttributes(applicationContext.getBean("ReplicateRegion", Region.class), customEvictionAttributes);
 	}
 
+	@Test
+	public void registersMappingObjectSizerReferencedByEvictionPolicy() {
+		applicationContext = newApplicationContext(MappingObjectSizerEvictionPolicyConfiguration.class);
+
+		ObjectSizer mappingObjectSizer =
+			applicationContext.getBean(MappingObjectSizer.MAPPING_OBJECT_SIZER_BEAN_NAME, ObjectSizer.class);
+
+		assertThat(mappingObjectSizer).isInstanceOf(MappingObjectSizer.class);
+
+		EvictionAttributes mappingEvictionAttributes = newEvictionAttributes(65536, EvictionPolicyType.MEMORY_SIZE,
+			EvictionActionType.OVERFLOW_TO_DISK, mappingObjectSizer);
+
+		assertEvictionAttributes(applicationContext.getBean("PartitionRegion", Region.class), mappingEvictionAttributes);
+		assertEvictionAttributes(applicationContext.getBean("ReplicateRegion", Region.class), mappingEvictionAttributes);
+	}
+
 	@Test
 	public void usesRegionSpecificEvictionPolicyConfiguration() {
 		applicationContext = newApplicationContext(RegionSpecificEvictionPolicyConfiguration.class);
@@ -257,6 +274,11 @@ public class EnableEvictionConfigurationUnitTests {
 	static class CustomEvictionPolicyConfiguration extends CacheRegionConfiguration {
 	}
 
+	@EnableEviction(policies = @EvictionPolicy(maximum = 65536, type = EvictionPolicyType.MEMORY_SIZE,
+		action = EvictionActionType.OVERFLOW_TO_DISK, objectSizerName = MappingObjectSizer.MAPPING_OBJECT_SIZER_BEAN_NAME))
+	static class MappingObjectSizerEvictionPolicyConfiguration extends CacheRegionConfiguration {
+	}
+
 	@EnableEviction(policies = {
 		@EvictionPolicy(maximum = 85, type = EvictionPolicyType.HEAP_PERCENTAGE, action = EvictionActionType.OVERFLOW_TO_DISK,
 			objectSizerName = "mockObjectSizer", regionNames = "PartitionRegion"),
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.config.support.ParallelRegionStartupBeanFactoryPostProcessor;
+
+/**
+ * Unit tests for {@link EnableParallelRegionStartup} and {@link ParallelRegionStartupConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.EnableParallelRegionStartup
+ * @see org.springframework.data.gemfire.config.annotation.ParallelRegionStartupConfiguration
+ * @see org.springframework.data.gemfire.config.support.ParallelRegionStartupBeanFactoryPostProcessor
+ * @since 2.2.0
+ */
+public class EnableParallelRegionStartupConfigurationUnitTests {
+
+	private ConfigurableApplicationContext applicationContext;
+
+	@After
+	public void tearDown() {
+		Optional.ofNullable(this.applicationContext).ifPresent(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	public void registersParallelRegionStartupBeanFactoryPostProcessorWithDefaultPoolSize() {
+
+		this.applicationContext = new AnnotationConfigApplicationContext(DefaultParallelRegionStartupConfiguration.class);
+
+		ParallelRegionStartupBeanFactoryPostProcessor beanFactoryPostProcessor =
+			this.applicationContext.getBean(ParallelRegionStartupBeanFactoryPostProcessor.class);
+
+		assertThat(beanFactoryPostProcessor.getPoolSize()).isEqualTo(Runtime.getRuntime().availableProcessors());
+	}
+
+	@Test
+	public void registersParallelRegionStartupBeanFactoryPostProcessorWithConfiguredPoolSize() {
+
+		this.applicationContext = new AnnotationConfigApplicationContext(SizedParallelRegionStartupConfiguration.class);
+
+		String expectedBeanName =
+			ParallelRegionStartupConfiguration.PARALLEL_REGION_STARTUP_BEAN_FACTORY_POST_PROCESSOR_BEAN_NAME;
+
+		assertThat(this.applicationContext.getBeanNamesForType(ParallelRegionStartupBeanFactoryPostProcessor.class))
+			.containsExactly(expectedBeanName);
+
+		assertThat(this.applicationContext.getBean(ParallelRegionStartupBeanFactoryPostProcessor.class).getPoolSize())
+			.isEqualTo(2);
+	}
+
+	@Configuration
+	@EnableParallelRegionStartup
+	static class DefaultParallelRegionStartupConfiguration { }
+
+	@Configuration
+	@EnableParallelRegionStartup(poolSize = 2)
+	static class SizedParallelRegionStartupConfiguration { }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.type.StandardAnnotationMetadata;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.annotation.CompoundIndex;
+import org.springframework.data.gemfire.mapping.annotation.Indexed;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+
+/**
+ * Unit tests for the registration of {@link CompoundIndex} and {@link java.util.Map} {@link Indexed} Index
+ * bean definitions by {@link IndexConfiguration}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.IndexConfiguration
+ * @see org.springframework.data.gemfire.mapping.annotation.CompoundIndex
+ * @see org.springframework.data.gemfire.mapping.annotation.Indexed
+ * @since 2.2.0
+ */
+public class IndexConfigurationUnitTests {
+
+	private DefaultListableBeanFactory registry;
+
+	private IndexConfiguration indexConfiguration;
+
+	@Before
+	public void setup() {
+
+		this.registry = new DefaultListableBeanFactory();
+		this.indexConfiguration = new IndexConfiguration();
+		this.indexConfiguration.setBeanFactory(this.registry);
+	}
+
+	private void postProcess(Class<?> entityType) {
+
+		GemfirePersistentEntity<?> entity = new GemfireMappingContext().getPersistentEntity(entityType);
+
+		this.indexConfiguration.postProcess(new StandardAnnotationMetadata(IndexingConfiguration.class, true),
+			this.registry, entity);
+	}
+
+	private void assertIndexBeanDefinition(String indexName, String expression, String from, IndexType indexType) {
+
+		BeanDefinition beanDefinition = this.registry.getBeanDefinition(indexName);
+
+		assertThat(beanDefinition.getBeanClassName()).isEqualTo(IndexFactoryBean.class.getName());
+
+		MutablePropertyValues propertyValues = beanDefinition.getPropertyValues();
+
+		assertThat(propertyValues.get("name")).isEqualTo(indexName);
+		assertThat(propertyValues.get("expression")).isEqualTo(expression);
+		assertThat(propertyValues.get("from")).isEqualTo(from);
+		assertThat(propertyValues.get("type")).isEqualTo(indexType.toString());
+	}
+
+	@Test
+	public void registersIndexForEachCompoundIndexProperty() {
+
+		postProcess(Order.class);
+
+		assertIndexBeanDefinition("OrdersCustomerIdFunctionalIdx", "customerId", "/Orders", IndexType.FUNCTIONAL);
+		assertIndexBeanDefinition("OrdersOrderDateFunctionalIdx", "orderDate", "/Orders", IndexType.FUNCTIONAL);
+	}
+
+	@Test
+	public void compoundIndexPropertyAlsoIndexedWithSameTypeSharesIndex() {
+
+		postProcess(Order.class);
+
+		assertThat(this.registry.getBeanDefinitionNames())
+			.containsExactlyInAnyOrder("OrdersIdKeyIdx", "OrdersCustomerIdFunctionalIdx",
+				"OrdersOrderDateFunctionalIdx", "OrdersAttributesFunctionalIdx", "OrdersMetadataFunctionalIdx");
+	}
+
+	@Test
+	public void registersFunctionalMapIndexNamedAfterResolvedType() {
+
+		postProcess(Order.class);
+
+		assertIndexBeanDefinition("OrdersAttributesFunctionalIdx", "attributes['color', 'size']", "/Orders",
+			IndexType.FUNCTIONAL);
+		assertIndexBeanDefinition("OrdersMetadataFunctionalIdx", "metadata[*]", "/Orders", IndexType.FUNCTIONAL);
+
+		assertThat(this.registry.containsBeanDefinition("OrdersAttributesHashIdx")).isFalse();
+	}
+
+	@Test
+	public void conflictingIndexesWithSameNameFail() {
+
+		assertThatThrownBy(() -> postProcess(Invoice.class))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("Index [InvoicesStatusHashIdx] on expression [status]")
+			.hasMessageContaining("conflicts with an Index of the same name on expression [lower(status)]");
+	}
+
+	@EnableIndexing
+	static class IndexingConfiguration { }
+
+	@Region("Orders")
+	@CompoundIndex(properties = { "customerId", "orderDate" })
+	@SuppressWarnings("unused")
+	static class Order {
+
+		@Id
+		Long id;
+
+		@Indexed(keys = { "color", "size" })
+		Map<String, String> attributes;
+
+		@Indexed(type = IndexType.FUNCTIONAL)
+		Long customerId;
+
+		@Indexed(keys = "*")
+		Map<String, Object> metadata;
+
+		Date orderDate;
+
+	}
+
+	@Region("Invoices")
+	@CompoundIndex(properties = "status", type = IndexType.HASH)
+	@SuppressWarnings("unused")
+	static class Invoice {
+
+		@Id
+		Long id;
+
+		@Indexed(expression = "lower(status)")
+		String status;
+
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Integration tests for {@link GemFireComponentIndexProcessor} compiling application sources with
+ * the system {@link JavaCompiler}.
+ *
+ * @author John Blum
+ * @see javax.tools.JavaCompiler
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentIndexProcessor
+ * @since 2.2.0
+ */
+public class GemFireComponentIndexProcessorIntegrationTests {
+
+	private static final String CLIENT_REGION = "org.springframework.data.gemfire.mapping.annotation.ClientRegion";
+	private static final String REGION = "org.springframework.data.gemfire.mapping.annotation.Region";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File classesDirectory;
+	private File sourceDirectory;
+
+	private JavaCompiler javaCompiler;
+
+	@Before
+	public void setup() throws IOException {
+
+		this.javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+		assumeNotNull(this.javaCompiler);
+
+		this.classesDirectory = this.temporaryFolder.newFolder("classes");
+		this.sourceDirectory = this.temporaryFolder.newFolder("src");
+	}
+
+	private File writeSource(String typeName, String... lines) throws IOException {
+
+		File source = new File(this.sourceDirectory, typeName.replace('.', File.separatorChar) + ".java");
+
+		assertThat(source.getParentFile().isDirectory() || source.getParentFile().mkdirs()).isTrue();
+
+		Files.write(source.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+
+		return source;
+	}
+
+	private void compile(File... sources) {
+
+		String classpath = this.classesDirectory.getAbsolutePath() + File.pathSeparator
+			+ System.getProperty("java.class.path");
+
+		runCompiler(sources, "-proc:only", "-processor", GemFireComponentIndexProcessor.class.getName(),
+			"-classpath", classpath);
+	}
+
+	private void compileClasses(File... sources) {
+		runCompiler(sources, "-proc:none", "-classpath", System.getProperty("java.class.path"));
+	}
+
+	private void runCompiler(File[] sources, String... options) {
+
+		List<String> arguments = new ArrayList<>(Arrays.asList(options));
+
+		arguments.add("-d");
+		arguments.add(this.classesDirectory.getAbsolutePath());
+
+		Arrays.stream(sources).map(File::getAbsolutePath).forEach(arguments::add);
+
+		assertThat(this.javaCompiler.run(null, null, null, arguments.toArray(new String[0]))).isZero();
+	}
+
+	private Properties readIndex() throws IOException {
+
+		Properties index = new Properties();
+
+		try (InputStream in = Files.newInputStream(new File(this.classesDirectory,
+				GemFireComponentIndex.COMPONENTS_RESOURCE_LOCATION).toPath())) {
+
+			index.load(in);
+		}
+
+		return index;
+	}
+
+	@Test
+	public void indexesMetaAnnotatedStereotypes() throws IOException {
+
+		File entityAnnotation = writeSource("example.app.model.Entity",
+			"package example.app.model;",
+			"@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)",
+			"@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE)",
+			"@" + REGION,
+			"public @interface Entity { }");
+
+		File customer = writeSource("example.app.model.Customer",
+			"package example.app.model;",
+			"@Entity",
+			"public class Customer { }");
+
+		File order = writeSource("example.app.model.Order",
+			"package example.app.model;",
+			"@" + CLIENT_REGION + "(\"Orders\")",
+			"public class Order { }");
+
+		compile(entityAnnotation, customer, order);
+
+		Properties index = readIndex();
+
+		assertThat(index.stringPropertyNames())
+			.containsExactlyInAnyOrder("example.app.model.Customer", "example.app.model.Order");
+		assertThat(index.getProperty("example.app.model.Customer")).isEqualTo(REGION);
+		assertThat(index.getProperty("example.app.model.Order")).isEqualTo(CLIENT_REGION);
+	}
+
+	@Test
+	public void incrementalCompilationPrunesTypesThatNoLongerResolve() throws IOException {
+
+		File customer = writeSource("example.app.model.Customer",
+			"package example.app.model;",
+			"@" + REGION,
+			"public class Customer { }");
+
+		File order = writeSource("example.app.model.Order",
+			"package example.app.model;",
+			"@" + REGION,
+			"public class Order { }");
+
+		compileClasses(customer);
+		compile(customer, order);
+
+		assertThat(readIndex().stringPropertyNames())
+			.containsExactlyInAnyOrder("example.app.model.Customer", "example.app.model.Order");
+
+		assertThat(order.delete()).isTrue();
+
+		File product = writeSource("example.app.model.Product",
+			"package example.app.model;",
+			"@" + REGION,
+			"public class Product { }");
+
+		compile(product);
+
+		assertThat(readIndex().stringPropertyNames())
+			.containsExactlyInAnyOrder("example.app.model.Customer", "example.app.model.Product");
+	}
+
+	@Test
+	public void recompiledTypeNoLongerAnnotatedIsRemoved() throws IOException {
+
+		File customer = writeSource("example.app.model.Customer",
+			"package example.app.model;",
+			"@" + REGION,
+			"public class Customer { }");
+
+		compile(customer);
+
+		assertThat(readIndex().stringPropertyNames()).containsExactly("example.app.model.Customer");
+
+		customer = writeSource("example.app.model.Customer",
+			"package example.app.model;",
+			"public class Customer { }");
+
+		compile(customer);
+
+		assertThat(readIndex().stringPropertyNames()).isEqualTo(Collections.emptySet());
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link GemFireComponentIndex}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireComponentIndex
+ * @since 2.2.0
+ */
+public class GemFireComponentIndexUnitTests {
+
+	private static final String CLIENT_REGION = "org.springframework.data.gemfire.mapping.annotation.ClientRegion";
+	private static final String GEMFIRE_FUNCTION = "org.springframework.data.gemfire.function.annotation.GemfireFunction";
+	private static final String ON_REGION = "org.springframework.data.gemfire.function.annotation.OnRegion";
+	private static final String REGION = "org.springframework.data.gemfire.mapping.annotation.Region";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private static Set<String> setOf(String... elements) {
+		return new HashSet<>(Arrays.asList(elements));
+	}
+
+	@Test
+	public void candidateTypesAreMatchedByPackageAndStereotype() {
+
+		Map<String, Set<String>> stereotypesByType = new HashMap<>();
+
+		stereotypesByType.put("example.app.model.Customer", setOf(REGION));
+		stereotypesByType.put("example.app.model.Order", setOf(CLIENT_REGION));
+		stereotypesByType.put("example.app.model.support.Address", setOf(REGION));
+		stereotypesByType.put("example.app.modeling.Shape", setOf(REGION));
+		stereotypesByType.put("example.app.functions.CustomerFunctions", setOf(ON_REGION));
+		stereotypesByType.put("example.app.model.CustomerFunctionImpl", setOf(GEMFIRE_FUNCTION));
+
+		GemFireComponentIndex index = new GemFireComponentIndex(stereotypesByType);
+
+		assertThat(index.getCandidateTypes("example.app.model", GemFireComponentIndex.REGION_STEREOTYPES))
+			.containsExactly("example.app.model.Customer", "example.app.model.Order",
+				"example.app.model.support.Address");
+
+		assertThat(index.getCandidateTypes("example.app", GemFireComponentIndex.FUNCTION_EXECUTION_STEREOTYPES))
+			.containsExactly("example.app.functions.CustomerFunctions");
+
+		assertThat(index.getCandidateTypes("example.other", GemFireComponentIndex.REGION_STEREOTYPES)).isEmpty();
+	}
+
+	@Test
+	public void loadsIndexFromClassLoaderResources() throws IOException {
+
+		File indexFile = new File(this.temporaryFolder.getRoot(), GemFireComponentIndex.COMPONENTS_RESOURCE_LOCATION);
+
+		assertThat(indexFile.getParentFile().mkdirs()).isTrue();
+
+		Files.write(indexFile.toPath(), Collections.singletonList(
+			String.format("example.app.model.Customer=%1$s,%2$s", REGION, CLIENT_REGION)), StandardCharsets.ISO_8859_1);
+
+		ClassLoader classLoader = new URLClassLoader(new URL[] { this.temporaryFolder.getRoot().toURI().toURL() }, null);
+
+		GemFireComponentIndex index = GemFireComponentIndex.load(classLoader);
+
+		assertThat(index).isNotNull();
+		assertThat(GemFireComponentIndex.load(classLoader)).isSameAs(index);
+		assertThat(index.getCandidateTypes("example", Collections.singleton(CLIENT_REGION)))
+			.containsExactly("example.app.model.Customer");
+	}
+
+	@Test
+	public void loadReturnsNullWhenIndexIsNotPresent() {
+		assertThat(GemFireComponentIndex.load(new URLClassLoader(new URL[0], null))).isNull();
+	}
+}
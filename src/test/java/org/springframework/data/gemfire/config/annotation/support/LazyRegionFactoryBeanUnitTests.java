@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * Unit tests for {@link LazyRegionFactoryBean} and {@link LazyRegionMetrics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.LazyRegionFactoryBean
+ * @see org.springframework.data.gemfire.config.annotation.support.LazyRegionMetrics
+ * @since 2.2.0
+ */
+public class LazyRegionFactoryBeanUnitTests {
+
+	private static final Region<Object, Object> MOCK_REGION = mockRegion();
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private ClientCache mockClientCache;
+
+	@SuppressWarnings("unchecked")
+	private static Region<Object, Object> mockRegion() {
+		return mock(Region.class);
+	}
+
+	@Before
+	public void setup() {
+
+		this.beanFactory = new DefaultListableBeanFactory();
+		this.mockClientCache = mock(ClientCache.class);
+
+		this.beanFactory.registerBeanDefinition("Example" + LazyRegionFactoryBean.REGION_DEFINITION_BEAN_NAME_SUFFIX,
+			BeanDefinitionBuilder.genericBeanDefinition(TestRegionFactoryBean.class).setAbstract(true)
+				.getBeanDefinition());
+
+		this.beanFactory.registerBeanDefinition("Example",
+			BeanDefinitionBuilder.genericBeanDefinition(LazyRegionFactoryBean.class)
+				.addPropertyValue("cache", this.mockClientCache)
+				.addPropertyValue("keyConstraint", Long.class)
+				.addPropertyValue("regionName", "Example")
+				.addPropertyValue("dependentBeanNames", Collections.singletonList("ExampleIdx"))
+				.getBeanDefinition());
+
+		this.beanFactory.registerBeanDefinition("ExampleIdx",
+			BeanDefinitionBuilder.genericBeanDefinition(AtomicBoolean.class).setLazyInit(true).getBeanDefinition());
+
+		this.beanFactory.registerBeanDefinition("lazyRegionMetrics",
+			BeanDefinitionBuilder.genericBeanDefinition(LazyRegionMetrics.class).getBeanDefinition());
+
+		this.beanFactory.preInstantiateSingletons();
+	}
+
+	@Test
+	public void lazyRegionIsCreatedOnFirstUse() {
+
+		Region<?, ?> region = this.beanFactory.getBean("Example", Region.class);
+
+		LazyRegionMetrics metrics = this.beanFactory.getBean(LazyRegionMetrics.class);
+
+		assertThat(region).isInstanceOf(LazyRegion.class);
+		assertThat(region.getName()).isEqualTo("Example");
+		assertThat(region.getFullPath()).isEqualTo("/Example");
+		assertThat(this.beanFactory.getBeansOfType(Region.class)).containsOnlyKeys("Example");
+		assertThat(((LazyRegion) region).isMaterialized()).isFalse();
+		assertThat(metrics.getLazyRegions()).containsEntry("/Example", -1L);
+		assertThat(metrics.getMaterializedRegions()).isEmpty();
+		assertThat(this.beanFactory.containsSingleton("ExampleIdx")).isFalse();
+
+		when(MOCK_REGION.size()).thenReturn(2);
+
+		assertThat(region.size()).isEqualTo(2);
+		assertThat(region.size()).isEqualTo(2);
+
+		verify(MOCK_REGION, times(2)).size();
+
+		assertThat(((LazyRegion) region).isMaterialized()).isTrue();
+		assertThat(((LazyRegion) region).getMaterializationNanos()).isGreaterThanOrEqualTo(0L);
+		assertThat(metrics.getMaterializedRegions()).containsExactly("/Example");
+		assertThat(this.beanFactory.containsSingleton("ExampleIdx")).isTrue();
+	}
+
+	@Test
+	public void lazyRegionReportsDeclaredKeyConstraintWithoutCreatingRegion() {
+
+		Region<?, ?> region = this.beanFactory.getBean("Example", Region.class);
+
+		assertThat(((LazyRegion) region).getKeyConstraint()).isEqualTo(Long.class);
+		assertThat(((LazyRegion) region).isMaterialized()).isFalse();
+	}
+
+	@Test
+	public void lazyRegionWithPeerCacheFailsFast() {
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+		beanFactory.registerBeanDefinition("Example",
+			BeanDefinitionBuilder.genericBeanDefinition(LazyRegionFactoryBean.class)
+				.addPropertyValue("cache", mock(Cache.class))
+				.addPropertyValue("regionName", "Example")
+				.getBeanDefinition());
+
+		assertThatThrownBy(beanFactory::preInstantiateSingletons)
+			.isInstanceOf(BeanCreationException.class)
+			.hasRootCauseInstanceOf(IllegalStateException.class)
+			.hasStackTraceContaining("Lazy Region [/Example] requires a ClientCache");
+	}
+
+	public static class TestRegionFactoryBean implements FactoryBean<Region<Object, Object>> {
+
+		@Override
+		public Region<Object, Object> getObject() {
+			return MOCK_REGION;
+		}
+
+		@Override
+		public Class<?> getObjectType() {
+			return Region.class;
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingStatistics.CallSiteSnapshot;
+
+/**
+ * Unit tests for {@link RegionDataAccessTracingStatistics}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingStatistics
+ * @since 2.2.0
+ */
+public class RegionDataAccessTracingStatisticsUnitTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithInvalidMaximumCallSitesThrowsIllegalArgumentException() {
+
+		try {
+			new RegionDataAccessTracingStatistics(0);
+		}
+		catch (IllegalArgumentException expected) {
+			assertThat(expected).hasMessage("Maximum call sites [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void histogramBucketsArePowersOfTwoMicroseconds() {
+
+		assertThat(RegionDataAccessTracingStatistics.toHistogramBucket(0L)).isEqualTo(0);
+		assertThat(RegionDataAccessTracingStatistics.toHistogramBucket(999L)).isEqualTo(0);
+		assertThat(RegionDataAccessTracingStatistics.toHistogramBucket(TimeUnit.MICROSECONDS.toNanos(1))).isEqualTo(1);
+		assertThat(RegionDataAccessTracingStatistics.toHistogramBucket(TimeUnit.MICROSECONDS.toNanos(3))).isEqualTo(2);
+		assertThat(RegionDataAccessTracingStatistics.toHistogramBucket(TimeUnit.MICROSECONDS.toNanos(4))).isEqualTo(3);
+		assertThat(RegionDataAccessTracingStatistics.toHistogramBucket(Long.MAX_VALUE))
+			.isEqualTo(RegionDataAccessTracingStatistics.HISTOGRAM_BUCKET_COUNT - 1);
+	}
+
+	@Test
+	public void recordAggregatesByCallSite() {
+
+		RegionDataAccessTracingStatistics statistics = new RegionDataAccessTracingStatistics();
+
+		statistics.record("Region.get(..) from A", TimeUnit.MICROSECONDS.toNanos(2));
+		statistics.record("Region.get(..) from A", TimeUnit.MICROSECONDS.toNanos(6));
+		statistics.record("Region.put(..) from B", TimeUnit.MICROSECONDS.toNanos(100));
+
+		List<CallSiteSnapshot> snapshots = statistics.snapshot();
+
+		assertThat(snapshots).hasSize(2);
+
+		CallSiteSnapshot snapshot = snapshots.get(0);
+
+		assertThat(snapshot.getCallSite()).isEqualTo("Region.get(..) from A");
+		assertThat(snapshot.getCount()).isEqualTo(2L);
+		assertThat(snapshot.getTotalNanos()).isEqualTo(TimeUnit.MICROSECONDS.toNanos(8));
+		assertThat(snapshot.getMeanNanos()).isEqualTo(TimeUnit.MICROSECONDS.toNanos(4));
+		assertThat(snapshot.getMaxNanos()).isEqualTo(TimeUnit.MICROSECONDS.toNanos(6));
+		assertThat(snapshot.getHistogram()[2]).isEqualTo(1L);
+		assertThat(snapshot.getHistogram()[3]).isEqualTo(1L);
+		assertThat(snapshot.getPercentileUpperBoundMicros(0.5d)).isEqualTo(4L);
+		assertThat(snapshot.getPercentileUpperBoundMicros(1.0d)).isEqualTo(8L);
+
+		assertThat(snapshots.get(1).getCallSite()).isEqualTo("Region.put(..) from B");
+		assertThat(snapshots.get(1).getCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void recordBeyondMaximumCallSitesAggregatesIntoOverflowCallSite() {
+
+		RegionDataAccessTracingStatistics statistics = new RegionDataAccessTracingStatistics(1);
+
+		statistics.record("A", 1L);
+		statistics.record("B", 1L);
+		statistics.record("C", 1L);
+		statistics.record("A", 1L);
+		statistics.record("A", 1L);
+
+		List<CallSiteSnapshot> snapshots = statistics.snapshot();
+
+		assertThat(snapshots).extracting(CallSiteSnapshot::getCallSite)
+			.containsExactly("A", RegionDataAccessTracingStatistics.OVERFLOW_CALL_SITE);
+
+		assertThat(snapshots).extracting(CallSiteSnapshot::getCount).containsExactly(3L, 2L);
+	}
+
+	@Test
+	public void recordsCallSiteKeysRenderedOnSnapshot() {
+
+		RegionDataAccessTracingStatistics statistics = new RegionDataAccessTracingStatistics();
+
+		StackTraceElement caller = new StackTraceElement("example.app.Service", "process", "Service.java", 42);
+
+		statistics.record(new RegionDataAccessTracingAspect.CallSite("ExampleRegion", "get", caller), 1L);
+		statistics.record(new RegionDataAccessTracingAspect.CallSite("ExampleRegion", "get", caller), 1L);
+		statistics.record(new RegionDataAccessTracingAspect.CallSite("ExampleRegion", "put", null), 1L);
+
+		List<CallSiteSnapshot> snapshots = statistics.snapshot();
+
+		assertThat(snapshots).extracting(CallSiteSnapshot::getCallSite).containsExactly(
+			"ExampleRegion.get(..) from example.app.Service.process(Service.java:42)",
+			"ExampleRegion.put(..) from " + RegionDataAccessTracingStatistics.OVERFLOW_CALL_SITE);
+
+		assertThat(snapshots).extracting(CallSiteSnapshot::getCount).containsExactly(2L, 1L);
+	}
+
+	@Test
+	public void sampleRateDefaultsByMode() {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect();
+
+		assertThat(aspect.getSampleRate()).isEqualTo(RegionDataAccessTracingAspect.DEFAULT_SAMPLE_RATE);
+
+		aspect.setAggregate(true);
+
+		assertThat(aspect.getSampleRate()).isEqualTo(RegionDataAccessTracingAspect.DEFAULT_AGGREGATE_SAMPLE_RATE);
+
+		aspect.setSampleRate(0.5d);
+
+		assertThat(aspect.getSampleRate()).isEqualTo(0.5d);
+
+		aspect.setSampleRate(RegionDataAccessTracingAspect.UNSET_SAMPLE_RATE);
+
+		assertThat(aspect.getSampleRate()).isEqualTo(RegionDataAccessTracingAspect.DEFAULT_AGGREGATE_SAMPLE_RATE);
+	}
+
+	@Test
+	public void resetClearsStatistics() {
+
+		RegionDataAccessTracingStatistics statistics = new RegionDataAccessTracingStatistics();
+
+		statistics.record("A", 1L);
+		statistics.reset();
+
+		assertThat(statistics.snapshot()).isEmpty();
+		assertThat(statistics.toSummary()).isEqualTo("Region data access summary:");
+	}
+
+	@Test
+	public void toSummaryIncludesEachCallSite() {
+
+		RegionDataAccessTracingStatistics statistics = new RegionDataAccessTracingStatistics();
+
+		statistics.record("Region.get(..) from A", TimeUnit.MICROSECONDS.toNanos(10));
+
+		assertThat(statistics.toSummary())
+			.contains("Region.get(..) from A count [1] mean [10 us] p99 [<= 16 us] max [10 us]");
+	}
+}
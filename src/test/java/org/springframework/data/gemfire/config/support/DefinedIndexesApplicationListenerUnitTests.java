@@ -16,6 +16,7 @@
 
 package org.springframework.data.gemfire.config.support;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
@@ -27,10 +28,14 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
+import org.apache.geode.cache.query.Index;
 import org.apache.geode.cache.query.MultiIndexCreationException;
 import org.apache.geode.cache.query.QueryService;
 import org.junit.Before;
@@ -133,4 +138,46 @@ public class DefinedIndexesApplicationListenerUnitTests {
 		verify(mockLog, times(1)).warn(startsWith("Failed to create pre-defined Indexes:"),
 			isA(MultiIndexCreationException.class));
 	}
+
+	@Test
+	public void createDefinedIndexesForEachRegionQueryServiceInParallel() throws Exception {
+
+		Index mockCustomersIndexOne = mock(Index.class);
+		Index mockCustomersIndexTwo = mock(Index.class);
+		Index mockOrdersIndex = mock(Index.class);
+
+		when(mockCustomersIndexOne.getName()).thenReturn("CustomersIdIdx");
+		when(mockCustomersIndexTwo.getName()).thenReturn("CustomersNameIdx");
+		when(mockOrdersIndex.getName()).thenReturn("OrdersIdIdx");
+
+		QueryService mockCustomersQueryService = mock(QueryService.class);
+		QueryService mockOrdersQueryService = mock(QueryService.class);
+
+		when(mockCustomersQueryService.createDefinedIndexes())
+			.thenReturn(Arrays.asList(mockCustomersIndexOne, mockCustomersIndexTwo));
+		when(mockOrdersQueryService.createDefinedIndexes()).thenReturn(Collections.singletonList(mockOrdersIndex));
+
+		Map<String, QueryService> queryServiceBeans = new LinkedHashMap<>();
+
+		queryServiceBeans.put(QUERY_SERVICE_BEAN_NAME + "./Customers", mockCustomersQueryService);
+		queryServiceBeans.put(QUERY_SERVICE_BEAN_NAME + "./Orders", mockOrdersQueryService);
+		queryServiceBeans.put("otherQueryService", mockQueryService);
+
+		when(mockApplicationContext.containsBean(eq(QUERY_SERVICE_BEAN_NAME))).thenReturn(false);
+		when(mockApplicationContext.getBeansOfType(eq(QueryService.class))).thenReturn(queryServiceBeans);
+
+		listener.onApplicationEvent(mockEvent);
+
+		verify(mockCustomersQueryService, times(1)).createDefinedIndexes();
+		verify(mockOrdersQueryService, times(1)).createDefinedIndexes();
+		verify(mockQueryService, never()).createDefinedIndexes();
+
+		IndexCreationReport report = listener.getIndexCreationReport();
+
+		assertThat(report.getEntries()).extracting(IndexCreationReport.Entry::getIndexName)
+			.containsExactlyInAnyOrder("CustomersIdIdx", "CustomersNameIdx", "OrdersIdIdx");
+		assertThat(report.getEntries()).filteredOn(entry -> "/Customers".equals(entry.getBatch()))
+			.extracting(IndexCreationReport.Entry::getBatchSize).containsOnly(2);
+		assertThat(report.getElapsedNanos()).isGreaterThanOrEqualTo(0L);
+	}
 }
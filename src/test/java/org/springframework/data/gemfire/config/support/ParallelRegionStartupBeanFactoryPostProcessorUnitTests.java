@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.config.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.gemfire.DiskStoreFactoryBean;
+import org.springframework.data.gemfire.IndexFactoryBean;
+import org.springframework.data.gemfire.PartitionAttributesFactoryBean;
+import org.springframework.data.gemfire.PartitionedRegionFactoryBean;
+import org.springframework.data.gemfire.ReplicatedRegionFactoryBean;
+
+/**
+ * Unit tests for {@link ParallelRegionStartupBeanFactoryPostProcessor}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.support.ParallelRegionStartupBeanFactoryPostProcessor
+ * @since 2.2.0
+ */
+public class ParallelRegionStartupBeanFactoryPostProcessorUnitTests {
+
+	private DefaultListableBeanFactory beanFactory;
+
+	private ParallelRegionStartupBeanFactoryPostProcessor beanFactoryPostProcessor;
+
+	@Before
+	public void setup() {
+
+		this.beanFactory = new DefaultListableBeanFactory();
+		this.beanFactoryPostProcessor = new ParallelRegionStartupBeanFactoryPostProcessor();
+
+		this.beanFactory.registerBeanDefinition("CustomersDiskStore",
+			BeanDefinitionBuilder.genericBeanDefinition(DiskStoreFactoryBean.class).getBeanDefinition());
+
+		this.beanFactory.registerBeanDefinition("Customers",
+			BeanDefinitionBuilder.genericBeanDefinition(PartitionedRegionFactoryBean.class)
+				.addPropertyValue("diskStoreName", "CustomersDiskStore")
+				.addPropertyValue("persistent", true)
+				.getBeanDefinition());
+
+		this.beanFactory.registerBeanDefinition("Orders",
+			BeanDefinitionBuilder.genericBeanDefinition(PartitionedRegionFactoryBean.class)
+				.addPropertyValue("partitionAttributes",
+					BeanDefinitionBuilder.genericBeanDefinition(PartitionAttributesFactoryBean.class)
+						.addPropertyValue("colocatedWith", "Customers")
+						.getBeanDefinition())
+				.getBeanDefinition());
+
+		this.beanFactory.registerBeanDefinition("Products",
+			BeanDefinitionBuilder.genericBeanDefinition(ReplicatedRegionFactoryBean.class).getBeanDefinition());
+
+		this.beanFactory.registerBeanDefinition("OrdersIdIdx",
+			BeanDefinitionBuilder.genericBeanDefinition(IndexFactoryBean.class)
+				.addPropertyValue("expression", "id")
+				.addPropertyValue("from", "/Orders o")
+				.getBeanDefinition());
+	}
+
+	@After
+	public void tearDown() {
+		this.beanFactoryPostProcessor.destroy();
+	}
+
+	@Test
+	public void computesRegionStartupDependencyGraph() {
+
+		this.beanFactoryPostProcessor.postProcessBeanFactory(this.beanFactory);
+
+		assertThat(this.beanFactory.getBeanDefinition("Customers").getDependsOn())
+			.containsExactly("CustomersDiskStore");
+		assertThat(this.beanFactory.getBeanDefinition("Orders").getDependsOn()).containsExactly("Customers");
+		assertThat(this.beanFactory.getBeanDefinition("Products").getDependsOn()).isNullOrEmpty();
+		assertThat(this.beanFactory.getBeanDefinition("OrdersIdIdx").getDependsOn()).containsExactly("Orders");
+
+		assertThat(this.beanFactoryPostProcessor.getDependencies("Customers")).containsExactly("CustomersDiskStore");
+		assertThat(this.beanFactoryPostProcessor.getDependencies("Orders")).containsExactly("Customers");
+		assertThat(this.beanFactoryPostProcessor.getDependencies("Products")).isEmpty();
+
+		assertThat(this.beanFactoryPostProcessor.getLevel("Customers")).isEqualTo(0);
+		assertThat(this.beanFactoryPostProcessor.getLevel("Orders")).isEqualTo(1);
+		assertThat(this.beanFactoryPostProcessor.getLevel("Products")).isEqualTo(0);
+	}
+
+	@Test
+	public void configuresStartupExecutorOnRegionBeansOnly() {
+
+		this.beanFactoryPostProcessor.postProcessBeanFactory(this.beanFactory);
+
+		assertThat(this.beanFactory.getBeanDefinition("Customers").getPropertyValues()
+			.getPropertyValue(ParallelRegionStartupBeanFactoryPostProcessor.STARTUP_EXECUTOR_PROPERTY).getValue())
+			.isInstanceOf(Executor.class);
+
+		assertThat(this.beanFactory.getBeanDefinition("CustomersDiskStore").getPropertyValues()
+			.contains(ParallelRegionStartupBeanFactoryPostProcessor.STARTUP_EXECUTOR_PROPERTY)).isFalse();
+
+		assertThat(this.beanFactory.getBeanDefinition("OrdersIdIdx").getPropertyValues()
+			.contains(ParallelRegionStartupBeanFactoryPostProcessor.STARTUP_EXECUTOR_PROPERTY)).isFalse();
+	}
+
+	@Test
+	public void startupExecutorRecordsRegionStartupTimeline() throws InterruptedException {
+
+		this.beanFactoryPostProcessor.postProcessBeanFactory(this.beanFactory);
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		this.beanFactoryPostProcessor.newStartupExecutor("Customers").execute(latch::countDown);
+		this.beanFactoryPostProcessor.newStartupExecutor("Orders").execute(latch::countDown);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+
+		List<RegionStartupTimeline.Entry> entries = awaitEntries(2);
+
+		assertThat(entries).extracting(RegionStartupTimeline.Entry::getRegionBeanName)
+			.containsExactlyInAnyOrder("Customers", "Orders");
+		assertThat(entries).extracting(RegionStartupTimeline.Entry::getThreadName)
+			.allMatch(threadName -> threadName.startsWith("RegionStartupThread-"));
+		assertThat(entries).filteredOn(entry -> "Orders".equals(entry.getRegionBeanName()))
+			.extracting(RegionStartupTimeline.Entry::getLevel)
+			.containsExactly(1);
+	}
+
+	private List<RegionStartupTimeline.Entry> awaitEntries(int count) throws InterruptedException {
+
+		long timeout = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+
+		List<RegionStartupTimeline.Entry> entries =
+			this.beanFactoryPostProcessor.getRegionStartupTimeline().getEntries();
+
+		while (entries.size() < count && System.currentTimeMillis() < timeout) {
+			Thread.sleep(10L);
+			entries = this.beanFactoryPostProcessor.getRegionStartupTimeline().getEntries();
+		}
+
+		return entries;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.eviction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.EvictionAttributes;
+import org.apache.geode.cache.EvictionAttributesMutator;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AdaptiveEvictionController}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.eviction.AdaptiveEvictionController
+ * @since 2.2.0
+ */
+public class AdaptiveEvictionControllerUnitTests {
+
+	private double heapUsagePercentage = 50.0d;
+
+	private long gcTimeMillis = 0L;
+
+	private final AdaptiveEvictionController controller = new AdaptiveEvictionController() {
+
+		@Override
+		protected double readHeapUsagePercentage() {
+			return heapUsagePercentage;
+		}
+
+		@Override
+		protected long readGcTimeMillis() {
+			return gcTimeMillis;
+		}
+	};
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> mockRegion(String name, EvictionAttributes evictionAttributes,
+			long hits, long misses) {
+
+		Region<Object, Object> mockRegion = mock(Region.class, name);
+
+		RegionAttributes<Object, Object> mockRegionAttributes = mock(RegionAttributes.class);
+
+		AttributesMutator<Object, Object> mockAttributesMutator = mock(AttributesMutator.class);
+
+		EvictionAttributesMutator mockEvictionAttributesMutator = mock(EvictionAttributesMutator.class);
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getEvictionAttributes()).thenReturn(evictionAttributes);
+		when(mockRegionAttributes.getStatisticsEnabled()).thenReturn(hits >= 0);
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockAttributesMutator.getEvictionAttributesMutator()).thenReturn(mockEvictionAttributesMutator);
+
+		if (hits < 0) {
+			when(mockRegion.getStatistics()).thenThrow(new StatisticsDisabledException("test"));
+		}
+		else {
+
+			CacheStatistics mockCacheStatistics = mock(CacheStatistics.class);
+
+			when(mockCacheStatistics.getHitCount()).thenReturn(hits);
+			when(mockCacheStatistics.getMissCount()).thenReturn(misses);
+			when(mockRegion.getStatistics()).thenReturn(mockCacheStatistics);
+		}
+
+		return mockRegion;
+	}
+
+	private EvictionAttributesMutator evictionAttributesMutator(Region<?, ?> region) {
+		return region.getAttributesMutator().getEvictionAttributesMutator();
+	}
+
+	@Test
+	public void growsBudgetAndFavorsRegionsWithHigherHitRatio() {
+
+		Region<Object, Object> hot = mockRegion("Hot", EvictionAttributes.createLRUEntryAttributes(1000), 90L, 10L);
+		Region<Object, Object> cold = mockRegion("Cold", EvictionAttributes.createLRUEntryAttributes(1000), 10L, 90L);
+
+		this.controller.register("Hot", () -> hot, 100, 2000);
+		this.controller.register("Cold", () -> cold, 100, 2000);
+
+		List<AdaptiveEvictionController.Decision> decisions = this.controller.evaluate();
+
+		assertThat(decisions).hasSize(2);
+		assertThat(this.controller.getRegionMaximums()).containsEntry("Hot", 1980).containsEntry("Cold", 220);
+		assertThat(this.controller.getEvaluationCount()).isEqualTo(1L);
+		assertThat(this.controller.getLastHeapUsagePercentage()).isEqualTo(50.0d);
+		assertThat(this.controller.getDecisions()).containsExactlyElementsOf(decisions);
+
+		verify(evictionAttributesMutator(hot)).setMaximum(1980);
+		verify(evictionAttributesMutator(cold)).setMaximum(220);
+	}
+
+	@Test
+	public void shrinksBudgetUnderHeapPressure() {
+
+		this.heapUsagePercentage = 90.0d;
+
+		Region<Object, Object> one = mockRegion("One", EvictionAttributes.createLRUEntryAttributes(1000), -1L, -1L);
+		Region<Object, Object> two = mockRegion("Two", EvictionAttributes.createLRUEntryAttributes(1000), -1L, -1L);
+
+		this.controller.register("One", () -> one, 100, 2000);
+		this.controller.register("Two", () -> two, 100, 2000);
+
+		this.controller.evaluate();
+
+		assertThat(this.controller.getRegionMaximums()).containsEntry("One", 900).containsEntry("Two", 900);
+	}
+
+	@Test
+	public void shrinksBudgetWhenGarbageCollectionTimeIsExcessive() throws InterruptedException {
+
+		this.heapUsagePercentage = 70.0d;
+
+		Region<Object, Object> region =
+			mockRegion("Example", EvictionAttributes.createLRUEntryAttributes(1000), -1L, -1L);
+
+		this.controller.register("Example", () -> region, 100, 2000);
+
+		assertThat(this.controller.evaluate()).isEmpty();
+
+		Thread.sleep(20L);
+
+		this.gcTimeMillis = 1000L;
+
+		this.controller.evaluate();
+
+		assertThat(this.controller.getLastGcTimePercentage()).isGreaterThan(5.0d);
+		assertThat(this.controller.getRegionMaximums()).containsEntry("Example", 900);
+	}
+
+	@Test
+	public void keepsMaximumsWithinDeclaredBounds() {
+
+		Region<Object, Object> hot = mockRegion("Hot", EvictionAttributes.createLRUEntryAttributes(1000), 90L, 10L);
+		Region<Object, Object> cold = mockRegion("Cold", EvictionAttributes.createLRUEntryAttributes(1000), 10L, 90L);
+
+		this.controller.register("Hot", () -> hot, 500, 1200);
+		this.controller.register("Cold", () -> cold, 500, 1200);
+
+		this.controller.evaluate();
+
+		assertThat(this.controller.getRegionMaximums()).containsEntry("Hot", 1200).containsEntry("Cold", 1000);
+	}
+
+	@Test
+	public void redistributesBudgetFreedByClampedRegions() {
+
+		this.heapUsagePercentage = 70.0d;
+
+		Region<Object, Object> a = mockRegion("A", EvictionAttributes.createLRUEntryAttributes(50), 90L, 10L);
+		Region<Object, Object> b = mockRegion("B", EvictionAttributes.createLRUEntryAttributes(950), 10L, 90L);
+
+		this.controller.register("A", () -> a, 10, 50);
+		this.controller.register("B", () -> b, 100, 1000);
+
+		// a budget of 1000 with weights of 0.9 and 0.1 is only stable when B receives the budget A cannot hold
+		assertThat(this.controller.evaluate()).isEmpty();
+		assertThat(this.controller.getRegionMaximums()).containsEntry("A", 50).containsEntry("B", 950);
+	}
+
+	@Test
+	public void ignoresRegionsWithoutEntryCountOrMemorySizeEviction() {
+
+		Region<Object, Object> region =
+			mockRegion("Example", EvictionAttributes.createLRUHeapAttributes(), -1L, -1L);
+
+		this.controller.register("Example", () -> region, 100, 2000);
+
+		assertThat(this.controller.evaluate()).isEmpty();
+		assertThat(this.controller.getRegionMaximums()).isEmpty();
+
+		verify(region, never()).getAttributesMutator();
+	}
+
+	@Test
+	public void usesNeutralWeightWithoutReadingStatisticsOfRegionsWithStatisticsDisabled() {
+
+		Region<Object, Object> region =
+			mockRegion("Example", EvictionAttributes.createLRUEntryAttributes(1000), -1L, -1L);
+
+		this.controller.register("Example", () -> region, 100, 2000);
+		this.controller.evaluate();
+		this.controller.evaluate();
+
+		assertThat(this.controller.getRegionMaximums()).containsEntry("Example", 1210);
+
+		verify(region, never()).getStatistics();
+	}
+
+	@Test
+	public void usesNeutralWeightOnceStatisticsAreDisabledAfterRegionIsResolved() {
+
+		Region<Object, Object> region =
+			mockRegion("Example", EvictionAttributes.createLRUEntryAttributes(1000), -1L, -1L);
+
+		when(region.getAttributes().getStatisticsEnabled()).thenReturn(true);
+
+		this.controller.register("Example", () -> region, 100, 2000);
+		this.controller.evaluate();
+		this.controller.evaluate();
+
+		assertThat(this.controller.getRegionMaximums()).containsEntry("Example", 1210);
+
+		verify(region, times(1)).getStatistics();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void evaluateDoesNotSwallowStatisticsFailures() {
+
+		Region<Object, Object> region =
+			mockRegion("Example", EvictionAttributes.createLRUEntryAttributes(1000), 0L, 0L);
+
+		when(region.getStatistics()).thenThrow(new IllegalStateException("TEST"));
+
+		this.controller.register("Example", () -> region, 100, 2000);
+		this.controller.evaluate();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void registerWithInvalidBoundsThrowsIllegalArgumentException() {
+		this.controller.register("Example", () -> null, 2000, 100);
+	}
+}
@@ -25,17 +25,26 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.expiration.AnnotationBasedExpiration.ExpirationMetaData;
 
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.apache.geode.cache.ExpirationAction;
 import org.apache.geode.cache.ExpirationAttributes;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.pdx.PdxInstance;
 import org.junit.Test;
 import org.mockito.Matchers;
 import org.mockito.invocation.InvocationOnMock;
@@ -245,6 +254,221 @@ public class AnnotationBasedExpirationTest {
 		assertThat(expiration.getExpiry(mockRegionEntry), is(equalTo(expectedExpirationAttributes)));
 	}
 
+	@Test
+	public void getExpiryResolvesAndSharesExpirationPolicyPerValueType() {
+		final AtomicInteger resolutionCount = new AtomicInteger(0);
+
+		Region.Entry mockRegionEntryOne = mock(Region.Entry.class, "MockRegionEntryOne");
+		Region.Entry mockRegionEntryTwo = mock(Region.Entry.class, "MockRegionEntryTwo");
+
+		when(mockRegionEntryOne.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+		when(mockRegionEntryTwo.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+
+		AnnotationBasedExpiration expiration = new AnnotationBasedExpiration() {
+			@Override protected ExpirationMetaData getExpirationMetaData(Region.Entry entry) {
+				resolutionCount.incrementAndGet();
+				return super.getExpirationMetaData(entry);
+			}
+		};
+
+		ExpirationAttributes expirationAttributes = expiration.getExpiry(mockRegionEntryOne);
+
+		assertExpiration(expirationAttributes, 60, ExpirationAction.INVALIDATE);
+		assertThat(expiration.getExpiry(mockRegionEntryTwo), is(sameInstance(expirationAttributes)));
+		assertThat(resolutionCount.get(), is(equalTo(1)));
+
+		expiration.refresh();
+
+		assertExpiration(expiration.getExpiry(mockRegionEntryTwo), 60, ExpirationAction.INVALIDATE);
+		assertThat(resolutionCount.get(), is(equalTo(2)));
+	}
+
+	@Test
+	public void getExpiryForUnannotatedValueTypeUsesCurrentDefaultExpirationAttributes() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithNoExpiration());
+
+		AnnotationBasedExpiration expiration = new AnnotationBasedExpiration();
+
+		assertThat(expiration.getExpiry(mockRegionEntry), is(nullValue()));
+
+		expiration.setDefaultExpirationAttributes(ExpirationAttributes.DEFAULT);
+
+		assertThat(expiration.getExpiry(mockRegionEntry), is(equalTo(ExpirationAttributes.DEFAULT)));
+	}
+
+	@Test
+	public void getExpiryUsesExpiresAtPropertyOfEntryValue() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		RegionEntryValueWithExpiresAt value = new RegionEntryValueWithExpiresAt();
+
+		value.expiresAt = new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+
+		when(mockRegionEntry.getValue()).thenReturn(value);
+
+		ExpirationAttributes expirationAttributes = AnnotationBasedExpiration.forTimeToLive().getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes, is(not(nullValue())));
+		assertThat(expirationAttributes.getAction(), is(equalTo(ExpirationAction.DESTROY)));
+		assertThat(expirationAttributes.getTimeout() > 590, is(true));
+		assertThat(expirationAttributes.getTimeout() <= 600, is(true));
+	}
+
+	@Test
+	public void getExpiryWithNullExpiresAtPropertyUsesClassLevelExpiration() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithExpiresAt());
+
+		assertExpiration(AnnotationBasedExpiration.forTimeToLive().getExpiry(mockRegionEntry),
+			300, ExpirationAction.LOCAL_DESTROY);
+	}
+
+	@Test
+	public void getExpiryReadsExpiresAtFieldFromPdxInstance() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class, "MockPdxInstance");
+
+		when(mockPdxInstance.getClassName()).thenReturn(RegionEntryValueWithExpiresAt.class.getName());
+		when(mockPdxInstance.getField("expiresAt"))
+			.thenReturn(new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30)));
+		when(mockRegionEntry.getValue()).thenReturn(mockPdxInstance);
+
+		ExpirationAttributes expirationAttributes = AnnotationBasedExpiration.forTimeToLive().getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes, is(not(nullValue())));
+		assertThat(expirationAttributes.getAction(), is(equalTo(ExpirationAction.DESTROY)));
+		assertThat(expirationAttributes.getTimeout() > 25, is(true));
+		assertThat(expirationAttributes.getTimeout() <= 30, is(true));
+
+		verify(mockPdxInstance, times(1)).getField("expiresAt");
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void getExpiryReadsPdxExpiresAtFieldWhenDomainClassIsNotLoadable() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class, "MockPdxInstance");
+
+		when(mockPdxInstance.getClassName()).thenReturn("example.app.model.NonExistingType");
+		when(mockPdxInstance.hasField("expiresAt")).thenReturn(true);
+		when(mockPdxInstance.getField("expiresAt"))
+			.thenReturn(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30));
+		when(mockRegionEntry.getValue()).thenReturn(mockPdxInstance);
+
+		AnnotationBasedExpiration<Object, Object> expiration = AnnotationBasedExpiration.forTimeToLive();
+
+		expiration.setPdxExpiresAtFieldName("expiresAt");
+
+		ExpirationAttributes expirationAttributes = expiration.getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes, is(not(nullValue())));
+		assertThat(expirationAttributes.getAction(), is(equalTo(ExpirationAction.INVALIDATE)));
+		assertThat(expirationAttributes.getTimeout() > 25, is(true));
+		assertThat(expirationAttributes.getTimeout() <= 30, is(true));
+
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void getExpiryWithPdxInstanceMissingExpiresAtFieldUsesRegionDefault() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class, "MockPdxInstance");
+
+		when(mockPdxInstance.getClassName()).thenReturn("example.app.model.NonExistingType");
+		when(mockRegionEntry.getValue()).thenReturn(mockPdxInstance);
+
+		AnnotationBasedExpiration<Object, Object> expiration = AnnotationBasedExpiration.forTimeToLive();
+
+		expiration.setPdxExpiresAtAction(ExpirationActionType.DESTROY);
+		expiration.setPdxExpiresAtFieldName("expiresAt");
+
+		assertThat(expiration.getExpiry(mockRegionEntry), is(nullValue()));
+
+		verify(mockPdxInstance, times(1)).hasField("expiresAt");
+		verify(mockPdxInstance, never()).getField(anyString());
+	}
+
+	@Test
+	public void getExpiryDoesNotReadPdxExpiresAtFieldByDefault() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class, "MockPdxInstance");
+
+		when(mockPdxInstance.getClassName()).thenReturn("example.app.model.NonExistingType");
+		when(mockPdxInstance.hasField("expiresAt")).thenReturn(true);
+		when(mockPdxInstance.getField("expiresAt"))
+			.thenReturn(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30));
+		when(mockRegionEntry.getValue()).thenReturn(mockPdxInstance);
+
+		assertThat(AnnotationBasedExpiration.forTimeToLive().getExpiry(mockRegionEntry), is(nullValue()));
+
+		verify(mockPdxInstance, never()).hasField(anyString());
+		verify(mockPdxInstance, never()).getField(anyString());
+	}
+
+	@Test
+	public void forIdleTimeoutIgnoresExpiresAtProperty() {
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		RegionEntryValueWithExpiresAt value = new RegionEntryValueWithExpiresAt();
+
+		value.expiresAt = new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+
+		when(mockRegionEntry.getValue()).thenReturn(value);
+
+		assertThat(AnnotationBasedExpiration.forIdleTimeout().getExpiry(mockRegionEntry), is(nullValue()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void getExpiryIgnoresExpiresAtPropertyWhenConfiguredAsRegionCustomEntryIdleTimeout() {
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class, "MockRegionAttributes");
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		RegionEntryValueWithExpiresAt value = new RegionEntryValueWithExpiresAt();
+
+		value.expiresAt = new Date(System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(10));
+
+		AnnotationBasedExpiration<Object, Object> expiration = new AnnotationBasedExpiration<>();
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegionAttributes.getCustomEntryIdleTimeout()).thenReturn(expiration);
+		when(mockRegionEntry.getRegion()).thenReturn(mockRegion);
+		when(mockRegionEntry.getValue()).thenReturn(value);
+
+		assertThat(expiration.getExpiry(mockRegionEntry), is(nullValue()));
+
+		when(mockRegionAttributes.getCustomEntryIdleTimeout()).thenReturn(null);
+
+		ExpirationAttributes expirationAttributes = expiration.getExpiry(mockRegionEntry);
+
+		assertThat(expirationAttributes.getAction(), is(equalTo(ExpirationAction.DESTROY)));
+		assertThat(expirationAttributes.getTimeout() > 590, is(true));
+	}
+
+	@Test
+	public void toTimeoutInSecondsConvertsSupportedDeadlineTypes() {
+		long now = 1000000L;
+
+		assertThat(AnnotationBasedExpiration.ExpiresAtMetaData.toTimeoutInSeconds(new Date(now + 1500L), now),
+			is(equalTo(2L)));
+		assertThat(AnnotationBasedExpiration.ExpiresAtMetaData.toTimeoutInSeconds(Instant.ofEpochMilli(now + 60000L),
+			now), is(equalTo(60L)));
+		assertThat(AnnotationBasedExpiration.ExpiresAtMetaData.toTimeoutInSeconds(now + 5000L, now), is(equalTo(5L)));
+		assertThat(AnnotationBasedExpiration.ExpiresAtMetaData.toTimeoutInSeconds(now - 5000L, now), is(equalTo(1L)));
+		assertThat(AnnotationBasedExpiration.ExpiresAtMetaData.toTimeoutInSeconds(null, now), is(equalTo(-1L)));
+		assertThat(AnnotationBasedExpiration.ExpiresAtMetaData.toTimeoutInSeconds("tomorrow", now), is(equalTo(-1L)));
+	}
+
 	@Test
 	public void isExpirationConfiguredWithGenericExpirationBasedRegionEntry() {
 		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
@@ -444,4 +668,12 @@ public class AnnotationBasedExpirationTest {
 	public static class RegionEntryValueWithNoExpiration {
 	}
 
+	@TimeToLiveExpiration(timeout = "300", action = "LOCAL_DESTROY")
+	public static class RegionEntryValueWithExpiresAt {
+
+		@ExpiresAt(action = "DESTROY")
+		private Date expiresAt;
+
+	}
+
 }
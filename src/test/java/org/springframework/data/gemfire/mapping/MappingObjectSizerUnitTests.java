@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.mapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.geode.cache.util.ReflectionObjectSizer;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MappingObjectSizer}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.MappingObjectSizer
+ * @since 2.2.0
+ */
+public class MappingObjectSizerUnitTests {
+
+	private final MappingObjectSizer objectSizer = new MappingObjectSizer();
+
+	@Test
+	public void sizesStringsFromTheirLength() {
+
+		assertThat(this.objectSizer.sizeof("")).isEqualTo(40);
+		assertThat(this.objectSizer.sizeof("abcd")).isEqualTo(48);
+		assertThat(this.objectSizer.sizeof(null)).isZero();
+	}
+
+	@Test
+	public void sizesArraysFromTheirLength() {
+
+		assertThat(this.objectSizer.sizeof(new byte[10])).isEqualTo(32);
+		assertThat(this.objectSizer.sizeof(new long[2])).isEqualTo(32);
+		assertThat(this.objectSizer.sizeof(new String[] { new String(), new String() })).isEqualTo(24 + 80);
+	}
+
+	@Test
+	public void sizesSharedReferencesOnce() {
+
+		String shared = "shared";
+
+		assertThat(this.objectSizer.sizeof(new String[] { shared, shared }))
+			.isEqualTo(24 + this.objectSizer.sizeof(shared));
+	}
+
+	@Test
+	public void sizesCyclicReferencesOnce() {
+
+		Node one = new Node();
+		Node two = new Node();
+
+		one.next = two;
+		two.next = one;
+
+		assertThat(this.objectSizer.sizeof(one)).isEqualTo(32);
+	}
+
+	@Test
+	public void sizesVariableLengthSimpleTypesByValue() {
+
+		assertThat(this.objectSizer.sizeof(new BigDecimal("123456789012345678901234567890.123456789")))
+			.isGreaterThan(this.objectSizer.sizeof(BigDecimal.ONE));
+
+		assertThat(this.objectSizer.sizeof(BigInteger.TEN.pow(100)))
+			.isGreaterThan(this.objectSizer.sizeof(BigInteger.TEN));
+	}
+
+	@Test
+	public void computesTypeLayoutOnce() {
+
+		MappingObjectSizer.TypeLayout typeLayout = this.objectSizer.getTypeLayout(Person.class);
+
+		assertThat(typeLayout.isEntity()).isTrue();
+		assertThat(typeLayout.getFixedSize()).isEqualTo(32L);
+		assertThat(typeLayout.getVariableProperties()).extracting(GemfirePersistentProperty::getName)
+			.containsExactlyInAnyOrder("name", "nicknames", "address");
+		assertThat(this.objectSizer.getTypeLayout(Person.class)).isSameAs(typeLayout);
+	}
+
+	@Test
+	public void addsVariableLengthPartsOfEntities() {
+
+		Person jonDoe = new Person("Jon Doe", 42);
+		Person janeDoe = new Person("Jane Doe", 42);
+
+		int jonDoeSize = this.objectSizer.sizeof(jonDoe);
+
+		assertThat(jonDoeSize).isEqualTo(32 + this.objectSizer.sizeof("Jon Doe"));
+		assertThat(this.objectSizer.sizeof(janeDoe)).isGreaterThan(jonDoeSize);
+
+		jonDoe.nicknames = new ArrayList<>(Arrays.asList("Johnny", "J"));
+		jonDoe.address = new Address("100 Main St.", "Portland");
+
+		assertThat(this.objectSizer.sizeof(jonDoe))
+			.isGreaterThan(jonDoeSize + this.objectSizer.sizeof("Johnny") + this.objectSizer.sizeof("Portland"));
+	}
+
+	@Test
+	public void sizesMapsFromTheirEntries() {
+
+		Map<String, String> map = new HashMap<>();
+
+		int emptyMapSize = this.objectSizer.sizeof(map);
+
+		map.put("key", "value");
+
+		assertThat(this.objectSizer.sizeof(map)).isGreaterThan(emptyMapSize
+			+ this.objectSizer.sizeof("key") + this.objectSizer.sizeof("value"));
+	}
+
+	@Test
+	public void calibratesAgainstReflectionObjectSizer() {
+
+		Person jonDoe = new Person("Jon Doe", 42);
+
+		jonDoe.nicknames = Collections.singletonList("Johnny");
+		jonDoe.address = new Address("100 Main St.", "Portland");
+
+		Map<Class<?>, Double> calibrationFactors = this.objectSizer.calibrate(Collections.singletonList(jonDoe));
+
+		assertThat(calibrationFactors).containsOnlyKeys(Person.class);
+		assertThat((double) this.objectSizer.sizeof(jonDoe))
+			.isCloseTo(ReflectionObjectSizer.getInstance().sizeof(jonDoe), offset(1.0d));
+	}
+
+	@Test
+	public void identityWeakReferenceMapDoesNotHashKeysByValue() {
+
+		Map<Object, Long> map = new MappingObjectSizer.IdentityWeakReferenceMap<>();
+
+		Object key = new Object() {
+
+			@Override
+			public int hashCode() {
+				throw new UnsupportedOperationException("hashCode");
+			}
+		};
+
+		map.put(key, 64L);
+
+		assertThat(map.get(key)).isEqualTo(64L);
+		assertThat(map.get(new Object())).isNull();
+	}
+
+	@SuppressWarnings("unused")
+	static class Node {
+
+		private Node next;
+
+	}
+
+	@SuppressWarnings("unused")
+	static class Person {
+
+		private int age;
+
+		private String name;
+
+		private List<String> nicknames;
+
+		private Address address;
+
+		Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class Address {
+
+		private final String city;
+		private final String street;
+
+		Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
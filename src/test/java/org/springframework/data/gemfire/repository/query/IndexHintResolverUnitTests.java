@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.mapping.EntityIndexes;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.annotation.CompoundIndex;
+import org.springframework.data.gemfire.mapping.annotation.Indexed;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Unit tests for {@link IndexHintResolver}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.mapping.EntityIndexes
+ * @see org.springframework.data.gemfire.repository.query.IndexHintResolver
+ * @since 2.2.0
+ */
+public class IndexHintResolverUnitTests {
+
+	private IndexHintResolver indexHintResolver;
+
+	@Before
+	public void setup() {
+
+		GemfirePersistentEntity<?> entity = new GemfireMappingContext().getPersistentEntity(Order.class);
+
+		this.indexHintResolver = new IndexHintResolver(entity, indexName -> true);
+	}
+
+	private String[] resolveHints(String queryMethodName) {
+		return this.indexHintResolver.resolveHints(new PartTree(queryMethodName, Order.class));
+	}
+
+	@Test
+	public void generatesIndexNamesForPropertyPaths() {
+
+		assertThat(EntityIndexes.generateIndexName("Orders", "status", IndexType.HASH))
+			.isEqualTo("OrdersStatusHashIdx");
+		assertThat(EntityIndexes.generateIndexName("Orders", "address.city", IndexType.FUNCTIONAL))
+			.isEqualTo("OrdersAddressCityFunctionalIdx");
+	}
+
+	@Test
+	public void resolvesCompoundIndexWhenAllPropertiesAreQueried() {
+
+		assertThat(resolveHints("findByCustomerIdAndOrderDateGreaterThan"))
+			.containsExactly("OrdersCustomerIdFunctionalIdx", "OrdersOrderDateFunctionalIdx");
+	}
+
+	@Test
+	public void doesNotResolveCompoundIndexWhenOnlySomePropertiesAreQueried() {
+		assertThat(resolveHints("findByCustomerId")).isEmpty();
+	}
+
+	@Test
+	public void resolvesSinglePropertyIndexesSupportingThePredicate() {
+
+		assertThat(resolveHints("findByStatusAndAmountGreaterThan"))
+			.containsExactlyInAnyOrder("OrdersStatusHashIdx", "OrdersAmountFunctionalIdx");
+		assertThat(resolveHints("findByIdIn")).containsExactly("OrdersIdKeyIdx");
+	}
+
+	@Test
+	public void doesNotResolveHashIndexForRangePredicate() {
+
+		assertThat(resolveHints("findByStatusGreaterThan")).isEmpty();
+		assertThat(resolveHints("findByStatusLike")).isEmpty();
+	}
+
+	@Test
+	public void resolvesOnlyExistingIndexes() {
+
+		GemfirePersistentEntity<?> entity = new GemfireMappingContext().getPersistentEntity(Order.class);
+
+		assertThat(new IndexHintResolver(entity, "OrdersStatusHashIdx"::equals)
+			.resolveHints(new PartTree("findByStatusAndAmountGreaterThan", Order.class)))
+			.containsExactly("OrdersStatusHashIdx");
+	}
+
+	@Test
+	public void resolvesNoHintsWithoutDeclaredIndexBeans() {
+
+		GemfirePersistentEntity<?> entity = new GemfireMappingContext().getPersistentEntity(Order.class);
+
+		assertThat(new IndexHintResolver(entity, null)
+			.resolveHints(new PartTree("findByStatusAndAmountGreaterThan", Order.class)))
+			.isEmpty();
+	}
+
+	@Region("Orders")
+	@CompoundIndex(properties = { "customerId", "orderDate" })
+	@SuppressWarnings("unused")
+	static class Order {
+
+		@Id
+		Long id;
+
+		@Indexed(type = IndexType.FUNCTIONAL)
+		Double amount;
+
+		Long customerId;
+
+		Date orderDate;
+
+		@Indexed
+		String status;
+
+	}
+}
@@ -309,6 +309,15 @@ public class QueryStringUnitTests {
 			.isEqualTo("SELECT * FROM /Collection WHERE elements IN SET ('1', '2', '3')");
 	}
 
+	@Test
+	public void bindsInAsParametersCorrectly() {
+
+		QueryString query = QueryString.of("SELECT * FROM /Example WHERE id IN SET $1 OR name IN LIST $12");
+
+		assertThat(query.bindInAsParameters().toString())
+			.isEqualTo("SELECT * FROM /Example WHERE id IN $1 OR name IN $12");
+	}
+
 	@Test
 	public void detectsInParameterIndexesCorrectly() {
 
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newUnsupportedOperationException;
 
 import java.io.Serializable;
@@ -40,6 +41,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.aop.framework.Advised;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.config.annotation.support.LazyRegion;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
 import org.springframework.data.gemfire.repository.GemfireRepository;
@@ -402,6 +404,39 @@ public class GemfireRepositoryFactoryUnitTests {
 		}
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void newTemplateWithIncompatibleLazyRegionKeyTypeThrowsIllegalArgumentExceptionWithoutCreatingRegion() {
+
+		RepositoryMetadata mockRepositoryMetadata =
+			mockRepositoryMetadata(Person.class, Long.class, PeopleRepository.class);
+
+		Region<Integer, Person> mockLazyPeopleRegion =
+			mock(Region.class, withSettings().extraInterfaces(LazyRegion.class));
+
+		when(mockLazyPeopleRegion.getFullPath()).thenReturn("/People");
+		when(mockLazyPeopleRegion.getName()).thenReturn("People");
+		when(((LazyRegion) mockLazyPeopleRegion).getKeyConstraint()).thenReturn((Class) Integer.class);
+
+		GemfireRepositoryFactory gemfireRepositoryFactory =
+			new GemfireRepositoryFactory(Collections.singleton(mockLazyPeopleRegion), this.mappingContext);
+
+		try {
+			gemfireRepositoryFactory.newTemplate(mockRepositoryMetadata);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage(GemfireRepositoryFactory.REGION_REPOSITORY_ID_TYPE_MISMATCH,
+				"/People", Integer.class.getName(), PeopleRepository.class.getName(), Long.class.getName());
+
+			throw expected;
+		}
+		finally {
+			verify(((LazyRegion) mockLazyPeopleRegion), times(1)).getKeyConstraint();
+			verify(mockLazyPeopleRegion, never()).getAttributes();
+		}
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void newTemplateWithIncompatibleRepositoryIdTypeAndEntityIdTypeThrowsIllegalArgumentException() {
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit tests for {@link PdxInstanceProjectionFactory}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.data.gemfire.repository.support.PdxInstanceProjectionFactory
+ * @since 2.2.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PdxInstanceProjectionFactoryUnitTests {
+
+	private PdxInstanceProjectionFactory projectionFactory;
+
+	@Mock
+	private PdxInstance mockPdxInstance;
+
+	@Before
+	public void setup() {
+		this.projectionFactory = new PdxInstanceProjectionFactory();
+	}
+
+	@Test
+	public void createProjectionFromPdxInstanceReadsOnlyAccessedFields() {
+
+		when(this.mockPdxInstance.getClassName()).thenReturn("example.app.model.Person");
+		when(this.mockPdxInstance.hasField(eq("lastName"))).thenReturn(true);
+		when(this.mockPdxInstance.getField(eq("lastName"))).thenReturn("Doe");
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+
+		assertThat(person).isNotNull();
+		assertThat(person.getLastName()).isEqualTo("Doe");
+
+		verify(this.mockPdxInstance, times(1)).getField(eq("lastName"));
+		verify(this.mockPdxInstance, never()).getField(eq("firstName"));
+		verify(this.mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void createProjectionFromObjectUsesProxyProjection() {
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, new Person("Jon", "Doe"));
+
+		assertThat(person).isNotNull();
+		assertThat(person.getFirstName()).isEqualTo("Jon");
+		assertThat(person.getLastName()).isEqualTo("Doe");
+	}
+
+	@Test
+	public void createProjectionUsingDefaultMethodFromPdxInstanceDoesNotDeserialize() {
+
+		when(this.mockPdxInstance.hasField(anyString())).thenReturn(true);
+		when(this.mockPdxInstance.getField(anyString())).thenAnswer(invocation ->
+			"firstName".equals(invocation.getArgument(0)) ? "Jon" : "Doe");
+
+		NamedPersonView person =
+			this.projectionFactory.createProjection(NamedPersonView.class, this.mockPdxInstance);
+
+		assertThat(person).isNotNull();
+		assertThat(person.getName()).isEqualTo("Jon Doe");
+
+		verify(this.mockPdxInstance, never()).getObject();
+	}
+
+	interface PersonView {
+
+		String getFirstName();
+
+		String getLastName();
+
+	}
+
+	interface NamedPersonView extends PersonView {
+
+		default String getName() {
+			return String.format("%1$s %2$s", getFirstName(), getLastName());
+		}
+	}
+
+	static class Person {
+
+		private final String firstName;
+		private final String lastName;
+
+		Person(String firstName, String lastName) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+		}
+
+		public String getFirstName() {
+			return this.firstName;
+		}
+
+		public String getLastName() {
+			return this.lastName;
+		}
+	}
+}
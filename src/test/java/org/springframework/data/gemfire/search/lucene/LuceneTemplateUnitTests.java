@@ -19,20 +19,29 @@ package org.springframework.data.gemfire.search.lucene;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.search.lucene.LuceneAccessor.LuceneQueryExecutor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.lucene.LuceneQuery;
 import org.apache.geode.cache.lucene.LuceneQueryException;
 import org.apache.geode.cache.lucene.LuceneQueryFactory;
@@ -40,6 +49,10 @@ import org.apache.geode.cache.lucene.LuceneQueryProvider;
 import org.apache.geode.cache.lucene.LuceneResultStruct;
 import org.apache.geode.cache.lucene.LuceneService;
 import org.apache.geode.cache.lucene.PageableLuceneQueryResults;
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -87,6 +100,9 @@ public class LuceneTemplateUnitTests {
 	@Mock
 	private LuceneService mockLuceneService;
 
+	@Mock
+	private Region<Object, Object> mockRegion;
+
 	@Mock
 	private PageableLuceneQueryResults<Object, Object> mockPageableLuceneQueryResults;
 
@@ -328,4 +344,154 @@ public class LuceneTemplateUnitTests {
 			eq("/Example"), eq(mockLuceneQueryProvider));
 		verify(mockLuceneQuery, times(1)).findValues();
 	}
+
+	@Test
+	@SuppressWarnings({ "deprecation", "unchecked" })
+	public void stringQueryForValuesWithBulkFetchFetchesValuesInBatches() throws LuceneQueryException {
+		when(mockLuceneQueryFactory.create(eq("TestIndex"), eq("/Example"), anyString(), anyString()))
+			.thenReturn(mockLuceneQuery);
+		when(mockLuceneQuery.findKeys()).thenReturn(asList("keyOne", "keyTwo", "keyThree"));
+
+		Map<Object, Object> batchOne = new HashMap<>();
+
+		batchOne.put("keyOne", "valueOne");
+		batchOne.put("keyTwo", "valueTwo");
+
+		when(mockRegion.getAll(eq(asList("keyOne", "keyTwo")))).thenReturn(batchOne);
+		when(mockRegion.getAll(eq(Collections.singletonList("keyThree"))))
+			.thenReturn(Collections.singletonMap("keyThree", null));
+
+		doReturn("TestIndex").when(luceneTemplate).resolveIndexName();
+		doReturn("/Example").when(luceneTemplate).resolveRegionPath();
+		doReturn(mockRegion).when(luceneTemplate).resolveRegion();
+
+		luceneTemplate.setBulkFetchEnabled(true);
+		luceneTemplate.setBulkFetchBatchSize(2);
+
+		Collection<String> values = luceneTemplate.queryForValues(
+			"title : Up Shit Creek Without a Paddle", "title", 100);
+
+		assertThat(values).containsExactly("valueOne", "valueTwo");
+
+		verify(mockLuceneQuery, times(1)).findKeys();
+		verify(mockLuceneQuery, never()).findValues();
+		verify(mockRegion, times(1)).getAll(eq(asList("keyOne", "keyTwo")));
+		verify(mockRegion, times(1)).getAll(eq(Collections.singletonList("keyThree")));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doBulkFetchBoundsBatchesByEstimatedSizeOfFetchedValues() {
+
+		List<String> keys = new ArrayList<>();
+
+		for (int index = 0; index < 14; index++) {
+			keys.add("key" + index);
+		}
+
+		List<Integer> batchSizes = new ArrayList<>();
+
+		when(mockRegion.getAll(any(Collection.class))).thenAnswer(invocation -> {
+
+			Collection<String> batch = invocation.getArgument(0);
+
+			batchSizes.add(batch.size());
+
+			Map<String, String> values = new HashMap<>();
+
+			batch.forEach(key -> values.put(key, key.replace("key", "value")));
+
+			return values;
+		});
+
+		doReturn(mockRegion).when(luceneTemplate).resolveRegion();
+
+		luceneTemplate.setBulkFetchBatchSize(10);
+		luceneTemplate.setBulkFetchMaxBytes(200L);
+		luceneTemplate.setBulkFetchObjectSizer(value -> 100);
+
+		Collection<String> values = luceneTemplate.doBulkFetch(keys);
+
+		assertThat(values).hasSize(14);
+		assertThat(values).startsWith("value0").endsWith("value13");
+		assertThat(batchSizes).containsExactly(10, 2, 2);
+	}
+
+	@Test
+	@SuppressWarnings({ "deprecation", "unchecked" })
+	public void queryProviderQueryForFieldValuesSelectsFieldsForKeys() throws Exception {
+		when(mockLuceneQueryFactory.create(eq("TestIndex"), eq("/Example"),
+			any(LuceneQueryProvider.class))).thenReturn(mockLuceneQuery);
+		when(mockLuceneQuery.findKeys()).thenReturn(asList("keyOne", "keyTwo"));
+
+		RegionService mockRegionService = mock(RegionService.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQuery = mock(Query.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+		Struct mockStructOne = mock(Struct.class);
+		Struct mockStructTwo = mock(Struct.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.getRegionService()).thenReturn(mockRegionService);
+		when(mockRegionService.getQueryService()).thenReturn(mockQueryService);
+		when(mockQueryService.newQuery(eq("SELECT e.key, e.value.name FROM /Example.entrySet e WHERE e.key IN $1")))
+			.thenReturn(mockQuery);
+		when(mockQuery.execute(any(Object[].class))).thenReturn(mockSelectResults);
+		when(mockSelectResults.iterator()).thenReturn(asList((Object) mockStructTwo, mockStructOne).iterator());
+		when(mockStructOne.getFieldValues()).thenReturn(new Object[] { "keyOne", "Jon Doe" });
+		when(mockStructTwo.getFieldValues()).thenReturn(new Object[] { "keyTwo", "Jane Doe" });
+
+		doReturn("TestIndex").when(luceneTemplate).resolveIndexName();
+		doReturn("/Example").when(luceneTemplate).resolveRegionPath();
+		doReturn(mockRegion).when(luceneTemplate).resolveRegion();
+
+		List<Map<String, Object>> fieldValues =
+			luceneTemplate.queryForFieldValues(mockLuceneQueryProvider, 100, "name");
+
+		assertThat(fieldValues).containsExactly(Collections.singletonMap("name", "Jon Doe"),
+			Collections.singletonMap("name", "Jane Doe"));
+
+		verify(mockQuery, times(1)).execute(any(Object[].class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void queryForFieldValuesWithNestedFieldNameIsAccepted() throws Exception {
+
+		RegionService mockRegionService = mock(RegionService.class);
+		QueryService mockQueryService = mock(QueryService.class);
+		Query mockQuery = mock(Query.class);
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.getRegionService()).thenReturn(mockRegionService);
+		when(mockRegionService.getQueryService()).thenReturn(mockQueryService);
+		when(mockQueryService.newQuery(anyString())).thenReturn(mockQuery);
+		when(mockQuery.execute(any(Object[].class))).thenReturn(mockSelectResults);
+		when(mockSelectResults.iterator()).thenReturn(Collections.emptyIterator());
+
+		doReturn(mockRegion).when(luceneTemplate).resolveRegion();
+
+		luceneTemplate.doBulkFetchFields(Collections.singletonList("keyOne"), "address.city", "_name$1");
+
+		verify(mockQueryService, times(1)).newQuery(
+			eq("SELECT e.key, e.value.address.city, e.value._name$1 FROM /Example.entrySet e WHERE e.key IN $1"));
+	}
+
+	@Test
+	public void queryForFieldValuesWithInvalidFieldNamesThrowsIllegalArgumentException() {
+
+		asList("name FROM /Secret s, /Example", "name)", "1name", "address..city", "", " name", null)
+			.forEach(fieldName -> {
+				try {
+					luceneTemplate.queryForFieldValues(mockLuceneQueryProvider, 100, "id", fieldName);
+					fail("Expected IllegalArgumentException for field name [%s]", fieldName);
+				}
+				catch (IllegalArgumentException expected) {
+					assertThat(expected).hasMessage("Field name [%s] is not a valid identifier", fieldName);
+				}
+			});
+
+		verify(mockLuceneQueryFactory, never()).create(anyString(), anyString(), any(LuceneQueryProvider.class));
+	}
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.search.lucene;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.lucene.LuceneQueryProvider;
+import org.apache.geode.cache.lucene.LuceneResultStruct;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.projection.ProjectionFactory;
+
+/**
+ * Unit tests for {@link MultiIndexLuceneTemplate}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.data.gemfire.search.lucene.MultiIndexLuceneTemplate
+ * @since 2.2.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MultiIndexLuceneTemplateUnitTests {
+
+	@Mock
+	private LuceneOperations mockCustomers;
+
+	@Mock
+	private LuceneOperations mockAccounts;
+
+	@Mock
+	private LuceneOperations mockOrders;
+
+	@Mock
+	private LuceneQueryProvider mockQueryProvider;
+
+	private MultiIndexLuceneTemplate template;
+
+	@Before
+	public void setup() {
+		this.template = new MultiIndexLuceneTemplate(this.mockCustomers, this.mockAccounts, this.mockOrders);
+		this.template.setExecutor(Runnable::run);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> LuceneResultStruct<K, V> mockResult(K key, V value, float score) {
+
+		LuceneResultStruct<K, V> mockResult = mock(LuceneResultStruct.class, String.valueOf(key));
+
+		when(mockResult.getScore()).thenReturn(score);
+
+		if (key != null) {
+			when(mockResult.getKey()).thenReturn(key);
+		}
+
+		if (value != null) {
+			when(mockResult.getValue()).thenReturn(value);
+		}
+
+		return mockResult;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNoTargetsThrowsIllegalArgumentException() {
+
+		try {
+			new MultiIndexLuceneTemplate(Collections.emptyList());
+		}
+		catch (IllegalArgumentException expected) {
+			assertThat(expected).hasMessage("At least one LuceneOperations target is required");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void mergeReturnsTopResultsInDescendingScoreOrder() {
+
+		LuceneResultStruct<String, Object> one = mockResult(null, null, 0.9f);
+		LuceneResultStruct<String, Object> two = mockResult(null, null, 0.1f);
+		LuceneResultStruct<String, Object> three = mockResult(null, null, 0.5f);
+		LuceneResultStruct<String, Object> four = mockResult(null, null, 0.7f);
+		LuceneResultStruct<String, Object> five = mockResult(null, null, 0.3f);
+
+		List<LuceneResultStruct<String, Object>> merged = MultiIndexLuceneTemplate.merge(
+			Arrays.asList(Arrays.asList(one, two), Arrays.asList(three), Arrays.asList(four, five)), 3);
+
+		assertThat(merged).containsExactly(one, four, three);
+	}
+
+	@Test
+	public void mergeWithZeroLimitReturnsEmptyList() {
+		assertThat(MultiIndexLuceneTemplate.merge(
+			Collections.<List<LuceneResultStruct<Object, Object>>>emptyList(), 0)).isEmpty();
+	}
+
+	@Test
+	public void queryFansOutToAllTargetsAndMergesResults() {
+
+		LuceneResultStruct<Object, Object> customer = mockResult(null, null, 0.8f);
+		LuceneResultStruct<Object, Object> account = mockResult(null, null, 0.9f);
+		LuceneResultStruct<Object, Object> order = mockResult(null, null, 0.2f);
+
+		when(this.mockCustomers.query(eq("name:Doe"), eq("name"), eq(2)))
+			.thenReturn(Collections.singletonList(customer));
+		when(this.mockAccounts.query(eq("name:Doe"), eq("name"), eq(2)))
+			.thenReturn(Collections.singletonList(account));
+		when(this.mockOrders.query(eq("name:Doe"), eq("name"), eq(2)))
+			.thenReturn(Collections.singletonList(order));
+
+		assertThat(this.template.<Object, Object>query("name:Doe", "name", 2)).containsExactly(account, customer);
+
+		verify(this.mockCustomers, times(1)).query(eq("name:Doe"), eq("name"), eq(2));
+		verify(this.mockAccounts, times(1)).query(eq("name:Doe"), eq("name"), eq(2));
+		verify(this.mockOrders, times(1)).query(eq("name:Doe"), eq("name"), eq(2));
+	}
+
+	@Test
+	public void interleaveReturnsKeysByRankUpToLimit() {
+
+		List<String> interleaved = MultiIndexLuceneTemplate.interleave(Arrays.asList(
+			Arrays.asList("C1", "C2", "C3"), Collections.<String>emptyList(), Arrays.asList("O1")), 4);
+
+		assertThat(interleaved).containsExactly("C1", "O1", "C2", "C3");
+	}
+
+	@Test
+	public void interleaveWithZeroLimitReturnsEmptyList() {
+		assertThat(MultiIndexLuceneTemplate.interleave(Collections.singletonList(Arrays.asList("C1")), 0)).isEmpty();
+	}
+
+	@Test
+	public void queryForKeysFindsOnlyKeysAndInterleavesByRank() {
+
+		when(this.mockCustomers.<Object>queryForKeys(eq(this.mockQueryProvider), eq(10)))
+			.thenReturn(Arrays.<Object>asList("C1", "C2"));
+		when(this.mockAccounts.<Object>queryForKeys(eq(this.mockQueryProvider), eq(10)))
+			.thenReturn(Collections.<Object>singletonList("A1"));
+		when(this.mockOrders.<Object>queryForKeys(eq(this.mockQueryProvider), eq(10)))
+			.thenReturn(Collections.emptyList());
+
+		assertThat(this.template.<Object>queryForKeys(this.mockQueryProvider, 10)).containsExactly("C1", "A1", "C2");
+
+		verify(this.mockCustomers, never()).query(any(LuceneQueryProvider.class), anyInt());
+		verify(this.mockAccounts, never()).query(any(LuceneQueryProvider.class), anyInt());
+		verify(this.mockOrders, never()).query(any(LuceneQueryProvider.class), anyInt());
+	}
+
+	@Test
+	public void queryForKeysByScoreReturnsKeysInDescendingScoreOrder() {
+
+		LuceneResultStruct<Object, Object> customer = mockResult("C1", null, 0.4f);
+		LuceneResultStruct<Object, Object> account = mockResult("A1", null, 0.6f);
+
+		when(this.mockCustomers.query(eq(this.mockQueryProvider), eq(10)))
+			.thenReturn(Collections.singletonList(customer));
+		when(this.mockAccounts.query(eq(this.mockQueryProvider), eq(10)))
+			.thenReturn(Collections.singletonList(account));
+		when(this.mockOrders.query(eq(this.mockQueryProvider), eq(10)))
+			.thenReturn(Collections.emptyList());
+
+		assertThat(this.template.<Object>queryForKeysByScore(this.mockQueryProvider, 10)).containsExactly("A1", "C1");
+	}
+
+	@Test
+	public void queryWithProjectionTypeProjectsMergedValues() {
+
+		ProjectionFactory mockProjectionFactory = mock(ProjectionFactory.class);
+
+		Object value = new Object();
+
+		LuceneResultStruct<Object, Object> customer = mockResult(null, value, 0.4f);
+		LuceneResultStruct<Object, Object> account = mockResult(null, null, 0.1f);
+
+		when(this.mockCustomers.query(eq("*"), eq("name"), eq(1))).thenReturn(Collections.singletonList(customer));
+		when(this.mockAccounts.query(eq("*"), eq("name"), eq(1))).thenReturn(Collections.singletonList(account));
+		when(this.mockOrders.query(eq("*"), eq("name"), eq(1))).thenReturn(Collections.emptyList());
+		when(mockProjectionFactory.createProjection(eq(Runnable.class), eq(value))).thenReturn(() -> {});
+
+		this.template.setProjectionFactory(mockProjectionFactory);
+
+		assertThat(this.template.query("*", "name", 1, Runnable.class)).hasSize(1);
+
+		verify(mockProjectionFactory, times(1)).createProjection(eq(Runnable.class), eq(value));
+	}
+
+	@Test(expected = DataRetrievalFailureException.class)
+	public void queryRethrowsTargetFailure() {
+
+		when(this.mockCustomers.query(eq("*"), eq("name"), eq(1))).thenReturn(Collections.emptyList());
+		when(this.mockAccounts.query(eq("*"), eq("name"), eq(1)))
+			.thenThrow(new DataRetrievalFailureException("TEST"));
+		when(this.mockOrders.query(eq("*"), eq("name"), eq(1))).thenReturn(Collections.emptyList());
+
+		try {
+			this.template.query("*", "name", 1);
+		}
+		catch (DataRetrievalFailureException expected) {
+			assertThat(expected).hasMessage("TEST");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+}
@@ -19,21 +19,25 @@ package org.springframework.data.gemfire.search.lucene;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.lucene.LuceneIndex;
 import org.apache.geode.cache.lucene.LuceneService;
+import org.apache.geode.pdx.PdxInstance;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory;
 import org.springframework.data.gemfire.search.lucene.support.ProjectingLuceneAccessorSupport;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
@@ -72,6 +76,9 @@ public class ProjectingLuceneAccessorUnitTests {
 	// SUT
 	private ProjectingLuceneAccessor projectingLuceneAccessor;
 
+	@Mock
+	private PdxInstance mockPdxInstance;
+
 	@Mock
 	private ProjectionFactory mockProjectionFactory;
 
@@ -160,4 +167,48 @@ public class ProjectingLuceneAccessorUnitTests {
 		assertThat(projectionFactory).isInstanceOf(SpelAwareProxyProjectionFactory.class);
 		assertThat(projectingLuceneAccessor.getProjectionFactory()).isSameAs(projectionFactory);
 	}
+
+	@Test
+	public void resolveCompiledProjectionFactoryCreatesNewCompiledProjectionFactory() {
+		assertThat(projectingLuceneAccessor.getCompiledProjectionFactory()).isNull();
+		assertThat(projectingLuceneAccessor.resolveCompiledProjectionFactory()).isNotNull();
+	}
+
+	@Test
+	public void projectUsesProjectionFactoryWhenCompiledProjectionsAreDisabled() {
+		Object projection = new Object();
+
+		projectingLuceneAccessor.setProjectionFactory(mockProjectionFactory);
+		projectingLuceneAccessor.setCompiledProjectionFactory(new CompiledPdxInstanceProjectionFactory());
+
+		when(mockProjectionFactory.createProjection(Person.class, mockPdxInstance)).thenReturn(projection);
+
+		assertThat(projectingLuceneAccessor.isCompiledProjectionsEnabled()).isFalse();
+		assertThat(projectingLuceneAccessor.project(mockPdxInstance, Person.class)).isSameAs(projection);
+
+		verify(mockProjectionFactory, times(1)).createProjection(Person.class, mockPdxInstance);
+	}
+
+	@Test
+	public void projectUsesCompiledProjectionFactoryWhenCompiledProjectionsAreEnabled() {
+
+		projectingLuceneAccessor.setProjectionFactory(mockProjectionFactory);
+		projectingLuceneAccessor.setCompiledProjectionFactory(new CompiledPdxInstanceProjectionFactory());
+		projectingLuceneAccessor.setCompiledProjectionsEnabled(true);
+
+		when(mockPdxInstance.getClassName()).thenReturn("example.Person");
+		when(mockPdxInstance.hasField("name")).thenReturn(true);
+		when(mockPdxInstance.getField("name")).thenReturn("Jon Doe");
+
+		Person person = projectingLuceneAccessor.project(mockPdxInstance, Person.class);
+
+		assertThat(person).isNotNull();
+		assertThat(person.getName()).isEqualTo("Jon Doe");
+
+		verify(mockProjectionFactory, never()).createProjection(Person.class, mockPdxInstance);
+	}
+
+	public interface Person {
+		String getName();
+	}
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.springframework.data.gemfire.search.lucene.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.WritablePdxInstance;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * Unit tests for {@link CompiledPdxInstanceProjectionFactory}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.mockito.junit.MockitoJUnitRunner
+ * @see org.springframework.data.gemfire.search.lucene.support.CompiledPdxInstanceProjectionFactory
+ * @since 2.2.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CompiledPdxInstanceProjectionFactoryUnitTests {
+
+	private CompiledPdxInstanceProjectionFactory projectionFactory;
+
+	@Mock
+	private PdxInstance mockPdxInstance;
+
+	@Mock
+	private WritablePdxInstance mockWritablePdxInstance;
+
+	@Before
+	public void setup() {
+		this.projectionFactory = new CompiledPdxInstanceProjectionFactory();
+	}
+
+	private void stubPdxType(PdxInstance pdxInstance, String... fieldNames) {
+
+		when(pdxInstance.getClassName()).thenReturn("example.app.model.Person");
+
+		for (String fieldName : fieldNames) {
+			when(pdxInstance.hasField(eq(fieldName))).thenReturn(true);
+		}
+	}
+
+	@Test
+	public void supportsPdxInstanceWithAccessorOnlyInterface() {
+		assertThat(this.projectionFactory.supports(this.mockPdxInstance, PersonView.class)).isTrue();
+	}
+
+	@Test
+	public void doesNotSupportNonPdxInstanceSource() {
+		assertThat(this.projectionFactory.supports(new Object(), PersonView.class)).isFalse();
+		assertThat(this.projectionFactory.supports(null, PersonView.class)).isFalse();
+	}
+
+	@Test
+	public void doesNotSupportInterfacesUsingSpelOrDefaultMethods() {
+		assertThat(this.projectionFactory.supports(this.mockPdxInstance, SpelPersonView.class)).isFalse();
+		assertThat(this.projectionFactory.supports(this.mockPdxInstance, DefaultMethodPersonView.class)).isFalse();
+	}
+
+	@Test
+	public void doesNotSupportClassesOrNull() {
+		assertThat(this.projectionFactory.supports(this.mockPdxInstance, Object.class)).isFalse();
+		assertThat(this.projectionFactory.supports(this.mockPdxInstance, null)).isFalse();
+	}
+
+	@Test
+	public void createProjectionReadsPdxFields() {
+
+		stubPdxType(this.mockPdxInstance, "firstName", "lastName");
+
+		when(this.mockPdxInstance.getField(eq("firstName"))).thenReturn("Jon");
+		when(this.mockPdxInstance.getField(eq("lastName"))).thenReturn("Doe");
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+
+		assertThat(person).isNotNull();
+		assertThat(person.getFirstName()).isEqualTo("Jon");
+		assertThat(person.getLastName()).isEqualTo("Doe");
+
+		verify(this.mockPdxInstance, times(1)).getField(eq("firstName"));
+		verify(this.mockPdxInstance, times(1)).getField(eq("lastName"));
+	}
+
+	@Test
+	public void projectionPlansAreCachedPerProjectionTypeAndPdxType() {
+
+		PdxInstance mockPdxInstanceTwo = mock(PdxInstance.class);
+
+		stubPdxType(this.mockPdxInstance);
+		stubPdxType(mockPdxInstanceTwo);
+
+		this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+		this.projectionFactory.createProjection(PersonView.class, mockPdxInstanceTwo);
+
+		assertThat(this.projectionFactory.getProjectionPlanCount()).isEqualTo(1);
+
+		PdxInstance mockPdxInstanceThree = mock(PdxInstance.class);
+
+		when(mockPdxInstanceThree.getClassName()).thenReturn("example.app.model.Customer");
+
+		this.projectionFactory.createProjection(PersonView.class, mockPdxInstanceThree);
+
+		assertThat(this.projectionFactory.getProjectionPlanCount()).isEqualTo(2);
+	}
+
+	@Test
+	public void invokingGetterVerifiesFieldOfEachPdxTypeVersion() {
+
+		PdxInstance mockPdxInstanceTwo = mock(PdxInstance.class);
+
+		stubPdxType(this.mockPdxInstance, "lastName");
+		stubPdxType(mockPdxInstanceTwo);
+
+		when(this.mockPdxInstance.getField(eq("lastName"))).thenReturn("Doe");
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+		PersonView personWithoutLastName = this.projectionFactory.createProjection(PersonView.class, mockPdxInstanceTwo);
+
+		assertThat(person.getLastName()).isEqualTo("Doe");
+		assertThat(this.projectionFactory.getProjectionPlanCount()).isEqualTo(1);
+
+		assertThatThrownBy(personWithoutLastName::getLastName).isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("does not contain field with name [lastName]");
+
+		verify(mockPdxInstanceTwo, times(1)).hasField(eq("lastName"));
+		verify(mockPdxInstanceTwo, never()).getField(anyString());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void invokingGetterForMissingFieldThrowsIllegalStateException() {
+
+		stubPdxType(this.mockPdxInstance);
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+
+		try {
+			person.getLastName();
+		}
+		catch (IllegalStateException expected) {
+			assertThat(expected).hasMessageContaining("does not contain field with name [lastName]");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void invokingSetterWritesPdxField() {
+
+		stubPdxType(this.mockPdxInstance, "lastName");
+
+		when(this.mockPdxInstance.createWriter()).thenReturn(this.mockWritablePdxInstance);
+		when(this.mockWritablePdxInstance.hasField(eq("lastName"))).thenReturn(true);
+		when(this.mockWritablePdxInstance.getField(eq("lastName"))).thenReturn("Smith");
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+
+		person.setLastName("Smith");
+
+		assertThat(person.getLastName()).isEqualTo("Smith");
+
+		verify(this.mockPdxInstance, times(1)).createWriter();
+		verify(this.mockWritablePdxInstance, times(1)).setField(eq("lastName"), eq("Smith"));
+	}
+
+	@Test
+	public void objectMethodsDelegateToPdxInstance() {
+
+		stubPdxType(this.mockPdxInstance);
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+		PersonView samePerson = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+
+		assertThat(person).isEqualTo(samePerson);
+		assertThat(person.hashCode()).isEqualTo(this.mockPdxInstance.hashCode());
+		assertThat(person.toString()).isEqualTo(this.mockPdxInstance.toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createProjectionWithUnsupportedProjectionTypeThrowsIllegalArgumentException() {
+
+		try {
+			this.projectionFactory.createProjection(SpelPersonView.class, this.mockPdxInstance);
+		}
+		catch (IllegalArgumentException expected) {
+			assertThat(expected).hasMessage("Projection type [%s] is not supported", SpelPersonView.class.getName());
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void createProjectionWithNullSourceThrowsIllegalArgumentException() {
+
+		try {
+			this.projectionFactory.createProjection(PersonView.class, null);
+		}
+		catch (IllegalArgumentException expected) {
+			assertThat(expected).hasMessage("Source must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void projectionPlanKeyEqualityIsBasedOnProjectionTypeAndPdxType() {
+
+		CompiledPdxInstanceProjectionFactory.ProjectionPlanKey keyOne =
+			new CompiledPdxInstanceProjectionFactory.ProjectionPlanKey(PersonView.class, "Person");
+
+		CompiledPdxInstanceProjectionFactory.ProjectionPlanKey keyTwo =
+			new CompiledPdxInstanceProjectionFactory.ProjectionPlanKey(PersonView.class, "Person");
+
+		CompiledPdxInstanceProjectionFactory.ProjectionPlanKey keyThree =
+			new CompiledPdxInstanceProjectionFactory.ProjectionPlanKey(PersonView.class, "Customer");
+
+		assertThat(keyOne).isEqualTo(keyTwo);
+		assertThat(keyOne.hashCode()).isEqualTo(keyTwo.hashCode());
+		assertThat(keyOne).isNotEqualTo(keyThree);
+	}
+
+	@Test
+	public void projectionsImplementPdxInstanceSource() {
+
+		stubPdxType(this.mockPdxInstance);
+
+		PersonView person = this.projectionFactory.createProjection(PersonView.class, this.mockPdxInstance);
+
+		assertThat(person).isInstanceOf(CompiledPdxInstanceProjectionFactory.PdxInstanceSource.class);
+		assertThat(((CompiledPdxInstanceProjectionFactory.PdxInstanceSource) person).pdxInstanceSource())
+			.isSameAs(this.mockPdxInstance);
+	}
+
+	public interface PersonView {
+
+		String getFirstName();
+
+		String getLastName();
+
+		void setLastName(String lastName);
+
+	}
+
+	public interface SpelPersonView {
+
+		@Value("#{target.firstName + ' ' + target.lastName}")
+		String getName();
+
+	}
+
+	public interface DefaultMethodPersonView {
+
+		String getFirstName();
+
+		default String getName() {
+			return getFirstName();
+		}
+	}
+}
@@ -18,10 +18,13 @@
 package org.springframework.data.gemfire.serialization.json;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalArgumentException;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 
 import javax.annotation.Resource;
@@ -31,6 +34,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -68,9 +72,13 @@ public class JSONRegionAdviceIntegrationTests {
 	@Resource(name = "JsonRegion")
 	private Region jsonRegion;
 
+	@Resource(name = "PlainRegion")
+	private Region plainRegion;
+
 	@Before
 	public void setup() {
 		jsonRegion.clear();
+		plainRegion.clear();
 	}
 
 	private static String toJson(Object bean) {
@@ -114,6 +122,62 @@ public class JSONRegionAdviceIntegrationTests {
 		assertEquals("{\"hello2\":\"world2\"}", results.get("key2"));
 	}
 
+	@Test
+	public void values() {
+
+		this.jsonRegion.put("key1", "{\"hello1\":\"world1\"}");
+		this.jsonRegion.put("key2", "{\"hello2\":\"world2\"}");
+
+		Collection<Object> values = this.jsonRegion.values();
+
+		assertEquals(2, values.size());
+		assertTrue(values.stream().allMatch(PdxInstance.class::isInstance));
+	}
+
+	@Test
+	public void wrappedRegionConvertsJson() {
+
+		Region<Object, Object> region = new JSONRegionAdvice().wrap(this.plainRegion);
+
+		Person davidTuranski = new Person(1L, "David", "Turanski");
+
+		region.put("dave", davidTuranski);
+
+		assertTrue(this.plainRegion.get("dave") instanceof PdxInstance);
+		assertEquals(toJson(davidTuranski), region.get("dave"));
+		assertEquals(toJson(davidTuranski), region.put("dave", davidTuranski));
+
+		region.putAll(MapBuilder.newMapBuilder()
+			.put("key1", "{\"hello1\":\"world1\"}")
+			.put("key2", "{\"hello2\":\"world2\"}")
+			.build());
+
+		Map<Object, Object> results = region.getAll(Arrays.asList("key1", "key2"));
+
+		assertEquals("{\"hello1\":\"world1\"}", results.get("key1"));
+		assertEquals("{\"hello2\":\"world2\"}", results.get("key2"));
+		assertTrue(region.values().stream().allMatch(PdxInstance.class::isInstance));
+		assertEquals(this.plainRegion.getFullPath(), region.getFullPath());
+		assertFalse(region.equals(this.plainRegion));
+	}
+
+	@Test
+	public void wrappedRegionNotIncludedPassesThrough() {
+
+		JSONRegionAdvice jsonRegionAdvice = new JSONRegionAdvice();
+
+		jsonRegionAdvice.setIncludedRegionNames(Arrays.asList("JsonRegion"));
+
+		Region<Object, Object> region = jsonRegionAdvice.wrap(this.plainRegion);
+
+		String json = "{\"hello\":\"world\"}";
+
+		region.put("key", json);
+
+		assertEquals(json, this.plainRegion.get("key"));
+		assertEquals(json, region.get("key"));
+	}
+
 	@Test
 	public void objectToJSon() throws IOException {
 
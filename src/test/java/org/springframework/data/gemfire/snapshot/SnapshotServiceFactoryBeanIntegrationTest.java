@@ -20,16 +20,36 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.ArchiveFileFilter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.geode.cache.snapshot.SnapshotOptions;
 
 import org.junit.Test;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
+import org.springframework.util.ClassUtils;
 
 /**
  * The SnapshotServiceFactoryBeanIntegrationTest class is a test suite of test cases testing the file archive handling
@@ -40,6 +60,7 @@ import org.springframework.data.gemfire.test.support.FileSystemUtils;
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
  * @since 1.7.0
  */
+@SuppressWarnings("unchecked")
 public class SnapshotServiceFactoryBeanIntegrationTest {
 
 	SnapshotServiceAdapterSupport snapshotService = new TestSnapshotServiceAdapter();
@@ -93,6 +114,165 @@ public class SnapshotServiceFactoryBeanIntegrationTest {
 		}
 	}
 
+	@Test
+	public void importSnapshotsStreamsZipArchive() throws Exception {
+
+		File cacheSnapshotZip = new ClassPathResource("/cache_snapshot.zip").getFile();
+
+		RecordingSnapshotServiceAdapter snapshotService = new RecordingSnapshotServiceAdapter();
+
+		snapshotService.importSnapshots(SnapshotOptions.SnapshotFormat.GEMFIRE, null, cacheSnapshotZip);
+
+		assertThat(snapshotService.loadedSnapshots.size(), is(equalTo(3)));
+		assertThat(snapshotService.spooledSnapshots.size(), is(equalTo(3)));
+
+		for (String filename : Arrays.asList("accounts.snapshot", "address.snapshot", "people.snapshot")) {
+			assertThat(snapshotService.loadedSnapshots.stream().anyMatch(name -> name.endsWith(filename)), is(true));
+		}
+
+		for (File spooledSnapshot : snapshotService.spooledSnapshots) {
+			assertThat(spooledSnapshot.exists(), is(false));
+		}
+	}
+
+	@Test
+	public void importSnapshotsStreamsGzipArchive() throws Exception {
+
+		File snapshotGzip = File.createTempFile("people", ".snapshot.gz");
+
+		try {
+			try (OutputStream out = new GZIPOutputStream(new FileOutputStream(snapshotGzip))) {
+				out.write("TEST".getBytes(StandardCharsets.UTF_8));
+			}
+
+			RecordingSnapshotServiceAdapter snapshotService = new RecordingSnapshotServiceAdapter();
+
+			snapshotService.importSnapshots(SnapshotOptions.SnapshotFormat.GEMFIRE, null, snapshotGzip);
+
+			assertThat(snapshotService.loadedSnapshots.size(), is(equalTo(1)));
+			assertThat(snapshotService.loadedSnapshots.get(0).endsWith(".snapshot"), is(true));
+			assertThat(snapshotService.loadedContents, is(equalTo(Collections.singletonList("TEST"))));
+			assertThat(snapshotService.spooledSnapshots.get(0).exists(), is(false));
+		}
+		finally {
+			snapshotGzip.delete();
+		}
+	}
+
+	@Test
+	public void importArchiveConcurrentlyLoadsEachSnapshotOnTheExecutor() throws Exception {
+
+		File cacheSnapshotZip = new ClassPathResource("/cache_snapshot.zip").getFile();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			RecordingSnapshotServiceAdapter snapshotService = new RecordingSnapshotServiceAdapter();
+
+			snapshotService.setExecutor(executor);
+			snapshotService.setParallelism(2);
+
+			assertThat(snapshotService.isImportingArchivesConcurrently(), is(true));
+
+			snapshotService.importArchiveConcurrently(
+				new SnapshotServiceFactoryBean.SnapshotMetadata<>(cacheSnapshotZip), cacheSnapshotZip);
+
+			assertThat(snapshotService.loadedSnapshots.size(), is(equalTo(3)));
+			assertThat(snapshotService.loadingThreads.contains(Thread.currentThread()), is(false));
+
+			for (File spooledSnapshot : snapshotService.spooledSnapshots) {
+				assertThat(spooledSnapshot.exists(), is(false));
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void readZstdArchiveWithoutZstdOnClasspathFails() throws Exception {
+
+		assumeThat(ClassUtils.isPresent(ArchiveFileFilter.ZSTD_INPUT_STREAM_CLASS_NAME, null), is(false));
+
+		File snapshotZstd = File.createTempFile("people", ".snapshot.zst");
+
+		try {
+			assertThat(ArchiveFileFilter.INSTANCE.accept(snapshotZstd), is(true));
+
+			new RecordingSnapshotServiceAdapter().readArchive(snapshotZstd, (in, filename) -> true);
+		}
+		finally {
+			snapshotZstd.delete();
+		}
+	}
+
+	@Test
+	public void importSnapshotsLoadsNonArchiveFilesTogether() {
+
+		File snapshotOne = new File("/path/to/non-existing/one.gfd");
+		File snapshotTwo = new File("/path/to/non-existing/two.gfd");
+
+		RecordingSnapshotServiceAdapter snapshotService = new RecordingSnapshotServiceAdapter();
+
+		snapshotService.importSnapshots(SnapshotOptions.SnapshotFormat.GEMFIRE, null, snapshotOne, snapshotTwo);
+
+		assertThat(snapshotService.loadCount, is(equalTo(1)));
+		assertThat(snapshotService.loadedSnapshots, is(equalTo(Arrays.asList("one.gfd", "two.gfd"))));
+	}
+
+	protected static final class RecordingSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
+
+		private int loadCount;
+
+		private final List<File> spooledSnapshots = new ArrayList<>();
+
+		private final List<String> loadedContents = new ArrayList<>();
+		private final List<String> loadedSnapshots = new ArrayList<>();
+
+		private final Set<Thread> loadingThreads = new HashSet<>();
+
+		@Override
+		public SnapshotOptions<Object, Object> createOptions() {
+
+			SnapshotOptions<Object, Object> mockSnapshotOptions = mock(SnapshotOptions.class);
+
+			when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any())).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+			return mockSnapshotOptions;
+		}
+
+		@Override
+		protected File[] handleLocation(SnapshotServiceFactoryBean.SnapshotMetadata<Object, Object> configuration) {
+			throw new UnsupportedOperationException("not implemented");
+		}
+
+		@Override
+		public synchronized void load(SnapshotOptions.SnapshotFormat format, SnapshotOptions<Object, Object> options,
+				File... snapshots) {
+
+			this.loadCount++;
+			this.loadingThreads.add(Thread.currentThread());
+
+			for (File snapshot : snapshots) {
+
+				this.loadedSnapshots.add(snapshot.getName());
+
+				if (snapshot.isFile()) {
+					try {
+						this.spooledSnapshots.add(snapshot);
+						this.loadedContents.add(new String(Files.readAllBytes(snapshot.toPath()),
+							StandardCharsets.UTF_8));
+					}
+					catch (Exception cause) {
+						throw new RuntimeException(cause);
+					}
+				}
+			}
+		}
+	}
+
 	protected static final class TestSnapshotServiceAdapter<K, V> extends SnapshotServiceAdapterSupport<K, V> {
 
 		@Override
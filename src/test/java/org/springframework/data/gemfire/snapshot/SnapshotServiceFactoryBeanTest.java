@@ -17,6 +17,7 @@
 package org.springframework.data.gemfire.snapshot;
 
 import static org.apache.geode.cache.snapshot.SnapshotOptions.SnapshotFormat;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -26,11 +27,13 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
 import static org.junit.Assume.assumeThat;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -47,11 +50,22 @@ import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBe
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
@@ -62,10 +76,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentMatchers;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgressApplicationEvent;
 import org.springframework.data.gemfire.test.support.FileSystemUtils;
 
 /**
@@ -949,6 +965,323 @@ public class SnapshotServiceFactoryBeanTest {
 		verify(mockSnapshotOptionsTwo, times(1)).setParallelMode(eq(false));
 	}
 
+	@Test
+	public void importRegionSnapshotsConcurrentlyPublishesProgressEvents() throws Exception {
+
+		ApplicationEventPublisher mockApplicationEventPublisher =
+			mock(ApplicationEventPublisher.class, "MockApplicationEventPublisher");
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionSnapshotService mockRegionSnapshotService =
+			mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		File snapshotDatTwo = mockFile("snapshot-2.dat");
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setApplicationEventPublisher(mockApplicationEventPublisher);
+		factoryBean.setImports(toArray(newSnapshotMetadata(snapshotDat), newSnapshotMetadata(snapshotDatTwo)));
+		factoryBean.setParallelism(2);
+		factoryBean.setRegion(mockRegion);
+		factoryBean.afterPropertiesSet();
+
+		verify(mockRegionSnapshotService, times(2)).createOptions();
+		verify(mockRegionSnapshotService, times(1))
+			.load(eq(snapshotDat), eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+		verify(mockRegionSnapshotService, times(1))
+			.load(eq(snapshotDatTwo), eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+		verify(mockSnapshotOptions, times(2)).setFilter(any(SnapshotServiceFactoryBean.CountingSnapshotFilter.class));
+		verify(mockApplicationEventPublisher, times(2)).publishEvent(any(SnapshotProgressApplicationEvent.class));
+	}
+
+	@Test
+	public void importRegionSnapshotsConcurrentlyCancelsSiblingsOnFailure() throws Exception {
+
+		CountDownLatch siblingStarted = new CountDownLatch(1);
+		CountDownLatch siblingInterrupted = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionSnapshotService mockRegionSnapshotService =
+			mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		File snapshotDatTwo = mockFile("snapshot-2.dat");
+
+		when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		doAnswer(invocation -> {
+			siblingStarted.countDown();
+			try {
+				Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+			}
+			catch (InterruptedException expected) {
+				siblingInterrupted.countDown();
+			}
+			return null;
+		}).when(mockRegionSnapshotService).load(eq(snapshotDatTwo), any(SnapshotFormat.class),
+			any(SnapshotOptions.class));
+
+		doAnswer(invocation -> {
+			siblingStarted.await(5, TimeUnit.SECONDS);
+			throw new IOException("TEST");
+		}).when(mockRegionSnapshotService).load(eq(snapshotDat), any(SnapshotFormat.class),
+			any(SnapshotOptions.class));
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setExecutor(executor);
+		factoryBean.setImports(toArray(newSnapshotMetadata(snapshotDat), newSnapshotMetadata(snapshotDatTwo)));
+		factoryBean.setParallelism(2);
+		factoryBean.setRegion(mockRegion);
+
+		try {
+			factoryBean.afterPropertiesSet();
+			fail("Expected an ImportSnapshotException");
+		}
+		catch (ImportSnapshotException expected) {
+			assertThat(expected.getCause(), is(instanceOf(IOException.class)));
+			assertThat(siblingInterrupted.await(5, TimeUnit.SECONDS), is(true));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void exportCacheSnapshotConcurrentlySavesEachRegionToItsOwnSnapshotFile() throws Exception {
+
+		Cache mockCache = mock(Cache.class, "MockCache");
+
+		CacheSnapshotService mockCacheSnapshotService =
+			mock(CacheSnapshotService.class, "MockCacheSnapshotService");
+
+		Region mockRegionOne = mock(Region.class, "MockRegionOne");
+		Region mockRegionTwo = mock(Region.class, "MockRegionTwo");
+
+		RegionSnapshotService mockRegionSnapshotServiceOne =
+			mock(RegionSnapshotService.class, "MockRegionSnapshotServiceOne");
+
+		RegionSnapshotService mockRegionSnapshotServiceTwo =
+			mock(RegionSnapshotService.class, "MockRegionSnapshotServiceTwo");
+
+		SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+		when(mockCache.getSnapshotService()).thenReturn(mockCacheSnapshotService);
+		when(mockCache.rootRegions()).thenReturn(Collections.singleton(mockRegionOne));
+		when(mockRegionOne.getFullPath()).thenReturn("/Example");
+		when(mockRegionOne.subregions(eq(true))).thenReturn(Collections.singleton(mockRegionTwo));
+		when(mockRegionOne.getSnapshotService()).thenReturn(mockRegionSnapshotServiceOne);
+		when(mockRegionTwo.getFullPath()).thenReturn("/Example/Child");
+		when(mockRegionTwo.getSnapshotService()).thenReturn(mockRegionSnapshotServiceTwo);
+		when(mockRegionSnapshotServiceOne.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockRegionSnapshotServiceTwo.createOptions()).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+		when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+		SnapshotMetadata[] expectedExports = toArray(newSnapshotMetadata());
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setCache(mockCache);
+		factoryBean.setExports(expectedExports);
+		factoryBean.setParallelism(4);
+		factoryBean.setSuppressImportOnInit(true);
+		factoryBean.afterPropertiesSet();
+		factoryBean.destroy();
+
+		File location = expectedExports[0].getLocation();
+
+		verify(mockCacheSnapshotService, never()).save(any(File.class), any(SnapshotFormat.class),
+			any(SnapshotOptions.class));
+		verify(mockRegionSnapshotServiceOne, times(1)).save(eq(new File(location, "snapshot-Example.gfd")),
+			eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+		verify(mockRegionSnapshotServiceTwo, times(1)).save(eq(new File(location, "snapshot-Example-Child.gfd")),
+			eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+	}
+
+	@Test
+	public void countingSnapshotFilterNotifiesCallbackAndDelegates() {
+
+		AtomicInteger count = new AtomicInteger(0);
+
+		SnapshotFilter<Object, Object> mockSnapshotFilter = mock(SnapshotFilter.class, "MockSnapshotFilter");
+
+		Map.Entry<Object, Object> entry = new AbstractMap.SimpleEntry<>("key", "value");
+
+		when(mockSnapshotFilter.accept(eq(entry))).thenReturn(false);
+
+		assertThat(new SnapshotServiceFactoryBean.CountingSnapshotFilter<>(count::incrementAndGet, mockSnapshotFilter)
+			.accept(entry), is(false));
+		assertThat(new SnapshotServiceFactoryBean.CountingSnapshotFilter<>(count::incrementAndGet, null)
+			.accept(entry), is(true));
+		assertThat(count.get(), is(equalTo(2)));
+	}
+
+	@Test
+	public void incrementalRegionSnapshotExportsDeltasWithTombstonesAndImportReplaysChain() throws Exception {
+
+		File directory = Files.createTempDirectory("incremental-snapshot").toFile();
+
+		try {
+			Region mockRegion = mock(Region.class, "MockRegion");
+
+			RegionAttributes mockRegionAttributes = mock(RegionAttributes.class, "MockRegionAttributes");
+
+			RegionSnapshotService mockRegionSnapshotService =
+				mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+			SnapshotOptions mockSnapshotOptions = mock(SnapshotOptions.class, "MockSnapshotOptions");
+
+			when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+			when(mockRegionAttributes.getStatisticsEnabled()).thenReturn(true);
+			when(mockRegion.keySet()).thenReturn(new HashSet<>(Arrays.asList("one", "two")))
+				.thenReturn(new HashSet<>(Arrays.asList("one", "three")));
+			when(mockRegionSnapshotService.createOptions()).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.invokeCallbacks(anyBoolean())).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setFilter(any(SnapshotFilter.class))).thenReturn(mockSnapshotOptions);
+			when(mockSnapshotOptions.setParallelMode(anyBoolean())).thenReturn(mockSnapshotOptions);
+
+			SnapshotMetadata snapshotMetadata = newSnapshotMetadata(directory);
+
+			snapshotMetadata.setIncremental(true);
+
+			RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+			adapter.setRegion(mockRegion);
+			adapter.doExport(snapshotMetadata);
+
+			IncrementalSnapshot incrementalSnapshot = IncrementalSnapshot.from(directory);
+
+			assertThat(incrementalSnapshot.exists(), is(true));
+			assertThat(incrementalSnapshot.getSequence(), is(equalTo(0)));
+			assertThat(incrementalSnapshot.readKeys(), is(equalTo(new HashSet<>(Arrays.asList("one", "two")))));
+
+			adapter.doExport(snapshotMetadata);
+
+			incrementalSnapshot = IncrementalSnapshot.from(directory);
+
+			assertThat(incrementalSnapshot.getSequence(), is(equalTo(1)));
+			assertThat(incrementalSnapshot.readKeys(), is(equalTo(new HashSet<>(Arrays.asList("one", "three")))));
+			assertThat(incrementalSnapshot.readTombstones(1), is(equalTo(Collections.singleton("two"))));
+
+			verify(mockRegionSnapshotService, times(1)).save(eq(incrementalSnapshot.getSnapshotFile(0)),
+				eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+			verify(mockRegionSnapshotService, times(1)).save(eq(incrementalSnapshot.getSnapshotFile(1)),
+				eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+
+			adapter.doImport(snapshotMetadata);
+
+			verify(mockRegionSnapshotService, times(1)).load(eq(incrementalSnapshot.getSnapshotFile(0)),
+				eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+			verify(mockRegionSnapshotService, times(1)).load(eq(incrementalSnapshot.getSnapshotFile(1)),
+				eq(SnapshotFormat.GEMFIRE), eq(mockSnapshotOptions));
+			verify(mockRegion, times(1)).removeAll(eq(Collections.singleton("two")));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(directory);
+		}
+	}
+
+	@Test
+	public void incrementalRegionSnapshotExportWithStatisticsDisabledThrowsExportSnapshotException() throws Exception {
+
+		File directory = Files.createTempDirectory("incremental-snapshot").toFile();
+
+		try {
+			Region mockRegion = mock(Region.class, "MockRegion");
+
+			RegionAttributes mockRegionAttributes = mock(RegionAttributes.class, "MockRegionAttributes");
+
+			RegionSnapshotService mockRegionSnapshotService =
+				mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+			when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+			when(mockRegion.getFullPath()).thenReturn("/Example");
+			when(mockRegionAttributes.getStatisticsEnabled()).thenReturn(false);
+
+			SnapshotMetadata snapshotMetadata = newSnapshotMetadata(directory);
+
+			snapshotMetadata.setIncremental(true);
+
+			RegionSnapshotServiceAdapter adapter = new RegionSnapshotServiceAdapter(mockRegionSnapshotService);
+
+			adapter.setRegion(mockRegion);
+
+			try {
+				adapter.doExport(snapshotMetadata);
+				fail("Expected ExportSnapshotException");
+			}
+			catch (ExportSnapshotException expected) {
+				assertThat(expected.getMessage(), containsString("Region [/Example] must have statistics enabled"));
+			}
+
+			assertThat(IncrementalSnapshot.from(directory).exists(), is(false));
+
+			verify(mockRegionSnapshotService, never()).save(any(File.class), any(SnapshotFormat.class),
+				any(SnapshotOptions.class));
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(directory);
+		}
+	}
+
+	@Test
+	public void incrementalHighWaterMarkSubtractsSafetyMargin() {
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionSnapshotServiceAdapter adapter =
+			new RegionSnapshotServiceAdapter(mock(RegionSnapshotService.class));
+
+		adapter.setIncrementalSafetyMargin(60000L);
+
+		long before = System.currentTimeMillis();
+		long highWaterMark = adapter.resolveHighWaterMark(mockRegion);
+
+		assertThat(adapter.getIncrementalSafetyMargin(), is(equalTo(60000L)));
+		assertThat(highWaterMark >= before - 60000L, is(true));
+		assertThat(highWaterMark <= System.currentTimeMillis() - 60000L, is(true));
+
+		adapter.setIncrementalSafetyMargin(-1L);
+
+		assertThat(adapter.getIncrementalSafetyMargin(), is(equalTo(0L)));
+	}
+
+	@Test(expected = ImportSnapshotException.class)
+	public void incrementalRegionSnapshotImportWithoutSnapshotThrowsImportSnapshotException() throws Exception {
+
+		File directory = Files.createTempDirectory("incremental-snapshot").toFile();
+
+		try {
+			SnapshotMetadata snapshotMetadata = newSnapshotMetadata(directory);
+
+			snapshotMetadata.setIncremental(true);
+
+			new RegionSnapshotServiceAdapter(mock(RegionSnapshotService.class)).doImport(snapshotMetadata);
+		}
+		finally {
+			FileSystemUtils.deleteRecursive(directory);
+		}
+	}
+
 	@Test
 	public void createOptionsWithParallelModeInvokeCallbacksAndFilterOnSnapshotServiceAdapterSupport() {
 
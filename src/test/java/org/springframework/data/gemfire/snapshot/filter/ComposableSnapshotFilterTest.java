@@ -165,4 +165,18 @@ public class ComposableSnapshotFilterTest {
 		assertThat(composedFilter.accept(null), is(false));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void composedFilterShortCircuits() {
+		SnapshotFilter falseFilter = mockSnapshotFilter(false);
+		SnapshotFilter trueFilter = mockSnapshotFilter(true);
+
+		// the last composed filter is the left operand
+		assertThat(ComposableSnapshotFilter.and(trueFilter, falseFilter).accept(null), is(false));
+		assertThat(ComposableSnapshotFilter.or(falseFilter, trueFilter).accept(null), is(true));
+
+		verify(falseFilter, times(1)).accept((Map.Entry) any());
+		verify(trueFilter, times(1)).accept((Map.Entry) any());
+	}
+
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.geode.cache.snapshot.SnapshotFilter;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link CompositeSnapshotFilter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.filter.CompositeSnapshotFilter
+ * @since 2.2.0
+ */
+public class CompositeSnapshotFilterUnitTests {
+
+	private static final Map.Entry<Object, Object> ENTRY = new AbstractMap.SimpleEntry<>("key", "value");
+
+	private static final class CountingFilter implements SnapshotFilter<Object, Object> {
+
+		private final AtomicInteger count = new AtomicInteger(0);
+
+		private final boolean result;
+
+		CountingFilter(boolean result) {
+			this.result = result;
+		}
+
+		@Override
+		public boolean accept(Map.Entry<Object, Object> entry) {
+			this.count.incrementAndGet();
+			return this.result;
+		}
+	}
+
+	@Test
+	public void allOfShortCircuitsOnFirstRejection() {
+
+		CountingFilter accepting = new CountingFilter(true);
+		CountingFilter rejecting = new CountingFilter(false);
+		CountingFilter expensive = new CountingFilter(true);
+
+		assertThat(CompositeSnapshotFilter.allOf(accepting, rejecting, expensive).accept(ENTRY)).isFalse();
+		assertThat(accepting.count.get()).isEqualTo(1);
+		assertThat(rejecting.count.get()).isEqualTo(1);
+		assertThat(expensive.count.get()).isZero();
+	}
+
+	@Test
+	public void allOfAcceptsWhenAllAccept() {
+		assertThat(CompositeSnapshotFilter.allOf(new CountingFilter(true), new CountingFilter(true)).accept(ENTRY))
+			.isTrue();
+	}
+
+	@Test
+	public void anyOfShortCircuitsOnFirstAcceptance() {
+
+		CountingFilter rejecting = new CountingFilter(false);
+		CountingFilter accepting = new CountingFilter(true);
+		CountingFilter expensive = new CountingFilter(false);
+
+		assertThat(CompositeSnapshotFilter.anyOf(rejecting, accepting, expensive).accept(ENTRY)).isTrue();
+		assertThat(expensive.count.get()).isZero();
+	}
+
+	@Test
+	public void anyOfRejectsWhenNoneAccept() {
+		assertThat(CompositeSnapshotFilter.anyOf(new CountingFilter(false), new CountingFilter(false)).accept(ENTRY))
+			.isFalse();
+	}
+
+	@Test
+	public void nestedFiltersWithSameOperatorAreFlattened() {
+
+		CountingFilter one = new CountingFilter(true);
+		CountingFilter two = new CountingFilter(true);
+		CountingFilter three = new CountingFilter(true);
+
+		CompositeSnapshotFilter<Object, Object> filter =
+			CompositeSnapshotFilter.allOf(CompositeSnapshotFilter.allOf(one, two), three);
+
+		assertThat(filter.getFilters()).containsExactly(one, two, three);
+
+		CompositeSnapshotFilter<Object, Object> anyOf = CompositeSnapshotFilter.anyOf(one, two);
+
+		assertThat(CompositeSnapshotFilter.allOf(anyOf, three).getFilters()).containsExactly(anyOf, three);
+	}
+
+	@Test
+	public void adaptiveFilterEvaluatesMostSelectiveFilterFirst() {
+
+		CountingFilter accepting = new CountingFilter(true);
+		CountingFilter rejecting = new CountingFilter(false);
+
+		CompositeSnapshotFilter<Object, Object> filter =
+			CompositeSnapshotFilter.allOf(accepting, rejecting).adaptive();
+
+		assertThat(filter.isAdaptive()).isTrue();
+
+		for (int count = 0; count < CompositeSnapshotFilter.REORDER_INTERVAL; count++) {
+			assertThat(filter.accept(ENTRY)).isFalse();
+		}
+
+		assertThat(filter.getFilters()).containsExactly(rejecting, accepting);
+	}
+}
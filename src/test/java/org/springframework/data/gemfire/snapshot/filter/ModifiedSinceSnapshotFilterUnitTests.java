@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.AbstractMap;
+
+import org.apache.geode.cache.CacheStatistics;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.StatisticsDisabledException;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ModifiedSinceSnapshotFilter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.filter.ModifiedSinceSnapshotFilter
+ * @since 2.2.0
+ */
+@SuppressWarnings("unchecked")
+public class ModifiedSinceSnapshotFilterUnitTests {
+
+	private final ModifiedSinceSnapshotFilter<Object, Object> filter = new ModifiedSinceSnapshotFilter<>(1000L);
+
+	private Region.Entry<Object, Object> mockEntry(long lastModifiedTime) {
+
+		CacheStatistics mockStatistics = mock(CacheStatistics.class);
+
+		Region.Entry<Object, Object> mockEntry = mock(Region.Entry.class);
+
+		when(mockEntry.getStatistics()).thenReturn(mockStatistics);
+		when(mockStatistics.getLastModifiedTime()).thenReturn(lastModifiedTime);
+
+		return mockEntry;
+	}
+
+	@Test
+	public void acceptsEntriesModifiedAtOrAfterTimestamp() {
+
+		assertThat(this.filter.accept(mockEntry(1000L))).isTrue();
+		assertThat(this.filter.accept(mockEntry(2000L))).isTrue();
+	}
+
+	@Test
+	public void rejectsEntriesModifiedBeforeTimestamp() {
+		assertThat(this.filter.accept(mockEntry(999L))).isFalse();
+	}
+
+	@Test
+	public void acceptsEntriesWhenStatisticsAreDisabled() {
+
+		Region.Entry<Object, Object> mockEntry = mock(Region.Entry.class);
+
+		when(mockEntry.getStatistics()).thenThrow(new StatisticsDisabledException("TEST"));
+
+		assertThat(this.filter.accept(mockEntry)).isTrue();
+	}
+
+	@Test
+	public void acceptsNonRegionEntries() {
+		assertThat(this.filter.accept(new AbstractMap.SimpleEntry<>("key", "value"))).isTrue();
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.snapshot.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.AbstractMap;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PdxFieldSnapshotFilter}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.filter.PdxFieldSnapshotFilter
+ * @since 2.2.0
+ */
+public class PdxFieldSnapshotFilterUnitTests {
+
+	private final PdxFieldSnapshotFilter<Object, Object> filter =
+		PdxFieldSnapshotFilter.where("status", PdxFieldSnapshotFilter.FieldPredicate.isEqualTo("ACTIVE"));
+
+	@Test
+	public void acceptsPdxInstanceWithMatchingField() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("status")).thenReturn(true);
+		when(mockPdxInstance.getField("status")).thenReturn("ACTIVE");
+
+		assertThat(this.filter.accept(new AbstractMap.SimpleEntry<>("key", mockPdxInstance))).isTrue();
+
+		verify(mockPdxInstance, never()).getObject();
+	}
+
+	@Test
+	public void rejectsPdxInstanceWithoutField() {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.hasField("status")).thenReturn(false);
+
+		assertThat(this.filter.accept(new AbstractMap.SimpleEntry<>("key", mockPdxInstance))).isFalse();
+
+		verify(mockPdxInstance, never()).getField(anyString());
+	}
+
+	@Test
+	public void evaluatesFieldOfObjectValue() {
+
+		assertThat(this.filter.accept(new AbstractMap.SimpleEntry<>("key", new Account("ACTIVE")))).isTrue();
+		assertThat(this.filter.accept(new AbstractMap.SimpleEntry<>("key", new Account("CLOSED")))).isFalse();
+		assertThat(this.filter.accept(new AbstractMap.SimpleEntry<>("key", "value"))).isFalse();
+		assertThat(this.filter.accept(new AbstractMap.SimpleEntry<>("key", null))).isFalse();
+	}
+
+	@SuppressWarnings("unused")
+	static class Account {
+
+		private final String status;
+
+		Account(String status) {
+			this.status = status;
+		}
+	}
+}
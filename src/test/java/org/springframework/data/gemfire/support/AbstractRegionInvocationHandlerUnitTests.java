@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.apache.geode.cache.Region;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Unit tests for {@link AbstractRegionInvocationHandler}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mock
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.support.AbstractRegionInvocationHandler
+ * @since 2.2.0
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AbstractRegionInvocationHandlerUnitTests {
+
+	@Mock
+	private Region<Object, Object> mockRegion;
+
+	@SuppressWarnings("unchecked")
+	private Region<Object, Object> newRegionProxy(AbstractRegionInvocationHandler invocationHandler) {
+		return (Region<Object, Object>) Proxy.newProxyInstance(getClass().getClassLoader(),
+			new Class<?>[] { Region.class }, invocationHandler);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void constructWithNullTargetThrowsIllegalArgumentException() {
+
+		try {
+			new TestRegionInvocationHandler(null);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Target Region must not be null");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void invokeDispatchesToTargetRegion() {
+
+		when(this.mockRegion.get("key")).thenReturn("value");
+
+		Region<Object, Object> regionProxy = newRegionProxy(new TestRegionInvocationHandler(this.mockRegion));
+
+		assertThat(regionProxy.get("key")).isEqualTo("value");
+		assertThat(regionProxy.get("key")).isEqualTo("value");
+
+		regionProxy.clear();
+
+		verify(this.mockRegion, times(2)).get("key");
+		verify(this.mockRegion, times(1)).clear();
+	}
+
+	@Test
+	public void invokeRethrowsTargetRegionException() {
+
+		doThrow(new IllegalStateException("TEST")).when(this.mockRegion).clear();
+
+		Region<Object, Object> regionProxy = newRegionProxy(new TestRegionInvocationHandler(this.mockRegion));
+
+		assertThatThrownBy(regionProxy::clear).isInstanceOf(IllegalStateException.class).hasMessage("TEST");
+	}
+
+	@Test
+	public void equalsAndHashCodeAreBasedOnProxyIdentity() {
+
+		TestRegionInvocationHandler invocationHandler = new TestRegionInvocationHandler(this.mockRegion);
+
+		Region<Object, Object> regionProxy = newRegionProxy(invocationHandler);
+		Region<Object, Object> otherRegionProxy = newRegionProxy(invocationHandler);
+
+		assertThat(regionProxy.equals(regionProxy)).isTrue();
+		assertThat(regionProxy.equals(otherRegionProxy)).isFalse();
+		assertThat(regionProxy.equals(this.mockRegion)).isFalse();
+		assertThat(regionProxy.hashCode()).isEqualTo(System.identityHashCode(regionProxy));
+	}
+
+	@Test
+	public void newMethodInvokerCustomizesMethodHandling() {
+
+		Region<Object, Object> regionProxy = newRegionProxy(new TestRegionInvocationHandler(this.mockRegion) {
+
+			@Override
+			protected MethodInvoker newMethodInvoker(Method method) {
+				return "close".equals(method.getName()) ? (proxy, args) -> null : super.newMethodInvoker(method);
+			}
+		});
+
+		regionProxy.close();
+
+		verify(this.mockRegion, never()).close();
+	}
+
+	static class TestRegionInvocationHandler extends AbstractRegionInvocationHandler {
+
+		TestRegionInvocationHandler(Region<?, ?> target) {
+			super(target);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.gemfire.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.internal.ResultsBag;
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PdxInstanceUtils}.
+ *
+ * @author John Blum
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.pdx.PdxInstance
+ * @see org.springframework.data.gemfire.util.PdxInstanceUtils
+ * @since 2.2.0
+ */
+public class PdxInstanceUtilsUnitTests {
+
+	private PdxInstance mockPdxInstance(Object object) {
+
+		PdxInstance mockPdxInstance = mock(PdxInstance.class);
+
+		when(mockPdxInstance.getObject()).thenReturn(object);
+
+		return mockPdxInstance;
+	}
+
+	@Test
+	public void deserializeReturnsPdxInstanceObject() {
+		assertThat(PdxInstanceUtils.<Object>deserialize(mockPdxInstance("test"))).isEqualTo("test");
+	}
+
+	@Test
+	public void deserializeReturnsNonPdxInstanceValueAsIs() {
+
+		List<Object> list = Arrays.asList("one", "two");
+
+		assertThat(PdxInstanceUtils.<Object>deserialize(list)).isSameAs(list);
+		assertThat(PdxInstanceUtils.<Object>deserialize(null)).isNull();
+	}
+
+	@Test
+	public void deserializeListReturnsList() {
+
+		Collection<Object> deserializedValues =
+			PdxInstanceUtils.deserialize(Arrays.asList(mockPdxInstance("one"), "two"));
+
+		assertThat(deserializedValues).isInstanceOf(List.class).containsExactly("one", "two");
+	}
+
+	@Test
+	public void deserializeSetReturnsSet() {
+
+		Set<Object> set = new LinkedHashSet<>(Arrays.asList(mockPdxInstance("one"), mockPdxInstance("one"), "two"));
+
+		Collection<Object> deserializedValues = PdxInstanceUtils.deserialize(set);
+
+		assertThat(deserializedValues).isInstanceOf(Set.class).containsExactly("one", "two");
+	}
+
+	@Test
+	public void deserializeSortedSetReturnsSortedSet() {
+
+		Set<Object> set = new TreeSet<>((one, two) -> Integer.compare(one.hashCode(), two.hashCode()));
+
+		set.add(mockPdxInstance("one"));
+
+		Collection<Object> deserializedValues = PdxInstanceUtils.deserialize(set);
+
+		assertThat(deserializedValues).isInstanceOf(TreeSet.class).containsExactly("one");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void deserializeSelectResultsReturnsSelectResults() {
+
+		ResultsBag resultsBag = new ResultsBag();
+
+		resultsBag.add(mockPdxInstance("one"));
+		resultsBag.add("two");
+
+		SelectResults<Object> deserializedValues = PdxInstanceUtils.deserialize(resultsBag);
+
+		assertThat(deserializedValues).containsExactlyInAnyOrder("one", "two");
+		assertThat(deserializedValues.getCollectionType().allowsDuplicates()).isTrue();
+	}
+}